@@ -1,14 +1,17 @@
 package io.github.repoboard;
 
+import io.github.repoboard.common.config.SavedRepoSyncProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * RepoBoard 애플리케이션 엔트리포인트.
- * <p>스케줄링이 활성화되어 백업 정리 잡을 수행한다.</p>
+ * <p>스케줄링이 활성화되어 백업 정리 잡과 저장된 레포지토리 동기화({@link SavedRepoSyncProperties})를 수행한다.</p>
  */
 @EnableScheduling
+@EnableConfigurationProperties(SavedRepoSyncProperties.class)
 @SpringBootApplication
 public class RepoBoardApplication {
 
@@ -1,6 +1,11 @@
 package io.github.repoboard.common.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.repoboard.common.util.GithubCacheKeyIndex;
+import io.github.repoboard.common.util.GithubCacheWeigher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -17,6 +22,9 @@ import java.util.List;
  * <p>{@link EnableCaching}을 통해 Spring의 애노테이션 캐싱 기능
  * ({@code @Cacheable}, {@code @CacheEvict}, {@code @CachePut})을 활성화한다.</p>
  *
+ * <p>모든 캐시는 Caffeine {@code AsyncCache}로 생성되어 동기 API({@code Cache#get})와
+ * 비동기 API({@code GithubCacheTemplate}, {@code Mono}/{@code CompletableFuture}) 양쪽에서 함께 사용된다.</p>
+ *
  * <h3>등록 캐시 목록</h3>
  * <ul>
  *   <li><b>ghUser</b> — 사용자 정보 (1시간)</li>
@@ -26,88 +34,111 @@ import java.util.List;
  *   <li><b>ghSearch</b> — 검색 결과 캐시 (10분)</li>
  *   <li><b>ghRefresh</b> — 전략 기반 강제 새로고침 결과 (10분)</li>
  *   <li><b>ghQuerySearch</b> — 전략별 쿼리 기반 결과 (10분)</li>
+ *   <li><b>ghValidators</b> — 조건부 요청용 ETag/Last-Modified (24시간, 304일 때 값은 위 캐시나 ghLastKnownGood에서 재사용)</li>
+ *   <li><b>ghLastKnownGood</b> — 위 캐시들의 마지막 정상 값, GitHub 장애 시 stale 응답용
+ *       ({@link GithubCacheProperties#getLastKnownGoodTtl()}, 기본 24시간)</li>
  * </ul>
  *
- * <p>모든 캐시는 최대 5,000개 항목과 TTL 기반 {@code expireAfterWrite} 정책을 사용하며,
- * {@code recordStats()}로 히트/미스 통계 수집도 가능하다.</p>
+ * <p>모든 캐시는 항목 수가 아닌 추정 바이트({@link GithubCacheWeigher}) 기반 최대 가중치와
+ * TTL({@link GithubCacheProperties#getTtl()}) 기반 쓰기 후 만료 정책을 사용하며,
+ * {@code recordStats()}로 히트/미스 통계 수집도 가능하다. 최대 가중치는 전체 메모리 예산
+ * ({@code app.cache.github.memory.budget})을 캐시별 비율로 나눈 값이고, 추정 사용량은 {@code github.cache.weight{cache}}로 확인한다.</p>
+ *
+ * <p>레포지토리 페이지 캐시(ghRepos, ghSearch, ghRefresh, ghQuerySearch)는 레포지토리 ID 목록({@code GithubIdPage})만 보관하며,
+ * 본문은 ID별 정본 저장소({@code GithubRepoStore})에서 채운다.</p>
+ *
+ * <p>만료 직전에 조회된 항목은 {@link GithubCacheProperties#getRefreshAhead()} 비율에 따라
+ * 백그라운드에서 미리 갱신된다. (refresh-ahead, {@code GithubCacheTemplate} 참고)</p>
  *
  * <h3>주의</h3>
  * Caffeine은 JVM 메모리 기반이므로 캐시 크기 및 TTL 설정은 신중히 해야 함.
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(GithubCacheProperties.class)
 public class CacheConfig {
 
     /**
      * 애플리케이션 전역에서 사용할 {@link CacheManager} 빈을 생성한다.
      *
      * <p>{@link SimpleCacheManager}에 명시적으로 구성한 {@link CaffeineCache}들을 등록하며,
-     * 각 캐시는 최대 용량과 {@code expireAfterWrite} 정책을 갖는다.
+     * 각 캐시는 추정 바이트 기반 최대 가중치({@link GithubCacheWeigher})와 쓰기 후 만료({@link #fixedTtl(Duration)}) 정책을 갖는
+     * {@code AsyncCache}이다. 최대 가중치는 {@link GithubCacheProperties.Memory#budgetOf(String)}로 전체 예산을 나눈 값이다.
      *
+     * @param properties    GitHub 캐시 설정
+     * @param keyIndex      사용자명/검색어 → 캐시 키 보조 인덱스 (ghUser, ghRepos, ghQuerySearch)
+     * @param meterRegistry 캐시별 추정 사용량 메트릭 등록
      * @return 등록된 캐시들을 관리하는 {@link CacheManager}
      */
     @Bean
-    public CacheManager cacheManager(){
-        var userCache = new CaffeineCache(
-                "ghUser",
-                Caffeine.newBuilder()
-                        .maximumSize(1000)
-                        .expireAfterWrite(Duration.ofHours(1))
-                        .recordStats()
-                        .build()
+    public CacheManager cacheManager(GithubCacheProperties properties, GithubCacheKeyIndex keyIndex,
+                                     MeterRegistry meterRegistry){
+        var userCache = cache("ghUser", meterRegistry,
+                weighted("ghUser", properties)
+                        .expireAfter(fixedTtl(properties.ttlOf("ghUser")))
+                        .removalListener(keyIndex.removalListener("ghUser")));
+        var reposCache = cache("ghRepos", meterRegistry,
+                weighted("ghRepos", properties)
+                        .expireAfter(fixedTtl(properties.ttlOf("ghRepos")))
+                        .removalListener(keyIndex.removalListener("ghRepos")));
+        var repoByIdCache = cache("ghRepoById", meterRegistry,
+                weighted("ghRepoById", properties)
+                        .expireAfter(fixedTtl(properties.ttlOf("ghRepoById"))));
+        var repoByReadmeCache = cache("ghRepoReadmeById", meterRegistry,
+                weighted("ghRepoReadmeById", properties)
+                        .expireAfter(fixedTtl(properties.ttlOf("ghRepoReadmeById"))));
+        var searchCache = cache("ghSearch", meterRegistry,
+                weighted("ghSearch", properties)
+                        .expireAfter(fixedTtl(properties.ttlOf("ghSearch"))));
+        var refreshCache = cache("ghRefresh", meterRegistry,
+                weighted("ghRefresh", properties)
+                        .expireAfter(fixedTtl(properties.ttlOf("ghRefresh"))));
+        var queryCache = cache("ghQuerySearch", meterRegistry,
+                weighted("ghQuerySearch", properties)
+                        .expireAfter(fixedTtl(properties.ttlOf("ghQuerySearch")))
+                        .removalListener(keyIndex.removalListener("ghQuerySearch")));
+        var validatorCache = cache("ghValidators", meterRegistry,
+                weighted("ghValidators", properties)
+                        .expireAfter(fixedTtl(properties.ttlOf("ghValidators"))));
+        var lastKnownGoodCache = cache("ghLastKnownGood", meterRegistry,
+                weighted("ghLastKnownGood", properties)
+                        .expireAfterWrite(properties.getLastKnownGoodTtl()));
+        keyIndex.track("ghUser", userCache.getAsyncCache());
+        keyIndex.track("ghRepos", reposCache.getAsyncCache());
+        keyIndex.track("ghQuerySearch", queryCache.getAsyncCache());
 
-        );
-        var reposCache = new CaffeineCache(
-                "ghRepos",
-                Caffeine.newBuilder()
-                        .maximumSize(5000)
-                        .expireAfterWrite(Duration.ofMinutes(5))
-                        .recordStats()
-                        .build()
-        );
-        var repoByIdCache = new CaffeineCache(
-                "ghRepoById",
-                Caffeine.newBuilder()
-                        .maximumSize(5000)
-                        .expireAfterWrite(Duration.ofMinutes(5))
-                        .recordStats()
-                        .build()
-        );
-        var repoByReadmeCache = new CaffeineCache(
-                "ghRepoReadmeById",
-                Caffeine.newBuilder()
-                        .maximumSize(5000)
-                        .expireAfterWrite(Duration.ofMinutes(5))
-                        .recordStats()
-                        .build()
-        );
-        var searchCache = new CaffeineCache(
-                "ghSearch",
-                Caffeine.newBuilder()
-                        .maximumSize(5000)
-                        .expireAfterWrite(Duration.ofMinutes(10))
-                        .recordStats()
-                        .build()
-        );
-        var refreshCache = new CaffeineCache(
-                "ghRefresh",
-                Caffeine.newBuilder()
-                        .maximumSize(5000)
-                        .expireAfterWrite(Duration.ofMinutes(10))
-                        .recordStats()
-                        .build()
-        );
-        var queryCache = new CaffeineCache(
-                "ghQuerySearch",
-                Caffeine.newBuilder()
-                        .maximumSize(5000)
-                        .expireAfterWrite(Duration.ofMinutes(10))
-                        .recordStats()
-                        .build()
-        );
         var m = new SimpleCacheManager();
         m.setCaches(List.of(userCache, reposCache,repoByIdCache,
-                repoByReadmeCache, searchCache, refreshCache, queryCache));
+                repoByReadmeCache, searchCache, refreshCache, queryCache, validatorCache, lastKnownGoodCache));
         return m;
     }
-}
\ No newline at end of file
+
+    /**
+     * 메모리 예산의 캐시 몫을 최대 가중치로 갖는 빌더.
+     */
+    private static Caffeine<Object, Object> weighted(String cacheName, GithubCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumWeight(properties.getMemory().budgetOf(cacheName))
+                .weigher(GithubCacheWeigher.weigher())
+                .recordStats();
+    }
+
+    /**
+     * {@link CaffeineCache}를 만들고 추정 사용량 메트릭({@code github.cache.weight})을 등록한다.
+     */
+    private static CaffeineCache cache(String cacheName, MeterRegistry meterRegistry,
+                                       Caffeine<Object, Object> builder) {
+        CaffeineCache cache = new CaffeineCache(cacheName, builder.buildAsync(), true);
+        GithubCacheWeigher.registerMetrics(meterRegistry, cacheName, cache.getNativeCache().policy());
+        return cache;
+    }
+
+    /**
+     * 저장 시점부터 고정 TTL을 적용하는 {@link Expiry}.
+     * <p>{@code expireAfterWrite}와 같지만 항목별 TTL 지정({@code policy().expireVariably()})이 가능하여
+     * 스냅샷 복원 시 남은 TTL만큼만 유지할 수 있다.</p>
+     */
+    private static Expiry<Object, Object> fixedTtl(Duration ttl) {
+        return Expiry.writing((key, value) -> ttl);
+    }
+}
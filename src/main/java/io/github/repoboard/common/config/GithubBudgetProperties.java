@@ -0,0 +1,44 @@
+package io.github.repoboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 우선순위별 GitHub 요청 한도 배분 설정. ({@code app.github.budget.*})
+ * <p>남은 요청 수 비율(전체 토큰 합계 기준)이 reserve 이하로 떨어지면 그 우선순위 호출을 제한해
+ * 화면 요청이 쓸 여유분을 남긴다. 화면 요청은 제한하지 않는다.</p>
+ *
+ * <pre>
+ * app:
+ *   github:
+ *     budget:
+ *       user-refresh-reserve: 0.05 # 남은 한도 비율이 이 값 이하면 사용자 갱신은 대기 후 보류
+ *       background-reserve: 0.2    # 남은 한도 비율이 이 값 이하면 백그라운드 호출은 즉시 보류
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.github.budget")
+public class GithubBudgetProperties {
+
+    /** 우선순위 제한 사용 여부 */
+    private boolean enabled = true;
+
+    /** 사용자 갱신(USER_REFRESH)을 대기시키는 남은 한도 비율 */
+    private double userRefreshReserve = 0.05;
+
+    /** 백그라운드(BACKGROUND) 호출을 보류하는 남은 한도 비율 */
+    private double backgroundReserve = 0.2;
+
+    /** 사용자 갱신이 한도 회복을 기다리는 최대 시간 (요청 마감 시각이 더 이르면 그때까지) */
+    private Duration queueTimeout = Duration.ofSeconds(3);
+
+    /** 대기 중 남은 한도를 다시 확인하는 간격 */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /** 동시에 대기할 수 있는 사용자 갱신 수 (초과 시 즉시 보류) */
+    private int maxQueued = 50;
+}
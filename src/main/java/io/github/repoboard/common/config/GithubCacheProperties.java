@@ -0,0 +1,365 @@
+package io.github.repoboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GitHub 응답 캐시의 캐시별 동작 설정. ({@code app.cache.github.*})
+ *
+ * <pre>
+ * app:
+ *   cache:
+ *     github:
+ *       ttl:
+ *         "[ghSearch]": 10m   # 캐시별 TTL
+ *       refresh-ahead:
+ *         "[ghSearch]": 0.7   # TTL의 70%가 지난 뒤 조회되면 백그라운드 갱신
+ *       last-known-good-ttl: 24h   # GitHub 장애 시 대신 제공할 마지막 정상 값 보관 기간
+ *       l2:
+ *         enabled: true            # Postgres(github_cache_entry) 2차 캐시
+ *         caches: ghSearch, ghRepos
+ *       bus:
+ *         enabled: true            # Postgres LISTEN/NOTIFY 기반 인스턴스 간 캐시 무효화
+ *         channel: github_cache
+ *       snapshot:
+ *         enabled: true            # 종료 시 L1 캐시를 파일로 저장, 시작 시 복원
+ *         path: cache/github-cache.snapshot
+ *       prefetch:
+ *         enabled: true            # 피드 다음 페이지 미리 적재
+ *         max-concurrency: 4
+ *         min-budget-ratio: 0.2
+ *       deep-search:
+ *         enabled: true            # 1000건 이후 페이지를 stars/created 구간 분할로 제공
+ *         parallelism: 4
+ *         max-probes: 20           # 분할 계획 하나의 최대 개수 조회 수
+ *         reserve-ratio: 0.3       # 검색 한도 중 깊은 페이지가 쓰지 않고 남겨 둘 비율
+ *       mixed-feed:
+ *         parallelism: 8           # 여러 언어 혼합 피드의 언어별 청크 동시 조회 수
+ *         max-languages: 5
+ *       repo-store:
+ *         ttl: 24h                 # 페이지 캐시가 참조하는 레포지토리 정본 보관 기간
+ *       memory:
+ *         budget: 256MB            # 모든 GitHub 캐시의 추정 힙 사용량 합계 상한
+ *         shares:
+ *           "[ghRepoReadmeById]": 30   # budget을 shares 비율로 캐시별 maximumWeight에 분배
+ *       off-heap:
+ *         enabled: false           # 큰 값(README HTML)을 direct ByteBuffer 슬랩에 보관
+ *         capacity: 128MB
+ *         caches: ghRepoReadmeById
+ *       negative:
+ *         user-ttl: 10m            # 404 사용자/레포지토리를 다시 조회하지 않는 기간
+ *         repo-ttl: 10m
+ *         bloom:
+ *           enabled: false         # 오래된 404까지 Bloom 필터로 기억 (오탐 가능)
+ * </pre>
+ *
+ * <p>캐시가 아닌 GitHub 호출 설정은 {@link GithubDeadlineProperties}, {@link GithubBudgetProperties},
+ * {@link GithubGraphqlProperties}, 저장된 레포지토리 동기화는 {@link SavedRepoSyncProperties}에 있다.</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.github")
+public class GithubCacheProperties {
+
+    /**
+     * 캐시별 TTL (항목 저장 후 만료까지의 시간).
+     * <p>L1(Caffeine), L2(Postgres), 스냅샷 복원 시 남은 TTL 계산에 공통으로 사용한다.</p>
+     */
+    private Map<String, Duration> ttl = new HashMap<>(Map.of(
+            "ghUser", Duration.ofHours(1),
+            "ghRepos", Duration.ofMinutes(5),
+            "ghRepoById", Duration.ofMinutes(5),
+            "ghRepoReadmeById", Duration.ofMinutes(5),
+            "ghSearch", Duration.ofMinutes(10),
+            "ghRefresh", Duration.ofMinutes(10),
+            "ghQuerySearch", Duration.ofMinutes(10),
+            "ghValidators", Duration.ofHours(24),
+            "ghSlicePlan", Duration.ofMinutes(30)));
+
+    /**
+     * 캐시별 refresh-ahead 비율 (0 &lt; ratio &lt; 1).
+     * <p>항목 나이가 {@code TTL * ratio} 이상일 때 조회되면 기존 값을 반환하면서 비동기로 다시 적재한다.
+     * 설정하지 않거나 0 이하이면 비활성화.</p>
+     */
+    private Map<String, Double> refreshAhead = new HashMap<>();
+
+    /**
+     * 마지막 정상 응답({@code ghLastKnownGood}) 보관 기간.
+     * <p>캐시별 TTL보다 길어야 하며, GitHub가 403/429/5xx/타임아웃일 때 이 값을 stale로 제공한다.</p>
+     */
+    private Duration lastKnownGoodTtl = Duration.ofHours(24);
+
+    /** Postgres 기반 2차(L2) 캐시 설정 */
+    private L2 l2 = new L2();
+
+    /** 종료 시 캐시 스냅샷 설정 */
+    private Snapshot snapshot = new Snapshot();
+
+    /** 인스턴스 간 캐시 무효화 설정 */
+    private Bus bus = new Bus();
+
+    /** 다음 페이지 미리 적재 설정 */
+    private Prefetch prefetch = new Prefetch();
+
+    /** 1000건 이후 깊은 페이지 설정 */
+    private DeepSearch deepSearch = new DeepSearch();
+
+    /** 여러 언어 혼합 피드 설정 */
+    private MixedFeed mixedFeed = new MixedFeed();
+
+    /** 레포지토리 정본 저장소 설정 */
+    private RepoStore repoStore = new RepoStore();
+
+    /** 캐시 메모리 예산 설정 */
+    private Memory memory = new Memory();
+
+    /** off-heap 캐시 계층 설정 */
+    private OffHeap offHeap = new OffHeap();
+
+    /** 404 캐시 설정 */
+    private Negative negative = new Negative();
+
+    /**
+     * 캐시 TTL을 조회한다.
+     *
+     * @param cacheName 캐시 이름
+     * @return TTL (설정이 없으면 10분)
+     */
+    public Duration ttlOf(String cacheName) {
+        return ttl.getOrDefault(cacheName, Duration.ofMinutes(10));
+    }
+
+    /**
+     * Postgres 기반 2차(L2) 캐시 설정. ({@code app.cache.github.l2.*})
+     */
+    @Getter
+    @Setter
+    public static class L2 {
+
+        /** L2 사용 여부 */
+        private boolean enabled = true;
+
+        /** L2에 저장할 캐시 이름 */
+        private Set<String> caches = new HashSet<>(Set.of(
+                "ghUser", "ghRepos", "ghRepoById", "ghRepoReadmeById",
+                "ghSearch", "ghRefresh", "ghQuerySearch", "ghValidators", "ghSlicePlan"));
+
+        /** 조회 제한 시간 (초과 시 미스로 처리) */
+        private Duration readTimeout = Duration.ofMillis(300);
+
+        /** 만료 항목 삭제 주기 */
+        private Duration purgeInterval = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 종료 시 캐시 스냅샷 설정. ({@code app.cache.github.snapshot.*})
+     */
+    @Getter
+    @Setter
+    public static class Snapshot {
+
+        /** 스냅샷 사용 여부 */
+        private boolean enabled = true;
+
+        /** 스냅샷 파일 경로 */
+        private String path = "cache/github-cache.snapshot";
+    }
+
+    /**
+     * 인스턴스 간 캐시 무효화 설정. ({@code app.cache.github.bus.*})
+     */
+    @Getter
+    @Setter
+    public static class Bus {
+
+        /** 무효화 전파 사용 여부 */
+        private boolean enabled = true;
+
+        /** LISTEN/NOTIFY 채널 이름 (소문자, 숫자, 밑줄) */
+        private String channel = "github_cache";
+    }
+
+    /**
+     * 피드 다음 페이지 미리 적재 설정. ({@code app.cache.github.prefetch.*})
+     */
+    @Getter
+    @Setter
+    public static class Prefetch {
+
+        /** 미리 적재 사용 여부 */
+        private boolean enabled = true;
+
+        /** 동시에 진행할 수 있는 미리 적재 호출 수 (전체 인스턴스 기준이 아닌 JVM 단위) */
+        private int maxConcurrency = 4;
+
+        /** 남은 토큰 요청 수가 전체 한도의 이 비율 미만이면 미리 적재를 건너뜀 */
+        private double minBudgetRatio = 0.2;
+    }
+
+    /**
+     * 검색 API 1000건 제한 이후 페이지 설정. ({@code app.cache.github.deep-search.*})
+     */
+    @Getter
+    @Setter
+    public static class DeepSearch {
+
+        /** 구간 분할 사용 여부 (끄면 1000건 이후는 GitHub 에러 → 빈 페이지) */
+        private boolean enabled = true;
+
+        /** 구간 개수 조회/청크 조회 동시 실행 수 */
+        private int parallelism = 4;
+
+        /** 검색어 하나를 나눌 최대 구간 수 */
+        private int maxSlices = 64;
+
+        /** 분할 계획 하나에 허용하는 최대 개수 조회 수 (분할 계획 보관 기간은 {@code ttl[ghSlicePlan]}) */
+        private int maxProbes = 20;
+
+        /** 깊은 페이지가 남겨 둬야 하는 검색 한도 비율 (일반 검색 몫, 0~1) */
+        private double reserveRatio = 0.3;
+    }
+
+    /**
+     * 여러 언어 혼합 피드 설정. ({@code app.cache.github.mixed-feed.*})
+     */
+    @Getter
+    @Setter
+    public static class MixedFeed {
+
+        /** 언어별 청크 동시 조회 수 (언어 수 이상이어야 첫 페이지 지연이 가장 느린 언어 하나 수준) */
+        private int parallelism = 8;
+
+        /** 한 피드에 섞을 수 있는 최대 언어 수 (초과분은 무시) */
+        private int maxLanguages = 5;
+    }
+
+    /**
+     * 레포지토리 정본 저장소 설정. ({@code app.cache.github.repo-store.*})
+     */
+    @Getter
+    @Setter
+    public static class RepoStore {
+
+        /** 마지막 접근 후 보관 기간 ({@link #getLastKnownGoodTtl()} 이상 권장, 크기는 {@link Memory}의 ghRepoStore 몫) */
+        private Duration ttl = Duration.ofHours(24);
+    }
+
+    /**
+     * 캐시 메모리 예산 설정. ({@code app.cache.github.memory.*})
+     * <p>항목 수가 아닌 추정 바이트({@code GithubCacheWeigher})로 캐시 크기를 제한한다.</p>
+     */
+    @Getter
+    @Setter
+    public static class Memory {
+
+        /** 전체 예산 */
+        private DataSize budget = DataSize.ofMegabytes(256);
+
+        /** 캐시별 예산 비율 (합계에 대한 상대값, 없는 캐시는 1) */
+        private Map<String, Integer> shares = new HashMap<>(Map.of(
+                "ghUser", 2,
+                "ghRepos", 3,
+                "ghRepoById", 5,
+                "ghRepoReadmeById", 30,
+                "ghSearch", 3,
+                "ghRefresh", 2,
+                "ghQuerySearch", 3,
+                "ghValidators", 1,
+                "ghLastKnownGood", 26,
+                "ghRepoStore", 25));
+
+        /**
+         * 캐시의 최대 가중치(바이트)를 계산한다.
+         *
+         * @param cacheName 캐시 이름
+         * @return {@code budget * share / 전체 share}
+         */
+        public long budgetOf(String cacheName) {
+            long total = shares.values().stream().mapToLong(Integer::longValue).sum();
+            if (!shares.containsKey(cacheName)) {
+                total += 1;
+            }
+            return budget.toBytes() * shares.getOrDefault(cacheName, 1) / Math.max(total, 1);
+        }
+    }
+
+    /**
+     * off-heap 캐시 계층 설정. ({@code app.cache.github.off-heap.*})
+     */
+    @Getter
+    @Setter
+    public static class OffHeap {
+
+        /** 사용 여부 */
+        private boolean enabled = false;
+
+        /** 전체 크기 ({@code -XX:MaxDirectMemorySize} 이하) */
+        private DataSize capacity = DataSize.ofMegabytes(128);
+
+        /** 한 번에 할당하는 direct 버퍼 크기 */
+        private DataSize slabSize = DataSize.ofMegabytes(4);
+
+        /** 값을 나눠 담는 블록 크기 */
+        private DataSize blockSize = DataSize.ofKilobytes(4);
+
+        /** 이보다 작게 직렬화되는 값은 힙(L1)에 둠 */
+        private DataSize minEntrySize = DataSize.ofKilobytes(2);
+
+        /** off-heap에 둘 캐시 이름 */
+        private Set<String> caches = new HashSet<>(Set.of("ghRepoReadmeById"));
+
+        /** 만료 항목 삭제 주기 */
+        private Duration purgeInterval = Duration.ofMinutes(1);
+    }
+
+    /**
+     * 존재하지 않는 사용자/레포지토리(404) 캐시 설정. ({@code app.cache.github.negative.*})
+     */
+    @Getter
+    @Setter
+    public static class Negative {
+
+        /** 사용 여부 */
+        private boolean enabled = true;
+
+        /** 404 사용자 보관 기간 */
+        private Duration userTtl = Duration.ofMinutes(10);
+
+        /** 404 레포지토리 보관 기간 */
+        private Duration repoTtl = Duration.ofMinutes(10);
+
+        /** 종류별 최대 보관 수 */
+        private long maxSize = 10_000;
+
+        /** Bloom 필터 설정 */
+        private Bloom bloom = new Bloom();
+
+        /**
+         * 404 키 Bloom 필터 설정. ({@code app.cache.github.negative.bloom.*})
+         */
+        @Getter
+        @Setter
+        public static class Bloom {
+
+            /** 사용 여부 (오탐 시 실제 대상도 "없음" 처리되므로 기본 비활성) */
+            private boolean enabled = false;
+
+            /** 세대별 예상 키 수 */
+            private long expectedInsertions = 100_000;
+
+            /** 오탐 확률 */
+            private double fpp = 0.001;
+
+            /** 세대 교체 주기 (키는 이 기간 ~ 2배 동안 유지) */
+            private Duration ttl = Duration.ofHours(6);
+        }
+    }
+}
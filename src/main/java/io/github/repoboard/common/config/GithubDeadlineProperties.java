@@ -0,0 +1,58 @@
+package io.github.repoboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * GitHub 호출 시간 예산과 헤지 요청 설정. ({@code app.github.deadline.*})
+ *
+ * <pre>
+ * app:
+ *   github:
+ *     deadline:
+ *       request: 10s             # 화면 요청 하나의 GitHub 호출 전체 시간 예산 (재시도 포함)
+ *       call: 8s                 # 호출 하나의 최대 시간 (남은 예산이 더 짧으면 그만큼)
+ *       hedge:
+ *         enabled: false         # p95 지연을 넘으면 다른 토큰으로 같은 GET을 한 번 더 보내 먼저 온 응답 사용
+ *         percentile: 0.95
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.github.deadline")
+public class GithubDeadlineProperties {
+
+    /** 컨트롤러 요청 하나에 주어지는 GitHub 호출 전체 시간 (토큰 재시도, 여러 청크 조회 포함) */
+    private Duration request = Duration.ofSeconds(10);
+
+    /** 호출 하나의 최대 시간 (요청 밖에서 시작된 백그라운드 호출에도 적용) */
+    private Duration call = Duration.ofSeconds(8);
+
+    /** 헤지 요청 설정 */
+    private Hedge hedge = new Hedge();
+
+    /**
+     * 헤지 요청 설정. ({@code app.github.deadline.hedge.*})
+     * <p>GET 호출이 엔드포인트별 지연 백분위를 넘기면 다른 토큰으로 같은 요청을 한 번 더 보내고,
+     * 먼저 도착한 응답을 사용하며 나머지는 취소한다.</p>
+     */
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        /** 헤지 요청 사용 여부 (토큰 사용량이 늘어나므로 기본 꺼짐) */
+        private boolean enabled = false;
+
+        /** 헤지 요청을 보내기까지 기다리는 지연 백분위 (0~1) */
+        private double percentile = 0.95;
+
+        /** 헤지 대기 시간 하한 */
+        private Duration minDelay = Duration.ofMillis(300);
+
+        /** 백분위를 신뢰하기 위한 엔드포인트별 최소 관측 수 (미만이면 헤지하지 않음) */
+        private long minSamples = 20;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.repoboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * GitHub GraphQL 일괄 조회 설정. ({@code app.github.graphql.*})
+ *
+ * <pre>
+ * app:
+ *   github:
+ *     graphql:
+ *       enabled: true            # 여러 레포지토리를 GraphQL nodes(ids:)로 100개씩 한 번에 조회
+ *       parallelism: 4
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.github.graphql")
+public class GithubGraphqlProperties {
+
+    /** 사용 여부 (끄면 일괄 조회 대신 REST 단건 조회) */
+    private boolean enabled = true;
+
+    /** 요청 하나에 담을 레포지토리 수 (GitHub nodes 최대 100) */
+    private int batchSize = 100;
+
+    /** 동시에 보낼 요청 수 */
+    private int parallelism = 4;
+}
@@ -0,0 +1,46 @@
+package io.github.repoboard.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 저장된 레포지토리 메타데이터 동기화 설정. ({@code app.saved-repo.sync.*})
+ *
+ * <pre>
+ * app:
+ *   saved-repo:
+ *     sync:
+ *       enabled: true            # 저장된 레포지토리 메타데이터(스타/포크/설명/언어) 주기 동기화
+ *       hot-interval: 1h         # 저장한 사용자가 많은 레포지토리
+ *       cold-interval: 24h
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.saved-repo.sync")
+public class SavedRepoSyncProperties {
+
+    /** 동기화 사용 여부 */
+    private boolean enabled = true;
+
+    /** 동기화 실행 간격 (한 번에 {@code batch-size}개까지) */
+    private Duration interval = Duration.ofMinutes(5);
+
+    /** 한 번 실행에서 조회할 최대 레포지토리 수 */
+    private int batchSize = 200;
+
+    /** GitHub 동시 조회 수 */
+    private int concurrency = 4;
+
+    /** 이 수 이상의 사용자가 저장한 레포지토리는 hot으로 취급 */
+    private int hotSaves = 3;
+
+    /** hot 레포지토리 동기화 주기 */
+    private Duration hotInterval = Duration.ofHours(1);
+
+    /** 그 외 레포지토리 동기화 주기 */
+    private Duration coldInterval = Duration.ofHours(24);
+}
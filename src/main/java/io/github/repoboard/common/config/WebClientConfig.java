@@ -1,14 +1,26 @@
 package io.github.repoboard.common.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.repoboard.common.exception.GithubAuthenticationException;
 import io.github.repoboard.common.exception.GithubRateLimitException;
 import io.github.repoboard.common.exception.UnexpectedContentTypeException;
-import jakarta.annotation.PostConstruct;
+import io.github.repoboard.common.util.GithubBudgetScheduler;
+import io.github.repoboard.common.util.GithubCallPolicy;
+import io.github.repoboard.common.util.GithubDeadline;
+import io.github.repoboard.common.util.GithubGraphqlClient;
+import io.github.repoboard.common.util.GithubPriority;
+import io.github.repoboard.common.util.GithubResource;
+import io.github.repoboard.common.util.GithubTokenPool;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.*;
@@ -18,20 +30,21 @@ import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * GitHub API 호출을 위한 {@link WebClient} 설정 클래스.
  * <p>
  * 이 클래스는 GitHub API 호출 시 필요한 기본 설정을 제공하며, <br>
- * 토큰 로테이션, Rate Limit 처리, Content-Type 검증 등의 로직을 포함한다.
+ * 토큰 선택({@link GithubTokenPool}), Rate Limit 처리, Content-Type 검증, 마감 시각/헤지 요청({@link GithubCallPolicy}) 등의 로직을 포함한다.
  * </p>
  */
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties({GithubDeadlineProperties.class, GithubBudgetProperties.class,
+        GithubGraphqlProperties.class})
 public class WebClientConfig {
 
     private static final Logger log = LoggerFactory.getLogger(WebClientConfig.class);
@@ -39,53 +52,13 @@ public class WebClientConfig {
     @Value("${github.api.base-url}")
     private String baseUrl;
 
-    @Value("${github.api.token}")
-    private String rawTokens;
+    private final GithubTokenPool tokenPool;
+    private final GithubCallPolicy callPolicy;
+    private final GithubBudgetScheduler budgetScheduler;
+    private final ObjectMapper objectMapper;
 
-    private List<String> tokens;
-    private final AtomicInteger tokenIndex = new AtomicInteger(0);
-    private final Map<String, Long> tokenLastUserMap = new ConcurrentHashMap<>();
-    private static final Duration REQUEST_INTERVAL = Duration.ofSeconds(1);
-
-    /**
-     * Bean 초기화 시점에 토큰 문자열을 파싱하여 List로 변환
-     */
-    @PostConstruct
-    public void init() {
-        if (rawTokens == null || rawTokens.isBlank()) {
-            throw new IllegalArgumentException("Github API 토큰이 하나도 설정되지 않았습니다.");
-        }
-        tokens = Arrays.stream(rawTokens.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .toList();
-    }
-
-    /**
-     * 순차적으로 다음 GitHub API 토큰을 가져온다.
-     * <p>토큰별 요청 간격을 최소 {@link #REQUEST_INTERVAL} 만큼 유지한다.</p>
-     *
-     * @return 사용할 GitHub API 토큰
-     */
-    private String getNextToken(){
-        if(tokens == null || tokens.isEmpty()){
-            throw new IllegalArgumentException("Github API 토큰이 하나도 설정되지 않았습니다.");
-        }
-        String token = tokens.get(tokenIndex.getAndUpdate(i -> (i + 1) % tokens.size()));
-        long now = System.currentTimeMillis();
-        long lastUsed =  tokenLastUserMap.getOrDefault(token, 0L);
-        long wait = lastUsed + REQUEST_INTERVAL.toMillis() - now;
-
-        if(wait > 0){
-            try {
-                Thread.sleep(wait);
-            }catch (InterruptedException e){
-                Thread.currentThread().interrupt();
-            }
-        }
-        tokenLastUserMap.put(token, System.currentTimeMillis());
-        return token;
-    }
+    /** 한 요청에서 다른 토큰으로 재시도하는 최대 횟수 */
+    private static final int MAX_RETRIES = 3;
 
     /**
      * GitHub API 호출용 {@link WebClient} Bean 생성
@@ -135,8 +108,14 @@ public class WebClientConfig {
     /**
      * GitHub API 요청 전 필터
      * <p>
-     * - Authorization 헤더가 없는 경우 토큰을 자동 설정 <br>
-     * - 403/429 상태 코드 시 {@link GithubRateLimitException} 발생 <br>
+     * - Authorization 헤더가 없는 경우 {@link GithubTokenPool}에서 남은 요청 수가 가장 많은 토큰을 설정 <br>
+     * - 모든 응답의 Rate Limit 헤더를 토큰 풀에 반영 <br>
+     * - 토큰은 요청 URL의 Rate Limit 버킷({@link GithubResource}: core/search/graphql) 기준으로 선택 <br>
+     * - 403/429 Rate Limit 시 해당 토큰을 그 버킷에서만 Reset 시각까지 제외하고, 다른 토큰으로 재시도 <br>
+     * - GraphQL은 200 응답 본문의 {@code RATE_LIMITED} 오류도 같은 방식으로 처리 <br>
+     * - 401 시 해당 토큰을 폐기 상태로 두고 {@link GithubAuthenticationException}으로 다른 토큰 재시도 <br>
+     * - 토큰을 고르기 전에 요청 URL의 버킷 기준으로 우선순위({@link GithubPriority})별 한도 배분({@link GithubBudgetScheduler})을 거침 <br>
+     * - 요청 마감 시각({@link GithubDeadline})이 지났으면 재시도하지 않음 <br>
      * - Content-Type 검증 실패 시 {@link UnexpectedContentTypeException} 발생
      * </p>
      *
@@ -145,47 +124,191 @@ public class WebClientConfig {
      * @return {@link Mono} 형태의 응답
      */
     private Mono<ClientResponse> githubAuthFilter(ClientRequest request, ExchangeFunction next) {
-        boolean hasAuthHeader = request.headers().containsKey(HttpHeaders.AUTHORIZATION);
-        ClientRequest filtered = ClientRequest.from(request)
-                .headers(h -> {
-                    if (!hasAuthHeader) {
-                        String token = getNextToken();
-                        h.setBearerAuth(token);
-                        log.debug("🔻 WebClientConfig에서 설정한 토큰: {} " , token);
-                    } else {
-                        log.debug("✅ Authorization 헤더가 이미 존재 → 토큰 덮어쓰기 생략");
-                    }
+        if (request.headers().containsKey(HttpHeaders.AUTHORIZATION)) {
+            log.debug("✅ Authorization 헤더가 이미 존재 → 토큰 덮어쓰기 생략");
+            return next.exchange(request)
+                    .flatMap(response -> inspectResponse(response, null, GithubResource.of(request.url())));
+        }
+
+        return Mono.deferContextual(context -> {
+            GithubDeadline deadline = GithubDeadline.from(context).orElse(null);
+            GithubPriority priority = GithubPriority.from(context);
+            GithubResource resource = GithubResource.of(request.url());
+            Set<String> triedTokens = ConcurrentHashMap.newKeySet();
+            return budgetScheduler.admit(priority, deadline, resource)
+                    .then(tokenPool.acquire(resource, triedTokens))
+                    .flatMap(token -> {
+                        triedTokens.add(token);
+                        return hedged(request, next, token, triedTokens, deadline, priority, resource);
+                    })
+                    .retryWhen(Retry.max(MAX_RETRIES)
+                            .filter(err -> (err instanceof GithubRateLimitException
+                                            || err instanceof GithubAuthenticationException)
+                                    && (deadline == null || !deadline.isExpired()))
+                            .doBeforeRetry(retrySignal ->
+                                    log.info("🔄 다른 토큰으로 재시도 {} 회차", (retrySignal.totalRetries() + 1))
+                            )
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure())
+                    );
+        });
+    }
+
+    /**
+     * 요청을 보내고, GET 요청이 헤지 대기 시간({@link GithubCallPolicy#hedgeDelay})을 넘기면
+     * 다른 토큰으로 같은 요청을 한 번 더 보낸다.
+     * <p>먼저 응답한 쪽을 사용하고 나머지는 취소한다. 헤지 요청의 실패는 무시하고 원래 요청의 결과를 기다린다.</p>
+     */
+    private Mono<ClientResponse> hedged(ClientRequest request, ExchangeFunction next, String token,
+                                        Set<String> triedTokens, GithubDeadline deadline, GithubPriority priority,
+                                        GithubResource resource) {
+        Mono<ClientResponse> primary = attempt(request, next, token, priority, resource);
+        Duration delay = request.method() == HttpMethod.GET
+                ? callPolicy.hedgeDelay(request.url(), deadline)
+                : null;
+        if (delay == null) {
+            return primary;
+        }
+        Mono<ClientResponse> hedge = Mono.delay(delay)
+                .flatMap(tick -> Mono.justOrEmpty(tokenPool.tryAcquireOther(resource, triedTokens)))
+                .flatMap(other -> {
+                    triedTokens.add(other);
+                    callPolicy.recordHedge(request.url(), "sent");
+                    log.debug("🪞 헤지 요청 ({}ms 경과): {}", delay.toMillis(), request.url());
+                    return attempt(request, next, other, priority, resource);
                 })
+                .doOnNext(response -> callPolicy.recordHedge(request.url(), "won"))
+                .onErrorResume(e -> Mono.never())
+                .switchIfEmpty(Mono.never());
+        return Mono.firstWithSignal(primary, hedge);
+    }
+
+    /**
+     * 토큰 하나로 요청을 보내고 응답을 검사한다.
+     */
+    private Mono<ClientResponse> attempt(ClientRequest request, ExchangeFunction next, String token,
+                                         GithubPriority priority, GithubResource resource) {
+        ClientRequest filtered = ClientRequest.from(request)
+                .headers(h -> h.setBearerAuth(token))
                 .build();
-        return next.exchange(filtered)
-                .flatMap(response -> {
-                    int status = response.statusCode().value();
-                    String contentType = response.headers().contentType()
-                            .map(MediaType::toString)
-                            .orElse("unknown");
-                    if(status == 403 || status == 429){
-                        String reset = response.headers().header("X-RateLimit-Reset")
-                                .stream().findFirst().orElse("0");
-                        long restTime = parseEpoch(reset);
-                        log.warn("🔒 Rate Limited - Reset: {} (epoch)", reset);
-                        return Mono.error(new GithubRateLimitException("Rate Limited", restTime));
-                    }
-                    MediaType mediaType =  MediaType.parseMediaType(contentType);
-                    if (!MediaType.APPLICATION_JSON.includes(mediaType) && !contentType.contains("vnd.github")) {
-                        log.warn("⚠️ 예상하지 못한 Content-Type: {}", contentType);
-                        // 빈 응답으로 처리하거나 에러로 처리
-                        return Mono.error(new UnexpectedContentTypeException(contentType));
+        return Mono.defer(() -> {
+            budgetScheduler.consumed(priority);
+            long start = System.nanoTime();
+            return next.exchange(filtered)
+                    .flatMap(response -> {
+                        callPolicy.recordLatency(request.url(), System.nanoTime() - start);
+                        tokenPool.update(token, resource, response.headers().asHttpHeaders());
+                        return inspectResponse(response, token, resource);
+                    });
+        });
+    }
+
+    /**
+     * 응답 상태 코드와 Content-Type을 검사한다.
+     *
+     * @param response GitHub 응답
+     * @param token    요청에 사용한 토큰 (외부에서 Authorization을 지정한 경우 null)
+     * @param resource 요청이 차감되는 버킷 ({@code X-RateLimit-Resource} 헤더가 있으면 그 값을 우선)
+     * @return 정상 응답 또는 에러 {@link Mono}
+     */
+    private Mono<ClientResponse> inspectResponse(ClientResponse response, String token, GithubResource resource) {
+        int status = response.statusCode().value();
+        HttpHeaders headers = response.headers().asHttpHeaders();
+
+        if (isRateLimited(status, headers)) {
+            long resetTime = resolveReset(headers);
+            GithubResource limited = GithubResource.fromHeader(headers.getFirst("X-RateLimit-Resource"), resource);
+            log.warn("🔒 Rate Limited ({}) - Reset: {} (epoch)", limited.tag(), resetTime);
+            if (token != null) {
+                tokenPool.park(token, limited, resetTime);
+            }
+            return response.releaseBody()
+                    .then(Mono.error(new GithubRateLimitException("Rate Limited", resetTime, limited.tag())));
+        }
+        if (status == 401 && token != null) {
+            tokenPool.revoke(token);
+            return response.releaseBody()
+                    .then(Mono.error(new GithubAuthenticationException()));
+        }
+        if (status == 304 || status == 204) {
+            return Mono.just(response);
+        }
+
+        String contentType = response.headers().contentType()
+                .map(MediaType::toString)
+                .orElse("unknown");
+        boolean json = response.headers().contentType()
+                .map(MediaType.APPLICATION_JSON::includes)
+                .orElse(false);
+        if (!json && !contentType.contains("vnd.github")) {
+            log.warn("⚠️ 예상하지 못한 Content-Type: {}", contentType);
+            // 빈 응답으로 처리하거나 에러로 처리
+            return response.releaseBody()
+                    .then(Mono.error(new UnexpectedContentTypeException(contentType)));
+        }
+        if (resource == GithubResource.GRAPHQL && token != null && response.statusCode().is2xxSuccessful()) {
+            return inspectGraphqlBody(response, token, headers);
+        }
+        return Mono.just(response);
+    }
+
+    /**
+     * GraphQL은 한도 초과를 200 응답 본문의 {@code RATE_LIMITED} 오류로 알리므로, 본문을 읽어 확인한다.
+     * <p>한도 초과면 403/429와 같이 토큰을 graphql 버킷에서 제외하고 다른 토큰으로 재시도하게 하며,
+     * 아니면 읽은 본문으로 응답을 다시 만들어 넘긴다.</p>
+     */
+    private Mono<ClientResponse> inspectGraphqlBody(ClientResponse response, String token, HttpHeaders headers) {
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .flatMap(body -> {
+                    if (!isGraphqlRateLimited(body)) {
+                        return Mono.just(response.mutate().body(body).build());
                     }
-                    return Mono.just(response);
-                })
-                .retryWhen(Retry.fixedDelay(3,Duration.ofSeconds(2))
-                        .maxBackoff(Duration.ofSeconds(10))
-                        .jitter(0.5) // 지연시간 랜덤성 추가
-                        .filter(err -> err instanceof GithubRateLimitException)
-                        .doBeforeRetry(retrySignal ->
-                                log.info("🔄 재시도  {} 회차", (retrySignal.totalRetries() + 1))
-                        )
-                );
+                    long resetTime = resolveReset(headers);
+                    log.warn("🔒 Rate Limited (graphql, 본문) - Reset: {} (epoch)", resetTime);
+                    tokenPool.park(token, GithubResource.GRAPHQL, resetTime);
+                    return Mono.error(new GithubRateLimitException("GraphQL Rate Limited", resetTime,
+                            GithubResource.GRAPHQL.tag()));
+                });
+    }
+
+    private boolean isGraphqlRateLimited(String body) {
+        if (!body.contains("RATE_LIMITED")) {
+            return false;
+        }
+        try {
+            return GithubGraphqlClient.isRateLimited(objectMapper.readTree(body));
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 403/429 응답이 Rate Limit에 의한 것인지 판단한다.
+     * <p>403은 권한 문제일 수도 있으므로 남은 요청 수가 0이거나 Retry-After가 있을 때만 Rate Limit으로 본다.</p>
+     */
+    private boolean isRateLimited(int status, HttpHeaders headers) {
+        if (status == 429) {
+            return true;
+        }
+        return status == 403
+                && ("0".equals(headers.getFirst("X-RateLimit-Remaining"))
+                    || headers.containsKey(HttpHeaders.RETRY_AFTER));
+    }
+
+    /**
+     * Retry-After(초) 또는 X-RateLimit-Reset(epoch) 헤더로부터 Reset 시각을 계산한다.
+     */
+    private long resolveReset(HttpHeaders headers) {
+        Optional<String> retryAfter = Optional.ofNullable(headers.getFirst(HttpHeaders.RETRY_AFTER));
+        if (retryAfter.isPresent()) {
+            try {
+                return Instant.now().getEpochSecond() + Long.parseLong(retryAfter.get());
+            } catch (NumberFormatException ignored) {
+                // X-RateLimit-Reset으로 대체
+            }
+        }
+        String reset = headers.getFirst("X-RateLimit-Reset");
+        return parseEpoch(reset != null ? reset : "");
     }
 
     /**
@@ -0,0 +1,15 @@
+package io.github.repoboard.common.exception;
+
+/**
+ * GitHub가 토큰 인증을 거부(401 Bad credentials)했을 때 발생하는 예외.
+ * <p>
+ * 토큰 하나의 문제(폐기/만료)이므로 Rate Limit이나 GitHub 장애로 취급하지 않는다. <br>
+ * 해당 토큰은 제외되고 다른 토큰으로 재시도한다.
+ * </p>
+ */
+public class GithubAuthenticationException extends RuntimeException {
+
+    public GithubAuthenticationException() {
+        super("GitHub 토큰 인증에 실패했습니다. (Bad credentials)");
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.repoboard.common.exception;
+
+import lombok.Getter;
+
+/**
+ * GitHub 요청 한도가 부족해 낮은 우선순위 호출을 보내지 않았을 때(shed) 발생하는 예외.
+ * <p>
+ * 실제 GitHub 응답이 아니므로 차단기 실패로 집계하지 않는다. <br>
+ * 화면 요청용 여유분을 남기기 위한 것이며, 해당 버킷의 한도가 회복되면 같은 호출이 다시 허용된다.
+ * </p>
+ */
+@Getter
+public class GithubBudgetExhaustedException extends RuntimeException {
+    private final String priority;
+
+    /** 한도가 부족한 Rate Limit 버킷 (core/search/graphql) */
+    private final String resource;
+
+    public GithubBudgetExhaustedException(String priority, String resource) {
+        super("GitHub " + resource + " 요청 한도가 부족해 " + priority + " 호출을 보류했습니다.");
+        this.priority = priority;
+        this.resource = resource;
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.repoboard.common.exception;
+
+/**
+ * 요청 마감 시각({@code GithubDeadline})까지 GitHub 호출이 끝나지 않았을 때 발생하는 예외.
+ * <p>
+ * GitHub 장애가 아닌 요청 시간 예산 소진이므로 차단기 실패로 집계하지 않는다. <br>
+ * 마지막 정상 값이 있으면 호출부에서 대신 반환한다.
+ * </p>
+ */
+public class GithubDeadlineExceededException extends RuntimeException {
+
+    public GithubDeadlineExceededException() {
+        super("요청 마감 시각까지 GitHub 응답을 받지 못했습니다.");
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.repoboard.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 검색 한도가 부족해 1000건 이후의 깊은 페이지를 만들 수 없을 때 발생하는 예외.
+ * <p>
+ * 깊은 페이지는 구간 개수 조회와 구간별 청크 조회로 검색 API를 여러 번 호출하므로, <br>
+ * 남은 검색 한도로 감당할 수 없으면 호출을 시작하지 않고 바로 실패한다.
+ * </p>
+ */
+@Getter
+public class GithubDeepPageUnavailableException extends RuntimeException {
+    private final long required;
+    private final long available;
+
+    public GithubDeepPageUnavailableException(long required, long available) {
+        super("깊은 페이지를 제공할 수 없습니다: 검색 한도 부족 (필요 " + required + ", 가능 " + available + ")");
+        this.required = required;
+        this.available = available;
+    }
+}
@@ -6,15 +6,24 @@ import lombok.Getter;
  * GitHub API 호출 시 Rate Limit(요청 제한)에 걸렸을 때 발생하는 예외.
  * <p>
  * GitHub API는 계정 및 토큰별로 초당 요청 수와 시간당 요청 수를 제한한다.<br>
- * 이 예외는 X-RateLimit-Reset 헤더를 분석하여 API 제한이 해제되는 시각 정보를 함께 제공한다.
+ * 이 예외는 X-RateLimit-Reset 헤더를 분석하여 API 제한이 해제되는 시각 정보를 함께 제공한다.<br>
+ * 한도는 버킷(core/search/graphql)마다 따로이므로 어느 버킷에 걸렸는지도 함께 전달한다.
  * </p>
  */
 @Getter
 public class GithubRateLimitException extends RuntimeException{
     private final long resetTimeStamp;
 
+    /** Rate Limit 버킷 ({@code core}, {@code search}, {@code graphql}, 알 수 없으면 null) */
+    private final String resource;
+
     public GithubRateLimitException(String message, long resetTimeStamp) {
+        this(message, resetTimeStamp, null);
+    }
+
+    public GithubRateLimitException(String message, long resetTimeStamp, String resource) {
         super(message);
         this.resetTimeStamp = resetTimeStamp;
+        this.resource = resource;
     }
-}
\ No newline at end of file
+}
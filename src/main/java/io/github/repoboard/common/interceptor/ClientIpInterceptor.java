@@ -4,7 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 /**
  * 요청 클라이언트 IP를 MDC에 주입하는 인터셉터.
@@ -22,7 +22,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
  * </p>
  */
 @Component
-public class ClientIpInterceptor implements HandlerInterceptor {
+public class ClientIpInterceptor implements AsyncHandlerInterceptor {
 
     private static final String MDC_KEY = "clientIp";
     private static final String UNKNOWN = "unknown";
@@ -43,6 +43,17 @@ public class ClientIpInterceptor implements HandlerInterceptor {
         MDC.remove(MDC_KEY);
     }
 
+    /**
+     * 비동기 컨트롤러({@code CompletableFuture} 반환)는 최초 디스패치에서 afterCompletion이 호출되지 않으므로
+     * 서블릿 스레드 반환 시점에 MDC를 정리한다. (비동기 디스패치에서 preHandle이 다시 주입)
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request,
+                                               HttpServletResponse response,
+                                               Object handler){
+        MDC.remove(MDC_KEY);
+    }
+
     /**
      * 프록시 헤더 우선순위에 따라 클라이언트 IP를 결정한다.
      *
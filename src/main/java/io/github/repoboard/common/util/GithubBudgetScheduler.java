@@ -0,0 +1,166 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubBudgetProperties;
+import io.github.repoboard.common.exception.GithubBudgetExhaustedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GitHub 요청 한도를 우선순위({@link GithubPriority})별로 배분하는 스케줄러.
+ *
+ * <p>{@code githubWebClient}의 필터에서 요청마다 {@link #admit}을 거친다.
+ * 요청 URL이 차감되는 버킷({@link GithubResource})의 남은 요청 수 비율({@link GithubTokenPool#remainingRatio})에 따라</p>
+ * <ul>
+ *     <li>{@link GithubPriority#INTERACTIVE}: 항상 허용한다. (reserve는 이 호출을 위한 여유분)</li>
+ *     <li>{@link GithubPriority#USER_REFRESH}: 비율이 {@code user-refresh-reserve} 이하면 회복될 때까지
+ *         {@code queue-timeout}(또는 요청 마감 시각)만큼 대기하고, 그래도 부족하면 보류한다.</li>
+ *     <li>{@link GithubPriority#BACKGROUND}: 비율이 {@code background-reserve} 이하면 즉시 보류한다.</li>
+ * </ul>
+ * <p>보류는 {@link GithubBudgetExhaustedException}으로 알린다. (토큰 재시도/차단기와 무관)
+ * 버킷마다 한도가 따로 있으므로 search 한도가 바닥나도 core 요청은 보류하지 않는다.</p>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.budget.requests{priority, result=admitted|queued|shed}} — 허용/대기 후 허용/보류된 요청 수</li>
+ *     <li>{@code github.budget.consumed{priority}} — 실제로 보낸 GitHub 요청 수 (토큰 재시도, 헤지 요청 포함)</li>
+ *     <li>{@code github.budget.queued{priority}} — 현재 대기 중인 요청 수</li>
+ *     <li>{@code github.budget.remaining_ratio{resource}} — 버킷별 남은 요청 수 비율</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubBudgetScheduler {
+
+    private final GithubTokenPool tokenPool;
+    private final GithubBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<GithubPriority, AtomicInteger> queued = new EnumMap<>(GithubPriority.class);
+    private final Map<GithubPriority, Counter> consumed = new EnumMap<>(GithubPriority.class);
+
+    public GithubBudgetScheduler(GithubTokenPool tokenPool, GithubBudgetProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.tokenPool = tokenPool;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (GithubPriority priority : GithubPriority.values()) {
+            AtomicInteger waiting = new AtomicInteger();
+            queued.put(priority, waiting);
+            Gauge.builder("github.budget.queued", waiting, AtomicInteger::get)
+                    .description("한도 회복을 기다리는 GitHub 요청 수")
+                    .tag("priority", priority.tag())
+                    .register(meterRegistry);
+            consumed.put(priority, Counter.builder("github.budget.consumed")
+                    .description("우선순위별로 실제 보낸 GitHub 요청 수")
+                    .tag("priority", priority.tag())
+                    .register(meterRegistry));
+        }
+        for (GithubResource resource : GithubResource.values()) {
+            Gauge.builder("github.budget.remaining_ratio", tokenPool, pool -> pool.remainingRatio(resource))
+                    .description("전체 토큰 한도 대비 남은 요청 수 비율")
+                    .tag("resource", resource.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 요청을 보내도 되는지 결정한다.
+     *
+     * @param priority 요청 우선순위
+     * @param deadline 요청 마감 시각 (nullable, 대기 시간 상한)
+     * @param resource 요청이 차감되는 버킷 ({@link GithubResource#of})
+     * @return 허용되면 완료, 보류되면 {@link GithubBudgetExhaustedException}
+     */
+    public Mono<Void> admit(GithubPriority priority, GithubDeadline deadline, GithubResource resource) {
+        return Mono.defer(() -> {
+            if (!properties.isEnabled() || hasHeadroom(priority, resource)) {
+                record(priority, "admitted");
+                return Mono.empty();
+            }
+            if (priority == GithubPriority.BACKGROUND) {
+                return shed(priority, resource);
+            }
+            Duration wait = properties.getQueueTimeout();
+            if (deadline != null && deadline.remaining().compareTo(wait) < 0) {
+                wait = deadline.remaining();
+            }
+            if (wait.isNegative() || wait.isZero()) {
+                return shed(priority, resource);
+            }
+            AtomicInteger waiting = queued.get(priority);
+            if (waiting.incrementAndGet() > properties.getMaxQueued()) {
+                waiting.decrementAndGet();
+                return shed(priority, resource);
+            }
+            log.debug("⏳ GitHub {} 한도 부족 → {} 요청 대기 (최대 {}ms)", resource.tag(), priority, wait.toMillis());
+            return Mono.defer(() -> hasHeadroom(priority, resource) ? Mono.just(true) : Mono.<Boolean>empty())
+                    .repeatWhenEmpty(attempts -> attempts.delayElements(properties.getPollInterval()))
+                    .timeout(wait)
+                    .doOnNext(admitted -> record(priority, "queued"))
+                    .onErrorResume(TimeoutException.class, e -> shed(priority, resource).cast(Boolean.class))
+                    .doFinally(signal -> waiting.decrementAndGet())
+                    .then();
+        });
+    }
+
+    /**
+     * 실제로 보낸 요청을 우선순위별로 집계한다. (토큰 재시도, 헤지 요청마다 호출)
+     *
+     * @param priority 요청 우선순위
+     */
+    public void consumed(GithubPriority priority) {
+        consumed.get(priority).increment();
+    }
+
+    /**
+     * 지금 이 우선순위 요청을 해당 버킷으로 보낼 여유가 있는지 확인한다.
+     *
+     * @param priority 요청 우선순위
+     * @param resource 요청이 차감되는 버킷
+     * @return 버킷의 남은 한도 비율이 해당 reserve보다 크면 true (INTERACTIVE는 항상 true)
+     */
+    public boolean hasHeadroom(GithubPriority priority, GithubResource resource) {
+        return switch (priority) {
+            case INTERACTIVE -> true;
+            case USER_REFRESH -> tokenPool.remainingRatio(resource) > properties.getUserRefreshReserve();
+            case BACKGROUND -> tokenPool.remainingRatio(resource) > properties.getBackgroundReserve();
+        };
+    }
+
+    /**
+     * 한도 부족으로 보류된 호출인지 확인한다. (원인 체인 전체 검사)
+     *
+     * @param error 호출 실패 원인
+     * @return {@link GithubBudgetExhaustedException}이 원인이면 true
+     */
+    public static boolean isShed(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof GithubBudgetExhaustedException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private Mono<Void> shed(GithubPriority priority, GithubResource resource) {
+        record(priority, "shed");
+        log.debug("🚫 GitHub {} 한도 부족 → {} 요청 보류", resource.tag(), priority);
+        return Mono.error(new GithubBudgetExhaustedException(priority.tag(), resource.tag()));
+    }
+
+    private void record(GithubPriority priority, String result) {
+        meterRegistry.counter("github.budget.requests", "priority", priority.tag(), "result", result).increment();
+    }
+}
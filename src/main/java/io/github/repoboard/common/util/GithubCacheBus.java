@@ -0,0 +1,286 @@
+package io.github.repoboard.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Postgres LISTEN/NOTIFY 기반 인스턴스 간 GitHub 캐시 무효화 버스.
+ *
+ * <p>Caffeine(L1) 캐시는 JVM마다 따로 있으므로, 한 인스턴스에서 값을 갱신/제거하면
+ * 같은 채널을 구독하는 다른 인스턴스의 L1에서도 해당 항목을 제거한다.</p>
+ *
+ * <ul>
+ *     <li>{@link Op#EVICT}/{@link Op#PUT}: 해당 키 제거. PUT은 값을 보내지 않고, 다음 조회 시 L2(Postgres)에서 새 값을 읽는다.</li>
+ *     <li>{@link Op#EVICT_TAG}: 사용자명/검색어 태그의 항목 제거 ({@link GithubCacheKeyIndex} 사용, L1과 off-heap 모두, 예: ghRepos 사용자)</li>
+ *     <li>{@link Op#CLEAR}: 캐시 전체 제거 (메시지가 NOTIFY 크기 제한을 넘을 때의 대체 수단)</li>
+ * </ul>
+ *
+ * <p>수신은 커넥션 풀과 별개인 전용 커넥션 하나로 처리하며, 끊기면 {@link #RECONNECT_DELAY} 후 다시 연결한다.
+ * 연결이 끊긴 동안 놓친 메시지는 복구하지 않으며 캐시 TTL 안에서 자연히 갱신된다.</p>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.cache.bus{op, direction=sent|received}}</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubCacheBus implements SmartLifecycle {
+
+    /** 무효화 종류 */
+    public enum Op { EVICT, EVICT_TAG, PUT, CLEAR }
+
+    /** NOTIFY 메시지 (JSON) */
+    private record Message(String origin, Op op, String cache, GithubCacheKey key, String tag) {}
+
+    /** NOTIFY payload 최대 크기(8000 bytes)보다 여유 있게 */
+    private static final int MAX_PAYLOAD = 7900;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final Pattern CHANNEL = Pattern.compile("^[a-z_][a-z0-9_]{0,62}$");
+
+    /** 웹 서버보다 먼저 시작하고 나중에 종료 */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final CacheManager cacheManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final GithubCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final GithubCacheKeyIndex keyIndex;
+    private final GithubOffHeapCache offHeap;
+    private volatile boolean running;
+    private Thread listener;
+
+    public GithubCacheBus(CacheManager cacheManager,
+                          JdbcTemplate jdbcTemplate,
+                          DataSourceProperties dataSourceProperties,
+                          ObjectMapper objectMapper,
+                          GithubCacheProperties properties,
+                          MeterRegistry meterRegistry,
+                          GithubCacheKeyIndex keyIndex,
+                          GithubOffHeapCache offHeap) {
+        this.cacheManager = cacheManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.keyIndex = keyIndex;
+        this.offHeap = offHeap;
+        if (!CHANNEL.matcher(properties.getBus().getChannel()).matches()) {
+            throw new IllegalArgumentException("잘못된 캐시 무효화 채널 이름: " + properties.getBus().getChannel());
+        }
+    }
+
+    /**
+     * 다른 인스턴스에 키 제거를 알린다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     */
+    public void publishEvict(String cacheName, Object key) {
+        publishKey(Op.EVICT, cacheName, key);
+    }
+
+    /**
+     * 다른 인스턴스에 태그(사용자명/검색어) 단위 제거를 알린다.
+     *
+     * @param cacheName 캐시 이름
+     * @param tag       {@link GithubCacheKey#indexTag()}
+     */
+    public void publishEvictTag(String cacheName, String tag) {
+        publish(new Message(instanceId, Op.EVICT_TAG, cacheName, null, tag));
+    }
+
+    /**
+     * 다른 인스턴스에 값 갱신을 알린다. (수신 측은 기존 값을 제거)
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     */
+    public void publishPut(String cacheName, Object key) {
+        publishKey(Op.PUT, cacheName, key);
+    }
+
+    /** 타입 키가 아니면 복원할 수 없으므로 캐시 전체 제거로 대신한다. */
+    private void publishKey(Op op, String cacheName, Object key) {
+        publish(key instanceof GithubCacheKey k
+                ? new Message(instanceId, op, cacheName, k, null)
+                : new Message(instanceId, Op.CLEAR, cacheName, null, null));
+    }
+
+    private void publish(Message message) {
+        if (!properties.getBus().isEnabled()) {
+            return;
+        }
+        Mono.fromRunnable(() -> {
+                    String payload = encode(message);
+                    if (payload.length() > MAX_PAYLOAD) {
+                        payload = encode(new Message(instanceId, Op.CLEAR, message.cache(), null, null));
+                    }
+                    jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", properties.getBus().getChannel(), payload);
+                    meterRegistry.counter("github.cache.bus", "op", message.op().name(), "direction", "sent").increment();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("[BUS] 캐시 무효화 전파 실패: {} {} {} - {}",
+                        message.op(), message.cache(), message.key() != null ? message.key() : message.tag(),
+                        e.toString()));
+    }
+
+    private String encode(Message message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.getBus().isEnabled()) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "gh-cache-bus");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread t = listener;
+        if (t != null) {
+            t.interrupt();
+            try {
+                t.join(POLL_TIMEOUT_MS * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 전용 커넥션으로 채널을 구독하고 알림을 처리한다. 연결이 끊기면 다시 연결한다.
+     * <p>메시지 하나의 처리 실패는 로그만 남기고, 커넥션 수준의 예상치 못한 예외도 연결 끊김처럼 다시 연결한다.
+     * (구독 스레드가 끝나면 재시작 전까지 다른 인스턴스의 무효화를 받지 못하므로)</p>
+     */
+    private void listen() {
+        String channel = properties.getBus().getChannel();
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement st = conn.createStatement()) {
+                    st.execute("LISTEN " + channel);
+                }
+                PGConnection pg = conn.unwrap(PGConnection.class);
+                log.info("[BUS] 캐시 무효화 채널 구독: {}", channel);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification n : notifications) {
+                        try {
+                            receive(n.getParameter());
+                        } catch (RuntimeException e) {
+                            log.warn("[BUS] 메시지 처리 실패: {}", n.getParameter(), e);
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("[BUS] 구독 연결 끊김 → {} 후 재연결 - {}", RECONNECT_DELAY, e.toString());
+                try {
+                    Thread.sleep(RECONNECT_DELAY.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    void receive(String payload) {
+        Message message;
+        try {
+            message = objectMapper.readValue(payload, Message.class);
+        } catch (Exception e) {
+            log.warn("[BUS] 알 수 없는 메시지 무시: {}", payload);
+            return;
+        }
+        if (instanceId.equals(message.origin()) || message.op() == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(message.cache());
+        if (cache == null) {
+            return;
+        }
+        meterRegistry.counter("github.cache.bus", "op", message.op().name(), "direction", "received").increment();
+        log.debug("[BUS] 수신: {} {} {}", message.op(), message.cache(),
+                message.key() != null ? message.key() : message.tag());
+        switch (message.op()) {
+            case EVICT, PUT -> {
+                if (message.key() != null) {
+                    cache.evict(message.key());
+                    offHeap.evict(message.cache(), message.key());
+                }
+            }
+            case EVICT_TAG -> evictByTag(cache, message.cache(), message.tag());
+            case CLEAR -> {
+                cache.clear();
+                offHeap.clear(message.cache());
+            }
+        }
+    }
+
+    private void evictByTag(Cache cache, String cacheName, String tag) {
+        if (!(cache instanceof CaffeineCache cc) || tag == null) {
+            cache.clear();
+            offHeap.clear(cacheName);
+            return;
+        }
+        Set<GithubCacheKey> keys = keyIndex.keys(cacheName, tag);
+        keys.forEach(key -> offHeap.evict(cacheName, key));
+        cc.getNativeCache().invalidateAll(keys);
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.repoboard.common.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.repoboard.dto.github.GithubIdPage;
+import io.github.repoboard.dto.github.GithubPageSnapshot;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubSlicePlan;
+import io.github.repoboard.dto.github.GithubUserDTO;
+import io.github.repoboard.dto.github.GithubValidators;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GitHub 응답 캐시 값의 직렬화/역직렬화. (L2 캐시, 캐시 스냅샷 공용)
+ *
+ * <ul>
+ *     <li>캐시 이름별로 값 타입이 정해져 있으며, 등록되지 않은 캐시는 {@link #supports(String)}가 false.</li>
+ *     <li>{@link Page}와 {@link GithubIdPage}는 {@link GithubPageSnapshot}(레포지토리 본문 포함)으로 변환해 저장하고,
+ *         복원할 때 레포지토리는 {@link GithubRepoStore}에 넣고 {@link GithubIdPage}로 되돌린다.</li>
+ *     <li>{@code ghValidators}는 값이 없으므로 빈 본문으로 저장하고, ETag/Last-Modified는 호출 측이 따로 보관한다.</li>
+ *     <li>키({@link GithubCacheKey})는 타입 정보가 포함된 JSON으로 변환한다.</li>
+ *     <li>값은 gzip 압축된 JSON이다.</li>
+ * </ul>
+ */
+@Component
+public class GithubCacheCodec {
+
+    private static final String VALIDATOR_CACHE = "ghValidators";
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ObjectMapper objectMapper;
+    private final GithubRepoStore repoStore;
+    private final Map<String, JavaType> valueTypes;
+
+    public GithubCacheCodec(ObjectMapper objectMapper, GithubRepoStore repoStore) {
+        this.objectMapper = objectMapper;
+        this.repoStore = repoStore;
+
+        TypeFactory tf = objectMapper.getTypeFactory();
+        JavaType page = tf.constructType(GithubPageSnapshot.class);
+        this.valueTypes = Map.of(
+                "ghUser", tf.constructType(GithubUserDTO.class),
+                "ghRepoById", tf.constructType(GithubRepoDTO.class),
+                "ghRepoReadmeById", tf.constructType(String.class),
+                "ghRepos", page,
+                "ghSearch", page,
+                "ghRefresh", page,
+                "ghQuerySearch", page,
+                "ghSlicePlan", tf.constructType(GithubSlicePlan.class));
+    }
+
+    /**
+     * 직렬화할 수 있는 캐시인지 확인한다.
+     *
+     * @param cacheName 캐시 이름
+     * @return 지원하면 true
+     */
+    public boolean supports(String cacheName) {
+        return valueTypes.containsKey(cacheName) || VALIDATOR_CACHE.equals(cacheName);
+    }
+
+    /**
+     * 캐시 값을 gzip 압축된 JSON으로 변환한다.
+     * <p>{@link GithubValidators}는 빈 본문으로 변환한다. (검증자는 호출 측이 따로 보관)</p>
+     *
+     * @param value 캐시 값
+     * @return 압축된 JSON
+     * @throws IOException 직렬화 실패 또는 {@link GithubIdPage}의 정본이 이미 제거되었을 때
+     */
+    public byte[] encode(Object value) throws IOException {
+        if (value instanceof GithubValidators) {
+            return EMPTY;
+        }
+        Object payload = value;
+        if (value instanceof Page<?> page) {
+            payload = toSnapshot(page);
+        } else if (value instanceof GithubIdPage idPage) {
+            payload = GithubPageSnapshot.from(repoStore.materialize(idPage)
+                    .orElseThrow(() -> new IOException("정본이 제거된 페이지")));
+        }
+        return compress(objectMapper.writeValueAsBytes(payload));
+    }
+
+    /**
+     * {@link #encode(Object)}로 만든 값을 캐시 값으로 복원한다.
+     *
+     * @param cacheName    캐시 이름
+     * @param payload      압축된 JSON
+     * @param etag         ETag ({@code ghValidators}만 사용)
+     * @param lastModified Last-Modified ({@code ghValidators}만 사용)
+     * @return 캐시 값
+     * @throws IOException 역직렬화 실패 또는 지원하지 않는 캐시일 때
+     */
+    public Object decode(String cacheName, byte[] payload,
+                         String etag, String lastModified) throws IOException {
+        if (VALIDATOR_CACHE.equals(cacheName)) {
+            return new GithubValidators(etag, lastModified);
+        }
+        JavaType type = valueTypes.get(cacheName);
+        if (type == null) {
+            throw new IOException("직렬화를 지원하지 않는 캐시: " + cacheName);
+        }
+        Object value = objectMapper.readValue(decompress(payload), type);
+        if (value instanceof GithubPageSnapshot snapshot) {
+            return repoStore.intern(snapshot.toPage());
+        }
+        if (value instanceof GithubRepoDTO repo) {
+            return repoStore.put(repo);
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 키를 JSON으로 변환한다.
+     *
+     * @param key 캐시 키
+     * @return 타입 정보가 포함된 JSON
+     * @throws IOException 직렬화 실패 시
+     */
+    public String encodeKey(GithubCacheKey key) throws IOException {
+        return objectMapper.writerFor(GithubCacheKey.class).writeValueAsString(key);
+    }
+
+    /**
+     * {@link #encodeKey(GithubCacheKey)}로 만든 JSON을 캐시 키로 복원한다.
+     *
+     * @param json 키 JSON
+     * @return 캐시 키
+     * @throws IOException 역직렬화 실패 시
+     */
+    public GithubCacheKey decodeKey(String json) throws IOException {
+        return objectMapper.readValue(json, GithubCacheKey.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GithubPageSnapshot toSnapshot(Page<?> page) {
+        return GithubPageSnapshot.from((Page<GithubRepoDTO>) page);
+    }
+
+    private static byte[] compress(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(raw.length / 4, 64));
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        }
+    }
+}
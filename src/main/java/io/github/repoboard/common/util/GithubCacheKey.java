@@ -0,0 +1,109 @@
+package io.github.repoboard.common.util;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * GitHub 응답 캐시 키.
+ *
+ * <p>L1(Caffeine) 조회는 record의 {@code equals}/{@code hashCode}만 사용하므로 요청마다 문자열을 만들지 않는다.
+ * {@link #toString()}은 L2 테이블의 {@code cache_key}와 로그에만 쓰이며,
+ * 스냅샷/인스턴스 간 전파에서는 타입 정보가 포함된 JSON으로 직렬화한다.</p>
+ *
+ * <p>{@link #indexTag()}가 있는 키는 {@link GithubCacheKeyIndex}에 등록되어
+ * 사용자/검색어 단위로 전체 키를 훑지 않고 제거할 수 있다.</p>
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = GithubCacheKey.User.class, name = "user"),
+        @JsonSubTypes.Type(value = GithubCacheKey.OwnedRepos.class, name = "ownedRepos"),
+        @JsonSubTypes.Type(value = GithubCacheKey.Repo.class, name = "repo"),
+        @JsonSubTypes.Type(value = GithubCacheKey.Readme.class, name = "readme"),
+        @JsonSubTypes.Type(value = GithubCacheKey.Search.class, name = "search"),
+        @JsonSubTypes.Type(value = GithubCacheKey.Refresh.class, name = "refresh"),
+        @JsonSubTypes.Type(value = GithubCacheKey.Query.class, name = "query")
+})
+public sealed interface GithubCacheKey {
+
+    /**
+     * 보조 인덱스 태그 (사용자명 또는 검색어).
+     *
+     * @return 태그 (인덱싱하지 않는 키는 null)
+     */
+    default String indexTag() {
+        return null;
+    }
+
+    /** ghUser — 사용자 정보 */
+    record User(String username) implements GithubCacheKey {
+        @Override
+        public String indexTag() {
+            return username;
+        }
+
+        @Override
+        public String toString() {
+            return username;
+        }
+    }
+
+    /** ghRepos — 사용자 레포지토리 목록 (page는 0부터 시작) */
+    record OwnedRepos(String username, int page, int size) implements GithubCacheKey {
+        @Override
+        public String indexTag() {
+            return username;
+        }
+
+        @Override
+        public String toString() {
+            return username + ":" + page + ":" + size;
+        }
+    }
+
+    /** ghRepoById — 단일 레포지토리 */
+    record Repo(long repoId) implements GithubCacheKey {
+        @Override
+        public String toString() {
+            return "repos:" + repoId;
+        }
+    }
+
+    /** ghRepoReadmeById — 레포지토리 README */
+    record Readme(long repoId) implements GithubCacheKey {
+        @Override
+        public String toString() {
+            return "readme:" + repoId;
+        }
+    }
+
+    /** ghSearch — 언어별 기본 검색 (page는 GitHub 기준 1부터 시작) */
+    record Search(String language, int page, int size, String sort) implements GithubCacheKey {
+        @Override
+        public String toString() {
+            return "lang:" + language + ":page:" + page + ":size:" + size + ":sort:" + sort;
+        }
+    }
+
+    /** ghRefresh — 전략 기반 새로고침 검색 (page는 GitHub 기준 1부터 시작) */
+    record Refresh(String sortKey, String strategyQuery, String language,
+                   int page, int size, String sort) implements GithubCacheKey {
+        @Override
+        public String toString() {
+            return "refresh:" + sortKey + ":" + strategyQuery + ":" + language
+                    + ":page:" + page + ":size:" + size + ":sort:" + sort;
+        }
+    }
+
+    /** ghQuerySearch — 검색어 기반 검색 (page는 GitHub 기준 1부터 시작) */
+    record Query(String query, int page, int size, String sort) implements GithubCacheKey {
+        @Override
+        public String indexTag() {
+            return query;
+        }
+
+        @Override
+        public String toString() {
+            return "query:" + query + ":page:" + page + ":size:" + size + ":sort:" + sort;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시별 보조 인덱스: {@link GithubCacheKey#indexTag()}(사용자명/검색어) → 캐시 키 집합.
+ *
+ * <ul>
+ *     <li>캐시에 값을 넣는 쪽({@link GithubCacheTemplate}, {@link GithubCacheSnapshot})이 {@link #add}로 등록한다.</li>
+ *     <li>만료/용량 초과/명시적 제거는 Caffeine {@link #removalListener(String)}가 정리한다. ({@link #track} 필요)</li>
+ *     <li>off-heap({@link GithubOffHeapCache})에 저장한 키도 등록하며, off-heap에서 제거될 때 정리한다.
+ *         L1과 off-heap 어느 한쪽에라도 남아 있으면 인덱스에 유지한다.</li>
+ *     <li>한 사용자의 항목을 제거할 때 전체 키를 훑지 않고 해당 태그의 키만 조회한다.</li>
+ * </ul>
+ */
+@Component
+public class GithubCacheKeyIndex {
+
+    private final Map<String, Map<String, Set<GithubCacheKey>>> index = new ConcurrentHashMap<>();
+    private final Map<String, AsyncCache<Object, Object>> tracked = new ConcurrentHashMap<>();
+    private final GithubOffHeapCache offHeap;
+
+    public GithubCacheKeyIndex(GithubOffHeapCache offHeap) {
+        this.offHeap = offHeap;
+        offHeap.onRemoval(this::removeIfAbsent);
+    }
+
+    /**
+     * 인덱스를 유지할 캐시를 등록한다. ({@link #removalListener(String)}와 함께 사용)
+     *
+     * @param cacheName 캐시 이름
+     * @param cache     캐시
+     */
+    public void track(String cacheName, AsyncCache<Object, Object> cache) {
+        tracked.put(cacheName, cache);
+    }
+
+    /**
+     * 키를 인덱스에 등록한다. 태그가 없는 키는 무시한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     */
+    public void add(String cacheName, Object key) {
+        if (key instanceof GithubCacheKey k && k.indexTag() != null) {
+            index.computeIfAbsent(cacheName, n -> new ConcurrentHashMap<>())
+                    .compute(k.indexTag(), (tag, keys) -> {
+                        Set<GithubCacheKey> set = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                        set.add(k);
+                        return set;
+                    });
+        }
+    }
+
+    /**
+     * 태그에 등록된 키를 조회한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param tag       사용자명 또는 검색어
+     * @return 키 집합 (복사본)
+     */
+    public Set<GithubCacheKey> keys(String cacheName, String tag) {
+        Map<String, Set<GithubCacheKey>> byTag = index.get(cacheName);
+        Set<GithubCacheKey> keys = byTag != null ? byTag.get(tag) : null;
+        return keys != null ? Set.copyOf(keys) : Set.of();
+    }
+
+    /**
+     * 캐시 항목 제거 시 인덱스를 정리하는 Caffeine 리스너.
+     * <p>값 교체(REPLACED)는 키가 그대로 남아 있으므로 무시한다. 리스너는 비동기로 실행되므로,
+     * 그 사이 같은 키가 다시 저장되었거나 off-heap으로 옮겨졌으면 제거 후 다시 등록한다.</p>
+     *
+     * @param cacheName 캐시 이름
+     * @return 리스너
+     */
+    public RemovalListener<Object, Object> removalListener(String cacheName) {
+        return (key, value, cause) -> {
+            if (cause == RemovalCause.REPLACED) {
+                return;
+            }
+            removeIfAbsent(cacheName, key);
+        };
+    }
+
+    /** 인덱스에서 제거한 뒤, L1이나 off-heap에 아직 남아 있으면 다시 등록한다 */
+    private void removeIfAbsent(String cacheName, Object key) {
+        remove(cacheName, key);
+        if (key == null) {
+            return;
+        }
+        AsyncCache<Object, Object> cache = tracked.get(cacheName);
+        if ((cache != null && cache.asMap().containsKey(key)) || offHeap.contains(cacheName, key)) {
+            add(cacheName, key);
+        }
+    }
+
+    private void remove(String cacheName, Object key) {
+        if (!(key instanceof GithubCacheKey k) || k.indexTag() == null) {
+            return;
+        }
+        Map<String, Set<GithubCacheKey>> byTag = index.get(cacheName);
+        if (byTag == null) {
+            return;
+        }
+        byTag.computeIfPresent(k.indexTag(), (tag, keys) -> {
+            keys.remove(k);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
@@ -0,0 +1,240 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.dto.github.GithubValidators;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 종료 시 GitHub 응답 캐시(L1)를 파일로 저장하고, 시작 시 복원하는 생명주기 컴포넌트.
+ *
+ * <p>배포(재시작) 직후 모든 페이지가 미스가 되어 지연과 Rate Limit 사용량이 튀는 것을 막는다.</p>
+ *
+ * <ul>
+ *     <li>시작: 웹 서버가 요청을 받기 전에 스냅샷을 memory-mapped 방식으로 읽어 복원한다.
+ *         readiness 상태는 모든 {@link SmartLifecycle}이 시작된 뒤에 UP이 되므로 복원이 끝난 뒤 트래픽을 받는다.</li>
+ *     <li>종료: 웹 서버 graceful shutdown이 끝난 뒤 남은 TTL과 함께 저장한다.</li>
+ *     <li>복원 시 저장 후 지난 시간만큼 TTL을 차감하고, 이미 만료된 항목은 건너뛴다.</li>
+ *     <li>값은 {@link GithubCacheCodec}으로 직렬화하며, 지원하지 않는 캐시는 저장하지 않는다.</li>
+ * </ul>
+ *
+ * <h3>파일 형식</h3>
+ * <pre>
+ * int magic, int version, long savedAtEpochMillis
+ * 반복: string cacheName, string key(JSON), long remainingMillis,
+ *       string etag, string lastModified, int length, byte[length] payload
+ * (string = int length(-1이면 null) + UTF-8 bytes)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubCacheSnapshot implements SmartLifecycle {
+
+    private static final int MAGIC = 0x52424353;
+    private static final int VERSION = 2;
+
+    /** 웹 서버 시작(DEFAULT_PHASE - 2048)보다 먼저 시작하고, graceful shutdown(DEFAULT_PHASE - 1024)보다 나중에 종료 */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final CacheManager cacheManager;
+    private final GithubCacheCodec codec;
+    private final GithubCacheProperties properties;
+    private final GithubCacheKeyIndex keyIndex;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (properties.getSnapshot().isEnabled()) {
+            restore();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (properties.getSnapshot().isEnabled()) {
+            save();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 스냅샷 파일에서 캐시를 복원한다. 파일이 없거나 손상되었으면 읽은 곳까지만 복원한다.
+     */
+    void restore() {
+        Path path = Path.of(properties.getSnapshot().getPath());
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        int restored = 0;
+        int skipped = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buf.remaining() < 16 || buf.getInt() != MAGIC || buf.getInt() != VERSION) {
+                log.warn("[SNAPSHOT] 형식이 맞지 않는 스냅샷 파일 무시: {}", path);
+                return;
+            }
+            long elapsed = startedAt - buf.getLong();
+            while (buf.hasRemaining()) {
+                String cacheName = readString(buf);
+                String keyJson = readString(buf);
+                long remaining = buf.getLong() - elapsed;
+                String etag = readString(buf);
+                String lastModified = readString(buf);
+                byte[] payload = new byte[buf.getInt()];
+                buf.get(payload);
+
+                Policy.VarExpiration<Object, Object> expiration = expiration(cacheName);
+                if (remaining <= 0 || expiration == null || !codec.supports(cacheName)) {
+                    skipped++;
+                    continue;
+                }
+                try {
+                    GithubCacheKey key = codec.decodeKey(keyJson);
+                    Object value = codec.decode(cacheName, payload, etag, lastModified);
+                    expiration.putIfAbsent(key, value, Duration.ofMillis(remaining));
+                    keyIndex.add(cacheName, key);
+                    restored++;
+                } catch (IOException e) {
+                    skipped++;
+                    log.debug("[SNAPSHOT] 항목 복원 실패: {} {} - {}", cacheName, keyJson, e.toString());
+                }
+            }
+        } catch (IOException | BufferUnderflowException | NegativeArraySizeException e) {
+            log.warn("[SNAPSHOT] 스냅샷 읽기 중단 ({}건까지 복원): {} - {}", restored, path, e.toString());
+        }
+        log.info("[SNAPSHOT] 캐시 복원 {}건 (만료/실패 {}건), {}ms",
+                restored, skipped, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 현재 캐시를 스냅샷 파일로 저장한다. 임시 파일에 쓴 뒤 교체하므로 중간에 실패해도 기존 파일은 유지된다.
+     */
+    void save() {
+        Path path = Path.of(properties.getSnapshot().getPath()).toAbsolutePath();
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        long startedAt = System.currentTimeMillis();
+        int saved = 0;
+        try {
+            Files.createDirectories(path.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(startedAt);
+                for (String cacheName : cacheManager.getCacheNames()) {
+                    if (codec.supports(cacheName)) {
+                        saved += writeCache(out, cacheName);
+                    }
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("[SNAPSHOT] 캐시 저장 {}건 → {} ({}ms)", saved, path, System.currentTimeMillis() - startedAt);
+        } catch (IOException e) {
+            log.warn("[SNAPSHOT] 캐시 저장 실패: {} - {}", path, e.toString());
+        }
+    }
+
+    private int writeCache(DataOutputStream out, String cacheName) throws IOException {
+        AsyncCache<Object, Object> cache = asyncCache(cacheName);
+        Policy.VarExpiration<Object, Object> expiration = expiration(cacheName);
+        if (cache == null || expiration == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Map.Entry<Object, CompletableFuture<Object>> entry : cache.asMap().entrySet()) {
+            CompletableFuture<Object> future = entry.getValue();
+            if (!(entry.getKey() instanceof GithubCacheKey key) || !future.isDone() || future.isCompletedExceptionally()) {
+                continue;
+            }
+            Object value = future.getNow(null);
+            Duration remaining = expiration.getExpiresAfter(key).orElse(Duration.ZERO);
+            if (value == null || remaining.isZero() || remaining.isNegative()) {
+                continue;
+            }
+            byte[] payload;
+            String keyJson;
+            try {
+                payload = codec.encode(value);
+                keyJson = codec.encodeKey(key);
+            } catch (IOException e) {
+                log.debug("[SNAPSHOT] 항목 직렬화 실패: {} {} - {}", cacheName, key, e.toString());
+                continue;
+            }
+            GithubValidators validated = value instanceof GithubValidators v ? v : null;
+            writeString(out, cacheName);
+            writeString(out, keyJson);
+            out.writeLong(remaining.toMillis());
+            writeString(out, validated != null ? validated.getEtag() : null);
+            writeString(out, validated != null ? validated.getLastModified() : null);
+            out.writeInt(payload.length);
+            out.write(payload);
+            count++;
+        }
+        return count;
+    }
+
+    private AsyncCache<Object, Object> asyncCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache instanceof CaffeineCache cc ? cc.getAsyncCache() : null;
+    }
+
+    private Policy.VarExpiration<Object, Object> expiration(String cacheName) {
+        AsyncCache<Object, Object> cache = asyncCache(cacheName);
+        return cache != null ? cache.synchronous().policy().expireVariably().orElse(null) : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buf) {
+        int length = buf.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,403 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.common.exception.GithubRateLimitException;
+import io.github.repoboard.dto.github.GithubIdPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine {@link AsyncCache} 기반 GitHub 응답 캐시 접근 템플릿.
+ *
+ * <p>{@code @Cacheable}은 호출 스레드에서 값을 기다려야 하므로, 비동기 API({@link Mono})에서는
+ * 이 템플릿으로 캐시를 조회/적재한다.</p>
+ *
+ * <ul>
+ *     <li>히트: 캐시에 보관된 {@link CompletableFuture}를 그대로 구독</li>
+ *     <li>미스: {@link InFlightRequestCoalescer}로 동일 키 호출을 합친 뒤 {@link GithubL2Cache}(Postgres)를 먼저 조회하고,
+ *         없으면 loader를 실행해 값이 있으면 L1과 L2(비동기)에 저장</li>
+ *     <li>off-heap: {@link GithubOffHeapCache} 대상 캐시의 큰 값은 L1 대신 off-heap에 저장하고, L1 미스 시 먼저 조회한다.
+ *         (off-heap 항목도 off-heap의 만료 시각으로 refresh-ahead 한다)</li>
+ *     <li>loader가 empty를 반환하면 캐시에 저장하지 않는다.</li>
+ *     <li>refresh-ahead: 히트한 항목의 나이가 {@code TTL * ratio}를 넘었으면 기존 값을 반환하고
+ *         백그라운드에서 loader를 다시 실행해 교체한다. ({@link GithubCacheProperties#getRefreshAhead()})</li>
+ *     <li>stale-while-error: loader가 성공할 때마다 값을 {@code ghLastKnownGood}에도 저장하고 (off-heap에 저장한 값은
+ *         off-heap이 TTL 이후에도 보관하므로 힙에 두지 않음),
+ *         GitHub가 403/429/5xx/타임아웃으로 실패하거나 캐시가 쓰는 버킷({@link GithubResource#ofCache})의
+ *         {@link GithubCircuitBreaker}가 열려 있으면
+ *         그 값을 대신 반환한다. (메트릭 {@code github.cache.stale_served{cache}})</li>
+ *     <li>마감 시각/우선순위: 합쳐진 적재는 실행한 요청의 {@link GithubDeadline}과 {@link GithubPriority}를 따르며,
+ *         진행 중인 적재보다 우선순위가 높은 요청만 합류하지 않고 새로 적재한다. 마감 시각이 다른 요청도 합류하며
+ *         각자 자기 마감 시각으로 대기한다. ({@link InFlightRequestCoalescer}) 마감 시각 초과도 마지막 정상 값으로 대신하지만 차단기 실패로는 집계하지 않는다.</li>
+ *     <li>한도 보류: {@link GithubBudgetScheduler}가 낮은 우선순위 호출을 보류하면 마찬가지로 마지막 정상 값으로 대신한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubCacheTemplate {
+
+    private final CacheManager cacheManager;
+    private final InFlightRequestCoalescer coalescer;
+    private final GithubCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final GithubCircuitBreaker circuitBreaker;
+    private final GithubL2Cache l2Cache;
+    private final GithubCacheBus cacheBus;
+    private final GithubCacheKeyIndex keyIndex;
+    private final GithubOffHeapCache offHeap;
+    private final GithubRepoStore repoStore;
+
+    /** 캐시별 마지막 정상 값 보관 캐시 (키: [cacheName, key]) */
+    private static final String LAST_KNOWN_GOOD = "ghLastKnownGood";
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 loader로 적재한다.
+     *
+     * @param cacheName 캐시 이름 (예: ghUser)
+     * @param key       캐시 키
+     * @param loader    미스 시 실행할 upstream 호출
+     * @return 캐시 값 또는 loader 결과
+     */
+    public <T> Mono<T> get(String cacheName, Object key, Supplier<Mono<T>> loader) {
+        return get(cacheName, key, loader, null);
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 loader로 적재한다.
+     * <p>GitHub 장애로 마지막 정상 값을 대신 반환할 때 {@code onStale}을 호출한다.</p>
+     *
+     * @param cacheName 캐시 이름 (예: ghUser)
+     * @param key       캐시 키
+     * @param loader    미스 시 실행할 upstream 호출
+     * @param onStale   stale 값을 반환할 때 실행할 콜백 (nullable)
+     * @return 캐시 값, loader 결과 또는 마지막 정상 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> get(String cacheName, Object key, Supplier<Mono<T>> loader, Runnable onStale) {
+        return Mono.<T>deferContextual(context -> {
+            AsyncCache<Object, Object> cache = asyncCache(cacheName);
+            if (cache == null) {
+                return loader.get();
+            }
+            GithubResource resource = GithubResource.ofCache(cacheName);
+            CompletableFuture<Object> hit = cache.getIfPresent(key);
+            if (hit != null) {
+                log.debug("📦 캐시 히트: {} {}", cacheName, key);
+                if (hit.isDone() && !circuitBreaker.isOpen(resource)
+                        && isNearExpiry(cacheName, remaining(cache, key))) {
+                    refreshAhead(cacheName, cache, key, loader);
+                }
+                return Mono.fromFuture(hit, true).map(v -> (T) v);
+            }
+            Object offHeapHit = offHeap.get(cacheName, key);
+            if (offHeapHit != null) {
+                log.debug("📦 off-heap 히트: {} {}", cacheName, key);
+                if (!circuitBreaker.isOpen(resource)
+                        && isNearExpiry(cacheName, offHeap.remaining(cacheName, key))) {
+                    refreshAhead(cacheName, cache, key, loader);
+                }
+                return Mono.just((T) offHeapHit);
+            }
+            CompletableFuture<T> shared = coalescer.execute(cacheName, key,
+                    GithubPriority.from(context),
+                    () -> l2Cache.<T>readEntry(cacheName, key)
+                            .doOnNext(l2Hit -> rememberGood(cacheName, key, l2Hit.value(),
+                                    storeLocal(cacheName, cache, key, l2Hit.value(), l2Hit.remaining(Instant.now()))))
+                            .map(GithubL2Cache.Hit::value)
+                            .switchIfEmpty(Mono.defer(() -> circuitBreaker.isOpen(resource)
+                                    ? Mono.error(new GithubRateLimitException("Circuit open",
+                                            circuitBreaker.openUntilEpochSec(resource), resource.tag()))
+                                    : load(cacheName, cache, key, loader)))
+                            .contextWrite(context)
+                            .toFuture());
+            return Mono.fromFuture(shared, true);
+        }).onErrorResume(e -> GithubCircuitBreaker.isUpstreamFailure(e) || GithubDeadline.isExceeded(e)
+                        || GithubBudgetScheduler.isShed(e),
+                e -> serveStale(cacheName, key, e, onStale));
+    }
+
+    /**
+     * loader를 실행하고 성공한 값을 캐시, L2, {@code ghLastKnownGood}에 저장한다.
+     */
+    private <T> Mono<T> load(String cacheName, AsyncCache<Object, Object> cache,
+                             Object key, Supplier<Mono<T>> loader) {
+        GithubResource resource = GithubResource.ofCache(cacheName);
+        return loader.get()
+                .doOnNext(value -> {
+                    circuitBreaker.recordSuccess(resource);
+                    boolean offHeapStored = storeLocal(cacheName, cache, key, value);
+                    l2Cache.write(cacheName, key, value);
+                    rememberGood(cacheName, key, value, offHeapStored);
+                })
+                .doOnError(e -> circuitBreaker.recordFailure(resource, e));
+    }
+
+    /**
+     * 값을 off-heap(대상 캐시의 큰 값) 또는 L1에 저장한다.
+     * <p>off-heap에 저장하면 L1에 남아 있을 수 있는 이전 값은 제거한다.</p>
+     *
+     * @return off-heap에 저장했으면 true
+     */
+    private boolean storeLocal(String cacheName, AsyncCache<Object, Object> cache, Object key, Object value) {
+        return storeLocal(cacheName, cache, key, value, null);
+    }
+
+    /**
+     * 값을 남은 시간({@code ttl})만큼만 보관하도록 저장한다.
+     * <p>L2 행은 자기 만료 시각이 있으므로, 캐시의 고정 TTL로 다시 채우면 인스턴스마다 TTL만큼 더 오래된 값을 줄 수 있다.
+     * ({@link GithubCacheSnapshot} 복원과 같은 방식)</p>
+     *
+     * @param ttl 남은 시간 (null이면 캐시 TTL, 0 이하면 저장하지 않음)
+     * @return off-heap에 저장했으면 true
+     */
+    private boolean storeLocal(String cacheName, AsyncCache<Object, Object> cache, Object key, Object value,
+                               Duration ttl) {
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            return false;
+        }
+        if (ttl != null ? offHeap.put(cacheName, key, value, ttl) : offHeap.put(cacheName, key, value)) {
+            keyIndex.add(cacheName, key);
+            cache.synchronous().invalidate(key);
+            return true;
+        }
+        Policy.VarExpiration<Object, Object> expiration = ttl != null
+                ? cache.synchronous().policy().expireVariably().orElse(null)
+                : null;
+        if (expiration != null) {
+            expiration.put(key, value, ttl);
+        } else {
+            cache.put(key, CompletableFuture.completedFuture(value));
+        }
+        keyIndex.add(cacheName, key);
+        return false;
+    }
+
+    /**
+     * 마지막 정상 값을 반환한다. 없으면 원래 에러를 그대로 전달한다.
+     * <p>호출자마다 실행되므로 single-flight로 합쳐진 요청도 각자 {@code onStale}을 받는다.</p>
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> serveStale(String cacheName, Object key, Throwable error, Runnable onStale) {
+        AsyncCache<Object, Object> lastKnownGood = asyncCache(LAST_KNOWN_GOOD);
+        CompletableFuture<Object> good = lastKnownGood != null
+                ? lastKnownGood.getIfPresent(List.of(cacheName, key))
+                : null;
+        if (good == null) {
+            Object offHeapGood = offHeap.getStale(cacheName, key);
+            good = offHeapGood != null ? CompletableFuture.completedFuture(offHeapGood) : null;
+        }
+        if (good == null) {
+            return Mono.error(error);
+        }
+        meterRegistry.counter("github.cache.stale_served", "cache", cacheName).increment();
+        log.warn("🕰️ GitHub 장애 → 마지막 정상 값 반환: {} {} ({})", cacheName, key, error.toString());
+        return Mono.fromFuture(good, true)
+                .map(v -> (T) v)
+                .doOnNext(v -> {
+                    if (onStale != null) {
+                        onStale.run();
+                    }
+                });
+    }
+
+    /**
+     * 마지막 정상 값을 {@code ghLastKnownGood}에 저장한다.
+     * <p>off-heap에 저장한 값은 off-heap이 stale 응답용으로 보관하므로 힙에 다시 두지 않고, 이전 값만 지운다.</p>
+     * <p>{@link GithubIdPage}는 정본이 제거되면 복원할 수 없으므로 지금 복원한 {@link Page}로
+     * 저장한다. (장애 중 정본이 없다고 stale 응답 대신 upstream을 다시 호출하지 않도록) 복원할 수 없으면 이전 값을 유지한다.</p>
+     */
+    private void rememberGood(String cacheName, Object key, Object value, boolean offHeapStored) {
+        AsyncCache<Object, Object> lastKnownGood = asyncCache(LAST_KNOWN_GOOD);
+        if (lastKnownGood == null) {
+            return;
+        }
+        if (offHeapStored) {
+            lastKnownGood.synchronous().invalidate(List.of(cacheName, key));
+            return;
+        }
+        Object good = value instanceof GithubIdPage idPage
+                ? repoStore.materialize(idPage).orElse(null)
+                : value;
+        if (good != null) {
+            lastKnownGood.put(List.of(cacheName, key), CompletableFuture.completedFuture(good));
+        }
+    }
+
+    /**
+     * 항목 나이가 캐시별 refresh-ahead 임계값을 넘었는지 확인한다.
+     * <p>남은 TTL이 {@code TTL * (1 - ratio)} 이하이면 나이가 {@code TTL * ratio} 이상인 것과 같다.
+     * 남은 시간은 L1 항목의 만료 시각 또는 off-heap 항목의 {@code expiresAt}이다.</p>
+     */
+    private boolean isNearExpiry(String cacheName, Optional<Duration> remaining) {
+        Double ratio = properties.getRefreshAhead().get(cacheName);
+        if (ratio == null || ratio <= 0 || ratio >= 1) {
+            return false;
+        }
+        long ttl = properties.ttlOf(cacheName).toMillis();
+        Duration threshold = Duration.ofMillis((long) (ttl * (1 - ratio)));
+        return remaining
+                .map(left -> left.compareTo(threshold) <= 0)
+                .orElse(false);
+    }
+
+    private static Optional<Duration> remaining(AsyncCache<Object, Object> cache, Object key) {
+        return cache.synchronous().policy().expireVariably()
+                .flatMap(expiration -> expiration.getExpiresAfter(key));
+    }
+
+    /**
+     * 기존 값은 그대로 두고 백그라운드에서 다시 적재한다.
+     * <p>키당 하나의 갱신만 실행되며, 실패하면 기존 값이 TTL까지 유지된다.</p>
+     */
+    private <T> void refreshAhead(String cacheName, AsyncCache<Object, Object> cache,
+                                  Object key, Supplier<Mono<T>> loader) {
+        coalescer.execute(cacheName + ":refresh", key, () -> {
+            meterRegistry.counter("github.cache.refresh_ahead", "cache", cacheName).increment();
+            log.debug("🔄 refresh-ahead: {} {}", cacheName, key);
+            return load(cacheName, cache, key, loader)
+                    .doOnError(e -> log.warn("refresh-ahead 실패 (기존 값 유지): {} {} - {}",
+                            cacheName, key, e.toString()))
+                    .onErrorResume(e -> Mono.empty())
+                    .toFuture();
+        });
+    }
+
+    /**
+     * 적재하지 않고 남아 있는 값을 조회한다. (L1 → off-heap(TTL 지난 값 포함) → {@code ghLastKnownGood} → L2)
+     * <p>조건부 요청이 304를 받았을 때 본문 대신 재사용할 값을 찾기 위해 사용한다. ({@code ghValidators}는 검증자만 보관)</p>
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 남아 있는 값 (없으면 empty)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> peek(String cacheName, Object key) {
+        return Mono.defer(() -> {
+            Object local = completedValue(asyncCache(cacheName), key);
+            if (local == null) {
+                local = offHeap.getStale(cacheName, key);
+            }
+            if (local == null) {
+                local = completedValue(asyncCache(LAST_KNOWN_GOOD), List.of(cacheName, key));
+            }
+            return local != null ? Mono.just((T) local) : l2Cache.read(cacheName, key);
+        });
+    }
+
+    private static Object completedValue(AsyncCache<Object, Object> cache, Object key) {
+        CompletableFuture<Object> future = cache != null ? cache.getIfPresent(key) : null;
+        return future != null && future.isDone() && !future.isCompletedExceptionally()
+                ? future.join()
+                : null;
+    }
+
+    /**
+     * L1 캐시에 값(또는 진행 중인 적재)이 있는지 확인한다. L2는 확인하지 않는다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return L1에 있으면 true
+     */
+    public boolean contains(String cacheName, Object key) {
+        AsyncCache<Object, Object> cache = asyncCache(cacheName);
+        return cache != null && cache.getIfPresent(key) != null;
+    }
+
+    /**
+     * 캐시 값을 갱신한다. ({@code @CachePut} 대응)
+     * <p>L2 저장이 끝난 뒤 다른 인스턴스에 알려({@link GithubCacheBus}) 새 값을 L2에서 읽게 한다.</p>
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param value     저장할 값 (null이면 무시)
+     */
+    public void put(String cacheName, Object key, Object value) {
+        AsyncCache<Object, Object> cache = asyncCache(cacheName);
+        if (cache != null && value != null) {
+            rememberGood(cacheName, key, value, storeLocal(cacheName, cache, key, value));
+            l2Cache.write(cacheName, key, value)
+                    .thenRun(() -> cacheBus.publishPut(cacheName, key));
+        }
+    }
+
+    /**
+     * 이 인스턴스의 캐시(L1 또는 off-heap)에만 값을 갱신한다.
+     * <p>L2와 다른 인스턴스에는 알리지 않으므로, 다른 인스턴스는 자기 TTL이 지나면 새 값을 읽는다.
+     * 많은 키를 한 번에 갱신하는 백그라운드 작업에서 키마다 L2 upsert + NOTIFY를 보내지 않기 위해 사용한다.</p>
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param value     저장할 값 (null이면 무시)
+     */
+    public void putLocal(String cacheName, Object key, Object value) {
+        AsyncCache<Object, Object> cache = asyncCache(cacheName);
+        if (cache != null && value != null) {
+            rememberGood(cacheName, key, value, storeLocal(cacheName, cache, key, value));
+        }
+    }
+
+    /**
+     * 캐시 값을 제거한다. ({@code @CacheEvict} 대응)
+     * <p>off-heap, L2와 다른 인스턴스의 L1에서도 제거하며, {@code ghLastKnownGood}와 off-heap의 stale 사본은
+     * 장애 대비용이므로 유지된다.</p>
+     * <p>L2 삭제는 비동기이므로 L1/off-heap은 지금 한 번, L2 삭제가 끝난 뒤 한 번 더 제거한다.
+     * (그 사이의 미스가 아직 남은 L2 행을 읽어 다시 채운 값을 지우기 위함)</p>
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return L2 삭제와 두 번째 제거, 다른 인스턴스 전파가 끝나면 완료되는 Future
+     */
+    public CompletableFuture<Void> evict(String cacheName, Object key) {
+        evictLocal(cacheName, key);
+        return l2Cache.evict(cacheName, key)
+                .thenRun(() -> {
+                    evictLocal(cacheName, key);
+                    cacheBus.publishEvict(cacheName, key);
+                });
+    }
+
+    /**
+     * 이 인스턴스의 L1에서만 값을 제거한다. (off-heap, L2, {@code ghLastKnownGood}와 다른 인스턴스는 유지)
+     * <p>L1의 {@link GithubIdPage}를 정본으로 복원할 수 없을 때, 다음 {@link #get}이 본문을 함께 보관하는
+     * off-heap/L2 사본이나 합쳐진 loader 호출로 다시 채우게 하기 위해 사용한다.</p>
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     */
+    public void evictL1(String cacheName, Object key) {
+        AsyncCache<Object, Object> cache = asyncCache(cacheName);
+        if (cache != null) {
+            cache.synchronous().invalidate(key);
+        }
+    }
+
+    private void evictLocal(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+        offHeap.evict(cacheName, key);
+    }
+
+    private AsyncCache<Object, Object> asyncCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache instanceof CaffeineCache cc ? cc.getAsyncCache() : null;
+    }
+}
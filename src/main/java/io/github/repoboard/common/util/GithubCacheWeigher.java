@@ -0,0 +1,149 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.github.repoboard.dto.github.GithubIdPage;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubRepoOwnerDTO;
+import io.github.repoboard.dto.github.GithubUserDTO;
+import io.github.repoboard.dto.github.GithubValidators;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+
+/**
+ * GitHub 캐시 항목의 힙 사용량 추정기.
+ *
+ * <p>Caffeine {@code maximumWeight}의 가중치로 쓰이며, 단위는 바이트다.
+ * 정확한 측정이 아니라 64비트 JVM(compressed oops) 기준의 객체 헤더/필드/배열 크기를 타입별로 더한 근사치다.</p>
+ *
+ * <ul>
+ *     <li>{@link String}: Latin-1이면 글자당 1바이트, 아니면 2바이트 (compact strings)</li>
+ *     <li>{@link GithubIdPage}: ID당 8바이트 — 레포지토리 본문은 {@link GithubRepoStore}에서 따로 계산</li>
+ *     <li>그 외 알 수 없는 타입은 {@link #UNKNOWN}으로 본다.</li>
+ * </ul>
+ */
+public final class GithubCacheWeigher {
+
+    /** Caffeine 노드 + {@code CompletableFuture} 래퍼 + 키 참조 등 항목당 고정 비용 */
+    static final int ENTRY_OVERHEAD = 112;
+
+    /** 추정할 수 없는 값의 가중치 */
+    static final int UNKNOWN = 1024;
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int STRING_OVERHEAD = 24 + 16;
+
+    private GithubCacheWeigher() {
+    }
+
+    /**
+     * 캐시용 {@link Weigher}.
+     *
+     * @return 키와 값의 추정 크기를 더하는 Weigher
+     */
+    public static Weigher<Object, Object> weigher() {
+        return (key, value) -> (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + estimate(key) + estimate(value));
+    }
+
+    /**
+     * 캐시의 추정 사용량과 상한을 메트릭으로 등록한다.
+     * <ul>
+     *     <li>{@code github.cache.weight{cache}} — 현재 추정 사용량 (바이트)</li>
+     *     <li>{@code github.cache.weight.max{cache}} — 상한 (바이트)</li>
+     * </ul>
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @param cacheName     캐시 이름 (태그)
+     * @param policy        가중치 기반 제거 정책을 가진 캐시의 정책
+     */
+    public static void registerMetrics(MeterRegistry meterRegistry, String cacheName, Policy<?, ?> policy) {
+        policy.eviction().ifPresent(eviction -> {
+            Gauge.builder("github.cache.weight", eviction, e -> e.weightedSize().orElse(0L))
+                    .description("GitHub 캐시 추정 힙 사용량")
+                    .baseUnit("bytes")
+                    .tag("cache", cacheName)
+                    .register(meterRegistry);
+            Gauge.builder("github.cache.weight.max", eviction, Policy.Eviction::getMaximum)
+                    .description("GitHub 캐시 추정 힙 사용량 상한")
+                    .baseUnit("bytes")
+                    .tag("cache", cacheName)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * 객체의 힙 사용량을 추정한다.
+     *
+     * @param value 캐시 키 또는 값
+     * @return 추정 바이트 수
+     */
+    public static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String s) {
+            return string(s);
+        }
+        if (value instanceof GithubIdPage page) {
+            return OBJECT_HEADER + 24 + 16 + 8L * (page.getIds() != null ? page.getIds().length : 0);
+        }
+        if (value instanceof GithubRepoDTO repo) {
+            return repo(repo);
+        }
+        if (value instanceof GithubUserDTO user) {
+            return OBJECT_HEADER + 8 * 4 + 16
+                    + string(user.getLogin()) + string(user.getId()) + string(user.getName())
+                    + string(user.getBio()) + string(user.getAvatarUrl()) + string(user.getHtmlUrl())
+                    + string(user.getBlog());
+        }
+        if (value instanceof GithubValidators validators) {
+            return OBJECT_HEADER + 16 + string(validators.getEtag()) + string(validators.getLastModified());
+        }
+        if (value instanceof GithubCacheKey key) {
+            return OBJECT_HEADER + 16 + string(key.toString());
+        }
+        if (value instanceof Page<?> page) {
+            return 64 + estimate(page.getContent());
+        }
+        if (value instanceof Collection<?> items) {
+            long size = OBJECT_HEADER + 16 + 4L * items.size();
+            for (Object item : items) {
+                size += estimate(item);
+            }
+            return size;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return OBJECT_HEADER + 8;
+        }
+        return UNKNOWN;
+    }
+
+    private static long repo(GithubRepoDTO repo) {
+        GithubRepoOwnerDTO owner = repo.getOwner();
+        long size = OBJECT_HEADER + 4 * 10
+                + 16 * 4 /* Long, Integer x2, Boolean */ + 24 /* Instant */
+                + string(repo.getName()) + string(repo.getFullName()) + string(repo.getDescription())
+                + string(repo.getLanguage()) + string(repo.getHtmlUrl());
+        if (owner != null) {
+            size += OBJECT_HEADER + 4 * 3
+                    + string(owner.getLogin()) + string(owner.getAvatarUrl()) + string(owner.getHtmlUrl());
+        }
+        return size;
+    }
+
+    private static long string(String s) {
+        if (s == null) {
+            return 0;
+        }
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            if (s.charAt(i) > 0xFF) {
+                return STRING_OVERHEAD + 2L * length;
+            }
+        }
+        return STRING_OVERHEAD + length;
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubDeadlineProperties;
+import io.github.repoboard.common.exception.GithubDeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * GitHub 호출 시간 정책 — 요청 마감 시각, 호출별 타임아웃, 헤지 요청 대기 시간.
+ *
+ * <ul>
+ *     <li>컨트롤러/사용자 동작은 {@link #request}로 요청마다 {@link GithubDeadline}과 {@link GithubPriority}를 Context에 넣는다.</li>
+ *     <li>각 GitHub 호출은 {@link #bound}로 {@code min(call, 남은 시간)} 타임아웃을 받는다.
+ *         마감 시각 때문에 끊기면 {@link GithubDeadlineExceededException}, 호출 자체가 느리면 {@link java.util.concurrent.TimeoutException}.</li>
+ *     <li>엔드포인트별({@code search}, {@code repos}, {@code users} …) 응답 지연을 기록하고,
+ *         헤지 요청이 켜져 있으면 그 백분위를 헤지 대기 시간으로 사용한다. ({@code WebClientConfig})</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.call.latency{endpoint}} — 응답 헤더까지의 지연 (헤지 백분위 포함)</li>
+ *     <li>{@code github.call.deadline_exceeded} — 마감 시각 때문에 끊긴 호출 수</li>
+ *     <li>{@code github.hedge{endpoint, result=sent|won}} — 보낸 헤지 요청 수 / 헤지 요청이 먼저 응답한 수</li>
+ * </ul>
+ */
+@Component
+public class GithubCallPolicy {
+
+    private final GithubDeadlineProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> latencies = new ConcurrentHashMap<>();
+    private final Counter deadlineExceeded;
+
+    public GithubCallPolicy(GithubDeadlineProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.deadlineExceeded = Counter.builder("github.call.deadline_exceeded")
+                .description("요청 마감 시각 때문에 끊긴 GitHub 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 마감 시각과 우선순위를 Context에 넣는다. 이미 있으면(상위에서 정한 경우) 그대로 둔다.
+     * <p>사용: {@code mono.contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))}</p>
+     *
+     * @param priority 요청 우선순위 ({@link GithubBudgetScheduler})
+     * @return Context 변환 함수
+     */
+    public Function<Context, Context> request(GithubPriority priority) {
+        return context -> {
+            Context result = context;
+            if (!result.hasKey(GithubDeadline.class)) {
+                result = result.put(GithubDeadline.class, GithubDeadline.after(properties.getRequest()));
+            }
+            if (!result.hasKey(GithubPriority.class)) {
+                result = result.put(GithubPriority.class, priority);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * GitHub 호출에 남은 시간 기준 타임아웃을 적용한다.
+     *
+     * @param call GitHub 호출
+     * @return 타임아웃이 적용된 호출
+     */
+    public <T> Mono<T> bound(Mono<T> call) {
+        return Mono.deferContextual(context -> {
+            Duration max = properties.getCall();
+            GithubDeadline deadline = GithubDeadline.from(context).orElse(null);
+            if (deadline == null) {
+                return call.timeout(max);
+            }
+            Duration remaining = deadline.remaining();
+            if (remaining.isNegative() || remaining.isZero()) {
+                deadlineExceeded.increment();
+                return Mono.error(new GithubDeadlineExceededException());
+            }
+            if (remaining.compareTo(max) >= 0) {
+                return call.timeout(max);
+            }
+            return call.timeout(remaining, Mono.defer(() -> {
+                deadlineExceeded.increment();
+                return Mono.error(new GithubDeadlineExceededException());
+            }));
+        });
+    }
+
+    /**
+     * 응답 헤더까지의 지연을 기록한다.
+     *
+     * @param url   요청 URL
+     * @param nanos 지연
+     */
+    public void recordLatency(URI url, long nanos) {
+        latency(endpoint(url)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 헤지 요청을 보내기까지 기다릴 시간.
+     *
+     * @param url      요청 URL
+     * @param deadline 요청 마감 시각 (nullable)
+     * @return 대기 시간 (헤지가 꺼져 있거나, 관측이 부족하거나, 마감 전에 보낼 수 없으면 null)
+     */
+    public Duration hedgeDelay(URI url, GithubDeadline deadline) {
+        GithubDeadlineProperties.Hedge hedge = properties.getHedge();
+        if (!hedge.isEnabled()) {
+            return null;
+        }
+        Timer timer = latency(endpoint(url));
+        if (timer.count() < hedge.getMinSamples()) {
+            return null;
+        }
+        double nanos = 0;
+        for (ValueAtPercentile p : timer.takeSnapshot().percentileValues()) {
+            if (Math.abs(p.percentile() - hedge.getPercentile()) < 1e-9) {
+                nanos = p.value(TimeUnit.NANOSECONDS);
+            }
+        }
+        Duration delay = Duration.ofNanos((long) nanos);
+        if (delay.compareTo(hedge.getMinDelay()) < 0) {
+            delay = hedge.getMinDelay();
+        }
+        if (deadline != null && deadline.remaining().compareTo(delay) <= 0) {
+            return null;
+        }
+        return delay;
+    }
+
+    /**
+     * 헤지 요청 결과를 기록한다.
+     *
+     * @param url    요청 URL
+     * @param result sent(보냄) 또는 won(헤지 요청이 먼저 응답)
+     */
+    public void recordHedge(URI url, String result) {
+        meterRegistry.counter("github.hedge", "endpoint", endpoint(url), "result", result).increment();
+    }
+
+    private Timer latency(String endpoint) {
+        return latencies.computeIfAbsent(endpoint, e -> Timer.builder("github.call.latency")
+                .description("GitHub 응답 헤더까지의 지연")
+                .tag("endpoint", e)
+                .publishPercentiles(properties.getHedge().getPercentile())
+                .register(meterRegistry));
+    }
+
+    /** URL 경로의 첫 구간 ({@code /search/repositories} → {@code search}) */
+    private static String endpoint(URI url) {
+        String path = url.getPath();
+        if (path == null || path.length() <= 1) {
+            return "root";
+        }
+        int end = path.indexOf('/', 1);
+        return end < 0 ? path.substring(1) : path.substring(1, end);
+    }
+}
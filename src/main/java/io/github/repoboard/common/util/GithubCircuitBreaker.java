@@ -0,0 +1,171 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.exception.GithubRateLimitException;
+import io.github.repoboard.common.exception.UnexpectedContentTypeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GitHub upstream 호출 차단기(circuit breaker).
+ *
+ * <p>Rate Limit 버킷({@link GithubResource})마다 따로 열리고 닫힌다. 검색 한도(분당 30)에 걸려도
+ * 사용자/레포지토리/README(core) 호출은 계속 나간다.</p>
+ *
+ * <ul>
+ *     <li>Rate Limit({@link GithubRateLimitException})을 받았고 {@link GithubTokenPool}에 그 버킷을 쓸 수 있는 토큰이
+ *         하나도 남지 않았으면 Reset 시각까지 열린다. (토큰 하나가 걸린 것은 다른 토큰으로 재시도되므로 무시)</li>
+ *     <li>5xx/타임아웃/연결 실패가 {@link #FAILURE_THRESHOLD}회 연속되면 {@link #OPEN_DURATION} 동안 열린다.</li>
+ *     <li>열려 있는 동안 {@link GithubCacheTemplate}은 그 버킷의 upstream을 호출하지 않고 마지막 정상 값을 반환한다.</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.circuit.open{resource}} — 차단 중이면 1, 아니면 0</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubCircuitBreaker {
+
+    /** 연속 실패 허용 횟수 */
+    private static final int FAILURE_THRESHOLD = 5;
+
+    /** 연속 실패로 열렸을 때 차단 시간 */
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final GithubTokenPool tokenPool;
+    private final Map<GithubResource, State> states = new EnumMap<>(GithubResource.class);
+
+    public GithubCircuitBreaker(GithubTokenPool tokenPool, MeterRegistry meterRegistry) {
+        this.tokenPool = tokenPool;
+        for (GithubResource resource : GithubResource.values()) {
+            states.put(resource, new State());
+            Gauge.builder("github.circuit.open", this, b -> b.isOpen(resource) ? 1 : 0)
+                    .description("GitHub upstream 호출 차단 여부")
+                    .tag("resource", resource.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 버킷의 upstream 호출이 차단되어 있는지 확인한다.
+     *
+     * @param resource 버킷
+     * @return 차단 중이면 true
+     */
+    public boolean isOpen(GithubResource resource) {
+        return System.currentTimeMillis() < states.get(resource).openUntil;
+    }
+
+    /**
+     * 버킷의 차단이 풀리는 시각.
+     *
+     * @param resource 버킷
+     * @return epoch seconds (차단 중이 아니면 현재 시각 이하)
+     */
+    public long openUntilEpochSec(GithubResource resource) {
+        return states.get(resource).openUntil / 1000;
+    }
+
+    /**
+     * upstream 호출 성공을 기록한다.
+     *
+     * @param resource 호출한 버킷
+     */
+    public void recordSuccess(GithubResource resource) {
+        states.get(resource).failures.set(0);
+    }
+
+    /**
+     * upstream 호출 실패를 기록한다.
+     * <p>{@link #isUpstreamFailure(Throwable)}에 해당하지 않는 실패(404, 잘못된 입력 등)는 무시한다.
+     * Rate Limit은 예외에 담긴 버킷을 우선하고, 없으면 호출한 버킷으로 본다.</p>
+     *
+     * @param resource 호출한 버킷
+     * @param error    호출 실패 원인
+     */
+    public void recordFailure(GithubResource resource, Throwable error) {
+        GithubRateLimitException rateLimit = findCause(error, GithubRateLimitException.class);
+        if (rateLimit != null) {
+            GithubResource limited = GithubResource.fromHeader(rateLimit.getResource(), resource);
+            if (rateLimit.getResetTimeStamp() > 0 && !tokenPool.hasAvailable(limited)) {
+                open(limited, rateLimit.getResetTimeStamp() * 1000);
+            }
+            return;
+        }
+        if (!isUpstreamFailure(error)) {
+            return;
+        }
+        State state = states.get(resource);
+        if (state.failures.incrementAndGet() >= FAILURE_THRESHOLD) {
+            state.failures.set(0);
+            open(resource, System.currentTimeMillis() + OPEN_DURATION.toMillis());
+        }
+    }
+
+    /**
+     * GitHub 쪽 장애로 볼 수 있는 실패인지 확인한다. (원인 체인 전체 검사)
+     * <p>403/429/5xx 응답, Rate Limit, 타임아웃, 연결 실패, 예상하지 못한 Content-Type이 해당된다.</p>
+     *
+     * @param error 호출 실패 원인
+     * @return upstream 장애이면 true
+     */
+    public static boolean isUpstreamFailure(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof GithubRateLimitException
+                    || t instanceof TimeoutException
+                    || t instanceof WebClientRequestException
+                    || t instanceof UnexpectedContentTypeException) {
+                return true;
+            }
+            if (t instanceof WebClientResponseException re) {
+                int status = re.getStatusCode().value();
+                return status == 403 || status == 429 || re.getStatusCode().is5xxServerError();
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private void open(GithubResource resource, long until) {
+        State state = states.get(resource);
+        synchronized (state) {
+            if (until <= state.openUntil) {
+                return;
+            }
+            state.openUntil = until;
+        }
+        log.warn("⛔ GitHub 호출 차단 ({}) → {} 까지", resource.tag(), Instant.ofEpochMilli(until));
+    }
+
+    private static <E extends Throwable> E findCause(Throwable error, Class<E> type) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (type.isInstance(t)) {
+                return type.cast(t);
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    /** 버킷별 차단 상태 */
+    private static final class State {
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile long openUntil;
+    }
+}
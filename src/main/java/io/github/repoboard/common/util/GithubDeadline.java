@@ -0,0 +1,79 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.exception.GithubDeadlineExceededException;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 요청 하나에 주어진 GitHub 호출 마감 시각.
+ *
+ * <p>컨트롤러에서 만들어 Reactor {@link reactor.util.context.Context}로 전달하며,
+ * 그 요청에서 일어나는 모든 GitHub 호출과 토큰 재시도가 같은 마감 시각을 공유한다.
+ * ({@link GithubCallPolicy#request}, {@link GithubCallPolicy#bound})</p>
+ */
+public final class GithubDeadline {
+
+    private final long deadlineNanos;
+
+    private GithubDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 지금부터 {@code budget} 뒤를 마감 시각으로 한다.
+     *
+     * @param budget 요청 시간 예산
+     * @return 마감 시각
+     */
+    public static GithubDeadline after(Duration budget) {
+        return new GithubDeadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Reactor Context에서 마감 시각을 꺼낸다.
+     *
+     * @param context 구독 Context
+     * @return 마감 시각 (컨트롤러 밖에서 시작된 호출이면 empty)
+     */
+    public static Optional<GithubDeadline> from(ContextView context) {
+        return context.getOrEmpty(GithubDeadline.class);
+    }
+
+    /**
+     * 남은 시간.
+     *
+     * @return 남은 시간 (지났으면 0 이하)
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * 마감 시각이 지났는지 확인한다.
+     *
+     * @return 지났으면 true
+     */
+    public boolean isExpired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    /**
+     * 마감 시각 초과로 인한 실패인지 확인한다. (원인 체인 전체 검사)
+     *
+     * @param error 호출 실패 원인
+     * @return {@link GithubDeadlineExceededException}이 원인이면 true
+     */
+    public static boolean isExceeded(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof GithubDeadlineExceededException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,239 @@
+package io.github.repoboard.common.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.repoboard.common.config.GithubGraphqlProperties;
+import io.github.repoboard.common.exception.GithubRateLimitException;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubRepoOwnerDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GitHub GraphQL API({@code POST /graphql}) 클라이언트.
+ *
+ * <p>레포지토리 ID 목록을 {@code nodes(ids:)} 쿼리로 {@code batch-size}(최대 100)개씩 묶어 조회한다.
+ * REST {@code /repositories/{id}}는 레포지토리마다 요청 하나지만, 이 쿼리는 100개를 요청 하나(1 point)로 처리한다.</p>
+ *
+ * <ul>
+ *     <li>노드 ID는 레거시 전역 ID({@code base64("010:Repository" + id)})로 만든다.</li>
+ *     <li>묶음은 {@code parallelism}개씩 동시에 보낸다. 요청은 {@code githubWebClient}를 그대로 사용하므로
+ *         토큰 선택, 우선순위 배분, 마감 시각이 REST 호출과 같이 적용된다.</li>
+ *     <li>응답에서 {@code null}인 노드는 없는(삭제/비공개) 레포지토리로 본다.</li>
+ *     <li>한 묶음이 실패하면 그 묶음의 ID는 결과에서 빠진다. (다른 묶음은 그대로 반환)</li>
+ *     <li>본문의 {@code RATE_LIMITED} 오류는 {@code githubWebClient} 필터가 403/429와 같이 처리한다.
+ *         (토큰을 graphql 버킷에서만 Reset 시각까지 제외하고 다른 토큰으로 재시도)
+ *         필터를 거치지 않은 응답이면 여기서 {@link GithubRateLimitException}으로 바꾼다.</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.graphql.nodes{result=found|missing|failed}} — 조회한 레포지토리 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubGraphqlClient {
+
+    private static final String REPOSITORIES_QUERY = """
+            query($ids: [ID!]!) {
+              nodes(ids: $ids) {
+                ... on Repository {
+                  databaseId
+                  name
+                  nameWithOwner
+                  description
+                  url
+                  stargazerCount
+                  forkCount
+                  isFork
+                  updatedAt
+                  primaryLanguage { name }
+                  owner { login avatarUrl url }
+                }
+              }
+            }
+            """;
+
+    private static final int MAX_NODES = 100;
+
+    private final WebClient githubWebClient;
+    private final GithubCallPolicy callPolicy;
+    private final GithubGraphqlProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 일괄 조회 결과.
+     *
+     * @param found   찾은 레포지토리 (ID → 레포지토리)
+     * @param missing 없는 레포지토리 ID (실패한 묶음의 ID는 어느 쪽에도 없음)
+     */
+    public record RepoBatch(Map<Long, GithubRepoDTO> found, Set<Long> missing) {
+    }
+
+    public GithubGraphqlClient(WebClient githubWebClient, GithubCallPolicy callPolicy,
+                               GithubGraphqlProperties properties, MeterRegistry meterRegistry) {
+        this.githubWebClient = githubWebClient;
+        this.callPolicy = callPolicy;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 여러 레포지토리를 ID로 조회한다.
+     *
+     * @param repoIds 레포지토리 ID (중복은 한 번만 조회)
+     * @return 조회 결과 (ID가 없으면 빈 결과)
+     */
+    public Mono<RepoBatch> repositories(Collection<Long> repoIds) {
+        int batchSize = Math.max(1, Math.min(properties.getBatchSize(), MAX_NODES));
+        return Flux.fromIterable(new LinkedHashSet<>(repoIds))
+                .buffer(batchSize)
+                .flatMap(chunk -> fetch(chunk)
+                        .onErrorResume(e -> {
+                            log.warn("⚠️ GraphQL 레포지토리 {}개 조회 실패: {}", chunk.size(), e.toString());
+                            record("failed", chunk.size());
+                            return Mono.empty();
+                        }), properties.getParallelism())
+                .reduceWith(() -> new RepoBatch(new HashMap<>(), new HashSet<>()), (acc, batch) -> {
+                    acc.found().putAll(batch.found());
+                    acc.missing().addAll(batch.missing());
+                    return acc;
+                });
+    }
+
+    /**
+     * 레포지토리 ID를 GraphQL 노드 ID로 바꾼다.
+     *
+     * @param repoId 레포지토리 ID
+     * @return 레거시 전역 노드 ID
+     */
+    public static String nodeId(long repoId) {
+        return Base64.getEncoder().encodeToString(("010:Repository" + repoId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 묶음 하나를 조회한다.
+     */
+    private Mono<RepoBatch> fetch(List<Long> chunk) {
+        List<String> ids = chunk.stream().map(GithubGraphqlClient::nodeId).toList();
+        return githubWebClient.post()
+                .uri("/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("query", REPOSITORIES_QUERY, "variables", Map.of("ids", ids)))
+                .exchangeToMono(response -> {
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.<JsonNode>createError();
+                    }
+                    long reset = parseLong(response.headers().asHttpHeaders().getFirst("X-RateLimit-Reset"));
+                    return response.bodyToMono(JsonNode.class)
+                            .flatMap(body -> isRateLimited(body)
+                                    ? Mono.error(new GithubRateLimitException("GraphQL Rate Limited", reset,
+                                            GithubResource.GRAPHQL.tag()))
+                                    : Mono.just(body));
+                })
+                .transform(callPolicy::bound)
+                .map(body -> toBatch(chunk, body));
+    }
+
+    private RepoBatch toBatch(List<Long> chunk, JsonNode body) {
+        JsonNode nodes = body.path("data").path("nodes");
+        if (!nodes.isArray()) {
+            throw new IllegalStateException("GraphQL 응답에 nodes가 없습니다: " + body.path("errors"));
+        }
+        Map<Long, GithubRepoDTO> found = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            JsonNode node = nodes.path(i);
+            if (node.isObject() && node.hasNonNull("databaseId")) {
+                found.put(chunk.get(i), toRepo(node));
+            } else {
+                missing.add(chunk.get(i));
+            }
+        }
+        record("found", found.size());
+        record("missing", missing.size());
+        return new RepoBatch(found, missing);
+    }
+
+    /**
+     * GraphQL Repository 노드를 REST 응답과 같은 {@link GithubRepoDTO}로 바꾼다.
+     */
+    private static GithubRepoDTO toRepo(JsonNode node) {
+        JsonNode owner = node.path("owner");
+        JsonNode language = node.path("primaryLanguage");
+        return GithubRepoDTO.builder()
+                .id(node.path("databaseId").asLong())
+                .name(text(node, "name"))
+                .fullName(text(node, "nameWithOwner"))
+                .description(text(node, "description"))
+                .language(language.isObject() ? text(language, "name") : null)
+                .htmlUrl(text(node, "url"))
+                .stargazersCount(node.path("stargazerCount").asInt())
+                .forksCount(node.path("forkCount").asInt())
+                .fork(node.path("isFork").asBoolean())
+                .updatedAt(node.hasNonNull("updatedAt")
+                        ? GithubSearchStreamDecoder.parseInstant(node.get("updatedAt").asText())
+                        : null)
+                .owner(owner.isObject()
+                        ? GithubRepoOwnerDTO.builder()
+                                .login(text(owner, "login"))
+                                .avatarUrl(text(owner, "avatarUrl"))
+                                .htmlUrl(text(owner, "url"))
+                                .build()
+                        : null)
+                .build();
+    }
+
+    /**
+     * 데이터 없이 {@code RATE_LIMITED} 오류만 온 응답인지 확인한다.
+     *
+     * @param body GraphQL 응답 본문
+     * @return 한도 초과 응답이면 true
+     */
+    public static boolean isRateLimited(JsonNode body) {
+        if (body.path("data").path("nodes").isArray()) {
+            return false;
+        }
+        for (JsonNode error : body.path("errors")) {
+            if ("RATE_LIMITED".equals(error.path("type").asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value != null ? Long.parseLong(value) : Instant.now().getEpochSecond() + 60;
+        } catch (NumberFormatException e) {
+            return Instant.now().getEpochSecond() + 60;
+        }
+    }
+
+    private void record(String result, int count) {
+        if (count > 0) {
+            meterRegistry.counter("github.graphql.nodes", "result", result).increment(count);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.dto.github.GithubValidators;
+import io.github.repoboard.model.GithubCacheEntry;
+import io.github.repoboard.repository.GithubCacheEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * GitHub 응답 캐시의 2차(L2) 저장소. ({@code github_cache_entry} 테이블)
+ *
+ * <p>Caffeine(L1) 미스 시 조회하고, upstream 적재 후 비동기로 저장하여
+ * 재시작/배포 직후나 여러 인스턴스 사이에서도 같은 응답 사본을 공유한다.</p>
+ *
+ * <ul>
+ *     <li>값은 {@link GithubCacheCodec}으로 직렬화(gzip JSON)해 저장한다.</li>
+ *     <li>{@code ghValidators} 항목은 값 없이 ETag/Last-Modified만 컬럼으로 저장한다.</li>
+ *     <li>만료 시각은 저장 시점 + L1 캐시 TTL({@link GithubCacheProperties#getTtl()})이다.
+ *         L2에서 읽어 L1에 채울 때는 남은 시간만큼만 보관하도록 {@link #readEntry}로 만료 시각을 함께 돌려준다.</li>
+ *     <li>DB 접근은 전용 bounded-elastic 스케줄러에서 실행되며, 조회가 느리거나 실패하면 미스로 처리한다.</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.cache.l2{cache, result=hit|miss|error}}</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubL2Cache {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final GithubCacheEntryRepository repository;
+    private final GithubCacheCodec codec;
+    private final GithubCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Scheduler scheduler = Schedulers.newBoundedElastic(4, 1000, "gh-l2");
+
+    /**
+     * L2 조회 결과.
+     *
+     * @param value     저장된 값
+     * @param expiresAt 행의 만료 시각
+     */
+    public record Hit<T>(T value, Instant expiresAt) {
+
+        /**
+         * 지금부터 만료까지 남은 시간.
+         *
+         * @param now 현재 시각
+         * @return 남은 시간 (지났으면 0 이하)
+         */
+        public Duration remaining(Instant now) {
+            return Duration.between(now, expiresAt);
+        }
+    }
+
+    /**
+     * L2에서 만료되지 않은 값을 조회한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 저장된 값 (없거나, 조회 실패/시간 초과면 empty)
+     */
+    public <T> Mono<T> read(String cacheName, Object key) {
+        return this.<T>readEntry(cacheName, key).map(Hit::value);
+    }
+
+    /**
+     * L2에서 만료되지 않은 값을 행의 만료 시각과 함께 조회한다.
+     * <p>L1에 다시 채울 때 캐시의 고정 TTL 대신 남은 시간을 쓰기 위해 사용한다.</p>
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 저장된 값과 만료 시각 (없거나, 조회 실패/시간 초과면 empty)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<Hit<T>> readEntry(String cacheName, Object key) {
+        if (!supports(cacheName)) {
+            return Mono.empty();
+        }
+        String cacheKey = key.toString();
+        return Mono.fromCallable(() -> {
+                    GithubCacheEntry entry = repository
+                            .findByCacheNameAndCacheKeyAndExpiresAtAfter(cacheName, cacheKey, Instant.now())
+                            .orElse(null);
+                    return entry != null
+                            ? new Hit<>((T) codec.decode(cacheName, entry.getPayload(),
+                                    entry.getEtag(), entry.getLastModified()), entry.getExpiresAt())
+                            : null;
+                })
+                .subscribeOn(scheduler)
+                .timeout(properties.getL2().getReadTimeout())
+                .doOnNext(v -> {
+                    count(cacheName, "hit");
+                    log.debug("🗄️ L2 캐시 히트: {} {}", cacheName, cacheKey);
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> count(cacheName, "miss")))
+                .onErrorResume(e -> {
+                    count(cacheName, "error");
+                    log.warn("L2 캐시 조회 실패 (미스로 처리): {} {} - {}", cacheName, cacheKey, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * L2에 값을 비동기로 저장한다. (호출 스레드를 기다리게 하지 않음)
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param value     저장할 값 (null이면 무시)
+     * @return 저장이 끝나면 완료되는 Future (실패해도 정상 완료)
+     */
+    public CompletableFuture<Void> write(String cacheName, Object key, Object value) {
+        if (!supports(cacheName) || value == null) {
+            return DONE;
+        }
+        Duration ttl = properties.ttlOf(cacheName);
+        String cacheKey = key.toString();
+        return runAsync("저장", cacheName, cacheKey, () -> {
+            Instant now = Instant.now();
+            GithubValidators validated = value instanceof GithubValidators v ? v : null;
+            repository.upsert(cacheName, cacheKey, codec.encode(value),
+                    validated != null ? validated.getEtag() : null,
+                    validated != null ? validated.getLastModified() : null,
+                    now, now.plus(ttl));
+        });
+    }
+
+    /**
+     * L2에서 값을 비동기로 제거한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 삭제가 끝나면 완료되는 Future (실패해도 정상 완료)
+     */
+    public CompletableFuture<Void> evict(String cacheName, Object key) {
+        if (!supports(cacheName)) {
+            return DONE;
+        }
+        String cacheKey = key.toString();
+        return runAsync("삭제", cacheName, cacheKey, () -> repository.deleteEntry(cacheName, cacheKey));
+    }
+
+    /**
+     * 키 접두사가 일치하는 L2 값을 비동기로 제거한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param prefix    키 접두사
+     * @return 삭제가 끝나면 완료되는 Future (실패해도 정상 완료)
+     */
+    public CompletableFuture<Void> evictByPrefix(String cacheName, String prefix) {
+        if (!supports(cacheName)) {
+            return DONE;
+        }
+        return runAsync("삭제", cacheName, prefix + "*", () -> repository.deleteByKeyPrefix(cacheName, prefix));
+    }
+
+    /**
+     * 만료된 L2 항목을 주기적으로 삭제한다.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.github.l2.purge-interval:PT10M}")
+    public void purgeExpired() {
+        if (!properties.getL2().isEnabled()) {
+            return;
+        }
+        try {
+            int deleted = repository.deleteExpired(Instant.now());
+            if (deleted > 0) {
+                log.info("[L2] 만료된 GitHub 캐시 {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("[L2] 만료 항목 삭제 실패 - {}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.disposeGracefully().timeout(Duration.ofSeconds(5)).onErrorResume(e -> Mono.empty()).block();
+    }
+
+    private boolean supports(String cacheName) {
+        GithubCacheProperties.L2 l2 = properties.getL2();
+        return l2.isEnabled() && l2.getCaches().contains(cacheName) && codec.supports(cacheName);
+    }
+
+    private CompletableFuture<Void> runAsync(String action, String cacheName, String cacheKey, IoTask task) {
+        return Mono.fromCallable(() -> {
+                    task.run();
+                    return true;
+                })
+                .subscribeOn(scheduler)
+                .doOnError(e -> log.warn("L2 캐시 {} 실패: {} {} - {}", action, cacheName, cacheKey, e.toString()))
+                .onErrorResume(e -> Mono.empty())
+                .then()
+                .toFuture();
+    }
+
+    private void count(String cacheName, String result) {
+        meterRegistry.counter("github.cache.l2", "cache", cacheName, "result", result).increment();
+    }
+
+    @FunctionalInterface
+    private interface IoTask {
+        void run() throws Exception;
+    }
+}
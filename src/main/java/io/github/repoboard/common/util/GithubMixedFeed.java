@@ -0,0 +1,197 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 언어의 검색 결과를 하나의 피드로 섞는 엔진.
+ *
+ * <p>언어별 검색({@code language:java}, {@code language:kotlin} …)은 각자의 캐시 키로 청크 단위 캐시되고,
+ * 이미 정렬된 언어별 목록을 k-way 병합해 요청한 페이지를 만든다.</p>
+ *
+ * <h3>조회 순서</h3>
+ * <ol>
+ *     <li>모든 언어의 첫 청크를 동시에 조회한다. (언어별 전체 개수 확인)</li>
+ *     <li>요청 위치까지 채우는 데 필요한 나머지 청크를 언어별 전체 개수 안에서 한 번에 동시 조회한다.</li>
+ * </ol>
+ * <p>두 단계 모두 {@code parallelism}개씩 동시에 실행하므로 응답 지연은 언어 수의 합이 아닌 가장 느린 언어 수준이다.
+ * 첫 페이지(50개)는 1단계만으로 채워진다.</p>
+ *
+ * <p>한 언어의 첫 청크가 실패하면 그 언어를 빼고(전체 개수에서도 제외) 나머지로 페이지를 만든다.
+ * 2번째 이후 청크가 실패하면 이미 받은 앞 청크까지만 병합에 쓰고, 전체 개수는 첫 청크가 알려준 값을 유지한다.</p>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.search.mixed} — 혼합 페이지 생성 시간</li>
+ *     <li>{@code github.search.mixed.failed{scope=language|tail}} — 실패한 청크 수 (첫 청크: 언어 제외, 이후 청크: 앞부분만 사용)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubMixedFeed {
+
+    /** 언어별 청크 크기 (검색 API per_page 최대값) */
+    private static final int CHUNK_SIZE = 100;
+
+    private static final Comparator<GithubRepoDTO> STARS_DESC = Comparator.comparing(
+            GithubRepoDTO::getStargazersCount, Comparator.nullsLast(Comparator.<Integer>reverseOrder()));
+
+    private static final Comparator<GithubRepoDTO> UPDATED_DESC = Comparator.comparing(
+            GithubRepoDTO::getUpdatedAt, Comparator.nullsLast(Comparator.<Instant>reverseOrder()));
+
+    private final GithubCacheProperties.MixedFeed properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer timer;
+
+    /**
+     * 언어별 청크 조회. (캐시 포함)
+     */
+    @FunctionalInterface
+    public interface ChunkCall {
+
+        /**
+         * @param language 언어
+         * @param chunk    청크 번호 (1부터 시작, 100개 단위)
+         * @return 청크 (전체 개수 포함)
+         */
+        Mono<Page<GithubRepoDTO>> chunk(String language, int chunk);
+    }
+
+    public GithubMixedFeed(GithubCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getMixedFeed();
+        this.meterRegistry = meterRegistry;
+        this.timer = Timer.builder("github.search.mixed")
+                .description("여러 언어 혼합 피드 페이지 생성 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 언어별 결과를 병합해 요청한 페이지를 만든다.
+     *
+     * @param languages 섞을 언어 ({@code max-languages}개까지 사용)
+     * @param sort      정렬 기준 (stars/updated)
+     * @param pageable  요청한 페이지
+     * @param call      언어별 청크 조회
+     * @return 요청한 페이지 (전체 개수는 언어별 제공 가능 개수의 합, 모든 언어의 첫 청크가 실패하면 empty)
+     */
+    public Mono<Page<GithubRepoDTO>> page(List<String> languages, String sort, Pageable pageable, ChunkCall call) {
+        List<Run> runs = languages.stream()
+                .limit(properties.getMaxLanguages())
+                .map(Run::new)
+                .toList();
+        long from = pageable.getOffset();
+        int to = (int) Math.min(from + pageable.getPageSize(), (long) runs.size() * GithubQuerySlicer.RESULT_LIMIT);
+        Comparator<GithubRepoDTO> comparator = "stars".equals(sort) ? STARS_DESC : UPDATED_DESC;
+        long start = System.nanoTime();
+
+        return Flux.fromIterable(runs)
+                .flatMap(run -> fetch(run, 1, call), properties.getParallelism())
+                .thenMany(Flux.fromIterable(runs)
+                        .filter(Run::hasTotal)
+                        .concatMap(run -> Flux.range(2, Math.max(0, run.chunksFor(to) - 1))
+                                .map(chunk -> new ChunkJob(run, chunk))))
+                .flatMap(job -> fetch(job.run(), job.chunk(), call), properties.getParallelism())
+                .then(Mono.<Page<GithubRepoDTO>>fromSupplier(() -> {
+                    List<Run> available = runs.stream().filter(Run::hasTotal).toList();
+                    if (available.isEmpty()) {
+                        return null;
+                    }
+                    List<GithubRepoDTO> top = GithubQuerySlicer.kWayMerge(
+                            available.stream().map(Run::items).toList(), comparator, to);
+                    List<GithubRepoDTO> content = top.size() > from
+                            ? new ArrayList<>(top.subList((int) from, top.size()))
+                            : List.of();
+                    long total = available.stream().mapToLong(Run::available).sum();
+                    return new PageImpl<>(content, pageable, total);
+                }))
+                .doOnSuccess(page -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    private Mono<Void> fetch(Run run, int chunk, ChunkCall call) {
+        return call.chunk(run.language, chunk)
+                .doOnNext(page -> run.put(chunk, page))
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 혼합 피드 청크 실패: {} (chunk {}, {}) → {}", run.language, chunk,
+                            chunk == 1 ? "언어 제외" : "앞 청크까지만 사용", e.toString());
+                    meterRegistry.counter("github.search.mixed.failed",
+                            "scope", chunk == 1 ? "language" : "tail").increment();
+                    run.fail(chunk);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /** 2단계에서 조회할 언어별 청크 */
+    private record ChunkJob(Run run, int chunk) {
+    }
+
+    /** 언어 하나의 정렬된 결과 (청크 번호 순으로 이어 붙임) */
+    private static final class Run {
+        private final String language;
+        private final List<List<GithubRepoDTO>> chunks = new ArrayList<>();
+        private long total;
+        /** 처음 실패한 청크 번호 (없으면 {@link Integer#MAX_VALUE}) */
+        private int failedChunk = Integer.MAX_VALUE;
+
+        private Run(String language) {
+            this.language = language;
+        }
+
+        private synchronized void put(int chunk, Page<GithubRepoDTO> page) {
+            while (chunks.size() < chunk) {
+                chunks.add(List.of());
+            }
+            chunks.set(chunk - 1, page.getContent());
+            if (chunk == 1) {
+                total = page.getTotalElements();
+            }
+        }
+
+        private synchronized void fail(int chunk) {
+            failedChunk = Math.min(failedChunk, chunk);
+        }
+
+        /** 첫 청크를 받아 전체 개수를 알고 있는지 (아니면 병합에서 제외) */
+        private synchronized boolean hasTotal() {
+            return failedChunk > 1;
+        }
+
+        /** 검색 API 한계 안에서 제공 가능한 개수 */
+        private synchronized long available() {
+            return Math.min(total, GithubQuerySlicer.RESULT_LIMIT);
+        }
+
+        /** 상위 {@code n}개를 채우는 데 필요한 청크 수 */
+        private int chunksFor(int n) {
+            return (int) ((Math.min(n, available()) + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        }
+
+        /** 받은 청크를 이어 붙인 목록 (실패했거나 덜 찬 청크에서 끊어 정렬을 유지) */
+        private synchronized List<GithubRepoDTO> items() {
+            List<GithubRepoDTO> items = new ArrayList<>();
+            for (int i = 0; i < chunks.size() && i + 1 < failedChunk; i++) {
+                List<GithubRepoDTO> chunk = chunks.get(i);
+                items.addAll(chunk);
+                if (chunk.size() < CHUNK_SIZE) {
+                    break;
+                }
+            }
+            return items;
+        }
+    }
+}
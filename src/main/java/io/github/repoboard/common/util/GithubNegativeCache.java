@@ -0,0 +1,257 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * GitHub에 존재하지 않는 사용자/레포지토리(404) 캐시.
+ *
+ * <p>오타가 난 사용자명이나 삭제된 레포지토리를 반복 조회할 때 매번 GitHub를 호출하지 않도록,
+ * 404를 받은 키를 짧은 TTL 동안 기억한다. {@link GithubCacheTemplate}의 L1/L2 조회 뒤 loader 안에서만 확인하므로,
+ * 이미 캐시에 있는 값은 영향을 받지 않는다.</p>
+ *
+ * <ul>
+ *     <li>정확한 캐시: {@code negative.user-ttl}/{@code negative.repo-ttl} 동안 키별로 보관 (최대 {@code max-size})</li>
+ *     <li>Bloom 필터(선택): 정확한 캐시보다 오래({@code bloom.ttl} ~ 2배) 많은 키를 적은 메모리로 기억한다.
+ *         두 세대를 번갈아 사용해 오래된 키는 사라지지만, 오탐({@code bloom.fpp}) 시 실제로 있는 대상도
+ *         그 기간 동안 "없음"으로 처리되므로 기본 비활성이다.</li>
+ *     <li>확인된 대상: {@link #forget}(명시적 새로고침, 200 응답)으로 있음이 확인된 키는 Bloom 필터가 기억하는 기간 동안 따로 보관하고,
+ *         Bloom 필터보다 먼저 확인한다. (오탐이나 다시 생긴 대상이 세대 교체까지 "없음"으로 남지 않도록)</li>
+ *     <li>사용자명은 GitHub와 같이 대소문자를 구분하지 않는다.</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.cache.negative{kind=user|repo, result=hit|bloom_hit|stored}}</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubNegativeCache {
+
+    private final GithubCacheProperties.Negative config;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Boolean> users;
+    private final Cache<String, Boolean> repos;
+    private final RotatingBloom bloom;
+    private final Cache<String, Boolean> present;
+
+    public GithubNegativeCache(GithubCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    GithubNegativeCache(GithubCacheProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.config = properties.getNegative();
+        this.meterRegistry = meterRegistry;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getUserTtl())
+                .ticker(ticker)
+                .build();
+        this.repos = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getRepoTtl())
+                .ticker(ticker)
+                .build();
+        GithubCacheProperties.Negative.Bloom bloomConfig = config.getBloom();
+        this.bloom = config.isEnabled() && bloomConfig.isEnabled()
+                ? new RotatingBloom(bloomConfig.getExpectedInsertions(), bloomConfig.getFpp(),
+                bloomConfig.getTtl().toNanos(), ticker)
+                : null;
+        this.present = bloom != null
+                ? Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(bloomConfig.getTtl().multipliedBy(2))
+                .ticker(ticker)
+                .build()
+                : null;
+    }
+
+    /**
+     * 최근 404를 받은 대상인지 확인한다.
+     *
+     * @param key 사용자({@link GithubCacheKey.User}) 또는 레포지토리({@link GithubCacheKey.Repo}) 키
+     * @return 없는 대상으로 기억하고 있으면 true
+     */
+    public boolean isMissing(GithubCacheKey key) {
+        String id = id(key);
+        if (id == null || !config.isEnabled()) {
+            return false;
+        }
+        if (exact(key).getIfPresent(id) != null) {
+            record(key, "hit");
+            return true;
+        }
+        if (bloom != null && present.getIfPresent(id) == null && bloom.mightContain(id)) {
+            record(key, "bloom_hit");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 404를 받은 대상을 기억한다.
+     *
+     * @param key 사용자 또는 레포지토리 키
+     */
+    public void markMissing(GithubCacheKey key) {
+        String id = id(key);
+        if (id == null || !config.isEnabled()) {
+            return;
+        }
+        exact(key).put(id, Boolean.TRUE);
+        if (bloom != null) {
+            present.invalidate(id);
+            bloom.put(id);
+        }
+        record(key, "stored");
+        log.debug("🚫 없는 대상 기억: {}", id);
+    }
+
+    /**
+     * 정확한 캐시에서 대상을 잊고, 있는 대상으로 기억한다. (명시적 새로고침, 200 응답)
+     * <p>Bloom 필터의 비트는 지울 수 없으므로, 다음 {@link #markMissing} 전까지는 Bloom 필터보다 이 확인이 우선한다.</p>
+     *
+     * @param key 사용자 또는 레포지토리 키
+     */
+    public void forget(GithubCacheKey key) {
+        String id = id(key);
+        if (id == null) {
+            return;
+        }
+        exact(key).invalidate(id);
+        if (bloom != null) {
+            present.put(id, Boolean.TRUE);
+        }
+    }
+
+    private Cache<String, Boolean> exact(GithubCacheKey key) {
+        return key instanceof GithubCacheKey.User ? users : repos;
+    }
+
+    private static String id(GithubCacheKey key) {
+        if (key instanceof GithubCacheKey.User user && user.username() != null) {
+            return "user:" + user.username().toLowerCase(Locale.ROOT);
+        }
+        if (key instanceof GithubCacheKey.Repo repo) {
+            return "repo:" + repo.repoId();
+        }
+        return null;
+    }
+
+    private void record(GithubCacheKey key, String result) {
+        meterRegistry.counter("github.cache.negative",
+                "kind", key instanceof GithubCacheKey.User ? "user" : "repo",
+                "result", result).increment();
+    }
+
+    /**
+     * 두 세대로 나눈 Bloom 필터. {@code ttl}마다 현재 세대를 이전 세대로 넘기고 새 세대를 시작한다.
+     * <p>{@code ttl}의 2배 넘게 교체되지 않았으면 두 세대를 모두 비운다.</p>
+     */
+    static final class RotatingBloom {
+        private final int bits;
+        private final int hashes;
+        private final long ttlNanos;
+        private final Ticker ticker;
+        private volatile AtomicLongArray current;
+        private volatile AtomicLongArray previous;
+        private volatile long rotatedAt;
+
+        RotatingBloom(long expectedInsertions, double fpp, long ttlNanos, Ticker ticker) {
+            long n = Math.max(expectedInsertions, 1);
+            double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+            long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+            this.bits = (int) Math.min(Math.max(m, 64), Integer.MAX_VALUE - 63);
+            this.hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+            this.ttlNanos = ttlNanos;
+            this.ticker = ticker;
+            this.current = new AtomicLongArray((bits + 63) / 64);
+            this.previous = new AtomicLongArray((bits + 63) / 64);
+            this.rotatedAt = ticker.read();
+        }
+
+        int bits() {
+            return bits;
+        }
+
+        int hashes() {
+            return hashes;
+        }
+
+        void put(String value) {
+            rotateIfNeeded();
+            long h1 = hash(value);
+            long h2 = mix(h1);
+            AtomicLongArray words = current;
+            for (int i = 0; i < hashes; i++) {
+                int bit = (int) Math.floorMod(h1 + i * h2, (long) bits);
+                int word = bit >>> 6;
+                long mask = 1L << bit;
+                long prev;
+                do {
+                    prev = words.get(word);
+                } while ((prev & mask) == 0 && !words.compareAndSet(word, prev, prev | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            rotateIfNeeded();
+            long h1 = hash(value);
+            long h2 = mix(h1);
+            return contains(current, h1, h2) || contains(previous, h1, h2);
+        }
+
+        private boolean contains(AtomicLongArray words, long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                int bit = (int) Math.floorMod(h1 + i * h2, (long) bits);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void rotateIfNeeded() {
+            long now = ticker.read();
+            if (now - rotatedAt < ttlNanos) {
+                return;
+            }
+            synchronized (this) {
+                long elapsed = now - rotatedAt;
+                if (elapsed < ttlNanos) {
+                    return;
+                }
+                int length = current.length();
+                previous = elapsed < 2 * ttlNanos ? current : new AtomicLongArray(length);
+                current = new AtomicLongArray(length);
+                rotatedAt = now;
+            }
+        }
+
+        /** FNV-1a 64 + splitmix64 마무리 */
+        private static long hash(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001b3L;
+            }
+            return mix(h);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return (z ^ (z >>> 31)) | 1L;
+        }
+    }
+}
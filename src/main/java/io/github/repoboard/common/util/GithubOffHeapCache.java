@@ -0,0 +1,465 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+/**
+ * 큰 캐시 값(README HTML 등)을 힙 밖(direct {@link ByteBuffer})에 보관하는 선택적 캐시 계층.
+ *
+ * <p>README처럼 크고 오래 사는 값이 old gen으로 승격되어 GC 부담을 키우지 않도록,
+ * {@link GithubCacheCodec}으로 직렬화(gzip JSON)한 바이트를 고정 크기 블록 단위로 슬랩에 저장한다.
+ * 힙에는 키 → 블록 번호 목록의 작은 색인만 남는다.</p>
+ *
+ * <ul>
+ *     <li>슬랩({@code slab-size})은 처음 필요할 때 할당되며 {@code capacity}를 넘지 않는다.
+ *         (JVM 옵션 {@code -XX:MaxDirectMemorySize}가 capacity 이상이어야 함)</li>
+ *     <li>값은 {@code block-size} 블록 여러 개에 나눠 저장하므로 단편화가 없다. (블록은 연속일 필요가 없고 슬랩을 넘나들 수 있음)</li>
+ *     <li>직렬화 크기가 {@code min-entry-size} 미만인 값은 힙(L1)에 두는 편이 싸므로 받지 않는다.</li>
+ *     <li>항목은 캐시별 TTL({@link GithubCacheProperties#ttlOf(String)})이 지나면 {@link #get}에서 미스가 되지만,
+ *         {@link GithubCacheProperties#getLastKnownGoodTtl()} 동안은 GitHub 장애 시 stale 응답용({@link #getStale})으로 남는다.
+ *         (큰 값이 {@code ghLastKnownGood}를 통해 다시 힙에 올라가지 않도록) 그 뒤 주기적으로 제거된다.</li>
+ *     <li>블록이 부족하면 TTL이 지난 항목부터, 그래도 부족하면 LRU 순으로 제거한다.</li>
+ *     <li>조회할 때마다 역직렬화하므로, CPU보다 힙이 부족한 인스턴스에서만 켠다. (기본 비활성)</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.cache.offheap{cache, result=hit|miss|stale|stored|rejected|evicted}}</li>
+ *     <li>{@code github.cache.offheap.used} / {@code github.cache.offheap.capacity} — 사용 중/전체 바이트</li>
+ *     <li>{@code github.cache.offheap.entries} — 보관 항목 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubOffHeapCache {
+
+    private final GithubCacheCodec codec;
+    private final GithubCacheProperties properties;
+    private final GithubCacheProperties.OffHeap config;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final int totalBlocks;
+    private final ByteBuffer[] slabs;
+
+    /** 반환된 블록 번호 스택 */
+    private final int[] freeBlocks;
+    private int freeTop;
+
+    /** 한 번도 쓰지 않은 첫 블록 번호 (슬랩 지연 할당용) */
+    private int nextFresh;
+
+    /** 키([cacheName, key]) → 블록 목록, 접근 순서(LRU) */
+    private final LinkedHashMap<List<Object>, Entry> index = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** 항목이 제거될 때 호출 ({@link GithubCacheKeyIndex} 정리용) */
+    private volatile BiConsumer<String, Object> removalListener = (cacheName, key) -> { };
+
+    /** expiresAt: 신선도 만료 시각, retainUntil: stale 응답용 보관 종료 시각 */
+    private record Entry(String cacheName, int[] blocks, int length, long expiresAt, long retainUntil) {
+
+        Entry expire(long now) {
+            return new Entry(cacheName, blocks, length, Math.min(expiresAt, now), retainUntil);
+        }
+    }
+
+    public GithubOffHeapCache(GithubCacheCodec codec, GithubCacheProperties properties, MeterRegistry meterRegistry) {
+        this(codec, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    GithubOffHeapCache(GithubCacheCodec codec, GithubCacheProperties properties, MeterRegistry meterRegistry,
+                       Clock clock) {
+        this.codec = codec;
+        this.properties = properties;
+        this.config = properties.getOffHeap();
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+
+        this.blockSize = (int) Math.max(config.getBlockSize().toBytes(), 512);
+        long slabBytes = Math.max(config.getSlabSize().toBytes(), blockSize);
+        this.blocksPerSlab = (int) Math.min(slabBytes / blockSize, Integer.MAX_VALUE / blockSize);
+        int slabCount = config.isEnabled()
+                ? (int) Math.max(1, config.getCapacity().toBytes() / ((long) blocksPerSlab * blockSize))
+                : 0;
+        this.slabs = new ByteBuffer[slabCount];
+        this.totalBlocks = slabCount * blocksPerSlab;
+        this.freeBlocks = new int[totalBlocks];
+
+        Gauge.builder("github.cache.offheap.used", this, c -> (double) c.usedBlocks() * c.blockSize)
+                .description("off-heap 캐시 사용 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("github.cache.offheap.capacity", this, c -> (double) c.totalBlocks * c.blockSize)
+                .description("off-heap 캐시 전체 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("github.cache.offheap.entries", index, Map::size)
+                .description("off-heap 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이 계층을 사용하는 캐시인지 확인한다.
+     *
+     * @param cacheName 캐시 이름
+     * @return 활성화되어 있고 대상 캐시이면 true
+     */
+    public boolean handles(String cacheName) {
+        return totalBlocks > 0 && config.getCaches().contains(cacheName) && codec.supports(cacheName);
+    }
+
+    /**
+     * 값을 조회한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 역직렬화된 값 (없거나 만료되었으면 null)
+     */
+    public Object get(String cacheName, Object key) {
+        return lookup(cacheName, key, false);
+    }
+
+    /**
+     * TTL이 지났더라도 보관 기간({@link GithubCacheProperties#getLastKnownGoodTtl()}) 안이면 값을 조회한다.
+     * <p>GitHub 장애 시 마지막 정상 값으로 사용한다.</p>
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 역직렬화된 값 (없거나 보관 기간이 지났으면 null)
+     */
+    public Object getStale(String cacheName, Object key) {
+        return lookup(cacheName, key, true);
+    }
+
+    private Object lookup(String cacheName, Object key, boolean stale) {
+        if (!handles(cacheName)) {
+            return null;
+        }
+        List<Object> indexKey = List.of(cacheName, key);
+        long now = clock.millis();
+        byte[] payload;
+        lock.lock();
+        try {
+            Entry entry = index.get(indexKey);
+            if (entry != null && entry.retainUntil() <= now) {
+                remove(indexKey);
+                entry = null;
+            }
+            if (entry == null || (!stale && entry.expiresAt() <= now)) {
+                if (!stale) {
+                    record(cacheName, "miss");
+                }
+                return null;
+            }
+            payload = read(entry);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Object value = codec.decode(cacheName, payload, null, null);
+            record(cacheName, stale ? "stale" : "hit");
+            return value;
+        } catch (IOException e) {
+            log.warn("[OFFHEAP] 역직렬화 실패 → 제거: {} {} - {}", cacheName, key, e.toString());
+            lock.lock();
+            try {
+                remove(indexKey);
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 값을 저장한다. 같은 키의 기존 값은 교체된다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param value     캐시 값
+     * @return off-heap에 저장했으면 true (대상 캐시가 아니거나 작거나 너무 크면 false → 호출 측이 힙에 보관)
+     */
+    public boolean put(String cacheName, Object key, Object value) {
+        return put(cacheName, key, value, properties.ttlOf(cacheName));
+    }
+
+    /**
+     * 값을 지정한 TTL로 저장한다. (L2에서 읽은 값처럼 남은 시간만 보관해야 할 때)
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param value     캐시 값
+     * @param ttl       보관 시간
+     * @return off-heap에 저장했으면 true (대상 캐시가 아니거나 작거나 너무 크면 false → 호출 측이 힙에 보관)
+     */
+    public boolean put(String cacheName, Object key, Object value, Duration ttl) {
+        if (!handles(cacheName) || value == null) {
+            return false;
+        }
+        byte[] payload;
+        try {
+            payload = codec.encode(value);
+        } catch (IOException e) {
+            return false;
+        }
+        int needed = (payload.length + blockSize - 1) / blockSize;
+        if (payload.length < config.getMinEntrySize().toBytes() || needed > totalBlocks) {
+            record(cacheName, "rejected");
+            return false;
+        }
+        List<Object> indexKey = List.of(cacheName, key);
+        long now = clock.millis();
+        long expiresAt = now + ttl.toMillis();
+        long retainUntil = Math.max(expiresAt, now + properties.getLastKnownGoodTtl().toMillis());
+        lock.lock();
+        try {
+            release(index.remove(indexKey));
+            if (available() < needed) {
+                evictExpired(now);
+            }
+            while (available() < needed) {
+                evictEldest();
+            }
+            int[] blocks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                blocks[i] = allocate();
+            }
+            Entry entry = new Entry(cacheName, blocks, payload.length, expiresAt, retainUntil);
+            write(entry, payload);
+            index.put(indexKey, entry);
+        } finally {
+            lock.unlock();
+        }
+        record(cacheName, "stored");
+        return true;
+    }
+
+    /**
+     * 보관 중인 항목(TTL이 지나 stale 응답용으로만 남은 항목 포함)이 있는지 확인한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 보관 중이면 true
+     */
+    public boolean contains(String cacheName, Object key) {
+        if (!handles(cacheName)) {
+            return false;
+        }
+        long now = clock.millis();
+        lock.lock();
+        try {
+            Entry entry = index.get(List.of(cacheName, key));
+            return entry != null && entry.retainUntil() > now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 신선한(TTL이 지나지 않은) 항목의 남은 시간을 조회한다. (refresh-ahead 판단용)
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 만료까지 남은 시간 (없거나 TTL이 지났으면 empty)
+     */
+    public Optional<Duration> remaining(String cacheName, Object key) {
+        if (!handles(cacheName)) {
+            return Optional.empty();
+        }
+        long now = clock.millis();
+        lock.lock();
+        try {
+            Entry entry = index.get(List.of(cacheName, key));
+            return entry != null && entry.expiresAt() > now
+                    ? Optional.of(Duration.ofMillis(entry.expiresAt() - now))
+                    : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 항목이 제거(보관 기간 만료, 공간 부족, 역직렬화 실패)될 때 호출할 리스너를 등록한다.
+     * <p>lock을 잡은 상태에서 호출되므로 리스너는 짧아야 한다. 같은 키의 값 교체는 제거로 보지 않는다.</p>
+     *
+     * @param listener (cacheName, key) 리스너
+     */
+    public void onRemoval(BiConsumer<String, Object> listener) {
+        this.removalListener = listener;
+    }
+
+    /**
+     * 값을 만료시킨다. {@link #get}에서는 미스가 되고, 보관 기간 동안 {@link #getStale}로만 조회된다.
+     * <p>{@code ghLastKnownGood}와 마찬가지로 장애 대비용 값은 제거({@code @CacheEvict})해도 유지한다.</p>
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     */
+    public void evict(String cacheName, Object key) {
+        if (!handles(cacheName)) {
+            return;
+        }
+        long now = clock.millis();
+        lock.lock();
+        try {
+            index.computeIfPresent(List.of(cacheName, key), (k, e) -> e.expire(now));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시의 모든 값을 만료시킨다. ({@link #evict}와 같이 stale 응답용으로는 남음)
+     *
+     * @param cacheName 캐시 이름
+     */
+    public void clear(String cacheName) {
+        if (!handles(cacheName)) {
+            return;
+        }
+        long now = clock.millis();
+        lock.lock();
+        try {
+            index.replaceAll((k, e) -> e.cacheName().equals(cacheName) ? e.expire(now) : e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 항목을 주기적으로 제거한다.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.github.off-heap.purge-interval:PT1M}")
+    public void purgeExpired() {
+        if (totalBlocks == 0) {
+            return;
+        }
+        long now = clock.millis();
+        removeIf((k, e) -> e.retainUntil() <= now);
+    }
+
+    private void removeIf(BiPredicate<List<Object>, Entry> filter) {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<List<Object>, Entry>> it = index.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<List<Object>, Entry> e = it.next();
+                if (filter.test(e.getKey(), e.getValue())) {
+                    release(e.getValue());
+                    it.remove();
+                    removalListener.accept(e.getValue().cacheName(), e.getKey().get(1));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // -- lock을 잡은 상태에서만 호출 --
+
+    private int available() {
+        return freeTop + (totalBlocks - nextFresh);
+    }
+
+    /** TTL이 지난(stale 응답용으로만 남은) 항목을 모두 제거한다 */
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<List<Object>, Entry>> it = index.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<List<Object>, Entry> e = it.next();
+            Entry entry = e.getValue();
+            if (entry.expiresAt() <= now) {
+                release(entry);
+                it.remove();
+                record(entry.cacheName(), "evicted");
+                removalListener.accept(entry.cacheName(), e.getKey().get(1));
+            }
+        }
+    }
+
+    private void evictEldest() {
+        Iterator<Map.Entry<List<Object>, Entry>> it = index.entrySet().iterator();
+        Map.Entry<List<Object>, Entry> eldest = it.next();
+        release(eldest.getValue());
+        it.remove();
+        record(eldest.getValue().cacheName(), "evicted");
+        removalListener.accept(eldest.getValue().cacheName(), eldest.getKey().get(1));
+    }
+
+    private void remove(List<Object> indexKey) {
+        Entry entry = index.remove(indexKey);
+        if (entry != null) {
+            release(entry);
+            removalListener.accept(entry.cacheName(), indexKey.get(1));
+        }
+    }
+
+    private int allocate() {
+        if (freeTop > 0) {
+            return freeBlocks[--freeTop];
+        }
+        int block = nextFresh++;
+        int slab = block / blocksPerSlab;
+        if (slabs[slab] == null) {
+            slabs[slab] = ByteBuffer.allocateDirect(blocksPerSlab * blockSize);
+            log.info("[OFFHEAP] 슬랩 할당: {}/{} ({} bytes)", slab + 1, slabs.length, blocksPerSlab * blockSize);
+        }
+        return block;
+    }
+
+    private void release(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        for (int block : entry.blocks()) {
+            freeBlocks[freeTop++] = block;
+        }
+    }
+
+    private void write(Entry entry, byte[] payload) {
+        int offset = 0;
+        for (int block : entry.blocks()) {
+            int length = Math.min(blockSize, payload.length - offset);
+            slabs[block / blocksPerSlab].put((block % blocksPerSlab) * blockSize, payload, offset, length);
+            offset += length;
+        }
+    }
+
+    private byte[] read(Entry entry) {
+        byte[] payload = new byte[entry.length()];
+        int offset = 0;
+        for (int block : entry.blocks()) {
+            int length = Math.min(blockSize, payload.length - offset);
+            slabs[block / blocksPerSlab].get((block % blocksPerSlab) * blockSize, payload, offset, length);
+            offset += length;
+        }
+        return payload;
+    }
+
+    int usedBlocks() {
+        return nextFresh - freeTop;
+    }
+
+    private void record(String cacheName, String result) {
+        meterRegistry.counter("github.cache.offheap", "cache", cacheName, "result", result).increment();
+    }
+}
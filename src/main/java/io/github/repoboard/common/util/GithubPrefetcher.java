@@ -0,0 +1,90 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 피드 다음 페이지를 미리 캐시에 적재하는 유틸리티.
+ *
+ * <p>페이지 N을 응답한 직후 N+1에 필요한 캐시 항목을 백그라운드에서 {@link GithubCacheTemplate}으로 적재해
+ * "더 보기" 요청이 캐시 히트가 되도록 한다. 응답 경로를 막지 않으며 실패는 무시한다.</p>
+ *
+ * <ul>
+ *     <li>이미 L1에 있으면 생략</li>
+ *     <li>캐시가 쓰는 버킷의 {@link GithubCircuitBreaker}가 열려 있으면 생략</li>
+ *     <li>{@link GithubTokenPool}의 검색 버킷 남은 요청 수가 한도의 {@code min-budget-ratio} 미만이면 생략 (미리 적재 대상은 검색 청크)</li>
+ *     <li>동시 진행 수가 {@code max-concurrency}에 도달하면 생략 (대기하지 않음)</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.prefetch{cache, result=started|cached|busy|low_budget|circuit_open}}</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubPrefetcher {
+
+    private final GithubCacheTemplate cacheTemplate;
+    private final GithubTokenPool tokenPool;
+    private final GithubCircuitBreaker circuitBreaker;
+    private final GithubCacheProperties.Prefetch properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+
+    public GithubPrefetcher(GithubCacheTemplate cacheTemplate, GithubTokenPool tokenPool,
+                            GithubCircuitBreaker circuitBreaker, GithubCacheProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.cacheTemplate = cacheTemplate;
+        this.tokenPool = tokenPool;
+        this.circuitBreaker = circuitBreaker;
+        this.properties = properties.getPrefetch();
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(Math.max(this.properties.getMaxConcurrency(), 1));
+    }
+
+    /**
+     * 캐시 항목을 백그라운드에서 적재한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param loader    미스 시 실행할 upstream 호출
+     */
+    public <T> void prefetch(String cacheName, Object key, Supplier<Mono<T>> loader) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (cacheTemplate.contains(cacheName, key)) {
+            record(cacheName, "cached");
+            return;
+        }
+        if (circuitBreaker.isOpen(GithubResource.ofCache(cacheName))) {
+            record(cacheName, "circuit_open");
+            return;
+        }
+        if (tokenPool.remainingRatio(GithubResource.SEARCH) < properties.getMinBudgetRatio()) {
+            record(cacheName, "low_budget");
+            return;
+        }
+        if (!permits.tryAcquire()) {
+            record(cacheName, "busy");
+            return;
+        }
+        record(cacheName, "started");
+        log.debug("⏩ 다음 페이지 미리 적재: {} {}", cacheName, key);
+        cacheTemplate.get(cacheName, key, loader)
+                .doFinally(signal -> permits.release())
+                .subscribe(v -> { },
+                        e -> log.debug("미리 적재 실패 (무시): {} {} - {}", cacheName, key, e.toString()));
+    }
+
+    private void record(String cacheName, String result) {
+        meterRegistry.counter("github.prefetch", "cache", cacheName, "result", result).increment();
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.repoboard.common.util;
+
+import reactor.util.context.ContextView;
+
+import java.util.Locale;
+
+/**
+ * GitHub 호출 우선순위. ({@link GithubBudgetScheduler})
+ *
+ * <p>Reactor Context로 전달하며({@link GithubCallPolicy#request(GithubPriority)}),
+ * Context에 없으면 {@link #BACKGROUND}로 본다.</p>
+ */
+public enum GithubPriority {
+
+    /** 화면 요청 (홈/검색/README/프로필 보기) — 남은 한도 전체를 사용할 수 있음 */
+    INTERACTIVE,
+
+    /** 사용자가 직접 실행한 갱신 (프로필 새로고침/등록, 가입 시 프로필 동기화, 레포 저장) */
+    USER_REFRESH,
+
+    /** 사용자를 기다리게 하지 않는 작업 (미리 적재, refresh-ahead, 예약 동기화) */
+    BACKGROUND;
+
+    /**
+     * Reactor Context에서 우선순위를 꺼낸다.
+     *
+     * @param context 구독 Context
+     * @return 우선순위 (없으면 {@link #BACKGROUND})
+     */
+    public static GithubPriority from(ContextView context) {
+        return context.getOrDefault(GithubPriority.class, BACKGROUND);
+    }
+
+    /** 메트릭 태그 값 */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,286 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitHub 검색어 정규화기.
+ *
+ * <p>같은 결과를 내는 검색어({@code Spring Boot}, {@code spring  boot}, {@code boot SPRING language:Java},
+ * {@code language:java boot spring} …)를 하나의 정규형으로 바꿔 캐시 키와 upstream {@code q}로 함께 사용한다.</p>
+ *
+ * <h3>규칙</h3>
+ * <ul>
+ *     <li>검색어와 한정자 이름/값은 소문자로 변환한다. (GitHub 검색은 대소문자를 구분하지 않음)</li>
+ *     <li>따옴표 구문({@code "spring boot"})은 하나의 단어로 보고 내부 공백만 정리한다.</li>
+ *     <li>일반 단어는 AND 조건이고 정렬은 항상 stars/updated로 지정하므로 중복을 제거하고 정렬한다.
+ *         단, {@code OR}/{@code NOT}/{@code AND} 연산자가 있으면 순서를 유지한다.</li>
+ *     <li>알려진 한정자({@link #QUALIFIERS})는 이름순으로 정렬해 일반 단어 뒤에 붙인다. 부정({@code -language:})도 유지.</li>
+ *     <li>숫자 범위({@code stars:>99}, {@code stars:100..*}, {@code stars:>=100})는 {@code >=100} 형태로 통일한다.</li>
+ *     <li>{@code in:}의 값 목록은 정렬/중복 제거한다.</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.search.query{result=new|collapsed}} — 처음 보는 원문이 새 정규형인지, 기존 정규형으로 합쳐졌는지</li>
+ *     <li>{@code github.search.query.variants} — 정규형 하나당 평균 원문 수 (현재 보관 중인 집합 기준,
+ *         정규형마다 {@link #MAX_VARIANTS}개까지만 기록)</li>
+ * </ul>
+ */
+@Component
+public class GithubQueryCanonicalizer {
+
+    /** 인식하는 한정자 (그 외 {@code a:b} 형태는 일반 단어로 취급) */
+    private static final Set<String> QUALIFIERS = Set.of(
+            "language", "stars", "forks", "size", "followers", "topics", "topic",
+            "in", "user", "org", "repo", "is", "archived", "mirror", "template", "fork",
+            "license", "pushed", "created", "good-first-issues", "help-wanted-issues");
+
+    /** 숫자 범위를 정규화하는 한정자 */
+    private static final Set<String> NUMERIC = Set.of(
+            "stars", "forks", "size", "followers", "topics", "good-first-issues", "help-wanted-issues");
+
+    private static final Set<String> OPERATORS = Set.of("AND", "OR", "NOT");
+
+    /** 정규형 하나당 보관하는 원문 수 상한 (넘으면 더 기록하지 않음) */
+    static final int MAX_VARIANTS = 64;
+
+    /** 정규형 → 관측된 원문 집합 (메트릭용, 크기 제한) */
+    private final Cache<String, Set<String>> variants = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+    private final Counter newCounter;
+    private final Counter collapsedCounter;
+
+    public GithubQueryCanonicalizer(MeterRegistry meterRegistry) {
+        this.newCounter = Counter.builder("github.search.query")
+                .description("검색어 정규화 결과")
+                .tag("result", "new")
+                .register(meterRegistry);
+        this.collapsedCounter = Counter.builder("github.search.query")
+                .description("검색어 정규화 결과")
+                .tag("result", "collapsed")
+                .register(meterRegistry);
+        Gauge.builder("github.search.query.variants", this, GithubQueryCanonicalizer::variantsPerCanonical)
+                .description("정규형 하나당 평균 원문 검색어 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색어를 정규형으로 변환하고 합쳐진 원문 수를 기록한다.
+     *
+     * @param raw 정제된 검색어 ({@link SanitizeUtil#sanitizeQuery(String)} 결과)
+     * @return 정규화된 검색어
+     */
+    public String canonicalize(String raw) {
+        String canonical = normalize(raw);
+        record(raw, canonical);
+        return canonical;
+    }
+
+    /**
+     * 검색어를 정규형으로 변환한다. (메트릭 기록 없음)
+     *
+     * @param raw 검색어
+     * @return 정규화된 검색어
+     */
+    public static String normalize(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return "";
+        }
+        List<String> terms = new ArrayList<>();
+        TreeSet<String> qualifiers = new TreeSet<>();
+        boolean ordered = false;
+
+        for (String token : tokenize(raw)) {
+            if (token.charAt(0) == '"') {
+                terms.add(token);
+                continue;
+            }
+            if (OPERATORS.contains(token)) {
+                ordered = true;
+                terms.add(token);
+                continue;
+            }
+            String qualifier = qualifier(token);
+            if (qualifier != null) {
+                qualifiers.add(qualifier);
+            } else {
+                terms.add(token.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        List<String> head = ordered ? terms : new ArrayList<>(new TreeSet<>(terms));
+        StringBuilder sb = new StringBuilder(raw.length());
+        for (String t : head) {
+            append(sb, t);
+        }
+        for (String q : qualifiers) {
+            append(sb, q);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공백 기준으로 나누되, 따옴표 구문은 하나의 토큰으로 묶는다.
+     * 구문은 {@code "소문자 단어 단어"} 형태로 정리된다.
+     */
+    private static List<String> tokenize(String raw) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '"') {
+                if (quoted) {
+                    addPhrase(tokens, cur);
+                } else {
+                    addWord(tokens, cur);
+                }
+                quoted = !quoted;
+            } else if (Character.isWhitespace(c)) {
+                if (quoted) {
+                    if (cur.length() > 0 && cur.charAt(cur.length() - 1) != ' ') {
+                        cur.append(' ');
+                    }
+                } else {
+                    addWord(tokens, cur);
+                }
+            } else {
+                cur.append(c);
+            }
+        }
+        if (quoted) {
+            addPhrase(tokens, cur);
+        } else {
+            addWord(tokens, cur);
+        }
+        return tokens;
+    }
+
+    private static void addWord(List<String> tokens, StringBuilder cur) {
+        if (cur.length() > 0) {
+            tokens.add(cur.toString());
+            cur.setLength(0);
+        }
+    }
+
+    private static void addPhrase(List<String> tokens, StringBuilder cur) {
+        int end = cur.length();
+        while (end > 0 && cur.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end > 0) {
+            tokens.add('"' + cur.substring(0, end).toLowerCase(Locale.ROOT) + '"');
+        }
+        cur.setLength(0);
+    }
+
+    /**
+     * {@code [-]name:value} 토큰을 정규화한다.
+     *
+     * @return 정규화된 한정자 (알려진 한정자가 아니면 null)
+     */
+    private static String qualifier(String token) {
+        int colon = token.indexOf(':');
+        if (colon <= 0 || colon == token.length() - 1) {
+            return null;
+        }
+        boolean negated = token.charAt(0) == '-';
+        String name = token.substring(negated ? 1 : 0, colon).toLowerCase(Locale.ROOT);
+        if (!QUALIFIERS.contains(name)) {
+            return null;
+        }
+        String value = token.substring(colon + 1).toLowerCase(Locale.ROOT);
+        if (NUMERIC.contains(name)) {
+            value = numericRange(value);
+        } else if (name.equals("in")) {
+            value = String.join(",", new TreeSet<>(List.of(value.split(","))));
+        }
+        return (negated ? "-" : "") + name + ":" + value;
+    }
+
+    /**
+     * 숫자 범위를 {@code n}, {@code >=n}, {@code <=n}, {@code n..m} 중 하나로 통일한다.
+     * 숫자가 아니면 원래 값을 그대로 반환한다.
+     */
+    static String numericRange(String value) {
+        try {
+            if (value.startsWith(">=")) {
+                return ">=" + Long.parseLong(value.substring(2));
+            }
+            if (value.startsWith("<=")) {
+                return "<=" + Long.parseLong(value.substring(2));
+            }
+            if (value.startsWith(">")) {
+                return ">=" + (Long.parseLong(value.substring(1)) + 1);
+            }
+            if (value.startsWith("<")) {
+                return "<=" + (Long.parseLong(value.substring(1)) - 1);
+            }
+            int dots = value.indexOf("..");
+            if (dots >= 0) {
+                String lo = value.substring(0, dots);
+                String hi = value.substring(dots + 2);
+                if (lo.equals("*") && hi.equals("*")) {
+                    return ">=0";
+                }
+                if (hi.equals("*")) {
+                    return ">=" + Long.parseLong(lo);
+                }
+                if (lo.equals("*")) {
+                    return "<=" + Long.parseLong(hi);
+                }
+                long from = Long.parseLong(lo);
+                long to = Long.parseLong(hi);
+                return from == to ? Long.toString(from) : from + ".." + to;
+            }
+            return Long.toString(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return value;
+        }
+    }
+
+    private static void append(StringBuilder sb, String token) {
+        if (sb.length() > 0) {
+            sb.append(' ');
+        }
+        sb.append(token);
+    }
+
+    private void record(String raw, String canonical) {
+        Set<String> seen = variants.get(canonical, c -> ConcurrentHashMap.newKeySet());
+        if (seen.size() >= MAX_VARIANTS) {
+            return;
+        }
+        boolean first = seen.isEmpty();
+        if (seen.add(raw)) {
+            (first ? newCounter : collapsedCounter).increment();
+        }
+    }
+
+    /**
+     * 정규형 하나당 평균 원문 수.
+     * <p>제거된 정규형이 남기는 오차가 없도록 매번 보관 중인 집합에서 계산한다.</p>
+     */
+    double variantsPerCanonical() {
+        long canonical = 0;
+        long raw = 0;
+        for (Set<String> seen : variants.asMap().values()) {
+            canonical++;
+            raw += seen.size();
+        }
+        return canonical == 0 ? 0 : (double) raw / canonical;
+    }
+}
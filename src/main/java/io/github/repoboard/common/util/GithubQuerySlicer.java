@@ -0,0 +1,519 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.common.exception.GithubDeepPageUnavailableException;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubSlicePlan;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * GitHub 검색 API의 1000건 제한을 넘는 깊은 페이지를 위한 쿼리 분할 엔진.
+ *
+ * <p>검색어를 서로 겹치지 않는 {@code stars:} 구간(한 별 수에 1000건이 넘으면 {@code created:} 구간까지)으로 나눠
+ * 각 구간이 1000건 이하가 되게 한 뒤, 구간들을 이어 붙이거나 병합해 원래 정렬 순서의 페이지를 만든다.</p>
+ *
+ * <h3>분할 계획</h3>
+ * <ul>
+ *     <li>구간마다 {@code per_page=1}로 개수만 조회하고, 1000건을 넘는 구간은 반으로 나눈다.
+ *         (별 수는 분포가 치우쳐 있어 기하 평균으로 나눔)</li>
+ *     <li>한 단계의 조회는 {@code parallelism}개씩 동시에 실행한다.</li>
+ *     <li>계획은 검색어별로 {@code ghSlicePlan} TTL 동안 L1과 L2에 보관한다. 동시에 들어온 요청은 하나의 계획 작업을 공유하고,
+ *         다른 인스턴스가 세운 계획은 L2에서 읽어 다시 조회하지 않는다.</li>
+ *     <li>구간 수가 {@code max-slices}에 도달하거나 하루 단위까지 나눠도 1000건을 넘으면 그 구간은 1000건까지만 제공한다.</li>
+ * </ul>
+ *
+ * <h3>검색 한도</h3>
+ * <ul>
+ *     <li>깊은 페이지는 화면 요청({@code INTERACTIVE})이라 {@link GithubBudgetScheduler}가 보류하지 않으므로, 여기서 직접 제한한다.</li>
+ *     <li>쓸 수 있는 검색 요청 수는 검색 버킷 남은 요청 수에서 한도의 {@code reserve-ratio}를 뺀 값이다. (일반 검색 몫)</li>
+ *     <li>계획 하나의 개수 조회는 {@code max-probes}회와 쓸 수 있는 요청 수 중 작은 값까지만 허용한다.</li>
+ *     <li>페이지 조립 단계마다 L1에 없는 청크 수가 쓸 수 있는 요청 수를 넘으면 조회를 시작하지 않는다.</li>
+ *     <li>한도를 넘으면 {@link GithubDeepPageUnavailableException}으로 바로 실패한다. (화면에는 오류 안내와 빈 페이지)</li>
+ * </ul>
+ *
+ * <h3>페이지 조립</h3>
+ * <ul>
+ *     <li>stars 정렬: 구간이 별 수 내림차순으로 겹치지 않으므로 구간별 개수로 위치를 계산해 필요한 청크만 조회한다.</li>
+ *     <li>그 외(updated): 구간별 결과를 {@code updated_at} 기준 k-way 병합한다. 요청 위치까지의 상위 N개에 들 수 있는
+ *         구간만 다음 청크를 조회하므로, 이미 뒤처진 구간은 더 받지 않는다.</li>
+ *     <li>구간별 청크는 {@code per_page=100} 단위로 {@link GithubRepoPageCache}에 캐시된다.</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.search.deep{mode=ordered|merged}} — 분할 엔진으로 제공한 페이지 수</li>
+ *     <li>{@code github.search.slice_probes} — 분할 계획을 위한 개수 조회 수</li>
+ *     <li>{@code github.search.slice_plan.size} — 계획별 구간 수</li>
+ *     <li>{@code github.search.slice_truncated} — 1000건을 넘지만 더 나눌 수 없었던 구간 수</li>
+ *     <li>{@code github.search.deep_unavailable{stage=plan|fetch}} — 검색 한도 부족으로 거절한 깊은 페이지 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubQuerySlicer {
+
+    /** 검색 API가 한 쿼리에 반환하는 최대 결과 수 */
+    public static final int RESULT_LIMIT = 1000;
+
+    /** 구간별 청크 크기 (검색 API per_page 최대값) */
+    static final int CHUNK_SIZE = 100;
+
+    /** 분할 계획 캐시 이름 (L2 공유) */
+    private static final String PLAN_CACHE = "ghSlicePlan";
+
+    /** created 구간의 시작일 (GitHub 서비스 시작 이전) */
+    private static final LocalDate EPOCH = LocalDate.of(2007, 10, 1);
+
+    private static final Comparator<GithubRepoDTO> UPDATED_DESC = Comparator.comparing(
+            GithubRepoDTO::getUpdatedAt, Comparator.nullsLast(Comparator.<Instant>reverseOrder()));
+
+    private final GithubRepoPageCache pageCache;
+    private final GithubL2Cache l2Cache;
+    private final GithubTokenPool tokenPool;
+    private final GithubCacheProperties.DeepSearch properties;
+    private final MeterRegistry meterRegistry;
+    private final AsyncCache<String, GithubSlicePlan> plans;
+
+    /**
+     * GitHub 검색 API 호출.
+     */
+    @FunctionalInterface
+    public interface SearchCall {
+
+        /**
+         * @param query   검색 쿼리
+         * @param sort    정렬 기준 (stars/updated)
+         * @param page    페이지 (1부터 시작)
+         * @param perPage 페이지 크기
+         * @return 검색 결과 (전체 개수 포함)
+         */
+        Mono<Page<GithubRepoDTO>> search(String query, String sort, int page, int perPage);
+    }
+
+    public GithubQuerySlicer(GithubRepoPageCache pageCache, GithubL2Cache l2Cache, GithubTokenPool tokenPool,
+                             GithubCacheProperties properties, MeterRegistry meterRegistry) {
+        this.pageCache = pageCache;
+        this.l2Cache = l2Cache;
+        this.tokenPool = tokenPool;
+        this.properties = properties.getDeepSearch();
+        this.meterRegistry = meterRegistry;
+        this.plans = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(properties.ttlOf(PLAN_CACHE))
+                .buildAsync();
+    }
+
+    /**
+     * 분할 엔진 사용 여부를 확인한다.
+     *
+     * @param pageable 요청한 페이지
+     * @return 페이지 끝이 {@link #RESULT_LIMIT}을 넘고 기능이 켜져 있으면 true
+     */
+    public boolean handles(Pageable pageable) {
+        return properties.isEnabled() && pageable.getOffset() + pageable.getPageSize() > RESULT_LIMIT;
+    }
+
+    /**
+     * 쿼리를 분할해 요청한 페이지를 만든다.
+     *
+     * @param cacheName 구간별 청크를 저장할 캐시 이름
+     * @param query     원래 검색 쿼리
+     * @param sort      정렬 기준 (stars/updated)
+     * @param pageable  요청한 페이지
+     * @param call      검색 API 호출
+     * @param onStale   청크를 마지막 정상 값으로 대신 받았을 때 실행할 콜백 (nullable)
+     * @return 요청한 페이지 (전체 개수는 구간별 제공 가능 개수의 합),
+     *         검색 한도가 부족하면 {@link GithubDeepPageUnavailableException}
+     */
+    public Mono<Page<GithubRepoDTO>> page(String cacheName, String query, String sort, Pageable pageable,
+                                          SearchCall call, Runnable onStale) {
+        return Mono.deferContextual(context -> Mono.fromFuture(() -> plans.get(query,
+                        (q, executor) -> l2Cache.<GithubSlicePlan>read(PLAN_CACHE, q)
+                                .switchIfEmpty(Mono.defer(() -> plan(q, call)
+                                        .doOnNext(plan -> l2Cache.write(PLAN_CACHE, q, plan))))
+                                .contextWrite(context)
+                                .toFuture()), true))
+                .flatMap(plan -> {
+                    long from = pageable.getOffset();
+                    long to = Math.min(from + pageable.getPageSize(), plan.getTotal());
+                    if (from >= to) {
+                        return Mono.just(new PageImpl<>(List.of(), pageable, plan.getTotal()));
+                    }
+                    boolean ordered = "stars".equals(sort);
+                    meterRegistry.counter("github.search.deep", "mode", ordered ? "ordered" : "merged").increment();
+                    Fetcher fetcher = new Fetcher(cacheName, sort, call, onStale);
+                    Mono<List<GithubRepoDTO>> content = ordered
+                            ? ordered(plan, from, to, fetcher)
+                            : merged(plan.getSlices().stream().map(Cursor::new).toList(), from, (int) to, fetcher);
+                    return content.map(items -> new PageImpl<>(items, pageable, plan.getTotal()));
+                });
+    }
+
+    // ---------------------------------------------------------------- 분할 계획
+
+    /**
+     * 검색어를 1000건 이하 구간으로 나눈다.
+     * <p>개수 조회는 {@code max-probes}회와 쓸 수 있는 검색 요청 수 중 작은 값까지만 보낸다.</p>
+     */
+    Mono<GithubSlicePlan> plan(String query, SearchCall call) {
+        return Mono.defer(() -> plan(query, call, new AtomicLong(Math.min(properties.getMaxProbes(), searchBudget()))));
+    }
+
+    private Mono<GithubSlicePlan> plan(String query, SearchCall call, AtomicLong probes) {
+        long lo = 0;
+        Long hi = null;
+        StringBuilder base = new StringBuilder(query.length());
+        for (String token : query.split(" ")) {
+            if (token.startsWith("stars:")) {
+                long[] bounds = starBounds(token.substring("stars:".length()));
+                if (bounds != null) {
+                    lo = bounds[0];
+                    hi = bounds[1] < 0 ? null : bounds[1];
+                    continue;
+                }
+            }
+            if (!token.isEmpty()) {
+                if (base.length() > 0) {
+                    base.append(' ');
+                }
+                base.append(token);
+            }
+        }
+        String baseQuery = base.toString();
+        long min = lo;
+        Mono<Long> max = hi != null
+                ? Mono.just(hi)
+                : spend(probes, 1, "plan").then(Mono.defer(() -> probe(call, baseQuery + " stars:>=" + min, "stars")))
+                .map(top -> top.getContent().isEmpty() || top.getContent().get(0).getStargazersCount() == null
+                        ? min
+                        : Math.max(min, top.getContent().get(0).getStargazersCount()));
+        return max.flatMap(top -> bisect(baseQuery, List.of(new Range(min, top, null, null)), new ArrayList<>(),
+                        call, probes))
+                .doOnNext(plan -> {
+                    meterRegistry.summary("github.search.slice_plan.size").record(plan.getSlices().size());
+                    log.info("🔪 검색 분할 계획: {} → {}개 구간, {}건", query, plan.getSlices().size(), plan.getTotal());
+                });
+    }
+
+    /**
+     * stars 한정자 값을 [lo, hi]로 변환한다. (hi가 없으면 -1, 해석할 수 없으면 null)
+     */
+    private static long[] starBounds(String value) {
+        String range = GithubQueryCanonicalizer.numericRange(value);
+        try {
+            if (range.startsWith(">=")) {
+                return new long[]{Long.parseLong(range.substring(2)), -1};
+            }
+            if (range.startsWith("<=")) {
+                return new long[]{0, Long.parseLong(range.substring(2))};
+            }
+            int dots = range.indexOf("..");
+            if (dots >= 0) {
+                return new long[]{Long.parseLong(range.substring(0, dots)), Long.parseLong(range.substring(dots + 2))};
+            }
+            long exact = Long.parseLong(range);
+            return new long[]{exact, exact};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 한 단계의 구간 개수를 동시에 조회하고, 1000건을 넘는 구간은 나눠 다음 단계로 넘긴다.
+     */
+    private Mono<GithubSlicePlan> bisect(String base, List<Range> pending, List<Map.Entry<Range, Long>> done,
+                                         SearchCall call, AtomicLong probes) {
+        return spend(probes, pending.size(), "plan")
+                .thenMany(Flux.fromIterable(pending))
+                .flatMapSequential(range -> probe(call, range.query(base), "stars")
+                        .map(p -> Map.entry(range, p.getTotalElements())), properties.getParallelism())
+                .collectList()
+                .flatMap(results -> {
+                    List<Range> next = new ArrayList<>();
+                    for (Map.Entry<Range, Long> result : results) {
+                        Range range = result.getKey();
+                        long count = result.getValue();
+                        if (count <= RESULT_LIMIT) {
+                            if (count > 0) {
+                                done.add(result);
+                            }
+                        } else if (range.splittable()
+                                && done.size() + next.size() + results.size() < properties.getMaxSlices()) {
+                            next.addAll(range.split());
+                        } else {
+                            meterRegistry.counter("github.search.slice_truncated").increment();
+                            log.warn("✂️ 더 나눌 수 없는 검색 구간 ({}건 중 {}건만 제공): {}",
+                                    count, RESULT_LIMIT, range.query(base));
+                            done.add(result);
+                        }
+                    }
+                    return next.isEmpty()
+                            ? Mono.just(toPlan(base, done))
+                            : bisect(base, next, done, call, probes);
+                });
+    }
+
+    private Mono<Page<GithubRepoDTO>> probe(SearchCall call, String query, String sort) {
+        meterRegistry.counter("github.search.slice_probes").increment();
+        return call.search(query, sort, 1, 1);
+    }
+
+    // ---------------------------------------------------------------- 검색 한도
+
+    /**
+     * 깊은 페이지가 쓸 수 있는 검색 요청 수. (검색 버킷 남은 요청 수 - 한도의 {@code reserve-ratio})
+     */
+    private long searchBudget() {
+        long reserve = (long) Math.ceil(tokenPool.totalLimit(GithubResource.SEARCH) * properties.getReserveRatio());
+        return Math.max(0, tokenPool.totalRemaining(GithubResource.SEARCH) - reserve);
+    }
+
+    /**
+     * 계획 작업의 남은 개수 조회 횟수에서 {@code n}회를 뺀다. 모자라면 바로 실패한다.
+     */
+    private Mono<Void> spend(AtomicLong probes, int n, String stage) {
+        return Mono.defer(() -> {
+            long left = probes.addAndGet(-n);
+            return left >= 0 ? Mono.empty() : unavailable(n, left + n, stage);
+        });
+    }
+
+    /**
+     * L1에 없는 청크 {@code uncached}개를 지금 남은 검색 한도로 조회할 수 있는지 확인한다.
+     */
+    private Mono<Void> afford(long uncached) {
+        if (uncached == 0) {
+            return Mono.empty();
+        }
+        long budget = searchBudget();
+        return uncached <= budget ? Mono.empty() : unavailable(uncached, budget, "fetch");
+    }
+
+    private <T> Mono<T> unavailable(long required, long available, String stage) {
+        meterRegistry.counter("github.search.deep_unavailable", "stage", stage).increment();
+        return Mono.error(new GithubDeepPageUnavailableException(required, Math.max(available, 0)));
+    }
+
+    // ---------------------------------------------------------------- 페이지 조립
+
+    /**
+     * 구간이 정렬 순서대로 겹치지 않을 때(stars 정렬): 구간별 개수로 [from, to) 위치를 찾아 필요한 청크만 조회한다.
+     */
+    private Mono<List<GithubRepoDTO>> ordered(GithubSlicePlan plan, long from, long to, Fetcher fetcher) {
+        List<ChunkRead> reads = locate(plan.getSlices(), from, to);
+        long uncached = reads.stream()
+                .mapToLong(r -> IntStream.rangeClosed(r.firstChunk(), r.lastChunk())
+                        .filter(chunk -> !fetcher.cached(r.query(), chunk))
+                        .count())
+                .sum();
+        return afford(uncached).then(Flux.fromIterable(reads)
+                .flatMapSequential(r -> Flux.range(r.firstChunk(), r.lastChunk() - r.firstChunk() + 1)
+                        .flatMapSequential(chunk -> fetcher.chunk(r.query(), chunk))
+                        .concatMapIterable(items -> items)
+                        .skip(r.skip())
+                        .take(r.take())
+                        .collectList(), properties.getParallelism())
+                .concatMapIterable(items -> items)
+                .collectList());
+    }
+
+    /**
+     * 정렬 순서대로 이어 붙인 구간들에서 전체 위치 [from, to)를 구간별 청크 범위로 바꾼다.
+     *
+     * @param slices 정렬 순서의 구간 목록
+     * @param from   시작 위치 (포함)
+     * @param to     끝 위치 (제외)
+     * @return 구간별로 읽을 청크 범위 (정렬 순서)
+     */
+    static List<ChunkRead> locate(List<GithubSlicePlan.Slice> slices, long from, long to) {
+        List<ChunkRead> reads = new ArrayList<>();
+        long start = 0;
+        for (GithubSlicePlan.Slice slice : slices) {
+            if (start >= to) {
+                break;
+            }
+            long end = start + slice.getSize();
+            if (end > from) {
+                int a = (int) (Math.max(from, start) - start);
+                int b = (int) (Math.min(to, end) - start);
+                int firstChunk = a / CHUNK_SIZE + 1;
+                int lastChunk = (b - 1) / CHUNK_SIZE + 1;
+                reads.add(new ChunkRead(slice.getQuery(), firstChunk, lastChunk,
+                        a - (firstChunk - 1) * CHUNK_SIZE, b - a));
+            }
+            start = end;
+        }
+        return reads;
+    }
+
+    /**
+     * 구간이 정렬 순서와 무관할 때(updated 정렬): 상위 {@code n}개에 들 수 있는 구간만 다음 청크를 받으며 k-way 병합한다.
+     * <p>구간 결과는 정렬되어 있으므로, 마지막으로 받은 항목이 현재 n번째보다 뒤처진 구간은 더 받아도 상위 n개에 들 수 없다.</p>
+     */
+    private Mono<List<GithubRepoDTO>> merged(List<Cursor> cursors, long from, int n, Fetcher fetcher) {
+        List<GithubRepoDTO> top = kWayMerge(cursors.stream().map(c -> c.items).toList(), UPDATED_DESC, n);
+        GithubRepoDTO threshold = top.size() >= n ? top.get(n - 1) : null;
+        List<Cursor> needed = cursors.stream()
+                .filter(c -> !c.complete && (threshold == null || c.items.isEmpty()
+                        || UPDATED_DESC.compare(c.items.get(c.items.size() - 1), threshold) <= 0))
+                .toList();
+        if (needed.isEmpty()) {
+            return Mono.just(top.size() > from ? new ArrayList<>(top.subList((int) from, top.size())) : List.of());
+        }
+        long uncached = needed.stream().filter(c -> !fetcher.cached(c.slice.getQuery(), c.nextChunk)).count();
+        return afford(uncached).thenMany(Flux.fromIterable(needed))
+                .flatMap(c -> fetcher.chunk(c.slice.getQuery(), c.nextChunk).doOnNext(c::append),
+                        properties.getParallelism())
+                .then(Mono.defer(() -> merged(cursors, from, n, fetcher)));
+    }
+
+    /**
+     * 정렬된 여러 목록을 하나로 병합해 앞에서부터 {@code limit}개를 반환한다.
+     *
+     * @param runs       각각 comparator 순서로 정렬된 목록
+     * @param comparator 정렬 기준
+     * @param limit      반환할 최대 개수
+     * @return 병합 결과
+     */
+    static <T> List<T> kWayMerge(List<List<T>> runs, Comparator<? super T> comparator, int limit) {
+        PriorityQueue<int[]> heads = new PriorityQueue<>((x, y) -> {
+            int c = comparator.compare(runs.get(x[0]).get(x[1]), runs.get(y[0]).get(y[1]));
+            return c != 0 ? c : Integer.compare(x[0], y[0]);
+        });
+        for (int i = 0; i < runs.size(); i++) {
+            if (!runs.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        List<T> merged = new ArrayList<>(Math.min(limit, 1024));
+        while (!heads.isEmpty() && merged.size() < limit) {
+            int[] head = heads.poll();
+            List<T> run = runs.get(head[0]);
+            merged.add(run.get(head[1]));
+            if (++head[1] < run.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    // ---------------------------------------------------------------- 내부 타입
+
+    /** 개수를 센 구간들을 정렬 순서(별 수 내림차순, created 내림차순)의 분할 계획으로 만든다 */
+    private static GithubSlicePlan toPlan(String base, List<Map.Entry<Range, Long>> counted) {
+        List<GithubSlicePlan.Slice> slices = counted.stream()
+                .sorted(Map.Entry.comparingByKey(Range.ORDER))
+                .map(e -> new GithubSlicePlan.Slice(e.getKey().query(base), (int) Math.min(e.getValue(), RESULT_LIMIT)))
+                .toList();
+        return new GithubSlicePlan(slices, slices.stream().mapToLong(GithubSlicePlan.Slice::getSize).sum());
+    }
+
+    /** 구간 하나에서 읽을 청크 범위 [firstChunk, lastChunk]와 이어 붙인 결과에서 건너뛸/가져올 개수 */
+    record ChunkRead(String query, int firstChunk, int lastChunk, int skip, int take) {
+    }
+
+    /** stars 구간 [starsLo, starsHi], 필요하면 created 구간 [createdFrom, createdTo] */
+    record Range(long starsLo, long starsHi, LocalDate createdFrom, LocalDate createdTo) {
+
+        static final Comparator<Range> ORDER = Comparator.comparingLong(Range::starsHi).reversed()
+                .thenComparing(Range::createdTo, Comparator.nullsFirst(Comparator.<LocalDate>reverseOrder()));
+
+        boolean splittable() {
+            return starsLo < starsHi || createdFrom == null || createdFrom.isBefore(createdTo);
+        }
+
+        /** 뒤쪽(별이 많거나 최근) 절반을 먼저 반환한다 */
+        List<Range> split() {
+            if (starsLo < starsHi) {
+                long mid = (long) Math.sqrt((double) Math.max(starsLo, 1) * starsHi);
+                mid = Math.max(starsLo, Math.min(starsHi - 1, mid));
+                return List.of(new Range(mid + 1, starsHi, null, null), new Range(starsLo, mid, null, null));
+            }
+            LocalDate from = createdFrom != null ? createdFrom : EPOCH;
+            LocalDate to = createdTo != null ? createdTo : LocalDate.now(ZoneOffset.UTC);
+            LocalDate mid = from.plusDays(ChronoUnit.DAYS.between(from, to) / 2);
+            return List.of(new Range(starsLo, starsHi, mid.plusDays(1), to), new Range(starsLo, starsHi, from, mid));
+        }
+
+        String query(String base) {
+            StringBuilder sb = new StringBuilder(base);
+            sb.append(" stars:").append(starsLo);
+            if (starsLo != starsHi) {
+                sb.append("..").append(starsHi);
+            }
+            if (createdFrom != null) {
+                sb.append(" created:").append(createdFrom).append("..").append(createdTo);
+            }
+            return sb.toString();
+        }
+    }
+
+    /** k-way 병합에서 구간 하나의 진행 상태 */
+    private static final class Cursor {
+        private final GithubSlicePlan.Slice slice;
+        private final List<GithubRepoDTO> items = new ArrayList<>();
+        private int nextChunk = 1;
+        private boolean complete;
+
+        private Cursor(GithubSlicePlan.Slice slice) {
+            this.slice = slice;
+        }
+
+        private void append(List<GithubRepoDTO> chunk) {
+            items.addAll(chunk);
+            nextChunk++;
+            complete = chunk.size() < CHUNK_SIZE || items.size() >= slice.getSize();
+        }
+    }
+
+    /** 구간 청크 조회 ({@code per_page=100}, 캐시 경유) */
+    private final class Fetcher {
+        private final String cacheName;
+        private final String sort;
+        private final SearchCall call;
+        private final Runnable onStale;
+
+        private Fetcher(String cacheName, String sort, SearchCall call, Runnable onStale) {
+            this.cacheName = cacheName;
+            this.sort = sort;
+            this.call = call;
+            this.onStale = onStale;
+        }
+
+        private Mono<List<GithubRepoDTO>> chunk(String query, int chunk) {
+            return pageCache.get(cacheName, key(query, chunk), () -> call.search(query, sort, chunk, CHUNK_SIZE), onStale)
+                    .map(Page::getContent)
+                    .defaultIfEmpty(List.of());
+        }
+
+        /** L1에 이미 있는 청크인지 (검색 한도 계산용) */
+        private boolean cached(String query, int chunk) {
+            return pageCache.contains(cacheName, key(query, chunk));
+        }
+
+        private GithubCacheKey key(String query, int chunk) {
+            return new GithubCacheKey.Query(query, chunk, CHUNK_SIZE, sort);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.dto.github.GithubIdPage;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 레포지토리 페이지 캐시 접근 템플릿. (ghSearch, ghRefresh, ghQuerySearch, ghRepos)
+ *
+ * <p>캐시에는 {@link GithubIdPage}만 저장하고, 조회할 때 {@link GithubRepoStore}의 정본으로 채워 {@link Page}로 반환한다.
+ * 정본이 이미 제거되어 복원할 수 없으면 L1 항목만 지우고 캐시 템플릿으로 다시 조회해, off-heap/L2 사본이나
+ * 합쳐진 loader 호출로 정본을 다시 채운다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubRepoPageCache {
+
+    private final GithubCacheTemplate cacheTemplate;
+    private final GithubRepoStore repoStore;
+
+    /**
+     * 페이지를 조회하고, 없으면 loader로 적재한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param loader    미스 시 실행할 upstream 호출
+     * @return 페이지
+     */
+    public Mono<Page<GithubRepoDTO>> get(String cacheName, Object key, Supplier<Mono<Page<GithubRepoDTO>>> loader) {
+        return get(cacheName, key, loader, null);
+    }
+
+    /**
+     * 페이지를 조회하고, 없으면 loader로 적재한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param loader    미스 시 실행할 upstream 호출
+     * @param onStale   마지막 정상 값을 대신 반환할 때 실행할 콜백 (nullable)
+     * @return 페이지
+     */
+    public Mono<Page<GithubRepoDTO>> get(String cacheName, Object key,
+                                         Supplier<Mono<Page<GithubRepoDTO>>> loader, Runnable onStale) {
+        return lookup(cacheName, key, loader, onStale)
+                .flatMap(cached -> materialize(cached)
+                        .map(Mono::just)
+                        .orElseGet(() -> reload(cacheName, key, loader, onStale)));
+    }
+
+    /**
+     * 적재하지 않고 남아 있는 페이지를 복원해 조회한다. ({@link GithubCacheTemplate#peek})
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return 페이지 (없거나 정본을 복원할 수 없으면 empty)
+     */
+    public Mono<Page<GithubRepoDTO>> peek(String cacheName, Object key) {
+        return cacheTemplate.<Object>peek(cacheName, key)
+                .flatMap(cached -> Mono.justOrEmpty(materialize(cached)));
+    }
+
+    /**
+     * L1에 페이지(또는 진행 중인 적재)가 있는지 확인한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @return L1에 있으면 true
+     */
+    public boolean contains(String cacheName, Object key) {
+        return cacheTemplate.contains(cacheName, key);
+    }
+
+    /**
+     * 정본이 제거되어 L1의 ID 페이지를 복원할 수 없으면 L1 항목만 지우고 {@link GithubCacheTemplate}으로 다시 조회한다.
+     * <p>off-heap/L2 사본은 본문을 함께 보관하므로 정본을 다시 채우고, 둘 다 없으면 합쳐진 loader 호출과
+     * 차단기/마지막 정상 값 대체를 그대로 거친다. 그래도 복원할 수 없으면 실패로 반환한다.</p>
+     */
+    private Mono<Page<GithubRepoDTO>> reload(String cacheName, Object key,
+                                             Supplier<Mono<Page<GithubRepoDTO>>> loader, Runnable onStale) {
+        log.debug("♻️ 정본 없음 → 페이지 다시 조회: {} {}", cacheName, key);
+        cacheTemplate.evictL1(cacheName, key);
+        return lookup(cacheName, key, loader, onStale)
+                .flatMap(cached -> materialize(cached)
+                        .map(Mono::just)
+                        .orElseGet(() -> Mono.error(new IllegalStateException(
+                                "Repository page could not be materialized: " + cacheName + " " + key))));
+    }
+
+    /**
+     * 캐시 값을 조회한다. 마지막 정상 값({@code ghLastKnownGood})은 복원된 {@link Page}일 수 있으므로 {@link Object}로 받는다.
+     */
+    private Mono<Object> lookup(String cacheName, Object key,
+                                Supplier<Mono<Page<GithubRepoDTO>>> loader, Runnable onStale) {
+        return cacheTemplate.<Object>get(cacheName, key, () -> loader.get().<Object>map(repoStore::intern), onStale);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Page<GithubRepoDTO>> materialize(Object cached) {
+        if (cached instanceof GithubIdPage ids) {
+            return repoStore.materialize(ids);
+        }
+        return Optional.of((Page<GithubRepoDTO>) cached);
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.dto.github.GithubIdPage;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubRepoOwnerDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 레포지토리 ID별 정본(canonical) 저장소.
+ *
+ * <p>같은 레포지토리가 여러 검색/페이지 캐시에 중복 보관되지 않도록, 페이지 캐시에는 ID 목록({@link GithubIdPage})만 두고
+ * 본문은 여기서 한 번만 보관한다. 어느 경로에서든 최신 응답이 들어오면 정본이 교체되므로,
+ * 그 레포지토리를 포함한 모든 캐시 페이지가 다음 조회부터 새 값을 보여준다.</p>
+ *
+ * <ul>
+ *     <li>같은 소유자({@link GithubRepoOwnerDTO})는 login 기준으로 하나의 인스턴스를 공유한다. (약한 참조)</li>
+ *     <li>정본은 마지막 접근 후 {@code repo-store.ttl}이 지나거나 추정 크기가 메모리 예산의 {@value #CACHE_NAME} 몫을 넘으면 제거된다.
+ *         이때 그 ID를 가진 페이지는 복원할 수 없으므로 호출 측이 다시 적재한다. ({@link GithubRepoPageCache})</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.repo_store.size} — 보관 중인 레포지토리 수</li>
+ *     <li>{@code github.cache.weight{cache=ghRepoStore}} — 추정 사용량 (바이트)</li>
+ *     <li>{@code github.repo_store.materialize{result=hit|miss}} — ID 페이지 복원 결과</li>
+ *     <li>{@code github.repo_store.lookup{result=hit|miss}} — ID 단건 조회 결과</li>
+ * </ul>
+ */
+@Component
+public class GithubRepoStore {
+
+    /** 메모리 예산({@code app.cache.github.memory.shares})과 메트릭에서 쓰는 이름 */
+    public static final String CACHE_NAME = "ghRepoStore";
+
+    private final Cache<Long, GithubRepoDTO> repos;
+    private final Cache<String, GithubRepoOwnerDTO> owners;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter lookupHitCounter;
+    private final Counter lookupMissCounter;
+
+    public GithubRepoStore(GithubCacheProperties properties, MeterRegistry meterRegistry) {
+        GithubCacheProperties.RepoStore config = properties.getRepoStore();
+        this.repos = Caffeine.newBuilder()
+                .maximumWeight(properties.getMemory().budgetOf(CACHE_NAME))
+                .weigher((Long id, GithubRepoDTO repo) -> GithubCacheWeigher.ENTRY_OVERHEAD
+                        + (int) GithubCacheWeigher.estimate(repo))
+                .expireAfterAccess(config.getTtl())
+                .build();
+        this.owners = Caffeine.newBuilder()
+                .weakValues()
+                .build();
+        Gauge.builder("github.repo_store.size", repos, Cache::estimatedSize)
+                .description("정본 저장소의 레포지토리 수")
+                .register(meterRegistry);
+        GithubCacheWeigher.registerMetrics(meterRegistry, CACHE_NAME, repos.policy());
+        this.hitCounter = Counter.builder("github.repo_store.materialize")
+                .description("ID 페이지 복원 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("github.repo_store.materialize")
+                .description("ID 페이지 복원 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.lookupHitCounter = Counter.builder("github.repo_store.lookup")
+                .description("ID 단건 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.lookupMissCounter = Counter.builder("github.repo_store.lookup")
+                .description("ID 단건 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레포지토리를 정본으로 저장(교체)한다.
+     *
+     * @param repo 최신 레포지토리 응답 (ID가 없으면 저장하지 않음)
+     * @return 저장된 정본 (입력과 같은 인스턴스)
+     */
+    public GithubRepoDTO put(GithubRepoDTO repo) {
+        if (repo != null && repo.getId() != null) {
+            repo.setOwner(canonicalOwner(repo.getOwner()));
+            repos.put(repo.getId(), repo);
+        }
+        return repo;
+    }
+
+    /**
+     * 정본을 조회한다.
+     * <p>검색/피드/단건 조회 등 최근 받은 모든 응답의 레포지토리가 대상이다. (저장 시 GitHub 호출 생략에 사용)</p>
+     *
+     * @param id 레포지토리 ID
+     * @return 정본 (없으면 empty)
+     */
+    public Optional<GithubRepoDTO> get(long id) {
+        GithubRepoDTO repo = repos.getIfPresent(id);
+        (repo != null ? lookupHitCounter : lookupMissCounter).increment();
+        return Optional.ofNullable(repo);
+    }
+
+    /**
+     * 페이지의 레포지토리를 정본으로 저장하고 ID 페이지로 변환한다.
+     *
+     * @param page upstream 응답 페이지
+     * @return ID 페이지
+     */
+    public GithubIdPage intern(Page<GithubRepoDTO> page) {
+        List<GithubRepoDTO> content = page.getContent();
+        long[] ids = new long[content.size()];
+        int n = 0;
+        for (GithubRepoDTO repo : content) {
+            if (repo.getId() != null) {
+                ids[n++] = put(repo).getId();
+            }
+        }
+        return new GithubIdPage(n == ids.length ? ids : Arrays.copyOf(ids, n),
+                page.getNumber(), page.getSize(), page.getTotalElements());
+    }
+
+    /**
+     * ID 페이지를 정본으로 채워 {@link Page}로 복원한다.
+     *
+     * @param idPage ID 페이지
+     * @return 복원된 페이지 (정본이 하나라도 없으면 empty)
+     */
+    public Optional<Page<GithubRepoDTO>> materialize(GithubIdPage idPage) {
+        long[] ids = idPage.getIds() != null ? idPage.getIds() : new long[0];
+        List<GithubRepoDTO> content = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            GithubRepoDTO repo = repos.getIfPresent(id);
+            if (repo == null) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            content.add(repo);
+        }
+        hitCounter.increment();
+        return Optional.of(new PageImpl<>(content,
+                PageRequest.of(idPage.getPageNumber(), Math.max(idPage.getPageSize(), 1)), idPage.getTotalElements()));
+    }
+
+    /**
+     * 같은 login의 소유자 정보가 이미 있고 내용이 같으면 그 인스턴스를 재사용한다.
+     */
+    private GithubRepoOwnerDTO canonicalOwner(GithubRepoOwnerDTO owner) {
+        if (owner == null || owner.getLogin() == null) {
+            return owner;
+        }
+        GithubRepoOwnerDTO existing = owners.getIfPresent(owner.getLogin());
+        if (existing != null
+                && Objects.equals(existing.getAvatarUrl(), owner.getAvatarUrl())
+                && Objects.equals(existing.getHtmlUrl(), owner.getHtmlUrl())) {
+            return existing;
+        }
+        owners.put(owner.getLogin(), owner);
+        return owner;
+    }
+}
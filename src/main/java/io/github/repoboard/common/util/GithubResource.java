@@ -0,0 +1,91 @@
+package io.github.repoboard.common.util;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * GitHub Rate Limit 버킷({@code X-RateLimit-Resource}).
+ *
+ * <p>같은 토큰이라도 버킷마다 한도와 Reset 시각이 따로 있으므로
+ * 토큰 상태({@link GithubTokenPool}), 차단기({@link GithubCircuitBreaker}), 한도 배분({@link GithubBudgetScheduler})은 버킷별로 관리한다.</p>
+ */
+public enum GithubResource {
+
+    /** REST API (사용자, 레포지토리, README …) — 토큰당 시간당 5000 */
+    CORE(5000),
+
+    /** 검색 API ({@code /search/**}) — 토큰당 분당 30 */
+    SEARCH(30),
+
+    /** GraphQL API ({@code /graphql}) — 토큰당 시간당 5000 point */
+    GRAPHQL(5000);
+
+    /** 검색 API로 적재하는 캐시 */
+    private static final Set<String> SEARCH_CACHES = Set.of("ghSearch", "ghRefresh", "ghQuerySearch");
+
+    private final int defaultLimit;
+
+    GithubResource(int defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    /** 응답을 받기 전까지 가정하는 토큰당 한도 */
+    public int defaultLimit() {
+        return defaultLimit;
+    }
+
+    /**
+     * 요청 URL이 차감되는 버킷.
+     *
+     * @param url 요청 URL
+     * @return 버킷 ({@code /search/**}는 SEARCH, {@code /graphql}은 GRAPHQL, 그 외 CORE)
+     */
+    public static GithubResource of(URI url) {
+        String path = url.getPath();
+        if (path == null) {
+            return CORE;
+        }
+        if (path.startsWith("/search/") || path.equals("/search")) {
+            return SEARCH;
+        }
+        if (path.equals("/graphql")) {
+            return GRAPHQL;
+        }
+        return CORE;
+    }
+
+    /**
+     * 캐시를 적재할 때 차감되는 버킷.
+     *
+     * @param cacheName 캐시 이름
+     * @return 검색 결과 캐시(ghSearch, ghRefresh, ghQuerySearch)는 SEARCH, 그 외 CORE
+     */
+    public static GithubResource ofCache(String cacheName) {
+        return SEARCH_CACHES.contains(cacheName) ? SEARCH : CORE;
+    }
+
+    /**
+     * {@code X-RateLimit-Resource} 헤더 값으로 버킷을 찾는다.
+     *
+     * @param header 헤더 값 (nullable)
+     * @param fallback 헤더가 없거나 모르는 값일 때 사용할 버킷
+     * @return 버킷
+     */
+    public static GithubResource fromHeader(String header, GithubResource fallback) {
+        if (header == null) {
+            return fallback;
+        }
+        return switch (header.toLowerCase(Locale.ROOT)) {
+            case "core" -> CORE;
+            case "search" -> SEARCH;
+            case "graphql" -> GRAPHQL;
+            default -> fallback;
+        };
+    }
+
+    /** 메트릭 태그 값 */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,289 @@
+package io.github.repoboard.common.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubRepoOwnerDTO;
+import io.github.repoboard.dto.github.GithubSearchResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GitHub 검색 응답({@code /search/repositories})을 스트리밍으로 디코딩하는 디코더.
+ *
+ * <p>응답 본문 전체를 모아 {@code GithubSearchResponse<GithubRepoDTO>}로 바인딩하는 대신,
+ * 도착하는 {@link DataBuffer}를 Jackson 비차단 파서에 그대로 넣어 토큰 단위로 읽고,
+ * {@link GithubRepoDTO}/{@link GithubRepoOwnerDTO}에 필요한 필드만 만든다.
+ * license, topics, permissions, 각종 *_url 등 나머지 필드는 문자열로 만들지 않고 건너뛴다.</p>
+ *
+ * <ul>
+ *     <li>버퍼는 읽는 즉시 해제하므로 본문 전체를 메모리에 모으지 않는다.</li>
+ *     <li>본문이 {@link #MAX_BYTES}를 넘으면 {@link DataBufferLimitException}으로 실패한다. (기존 maxInMemorySize와 같음)</li>
+ * </ul>
+ */
+@Component
+public class GithubSearchStreamDecoder {
+
+    /** 응답 본문 최대 크기 */
+    static final int MAX_BYTES = 4 * 1024 * 1024;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * 응답 본문 버퍼를 검색 결과로 디코딩한다.
+     *
+     * @param body 응답 본문 ({@code response.body(BodyExtractors.toDataBuffers())})
+     * @return 검색 결과 (본문이 비어 있으면 empty)
+     */
+    public Mono<GithubSearchResponse<GithubRepoDTO>> decode(Flux<DataBuffer> body) {
+        return Mono.using(this::newParser,
+                parser -> body
+                        .doOnNext(buffer -> {
+                            try {
+                                parser.feed(buffer);
+                            } finally {
+                                DataBufferUtils.release(buffer);
+                            }
+                        })
+                        .then(Mono.fromCallable(parser::finish)),
+                SearchPageParser::close);
+    }
+
+    /**
+     * 이미 받은 본문을 디코딩한다. (테스트용)
+     *
+     * @param json 응답 본문
+     * @return 검색 결과
+     * @throws IOException JSON 형식 오류 시
+     */
+    public GithubSearchResponse<GithubRepoDTO> decode(byte[] json) throws IOException {
+        SearchPageParser parser = newParser();
+        try {
+            parser.feed(ByteBuffer.wrap(json));
+            return parser.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            parser.close();
+        }
+    }
+
+    private SearchPageParser newParser() throws IOException {
+        return new SearchPageParser(jsonFactory.createNonBlockingByteArrayParser());
+    }
+
+    /**
+     * 토큰이 나뉘어 도착해도 이어서 읽을 수 있는 상태 기계.
+     * <p>깊이(depth)로 위치를 판단한다: 1=루트, 2=items 배열, 3=레포지토리, 4=owner.</p>
+     */
+    private static final class SearchPageParser {
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        /** 힙 배열이 아닌(direct) 버퍼를 옮겨 담는 작업 배열 */
+        private byte[] scratch;
+        private final List<GithubRepoDTO> items = new ArrayList<>(100);
+        private long totalCount;
+        private long bytes;
+        private int depth;
+        private boolean inItems;
+        private GithubRepoDTO repo;
+        private GithubRepoOwnerDTO owner;
+        private boolean seenRoot;
+
+        private SearchPageParser(JsonParser parser) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        private void feed(DataBuffer buffer) {
+            try (DataBuffer.ByteBufferIterator it = buffer.readableByteBuffers()) {
+                while (it.hasNext()) {
+                    feed(it.next());
+                }
+            }
+        }
+
+        private void feed(ByteBuffer buffer) {
+            int length = buffer.remaining();
+            bytes += length;
+            if (bytes > MAX_BYTES) {
+                throw new DataBufferLimitException("GitHub 검색 응답이 " + MAX_BYTES + " bytes를 초과했습니다.");
+            }
+            try {
+                if (buffer.hasArray()) {
+                    int offset = buffer.arrayOffset() + buffer.position();
+                    feeder.feedInput(buffer.array(), offset, offset + length);
+                } else {
+                    if (scratch == null || scratch.length < length) {
+                        scratch = new byte[Math.max(length, 8 * 1024)];
+                    }
+                    buffer.get(scratch, 0, length);
+                    feeder.feedInput(scratch, 0, length);
+                }
+                // 파서는 다음 입력 전에 현재 입력을 모두 소비해야 하므로 매번 끝까지 읽는다. (미완성 토큰은 파서가 복사해 둠)
+                drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private GithubSearchResponse<GithubRepoDTO> finish() throws IOException {
+            feeder.endOfInput();
+            drain();
+            if (!seenRoot) {
+                return null;
+            }
+            if (depth != 0) {
+                throw new IOException("GitHub 검색 응답이 중간에 끊겼습니다.");
+            }
+            GithubSearchResponse<GithubRepoDTO> response = new GithubSearchResponse<>();
+            response.setTotalCount(totalCount);
+            response.setItems(items);
+            return response;
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 입력은 이미 모두 소비됨
+            }
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                switch (token) {
+                    case START_OBJECT -> startObject();
+                    case START_ARRAY -> {
+                        depth++;
+                        if (depth == 2 && "items".equals(parser.currentName())) {
+                            inItems = true;
+                        }
+                    }
+                    case END_OBJECT -> endObject();
+                    case END_ARRAY -> {
+                        if (depth == 2) {
+                            inItems = false;
+                        }
+                        depth--;
+                    }
+                    case FIELD_NAME -> {
+                        // 값 토큰에서 currentName()으로 처리
+                    }
+                    default -> value(token);
+                }
+            }
+        }
+
+        private void startObject() throws IOException {
+            depth++;
+            if (depth == 1) {
+                seenRoot = true;
+            } else if (depth == 3 && inItems) {
+                repo = new GithubRepoDTO();
+            } else if (depth == 4 && repo != null && "owner".equals(parser.currentName())) {
+                owner = new GithubRepoOwnerDTO();
+            }
+        }
+
+        private void endObject() {
+            if (depth == 4 && owner != null) {
+                repo.setOwner(owner);
+                owner = null;
+            } else if (depth == 3 && repo != null) {
+                items.add(repo);
+                repo = null;
+            }
+            depth--;
+        }
+
+        private void value(JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            String name = parser.currentName();
+            if (depth == 1) {
+                if ("total_count".equals(name)) {
+                    totalCount = parser.getLongValue();
+                }
+            } else if (depth == 3 && repo != null) {
+                repoField(name);
+            } else if (depth == 4 && owner != null) {
+                switch (name) {
+                    case "login" -> owner.setLogin(parser.getText());
+                    case "avatar_url" -> owner.setAvatarUrl(parser.getText());
+                    case "html_url" -> owner.setHtmlUrl(parser.getText());
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        private void repoField(String name) throws IOException {
+            switch (name) {
+                case "id" -> repo.setId(parser.getLongValue());
+                case "name" -> repo.setName(parser.getText());
+                case "full_name" -> repo.setFullName(parser.getText());
+                case "description" -> repo.setDescription(parser.getText());
+                case "language" -> repo.setLanguage(parser.getText());
+                case "html_url" -> repo.setHtmlUrl(parser.getText());
+                case "stargazers_count" -> repo.setStargazersCount(parser.getIntValue());
+                case "forks_count" -> repo.setForksCount(parser.getIntValue());
+                case "fork" -> repo.setFork(parser.getBooleanValue());
+                case "updated_at" -> repo.setUpdatedAt(parseInstant(parser.getText()));
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * GitHub 시각 형식({@code 2025-06-10T08:15:30Z})을 파싱한다.
+     * <p>{@link Instant#parse}는 호출마다 파싱 상태 객체를 만들기 때문에, 고정 형식은 직접 읽고 그 외 형식만 위임한다.</p>
+     */
+    static Instant parseInstant(String text) {
+        if (text.length() == 20 && text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == 'T'
+                && text.charAt(13) == ':' && text.charAt(16) == ':' && text.charAt(19) == 'Z') {
+            try {
+                long epochDay = LocalDate.of(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2)).toEpochDay();
+                int hour = digits(text, 11, 2);
+                int minute = digits(text, 14, 2);
+                int second = digits(text, 17, 2);
+                if (hour < 24 && minute < 60 && second < 60) {
+                    return Instant.ofEpochSecond(epochDay * 86_400 + hour * 3_600L + minute * 60L + second);
+                }
+            } catch (DateTimeException | NumberFormatException ignored) {
+                // 아래 표준 파서로 처리
+            }
+        }
+        return Instant.parse(text);
+    }
+
+    private static int digits(String text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException(text);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
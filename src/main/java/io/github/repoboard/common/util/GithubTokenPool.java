@@ -0,0 +1,326 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.exception.GithubRateLimitException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * GitHub API 토큰 풀.
+ *
+ * <p>모든 응답의 {@code X-RateLimit-Remaining}/{@code X-RateLimit-Reset} 헤더를 반영하여
+ * 남은 요청 수가 가장 많은 토큰을 우선 선택한다.</p>
+ *
+ * <ul>
+ *     <li>한도는 토큰 × 버킷({@link GithubResource}: core/search/graphql)별로 관리한다.
+ *         검색 한도(분당 30)를 다 쓴 토큰도 core 요청에는 그대로 사용한다.</li>
+ *     <li>소진(remaining=0)되거나 403/429를 받은 토큰은 그 버킷에서만 Reset 시각까지 제외(park)한다.</li>
+ *     <li>401(폐기/만료) 토큰은 모든 버킷에서 {@link #REVOKED_PARK} 동안 제외한다.</li>
+ *     <li>사용 가능한 토큰이 없으면 {@link Thread#sleep}이 아닌 {@link Mono#delay}로 대기한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GithubTokenPool {
+
+    /** 폐기된 토큰을 다시 시도하기 전까지 제외하는 시간 */
+    private static final Duration REVOKED_PARK = Duration.ofHours(1);
+
+    /** 가장 빠른 Reset 시각까지 대기할 수 있는 최대 시간 (초과 시 즉시 예외) */
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    private final List<TokenState> states;
+
+    public GithubTokenPool(@Value("${github.api.token}") String rawTokens) {
+        if (rawTokens == null || rawTokens.isBlank()) {
+            throw new IllegalArgumentException("Github API 토큰이 하나도 설정되지 않았습니다.");
+        }
+        this.states = Arrays.stream(rawTokens.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(TokenState::new)
+                .toList();
+        if (states.isEmpty()) {
+            throw new IllegalArgumentException("Github API 토큰이 하나도 설정되지 않았습니다.");
+        }
+    }
+
+    /**
+     * 버킷의 남은 요청 수가 가장 많은 토큰을 선택한다.
+     * <p>모든 토큰이 제외 상태라면 가장 빠른 Reset 시각까지 비차단 방식으로 대기한다.</p>
+     *
+     * @param resource 요청이 차감되는 버킷
+     * @param excluded 이번 요청에서 이미 실패한 토큰 (재시도 시 다른 토큰을 쓰기 위함)
+     * @return 사용할 토큰
+     */
+    public Mono<String> acquire(GithubResource resource, Collection<String> excluded) {
+        return Mono.defer(() -> {
+            long now = System.currentTimeMillis();
+            Bucket best = select(resource, excluded, now);
+            if (best == null && !excluded.isEmpty()) {
+                best = select(resource, Set.of(), now);
+            }
+            if (best != null) {
+                best.reserve();
+                return Mono.just(best.token);
+            }
+
+            long earliest = states.stream()
+                    .mapToLong(s -> s.availableAt(resource))
+                    .min()
+                    .orElse(now);
+            long wait = earliest - now;
+            if (wait > MAX_WAIT.toMillis()) {
+                log.warn("🔒 사용 가능한 GitHub 토큰 없음 ({}) - Reset: {} (epoch)", resource.tag(), earliest / 1000);
+                return Mono.error(new GithubRateLimitException("All tokens exhausted", earliest / 1000, resource.tag()));
+            }
+            log.debug("⏳ 모든 토큰 대기 중 ({}) → {}ms 후 재선택", resource.tag(), wait);
+            return Mono.delay(Duration.ofMillis(Math.max(wait, 1)))
+                    .then(acquire(resource, excluded));
+        });
+    }
+
+    /**
+     * 제외 목록에 없는 토큰을 대기 없이 선택한다. (헤지 요청용)
+     * <p>{@link #acquire}와 달리 제외된 토큰으로 되돌아가거나 Reset 시각까지 기다리지 않는다.</p>
+     *
+     * @param resource 요청이 차감되는 버킷
+     * @param excluded 이미 사용 중인 토큰
+     * @return 다른 토큰 (없으면 empty)
+     */
+    public Optional<String> tryAcquireOther(GithubResource resource, Collection<String> excluded) {
+        Bucket other = select(resource, excluded, System.currentTimeMillis());
+        if (other == null) {
+            return Optional.empty();
+        }
+        other.reserve();
+        return Optional.of(other.token);
+    }
+
+    /**
+     * 응답 헤더의 Rate Limit 정보를 토큰 상태에 반영한다.
+     * <p>{@code X-RateLimit-Resource} 헤더가 있으면 그 버킷에, 없으면 요청의 버킷에 반영한다.</p>
+     *
+     * @param token    요청에 사용한 토큰
+     * @param resource 요청이 차감되는 버킷
+     * @param headers  응답 헤더
+     */
+    public void update(String token, GithubResource resource, HttpHeaders headers) {
+        TokenState state = find(token);
+        if (state == null) {
+            return;
+        }
+        GithubResource actual = GithubResource.fromHeader(headers.getFirst("X-RateLimit-Resource"), resource);
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        String reset = headers.getFirst("X-RateLimit-Reset");
+        String limit = headers.getFirst("X-RateLimit-Limit");
+        state.bucket(actual).observe(parseInt(remaining, -1), parseLong(reset, 0), parseInt(limit, -1));
+    }
+
+    /**
+     * Rate Limit(403/429)을 받은 토큰을 그 버킷에서만 Reset 시각까지 제외한다.
+     *
+     * @param token          요청에 사용한 토큰
+     * @param resource       Rate Limit에 걸린 버킷
+     * @param resetEpochSec  Reset 시각 (epoch seconds)
+     */
+    public void park(String token, GithubResource resource, long resetEpochSec) {
+        TokenState state = find(token);
+        if (state == null) {
+            return;
+        }
+        long until = Math.max(resetEpochSec * 1000, System.currentTimeMillis() + 1000);
+        state.bucket(resource).parkUntil(until);
+        log.warn("🅿️ 토큰 제외 ({}) → {} 까지", resource.tag(), Instant.ofEpochMilli(until));
+    }
+
+    /**
+     * 인증 실패(401) 토큰을 모든 버킷에서 {@link #REVOKED_PARK} 동안 제외한다.
+     *
+     * @param token 요청에 사용한 토큰
+     */
+    public void revoke(String token) {
+        TokenState state = find(token);
+        if (state != null) {
+            state.revokedUntil = System.currentTimeMillis() + REVOKED_PARK.toMillis();
+            log.error("🚫 GitHub 토큰 인증 실패 → {} 동안 제외", REVOKED_PARK);
+        }
+    }
+
+    /**
+     * 버킷에서 지금 사용할 수 있는 토큰이 있는지 확인한다.
+     *
+     * @param resource 버킷
+     * @return 제외되지 않은 토큰이 하나라도 있으면 true
+     */
+    public boolean hasAvailable(GithubResource resource) {
+        return select(resource, Set.of(), System.currentTimeMillis()) != null;
+    }
+
+    /**
+     * 버킷에서 제외되지 않은 모든 토큰의 남은 요청 수 합계.
+     *
+     * @param resource 버킷
+     * @return 사용 가능한 요청 수 추정치
+     */
+    public long totalRemaining(GithubResource resource) {
+        long now = System.currentTimeMillis();
+        return states.stream()
+                .filter(s -> s.availableAt(resource) <= now)
+                .mapToLong(s -> s.bucket(resource).effectiveRemaining(now))
+                .sum();
+    }
+
+    /**
+     * 버킷의 모든 토큰 한도 합계.
+     *
+     * @param resource 버킷
+     * @return 전체 요청 한도
+     */
+    public long totalLimit(GithubResource resource) {
+        return states.stream().mapToLong(s -> s.bucket(resource).limit).sum();
+    }
+
+    /**
+     * 버킷의 남은 요청 수 비율.
+     *
+     * @param resource 버킷
+     * @return {@link #totalRemaining} / {@link #totalLimit} (0~1)
+     */
+    public double remainingRatio(GithubResource resource) {
+        long limit = totalLimit(resource);
+        return limit == 0 ? 0 : (double) totalRemaining(resource) / limit;
+    }
+
+    private Bucket select(GithubResource resource, Collection<String> excluded, long now) {
+        Bucket best = null;
+        for (TokenState s : states) {
+            if (s.availableAt(resource) > now || excluded.contains(s.token)) {
+                continue;
+            }
+            Bucket bucket = s.bucket(resource);
+            if (best == null || bucket.effectiveRemaining(now) > best.effectiveRemaining(now)) {
+                best = bucket;
+            }
+        }
+        return best;
+    }
+
+    private TokenState find(String token) {
+        for (TokenState s : states) {
+            if (s.token.equals(token)) {
+                return s;
+            }
+        }
+        return null;
+    }
+
+    private static int parseInt(String raw, int fallback) {
+        try {
+            return raw == null ? fallback : Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static long parseLong(String raw, long fallback) {
+        try {
+            return raw == null ? fallback : Long.parseLong(raw);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * 토큰 하나의 버킷별 상태와 폐기 상태.
+     */
+    private static final class TokenState {
+        private final String token;
+        private final Map<GithubResource, Bucket> buckets = new EnumMap<>(GithubResource.class);
+        private volatile long revokedUntil;
+
+        private TokenState(String token) {
+            this.token = token;
+            for (GithubResource resource : GithubResource.values()) {
+                buckets.put(resource, new Bucket(token, resource.defaultLimit()));
+            }
+        }
+
+        private Bucket bucket(GithubResource resource) {
+            return buckets.get(resource);
+        }
+
+        /** 이 버킷에서 다시 사용할 수 있는 시각 (제외 중이 아니면 과거) */
+        private long availableAt(GithubResource resource) {
+            return Math.max(revokedUntil, bucket(resource).parkedUntil);
+        }
+    }
+
+    /**
+     * 토큰 하나의 버킷 하나에 대한 남은 요청 수와 제외 상태.
+     */
+    private static final class Bucket {
+        private final String token;
+        private volatile int remaining;
+        private volatile int limit;
+        private volatile long resetAt;
+        private volatile long parkedUntil;
+
+        private Bucket(String token, int defaultLimit) {
+            this.token = token;
+            this.remaining = defaultLimit;
+            this.limit = defaultLimit;
+        }
+
+        /** 응답 전 선점 — 동시 요청이 같은 토큰에 몰리지 않도록 추정치를 먼저 차감 */
+        private synchronized void reserve() {
+            if (resetAt > 0 && System.currentTimeMillis() >= resetAt) {
+                remaining = limit;
+                resetAt = 0;
+            }
+            if (remaining > 0) {
+                remaining--;
+            }
+        }
+
+        private synchronized void observe(int remaining, long resetEpochSec, int limit) {
+            if (limit > 0) {
+                this.limit = limit;
+            }
+            if (resetEpochSec > 0) {
+                this.resetAt = resetEpochSec * 1000;
+            }
+            if (remaining >= 0) {
+                this.remaining = remaining;
+                if (remaining == 0 && resetAt > System.currentTimeMillis()) {
+                    this.parkedUntil = resetAt;
+                }
+            }
+        }
+
+        /** Reset 시각이 지났다면 한도 전체를 사용 가능한 것으로 본다 */
+        private int effectiveRemaining(long now) {
+            if (resetAt > 0 && now >= resetAt) {
+                return limit;
+            }
+            return Math.max(remaining, 0);
+        }
+
+        private synchronized void parkUntil(long until) {
+            this.remaining = 0;
+            this.parkedUntil = Math.max(parkedUntil, until);
+        }
+    }
+}
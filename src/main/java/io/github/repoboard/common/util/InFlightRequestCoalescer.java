@@ -0,0 +1,130 @@
+package io.github.repoboard.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키에 대한 동시 upstream 호출을 하나로 합치는(single-flight) 유틸리티.
+ *
+ * <p>같은 키로 진행 중인 호출이 있으면 새 호출을 시작하지 않고
+ * 진행 중인 {@link CompletableFuture}를 공유한다. 호출이 끝나면 키는 즉시 제거되므로
+ * 결과 보관은 호출 측 캐시가 담당한다.</p>
+ *
+ * <p>합쳐진 호출은 처음 호출한 쪽의 우선순위({@link GithubPriority})로 실행된다.
+ * 그래서 진행 중인 호출보다 우선순위가 엄격히 높은 호출만 합류하지 않고 자기 우선순위로 새로 실행하며,
+ * 이후 호출은 새로 실행한 쪽에 합류한다. (백그라운드 적재가 보류되어 화면 요청까지 실패하지 않도록)
+ * 마감 시각은 합류 조건에 쓰지 않는다. 요청마다 마감 시각이 다르므로 이를 비교하면 동시 요청이 합쳐지지 않으며,
+ * 각 호출자는 자기 마감 시각으로 대기 시간을 따로 제한한다.</p>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code github.inflight.calls{name, result=leader}} — 실제 upstream 호출 수</li>
+ *     <li>{@code github.inflight.calls{name, result=collapsed}} — 진행 중 호출에 합쳐진 요청 수</li>
+ *     <li>{@code github.inflight.calls{name, result=upgraded}} — 진행 중 호출보다 조건이 좋아 새로 실행한 호출 수</li>
+ *     <li>{@code github.inflight.pending} — 현재 진행 중인 호출 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class InFlightRequestCoalescer {
+
+    private final Map<List<Object>, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> leaderCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> collapsedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> upgradedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public InFlightRequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("github.inflight.pending", inFlight, Map::size)
+                .description("진행 중인 GitHub upstream 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키별로 하나의 upstream 호출만 실행하고, 동시 호출자는 그 결과를 공유한다.
+     *
+     * @param name 호출 종류 (메트릭 태그, 예: ghSearch)
+     * @param key  호출 키 (보통 캐시 키)
+     * @param call 실제 upstream 호출
+     * @return 공유되는 결과 Future
+     */
+    public <T> CompletableFuture<T> execute(String name, Object key, Supplier<CompletableFuture<T>> call) {
+        return execute(name, key, GithubPriority.INTERACTIVE, call);
+    }
+
+    /**
+     * 키별로 하나의 upstream 호출만 실행하되, 진행 중인 호출보다 우선순위가 높으면 새로 실행한다.
+     *
+     * @param name     호출 종류 (메트릭 태그, 예: ghSearch)
+     * @param key      호출 키 (보통 캐시 키)
+     * @param priority 이 호출의 우선순위 (call이 실행될 Context의 우선순위)
+     * @param call     실제 upstream 호출
+     * @return 공유되는 결과 Future
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String name, Object key, GithubPriority priority,
+                                            Supplier<CompletableFuture<T>> call) {
+        List<Object> flightKey = List.of(name, key);
+        Flight mine = new Flight(new CompletableFuture<>(), priority);
+        Flight existing = inFlight.putIfAbsent(flightKey, mine);
+        while (existing != null) {
+            if (existing.covers(priority)) {
+                counter(collapsedCounters, name, "collapsed").increment();
+                log.debug("🔗 진행 중인 호출에 합류: {}", key);
+                return (CompletableFuture<T>) existing.future();
+            }
+            if (inFlight.replace(flightKey, existing, mine)) {
+                counter(upgradedCounters, name, "upgraded").increment();
+                log.debug("⏫ 진행 중인 호출({})보다 우선 → 새로 실행: {}", existing.priority(), key);
+                break;
+            }
+            existing = inFlight.putIfAbsent(flightKey, mine);
+        }
+
+        CompletableFuture<T> future = (CompletableFuture<T>) mine.future();
+        counter(leaderCounters, name, "leader").increment();
+        try {
+            call.get().whenComplete((value, error) -> {
+                inFlight.remove(flightKey, mine);
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(flightKey, mine);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private Counter counter(Map<String, Counter> counters, String name, String result) {
+        return counters.computeIfAbsent(name, n -> Counter.builder("github.inflight.calls")
+                .description("GitHub upstream 호출 합치기(single-flight) 결과")
+                .tag("name", n)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 진행 중인 호출과 그 호출이 실행되는 우선순위.
+     */
+    private record Flight(CompletableFuture<?> future, GithubPriority priority) {
+
+        /** 우선순위가 같거나 높으면 합류해도 손해가 없다. */
+        boolean covers(GithubPriority otherPriority) {
+            return priority.compareTo(otherPriority) <= 0;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.repoboard.controller;
 
-import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.common.util.GithubCallPolicy;
+import io.github.repoboard.common.util.GithubPriority;
 import io.github.repoboard.dto.view.UserView;
 import io.github.repoboard.security.core.CustomUserPrincipal;
 import io.github.repoboard.service.HomeService;
@@ -13,6 +14,8 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 홈 화면 관련 요청을 처리하는 컨트롤러입니다.
  *
@@ -20,12 +23,16 @@ import org.springframework.web.bind.annotation.RequestParam;
  * GitHub 인기 레포지토리를 언어, 정렬 기준에 따라 검색하여<br>
  * 홈 페이지 또는 추가 로딩 Fragment로 반환합니다.
  * </p>
+ *
+ * <p>GitHub 응답을 기다리는 동안 서블릿 스레드를 반환하도록 {@link CompletableFuture}로 뷰 이름을 반환합니다.
+ * 한 요청의 모든 GitHub 호출은 {@link GithubCallPolicy#request}로 정한 하나의 마감 시각과 화면 요청 우선순위를 공유합니다.</p>
  */
 @Controller
 @RequiredArgsConstructor
 public class HomeController {
 
     private final HomeService homeService;
+    private final GithubCallPolicy callPolicy;
 
     /**
      * 홈 페이지를 렌더링합니다.
@@ -36,7 +43,7 @@ public class HomeController {
      * </p>
      *
      * @param principal 로그인 사용자 정보 (nullable)
-     * @param language 필터링할 언어 (기본값: java)
+     * @param language 필터링할 언어 (기본값: java, 쉼표로 여러 개 지정하면 혼합 피드)
      * @param refresh true일 경우 API 캐시를 무시하고 새로 요청
      * @param sort 정렬 기준 (popular=stars, recent=updated 등)
      * @param session 사용자 세션 (API 캐싱에 사용)
@@ -45,7 +52,7 @@ public class HomeController {
      * @return 홈 페이지 템플릿 이름 ("home")
      */
     @GetMapping("/")
-    public String showhome(@AuthenticationPrincipal CustomUserPrincipal principal,
+    public CompletableFuture<String> showhome(@AuthenticationPrincipal CustomUserPrincipal principal,
                            @RequestParam(value = "language", required = false, defaultValue = "java") String language,
                            @RequestParam(value = "refresh", required = false, defaultValue = "false") boolean refresh,
                            @RequestParam(value = "sort", required = false, defaultValue = "popular") String sort,
@@ -55,21 +62,29 @@ public class HomeController {
         if(principal != null){
             model.addAttribute("user", UserView.from(principal.getUser()));
         }
-        Page<GithubRepoDTO> repoPage = homeService.getRepos(language, sort, refresh, page, session);
+        return homeService.getRepos(language, sort, refresh, page, session)
+                .map(repoPage -> {
+                    Boolean hasError = (Boolean) session.getAttribute("ghApiError");
+                    if(Boolean.TRUE.equals(hasError)){
+                        model.addAttribute("error","⚠ GitHub에서 데이터를 가져오는 데 문제가 발생했습니다. 잠시 후 다시 시도해주세요.");
+                        model.addAttribute("repoPage",Page.empty());
+                        session.removeAttribute("ghApiError");
+                    }else{
+                        model.addAttribute("repoPage", repoPage);
+                    }
 
-        Boolean hasError = (Boolean) session.getAttribute("ghApiError");
-        if(Boolean.TRUE.equals(hasError)){
-            model.addAttribute("error","⚠ GitHub에서 데이터를 가져오는 데 문제가 발생했습니다. 잠시 후 다시 시도해주세요.");
-            model.addAttribute("repoPage",Page.empty());
-            session.removeAttribute("ghApiError");
-        }else{
-            model.addAttribute("repoPage", repoPage);
-        }
+                    if(Boolean.TRUE.equals(session.getAttribute("ghApiStale"))){
+                        model.addAttribute("notice", "⚠ GitHub 응답이 지연되어 최근에 조회한 결과를 표시합니다.");
+                        session.removeAttribute("ghApiStale");
+                    }
 
-        model.addAttribute("currentLanguage", language);
-        model.addAttribute("sort", sort);
+                    model.addAttribute("currentLanguage", language);
+                    model.addAttribute("sort", sort);
 
-        return "home";
+                    return "home";
+                })
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .toFuture();
     }
 
     /**
@@ -81,7 +96,7 @@ public class HomeController {
      * Thymeleaf fragment로 반환합니다.
      * </p>
      *
-     * @param language 필터링할 언어 (기본값: java)
+     * @param language 필터링할 언어 (기본값: java, 쉼표로 여러 개 지정하면 혼합 피드)
      * @param page 요청할 페이지 번호 (기본값: 1)
      * @param sort 정렬 기준 (예: stars, updated 등)
      * @param session 사용자 세션 (캐시 키로 사용)
@@ -89,22 +104,26 @@ public class HomeController {
      * @return repo_card fragment (fragments/repo_card :: repo-cards)
      */
     @GetMapping("/api/repos")
-    public String loadMoreRepositories(@RequestParam(required = false, defaultValue = "java") String language,
+    public CompletableFuture<String> loadMoreRepositories(@RequestParam(required = false, defaultValue = "java") String language,
                                        @RequestParam(defaultValue = "1") int page,
                                        @RequestParam("sort") String sort,
                                        HttpSession session,
                                        Model model){
-        Page<GithubRepoDTO> repoPage = homeService.getMoreRepos(language, sort, page, session);
-
-        Boolean hasError = (Boolean) session.getAttribute("ghApiError");
-        if(Boolean.TRUE.equals(hasError)){
-            model.addAttribute("error","⚠ GitHub에서 데이터를 가져오는 데 문제가 발생했습니다. 잠시 후 다시 시도해주세요.");
-            model.addAttribute("repoPage",Page.empty());
-            session.removeAttribute("ghApiError");
-        }else {
-            model.addAttribute("repoPage", repoPage);
-        }
+        return homeService.getMoreRepos(language, sort, page, session)
+                .map(repoPage -> {
+                    Boolean hasError = (Boolean) session.getAttribute("ghApiError");
+                    if(Boolean.TRUE.equals(hasError)){
+                        model.addAttribute("error","⚠ GitHub에서 데이터를 가져오는 데 문제가 발생했습니다. 잠시 후 다시 시도해주세요.");
+                        model.addAttribute("repoPage",Page.empty());
+                        session.removeAttribute("ghApiError");
+                    }else {
+                        model.addAttribute("repoPage", repoPage);
+                    }
+                    session.removeAttribute("ghApiStale");
 
-        return "fragments/repo_card :: repo-cards";
+                    return "fragments/repo_card :: repo-cards";
+                })
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .toFuture();
     }
 }
\ No newline at end of file
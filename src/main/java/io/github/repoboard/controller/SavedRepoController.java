@@ -1,5 +1,7 @@
 package io.github.repoboard.controller;
 
+import io.github.repoboard.common.util.GithubCallPolicy;
+import io.github.repoboard.common.util.GithubPriority;
 import io.github.repoboard.dto.view.SavedRepoView;
 import io.github.repoboard.dto.view.UserView;
 import io.github.repoboard.security.core.CustomUserPrincipal;
@@ -15,6 +17,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 사용자가 저장한 GitHub 레포지토리를 관리하는 컨트롤러입니다.
@@ -31,6 +36,7 @@ public class SavedRepoController {
     private final SavedRepoService savedRepoService;
     private final SavedRepoDBService savedRepoDBService;
     private final GitHubApiService gitHubApiService;
+    private final GithubCallPolicy callPolicy;
 
     /**
      * 저장한 레포지토리 페이지를 렌더링합니다.
@@ -74,26 +80,24 @@ public class SavedRepoController {
 
     /**
      * 저장한 레포의 README 마크다운 내용을 불러옵니다.
+     * <p>GitHub 응답을 기다리는 동안 서블릿 스레드를 반환하도록 비동기로 처리합니다.</p>
      *
      * @param repoId GitHub 레포지토리 ID
      * @return README 원문 내용
      */
     @GetMapping("/{repoId}/readme")
-    public ResponseEntity<String> getReadmeByRepoId(@PathVariable Long repoId){
-        try{
-            String readme = gitHubApiService.getReadmeById(repoId);
-            if(readme == null || readme.isBlank()){
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body("README를 찾을 수 없습니다.");
-            }
-            return ResponseEntity.ok(readme);
-        }catch (IllegalArgumentException e){
-            return ResponseEntity.badRequest()
-                    .body("잘못된 요청입니다: " + e.getMessage());
-        }catch (RuntimeException e){
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("README를 불러오는 중 오류가 발생했습니다.");
-        }
+    public CompletableFuture<ResponseEntity<String>> getReadmeByRepoId(@PathVariable Long repoId){
+        return gitHubApiService.getReadmeByIdAsync(repoId)
+                .filter(readme -> !readme.isBlank())
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body("README를 찾을 수 없습니다."))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest()
+                        .body("잘못된 요청입니다: " + e.getMessage())))
+                .onErrorResume(RuntimeException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body("README를 불러오는 중 오류가 발생했습니다.")))
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .toFuture();
     }
 
     /**
@@ -1,7 +1,8 @@
 package io.github.repoboard.controller;
 
+import io.github.repoboard.common.util.GithubCallPolicy;
+import io.github.repoboard.common.util.GithubPriority;
 import io.github.repoboard.common.util.SanitizeUtil;
-import io.github.repoboard.dto.github.GithubRepoDTO;
 import io.github.repoboard.dto.view.ProfileFullView;
 import io.github.repoboard.dto.view.UserView;
 import io.github.repoboard.model.Profile;
@@ -20,12 +21,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 검색 기능을 담당하는 컨트롤러입니다.
  *
  * <p>레포지토리 및 오픈 프로필 유저 검색을 지원하며,
  * 페이지 진입 시 자동 리다이렉트 또는 Fragment 응답을 제공합니다.</p>
+ *
+ * <p>GitHub 레포지토리 검색은 {@link CompletableFuture}를 반환하여 GitHub I/O 동안 서블릿 스레드를 점유하지 않습니다.</p>
  */
 @Controller
 @RequestMapping("/search")
@@ -33,6 +37,7 @@ import java.util.Optional;
 public class SearchController {
 
     private final SearchService searchService;
+    private final GithubCallPolicy callPolicy;
 
     /**
      * 검색 유형에 따라 적절한 검색 결과 페이지로 리다이렉트합니다.
@@ -76,31 +81,38 @@ public class SearchController {
      * @return 저장소 검색 결과 페이지
      */
     @GetMapping("/repositories")
-    public String showSearch(@AuthenticationPrincipal CustomUserPrincipal principal,
+    public CompletableFuture<String> showSearch(@AuthenticationPrincipal CustomUserPrincipal principal,
                              @RequestParam("q") String search,
                              @RequestParam(defaultValue = "0") int page,
                              @RequestParam(value = "sort" , required = false , defaultValue = "popular") String sort,
                              HttpSession session,
                              Model model){
         if(search == null || search.isBlank()){
-            return "redirect:/";
+            return CompletableFuture.completedFuture("redirect:/");
         }
         if(principal != null){
             model.addAttribute("user", UserView.from(principal.getUser()));
         }
-        Page<GithubRepoDTO> repoPage =  searchService.fetchRepositories(search, page, sort,session);
-
-        model.addAttribute("repoPage", repoPage);
-        model.addAttribute("query", SanitizeUtil.sanitizeQuery(search));
-        model.addAttribute("sort", sort);
-
-        Boolean hasError = (Boolean) session.getAttribute("ghApiError");
-        if(Boolean.TRUE.equals(hasError)){
-            model.addAttribute("error", "⚠ GitHub에서 데이터를 가져오는 데 문제가 발생했습니다. 잠시 후 다시 시도해주세요.");
-            session.removeAttribute("ghApiError");
-        }
-
-        return "search/search";
+        return searchService.fetchRepositories(search, page, sort,session)
+                .map(repoPage -> {
+                    model.addAttribute("repoPage", repoPage);
+                    model.addAttribute("query", SanitizeUtil.sanitizeQuery(search));
+                    model.addAttribute("sort", sort);
+
+                    Boolean hasError = (Boolean) session.getAttribute("ghApiError");
+                    if(Boolean.TRUE.equals(hasError)){
+                        model.addAttribute("error", "⚠ GitHub에서 데이터를 가져오는 데 문제가 발생했습니다. 잠시 후 다시 시도해주세요.");
+                        session.removeAttribute("ghApiError");
+                    }
+                    if(Boolean.TRUE.equals(session.getAttribute("ghApiStale"))){
+                        model.addAttribute("notice", "⚠ GitHub 응답이 지연되어 최근에 조회한 결과를 표시합니다.");
+                        session.removeAttribute("ghApiStale");
+                    }
+
+                    return "search/search";
+                })
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .toFuture();
     }
 
     /**
@@ -114,23 +126,27 @@ public class SearchController {
      * @return 저장소 카드 fragment (HTML 일부)
      */
     @GetMapping("/repositories/api/repos")
-    public String loadMoreRepositories(@RequestParam(defaultValue = "1") int page,
+    public CompletableFuture<String> loadMoreRepositories(@RequestParam(defaultValue = "1") int page,
                                        @RequestParam("sort") String sort,
                                        @RequestParam("q") String search,
                                        HttpSession session,
                                        Model model){
-        Page<GithubRepoDTO> repoPage = searchService.loadMoreRepositories(search, page, sort, session);
-
-        Boolean hasError = (Boolean) session.getAttribute("ghApiError");
-        if (Boolean.TRUE.equals(hasError)) {
-            model.addAttribute("error", "GitHub에서 데이터를 가져오는 데 실패했습니다.");
-            model.addAttribute("repoPage",Page.empty());
-            session.removeAttribute("ghApiError");
-        }else {
-            model.addAttribute("repoPage", repoPage);
-        }
-
-        return "fragments/repo_card :: repo-cards";
+        return searchService.loadMoreRepositories(search, page, sort, session)
+                .map(repoPage -> {
+                    Boolean hasError = (Boolean) session.getAttribute("ghApiError");
+                    if (Boolean.TRUE.equals(hasError)) {
+                        model.addAttribute("error", "GitHub에서 데이터를 가져오는 데 실패했습니다.");
+                        model.addAttribute("repoPage",Page.empty());
+                        session.removeAttribute("ghApiError");
+                    }else {
+                        model.addAttribute("repoPage", repoPage);
+                    }
+                    session.removeAttribute("ghApiStale");
+
+                    return "fragments/repo_card :: repo-cards";
+                })
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .toFuture();
     }
 
     /**
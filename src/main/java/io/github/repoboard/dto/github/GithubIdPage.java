@@ -0,0 +1,32 @@
+package io.github.repoboard.dto.github;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 레포지토리 페이지 캐시의 메모리 형태.
+ * <p>
+ * 레포지토리 본문은 {@code GithubRepoStore}에 ID별로 한 번만 보관하고, 페이지 캐시(ghSearch, ghRefresh,
+ * ghQuerySearch, ghRepos)에는 순서대로 나열된 ID와 전체 개수만 둔다. L2/스냅샷에는 {@link GithubPageSnapshot}으로 저장된다.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GithubIdPage {
+
+    /** 페이지에 포함된 레포지토리 ID (응답 순서) */
+    private long[] ids;
+
+    /** 페이지 번호 (0부터 시작) */
+    private int pageNumber;
+
+    /** 페이지 크기 */
+    private int pageSize;
+
+    /** 전체 항목 수 */
+    private long totalElements;
+}
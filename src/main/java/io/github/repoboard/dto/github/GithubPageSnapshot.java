@@ -0,0 +1,46 @@
+package io.github.repoboard.dto.github;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+/**
+ * 캐시에 저장된 레포지토리 {@link Page}의 직렬화 형태.
+ * <p>
+ * {@link PageImpl}은 Jackson으로 역직렬화할 수 없으므로 L2 캐시(DB)에는 이 형태로 저장하고,
+ * 읽을 때 다시 {@link PageImpl}로 복원한다.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GithubPageSnapshot {
+
+    /** 페이지 내용 */
+    private List<GithubRepoDTO> content;
+
+    /** 페이지 번호 (0부터 시작) */
+    private int pageNumber;
+
+    /** 페이지 크기 */
+    private int pageSize;
+
+    /** 전체 항목 수 */
+    private long totalElements;
+
+    public static GithubPageSnapshot from(Page<GithubRepoDTO> page) {
+        return new GithubPageSnapshot(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
+    }
+
+    public Page<GithubRepoDTO> toPage() {
+        return new PageImpl<>(content != null ? content : List.of(),
+                PageRequest.of(pageNumber, Math.max(pageSize, 1)), totalElements);
+    }
+}
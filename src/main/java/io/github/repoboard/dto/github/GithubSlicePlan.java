@@ -0,0 +1,44 @@
+package io.github.repoboard.dto.github;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 깊은 페이지용 검색어 분할 계획. ({@code GithubQuerySlicer})
+ * <p>
+ * 정렬 순서(별 수 내림차순, created 내림차순)로 나열된, 서로 겹치지 않는 1000건 이하 구간 목록이다.
+ * 계획을 세우는 데 검색 API 호출이 여러 번 필요하므로 L2({@code ghSlicePlan})에 저장해 인스턴스 간에 공유한다.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GithubSlicePlan {
+
+    /** 구간 목록 (정렬 순서) */
+    private List<Slice> slices;
+
+    /** 구간별 제공 가능 개수의 합 */
+    private long total;
+
+    /**
+     * 구간 쿼리와 제공 가능한 개수 (최대 1000).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Slice {
+
+        /** 구간 검색 쿼리 (원래 쿼리 + stars/created 한정자) */
+        private String query;
+
+        /** 제공 가능한 개수 */
+        private int size;
+    }
+}
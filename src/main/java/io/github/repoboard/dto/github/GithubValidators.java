@@ -0,0 +1,22 @@
+package io.github.repoboard.dto.github;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조건부 요청(ETag / Last-Modified)을 위한 검증자 DTO.
+ * <p>
+ * 응답 값은 보관하지 않는다. GitHub가 {@code 304 Not Modified}를 반환하면 값은 원래 캐시
+ * (L1, off-heap, {@code ghLastKnownGood}, L2)에 남아 있는 사본을 재사용한다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class GithubValidators {
+
+    /** 응답의 ETag 헤더 (If-None-Match 로 전송) */
+    private final String etag;
+
+    /** 응답의 Last-Modified 헤더 (If-Modified-Since 로 전송) */
+    private final String lastModified;
+}
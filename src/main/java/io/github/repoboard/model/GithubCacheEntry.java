@@ -0,0 +1,83 @@
+package io.github.repoboard.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * GitHub 응답 캐시의 2차(L2) 저장소 엔티티.
+ *
+ * <p>Caffeine(L1) 캐시는 JVM마다 따로 있고 재시작하면 비워지므로,
+ * 모든 인스턴스가 공유하는 응답 사본을 Postgres에 보관한다.</p>
+ *
+ * <ul>
+ *     <li>{@code payload}: gzip 압축된 JSON</li>
+ *     <li>{@code etag}/{@code last_modified}: 조건부 요청 검증자 ({@code ghValidators} 항목만)</li>
+ *     <li>{@code expires_at}이 지난 행은 조회하지 않으며 주기적으로 삭제된다.</li>
+ * </ul>
+ *
+ * <h3>제약 조건</h3>
+ * <ul>
+ *     <li>고유 제약: 캐시 이름 + 캐시 키 (native upsert의 {@code ON CONFLICT} 대상)</li>
+ *     <li>인덱스: 만료 시각</li>
+ * </ul>
+ *
+ * <p>운영 환경은 {@code ddl-auto: validate}이므로 테이블과 인덱스는 {@code db/schema-github.sql}로
+ * 시작 시 생성한다. ({@code spring.sql.init})</p>
+ */
+@Entity
+@Table(
+    name = "github_cache_entry",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "ux_github_cache_entry_key",
+            columnNames = {"cache_name", "cache_key"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_github_cache_entry_expires", columnList = "expires_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GithubCacheEntry {
+
+    /** 고유 식별자 (PK) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 캐시 이름 (예: ghSearch) */
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+
+    /** 캐시 키 */
+    @Column(name = "cache_key", nullable = false, columnDefinition = "TEXT")
+    private String cacheKey;
+
+    /** gzip 압축된 JSON 값 */
+    @Column(name = "payload", nullable = false, columnDefinition = "BYTEA")
+    private byte[] payload;
+
+    /** ETag 검증자 */
+    @Column(name = "etag")
+    private String etag;
+
+    /** Last-Modified 검증자 */
+    @Column(name = "last_modified")
+    private String lastModified;
+
+    /** 저장 시각 */
+    @Column(name = "stored_at", nullable = false)
+    private Instant storedAt;
+
+    /** 만료 시각 */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,87 @@
+package io.github.repoboard.repository;
+
+import io.github.repoboard.model.GithubCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * {@link GithubCacheEntry} 엔티티에 대한 JPA 리포지토리.
+ *
+ * <p>GitHub 응답 L2 캐시의 조회/저장/만료 정리에 사용된다.</p>
+ */
+@Repository
+public interface GithubCacheEntryRepository extends JpaRepository<GithubCacheEntry, Long> {
+
+    /**
+     * 만료되지 않은 캐시 항목 조회
+     *
+     * @param cacheName 캐시 이름
+     * @param cacheKey 캐시 키
+     * @param now 기준 시각
+     * @return 캐시 항목(Optional)
+     */
+    Optional<GithubCacheEntry> findByCacheNameAndCacheKeyAndExpiresAtAfter(String cacheName, String cacheKey, Instant now);
+
+    /**
+     * 캐시 항목 저장 (동일 키가 있으면 덮어쓰기)
+     *
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO github_cache_entry (cache_name, cache_key, payload, etag, last_modified, stored_at, expires_at)
+            VALUES (:cacheName, :cacheKey, :payload, :etag, :lastModified, :storedAt, :expiresAt)
+            ON CONFLICT (cache_name, cache_key) DO UPDATE
+            SET payload = EXCLUDED.payload,
+                etag = EXCLUDED.etag,
+                last_modified = EXCLUDED.last_modified,
+                stored_at = EXCLUDED.stored_at,
+                expires_at = EXCLUDED.expires_at
+            """, nativeQuery = true)
+    int upsert(@Param("cacheName") String cacheName,
+               @Param("cacheKey") String cacheKey,
+               @Param("payload") byte[] payload,
+               @Param("etag") String etag,
+               @Param("lastModified") String lastModified,
+               @Param("storedAt") Instant storedAt,
+               @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * 캐시 항목 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GithubCacheEntry e WHERE e.cacheName = :cacheName AND e.cacheKey = :cacheKey")
+    int deleteEntry(@Param("cacheName") String cacheName, @Param("cacheKey") String cacheKey);
+
+    /**
+     * 키 접두사가 일치하는 캐시 항목 일괄 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GithubCacheEntry e WHERE e.cacheName = :cacheName AND e.cacheKey LIKE CONCAT(:prefix, '%')")
+    int deleteByKeyPrefix(@Param("cacheName") String cacheName, @Param("prefix") String prefix);
+
+    /**
+     * 만료된 캐시 항목 일괄 삭제
+     *
+     * @param now 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GithubCacheEntry e WHERE e.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -2,6 +2,7 @@ package io.github.repoboard.security.config;
 
 import io.github.repoboard.security.oauth2.CustomOAuth2UserService;
 import io.github.repoboard.security.userdetails.CustomUserDetailService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -85,6 +86,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf
                     .ignoringRequestMatchers( "/api/**"))
             .authorizeHttpRequests(auth -> auth
+                    // 비동기 컨트롤러의 ASYNC 디스패치는 최초 REQUEST 디스패치에서 이미 인가됨
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     .requestMatchers("/css/**", "/js/**", "/images/**", "/script/**","/sitemap.xml", "/robots.txt", "/favicon.ico").permitAll()
                     .requestMatchers("/", "/users/login", "/users/signup","/oauth2/**","/login/**").permitAll()
                     .requestMatchers("/api/repos","/search/**").permitAll()
@@ -1,21 +1,29 @@
 package io.github.repoboard.service;
 
+import io.github.repoboard.common.util.GithubCacheBus;
+import io.github.repoboard.common.util.GithubCacheKey;
+import io.github.repoboard.common.util.GithubCacheKeyIndex;
+import io.github.repoboard.common.util.GithubL2Cache;
+import io.github.repoboard.common.util.GithubOffHeapCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * ghRepos 캐시에서 특정 사용자(prefix=username:) 키만 선택적으로 무효화(Evict)한다.
+ * ghRepos 캐시에서 특정 사용자의 키만 선택적으로 무효화(Evict)한다.
  * <p>
  * - 사용처: 프로필 새로고침 직후 목록 불일치 방지.<br>
- * - 전제: ghRepos 캐시 키 포맷이 "username:page:size".<br>
- * - 구현: CaffeineCache 네이티브 키셋을 스캔해 접두사 일치 항목만 invalidate.<br>
- * - 폴백: CaffeineCache가 아니면 cache.clear() 수행.
+ * - 전제: ghRepos 캐시 키가 {@code GithubCacheKey.OwnedRepos}.<br>
+ * - 구현: {@link GithubCacheKeyIndex}에서 해당 사용자의 키만 조회해 L1 invalidate, off-heap 만료 (전체 키셋 스캔 없음).<br>
+ * - 폴백: CaffeineCache가 아니면 cache.clear() 수행.<br>
+ * - L2(Postgres) 캐시의 같은 사용자 항목도 함께 제거하고, 끝나면 다른 인스턴스에도 전파.<br>
+ * - L2 삭제는 비동기이므로 L1은 지금 한 번, L2 삭제가 끝난 뒤 한 번 더 무효화한다.
+ *   (그 사이의 조회가 아직 남은 L2 행을 읽어 L1에 다시 채운 값을 지우기 위함)
  * </p>
  */
 @Service
@@ -23,29 +31,47 @@ import java.util.List;
 @Slf4j
 public class EvictService {
 
+    private static final String REPOS_CACHE = "ghRepos";
+
     private final CacheManager cacheManager;
+    private final GithubCacheKeyIndex keyIndex;
+    private final GithubL2Cache l2Cache;
+    private final GithubCacheBus cacheBus;
+    private final GithubOffHeapCache offHeap;
 
     /**
-     * ghRepos 캐시에서 {@code username + ":"}로 시작하는 키만 일괄 제거한다.
+     * ghRepos 캐시에서 해당 사용자의 키만 일괄 제거한다.
      *
      * @param username GitHub 사용자명 (null/blank 금지)
+     * @return L2 삭제와 두 번째 L1 무효화, 다른 인스턴스 전파가 끝나면 완료되는 Future
+     */
+    public CompletableFuture<Void> evictReposByUsername(String username){
+        int evicted = evictLocal(username);
+        log.info("[EVICT] ghRepos {}건 제거(username='{}')", evicted, username);
+        return l2Cache.evictByPrefix(REPOS_CACHE, username + ":")
+                .thenRun(() -> {
+                    evictLocal(username);
+                    cacheBus.publishEvictTag(REPOS_CACHE, username);
+                });
+    }
+
+    /**
+     * 이 인스턴스의 ghRepos에서 사용자의 키를 제거한다.
+     *
+     * @return 제거한 키 수
      */
-    public void evictReposByUsername(String username){
-        var cache = cacheManager.getCache("ghRepos");
+    private int evictLocal(String username){
+        var cache = cacheManager.getCache(REPOS_CACHE);
         if(!(cache instanceof CaffeineCache cc)){
             if(cache != null) {
                 cache.clear();
             }
-            return;
-        }
-        var nativeCache = cc.getNativeCache();
-        List<Object> targets = new ArrayList<>();
-        for(Object k : nativeCache.asMap().keySet()){
-            if(k != null && k.toString().startsWith(username + ":")){
-                targets.add(k);
-            }
+            offHeap.clear(REPOS_CACHE);
+            return 0;
         }
-        nativeCache.invalidateAll(targets);
-        log.info("[EVICT] ghRepos {}건 제거(prefix='{}:')", targets.size(), username);
+        Set<GithubCacheKey> targets = keyIndex.keys(REPOS_CACHE, username);
+        targets.forEach(key -> offHeap.evict(REPOS_CACHE, key));
+        cc.getNativeCache().invalidateAll(targets);
+        return targets.size();
     }
-}
\ No newline at end of file
+}
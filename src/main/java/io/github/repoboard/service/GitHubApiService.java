@@ -1,29 +1,54 @@
 package io.github.repoboard.service;
 
+import io.github.repoboard.common.exception.GithubDeepPageUnavailableException;
+import io.github.repoboard.common.util.GithubCacheKey;
+import io.github.repoboard.common.util.GithubCacheTemplate;
+import io.github.repoboard.common.util.GithubCallPolicy;
+import io.github.repoboard.common.util.GithubGraphqlClient;
+import io.github.repoboard.common.util.GithubL2Cache;
+import io.github.repoboard.common.util.GithubMixedFeed;
+import io.github.repoboard.common.util.GithubNegativeCache;
+import io.github.repoboard.common.util.GithubPrefetcher;
+import io.github.repoboard.common.util.GithubPriority;
+import io.github.repoboard.common.util.GithubQueryCanonicalizer;
+import io.github.repoboard.common.util.GithubQuerySlicer;
+import io.github.repoboard.common.util.GithubRepoPageCache;
+import io.github.repoboard.common.util.GithubRepoStore;
+import io.github.repoboard.common.util.GithubSearchStreamDecoder;
+import io.github.repoboard.common.util.InFlightRequestCoalescer;
 import io.github.repoboard.dto.github.GithubRepoDTO;
 import io.github.repoboard.dto.github.GithubSearchResponse;
 import io.github.repoboard.dto.github.GithubUserDTO;
+import io.github.repoboard.dto.github.GithubValidators;
 import io.github.repoboard.dto.strategy.QueryStrategyDTO;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import java.net.URI;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,10 +65,39 @@ import java.util.regex.Pattern;
 public class GitHubApiService {
 
     private final WebClient githubWebClient;
-    private static final Duration TIMEOUT = Duration.ofSeconds(35);
     private final CacheManager cacheManager;
     private final MarkdownService markdownService;
+    private final GithubCacheTemplate cacheTemplate;
+    private final GithubL2Cache l2Cache;
+    private final GithubQueryCanonicalizer queryCanonicalizer;
+    private final GithubPrefetcher prefetcher;
+    private final GithubQuerySlicer querySlicer;
+    private final GithubRepoPageCache pageCache;
+    private final GithubRepoStore repoStore;
+    private final GithubNegativeCache negativeCache;
+    private final GithubSearchStreamDecoder searchDecoder;
+    private final GithubMixedFeed mixedFeed;
+    private final GithubCallPolicy callPolicy;
+    private final GithubGraphqlClient graphqlClient;
     private static final String SESSION_ERROR_KEY = "ghApiError";
+    private static final String SESSION_STALE_KEY = "ghApiStale";
+    private static final String VALIDATOR_CACHE = "ghValidators";
+    private static final String USER_CACHE = "ghUser";
+    private static final String REPOS_CACHE = "ghRepos";
+    /** 검색 API 호출 단위 (GitHub 검색 API의 per_page 최대값) */
+    private static final int SEARCH_CHUNK_SIZE = 100;
+    /** 검색 API가 반환하는 최대 결과 수 */
+    private static final int SEARCH_RESULT_LIMIT = GithubQuerySlicer.RESULT_LIMIT;
+    private static final String REPO_CACHE = "ghRepoById";
+    private static final String README_CACHE = "ghRepoReadmeById";
+    private static final ParameterizedTypeReference<GithubUserDTO> USER_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<GithubRepoDTO> REPO_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<List<GithubRepoDTO>> REPO_LIST_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<String> STRING_TYPE =
+            new ParameterizedTypeReference<>() {};
 
     /**
      * GitHub URL에서 username 자체 검증 (1~39자, 앞/뒤 하이픈 금지)
@@ -99,9 +153,25 @@ public class GitHubApiService {
      * - 캐시에 값이 있으면 API 호출 안 함<br>
      * - 없으면 API 호출 후 캐시에 저장
      */
-    @Cacheable(value = "ghUser", key = "#username", sync = true)
     public GithubUserDTO getUser(String username){
-        return fetchFromApi(username);
+        return getUserAsync(username)
+                .contextWrite(callPolicy.request(GithubPriority.USER_REFRESH))
+                .block();
+    }
+
+    /**
+     * {@link #getUser(String)}의 비동기 버전.
+     * <p>호출 스레드를 점유하지 않으며, {@code ghUser} 캐시를 공유한다.</p>
+     * <p>최근 404를 받은 사용자는 {@link GithubNegativeCache}에 기억되어 GitHub를 호출하지 않고 바로 실패한다.</p>
+     *
+     * @param username GitHub 사용자명
+     * @return {@link GithubUserDTO} Mono
+     */
+    public Mono<GithubUserDTO> getUserAsync(String username){
+        GithubCacheKey key = new GithubCacheKey.User(username);
+        return cacheTemplate.get(USER_CACHE, key, () -> negativeCache.isMissing(key)
+                ? Mono.error(new RuntimeException("사용자를 찾을 수 없습니다 : " + username))
+                : fetchFromApi(username));
     }
 
     /**
@@ -110,9 +180,14 @@ public class GitHubApiService {
      * - 캐시에 있든 없든 API 다시 호출 <br>
      * - 캐시에 최신값 덮어쓰기
      */
-    @CachePut(value = "ghUser", key = "#username")
     public GithubUserDTO refreshUser(String username){
-        return fetchFromApi(username);
+        GithubCacheKey key = new GithubCacheKey.User(username);
+        negativeCache.forget(key);
+        GithubUserDTO user = fetchFromApi(username)
+                .contextWrite(callPolicy.request(GithubPriority.USER_REFRESH))
+                .block();
+        cacheTemplate.put(USER_CACHE, key, user);
+        return user;
     }
 
     /**
@@ -122,22 +197,19 @@ public class GitHubApiService {
      * </p>
      *
      * @param username GitHub 사용자명
-     * @return {@link GithubUserDTO} 객체
-     * @throws RuntimeException 사용자 정보 조회 실패 시
+     * @return {@link GithubUserDTO} Mono
+     * @throws RuntimeException 사용자 정보 조회 실패 시 (에러 시그널)
      */
-    private GithubUserDTO fetchFromApi(String username){
-        try{
-            return githubWebClient.get()
-                    .uri("/users/{username}", username)
-                    .retrieve()
-                    .bodyToMono(GithubUserDTO.class)
-                    .timeout(TIMEOUT)
-                    .block();
-        }catch (WebClientResponseException.NotFound e){
-            throw new RuntimeException("사용자를 찾을 수 없습니다 : " + username);
-        }catch (Exception e){
-            throw new RuntimeException("사용자 정보 조회 중 오류 발생", e);
-        }
+    private Mono<GithubUserDTO> fetchFromApi(String username){
+        GithubCacheKey key = new GithubCacheKey.User(username);
+        return conditionalGet(key, cacheTemplate.peek(USER_CACHE, key),
+                b -> b.path("/users/{username}").build(username),
+                null, USER_TYPE, Function.identity())
+                .transform(callPolicy::bound)
+                .doOnError(WebClientResponseException.NotFound.class, e -> negativeCache.markMissing(key))
+                .onErrorMap(e -> e instanceof WebClientResponseException.NotFound
+                        ? new RuntimeException("사용자를 찾을 수 없습니다 : " + username)
+                        : new RuntimeException("사용자 정보 조회 중 오류 발생", e));
     }
 
     /**
@@ -151,35 +223,49 @@ public class GitHubApiService {
      * @return {@link GithubRepoDTO} 리스트 (공개 레포만)
      * @throws RuntimeException API 호출 실패 시
      */
-    @Cacheable(value = "ghRepos", key = "#username + ':' + #pageable.pageNumber + ':' +  #pageable.pageSize", sync = true)
     public Page<GithubRepoDTO> getOwnedRepos(String username, Pageable pageable){
-        try {
-            GithubUserDTO user = getUser(username);
-            long total = (user != null && user.getPublicRepos() != null)
-                    ? user.getPublicRepos()
-                    : 0;
-
-            int currentPage = pageable.getPageNumber() + 1;
-
-            List<GithubRepoDTO> repos = githubWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/users/{username}/repos")
-                            .queryParam("type", "owner")
-                            .queryParam("sort", "pushed")
-                            .queryParam("per_page", pageable.getPageSize())
-                            .queryParam("page", currentPage)
-                            .build(username))
-                    .retrieve()
-                    .bodyToFlux(GithubRepoDTO.class)
-                    .collectList()
-                    .timeout(TIMEOUT)
-                    .block();
-
-            return new PageImpl<>(repos, pageable, total);
-        }catch (Exception e){
-            log.error("📛 GitHub API 호출 실패 (username: {})", username, e);
-            throw new RuntimeException("⚠ GitHub 레포지토리를 불러오는 중 오류가 발생했습니다.");
-        }
+        return getOwnedReposAsync(username, pageable)
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .block();
+    }
+
+    /**
+     * {@link #getOwnedRepos(String, Pageable)}의 비동기 버전.
+     *
+     * @param username GitHub 사용자명
+     * @param pageable 페이지네이션 정보 (page,size)
+     * @return 레포지토리 페이지 Mono
+     */
+    public Mono<Page<GithubRepoDTO>> getOwnedReposAsync(String username, Pageable pageable){
+        GithubCacheKey key = new GithubCacheKey.OwnedRepos(username, pageable.getPageNumber(), pageable.getPageSize());
+        return pageCache.get(REPOS_CACHE, key, () -> fetchOwnedRepos(key, username, pageable));
+    }
+
+    private Mono<Page<GithubRepoDTO>> fetchOwnedRepos(GithubCacheKey key, String username, Pageable pageable){
+        int currentPage = pageable.getPageNumber() + 1;
+
+        Mono<Long> total = getUserAsync(username)
+                .map(user -> user.getPublicRepos() != null ? user.getPublicRepos().longValue() : 0L)
+                .defaultIfEmpty(0L);
+        Mono<List<GithubRepoDTO>> repos = conditionalGet(key,
+                pageCache.peek(REPOS_CACHE, key).map(Page::getContent),
+                uriBuilder -> uriBuilder
+                        .path("/users/{username}/repos")
+                        .queryParam("type", "owner")
+                        .queryParam("sort", "pushed")
+                        .queryParam("per_page", pageable.getPageSize())
+                        .queryParam("page", currentPage)
+                        .build(username),
+                null, REPO_LIST_TYPE, Function.identity())
+                .defaultIfEmpty(List.of());
+
+        return Mono.zip(repos, total)
+                .<Page<GithubRepoDTO>>map(t -> new PageImpl<>(t.getT1(), pageable, t.getT2()))
+                .transform(callPolicy::bound)
+                .onErrorMap(e -> {
+                    log.error("📛 GitHub API 호출 실패 (username: {})", username, e);
+                    return new RuntimeException("⚠ GitHub 레포지토리를 불러오는 중 오류가 발생했습니다.", e);
+                });
     }
 
     /**
@@ -191,20 +277,94 @@ public class GitHubApiService {
      * @param repoId 레포지토리 고유 ID
      * @return {@link GithubRepoDTO} 객체 (없으면 null)
      */
-    @Cacheable(value = "ghRepoById", key = "'repos:' + #repoId", sync = true)
     public GithubRepoDTO getRepositoryId(Long repoId){
-        try {
-            return githubWebClient.get()
-                    .uri("/repositories/{id}", repoId)
-                    .retrieve()
-                    .bodyToMono(GithubRepoDTO.class)
-                    .timeout(TIMEOUT)
-                    .block();
-        }catch (WebClientResponseException.NotFound e){
-            return null;
-        }catch (Exception e){
-            throw new RuntimeException("레포지토리 정보 조회 중 오류 발생", e);
-        }
+        return getRepositoryIdAsync(repoId)
+                .contextWrite(callPolicy.request(GithubPriority.USER_REFRESH))
+                .block();
+    }
+
+    /**
+     * 최근 받은 응답에 있는 레포지토리면 GitHub를 호출하지 않고 반환합니다.
+     * <p>검색/피드 카드에서 바로 저장하는 경우처럼 이미 받은 레포지토리는 {@link GithubRepoStore}에 있으므로
+     * 그대로 사용하고, 없을 때만 {@link #getRepositoryId(Long)}로 조회합니다.</p>
+     *
+     * @param repoId 레포지토리 고유 ID
+     * @return {@link GithubRepoDTO} 객체 (없으면 null)
+     */
+    public GithubRepoDTO getRepositoryLocalFirst(Long repoId){
+        return repoStore.get(repoId)
+                .filter(repo -> repo.getOwner() != null && repo.getHtmlUrl() != null)
+                .orElseGet(() -> getRepositoryId(repoId));
+    }
+
+    /**
+     * {@link #getRepositoryId(Long)}의 비동기 버전.
+     *
+     * @param repoId 레포지토리 고유 ID
+     * @return {@link GithubRepoDTO} Mono (없으면 empty, 최근 404였던 ID는 GitHub 호출 없이 empty)
+     */
+    public Mono<GithubRepoDTO> getRepositoryIdAsync(Long repoId){
+        GithubCacheKey key = new GithubCacheKey.Repo(repoId);
+        return cacheTemplate.get(REPO_CACHE, key, () -> negativeCache.isMissing(key)
+                ? Mono.empty()
+                : conditionalGet(key, cacheTemplate.peek(REPO_CACHE, key),
+                        b -> b.path("/repositories/{id}").build(repoId),
+                        null, REPO_TYPE, Function.identity())
+                        .transform(callPolicy::bound)
+                        .map(repoStore::put)
+                        .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                            negativeCache.markMissing(key);
+                            return Mono.empty();
+                        })
+                        .onErrorMap(e -> new RuntimeException("레포지토리 정보 조회 중 오류 발생", e)));
+    }
+
+    /**
+     * 레포지토리를 캐시와 상관없이 다시 조회하고 이 인스턴스의 {@code ghRepoById} 캐시를 갱신합니다.
+     * <p>항상 조건부 요청으로 보내므로 바뀌지 않았으면 304(Rate Limit 미차감)로 보관된 값을 받습니다.
+     * 백그라운드 동기화용이므로 L2 저장과 다른 인스턴스 알림(NOTIFY)은 하지 않습니다. ({@link GithubCacheTemplate#putLocal})</p>
+     *
+     * @param repoId 레포지토리 고유 ID
+     * @return 최신 {@link GithubRepoDTO} Mono (404면 empty)
+     */
+    public Mono<GithubRepoDTO> refreshRepositoryAsync(Long repoId){
+        GithubCacheKey key = new GithubCacheKey.Repo(repoId);
+        return conditionalGet(key, cacheTemplate.peek(REPO_CACHE, key),
+                        b -> b.path("/repositories/{id}").build(repoId),
+                        null, REPO_TYPE, Function.identity())
+                .transform(callPolicy::bound)
+                .map(repoStore::put)
+                .doOnNext(repo -> {
+                    negativeCache.forget(key);
+                    cacheTemplate.putLocal(REPO_CACHE, key, repo);
+                })
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                    negativeCache.markMissing(key);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 여러 레포지토리를 GraphQL로 한 번에 조회합니다.
+     * <p>캐시와 상관없이 {@link GithubGraphqlClient}로 {@code batch-size}개씩 묶어 조회하고,
+     * 찾은 레포지토리로 이 인스턴스의 {@code ghRepoById} 캐시를 갱신합니다. 없는 레포지토리는 {@link GithubNegativeCache}에 기억합니다.
+     * 백그라운드 동기화용이므로 레포지토리마다 L2 저장과 다른 인스턴스 알림(NOTIFY)은 하지 않습니다. ({@link GithubCacheTemplate#putLocal})</p>
+     *
+     * @param repoIds 레포지토리 고유 ID 목록
+     * @return 찾은/없는 레포지토리 (실패한 묶음의 ID는 어느 쪽에도 없음)
+     */
+    public Mono<GithubGraphqlClient.RepoBatch> getRepositoriesAsync(Collection<Long> repoIds){
+        return graphqlClient.repositories(repoIds)
+                .doOnNext(batch -> {
+                    batch.found().replaceAll((id, repo) -> {
+                        GithubCacheKey key = new GithubCacheKey.Repo(id);
+                        GithubRepoDTO canonical = repoStore.put(repo);
+                        negativeCache.forget(key);
+                        cacheTemplate.putLocal(REPO_CACHE, key, canonical);
+                        return canonical;
+                    });
+                    batch.missing().forEach(id -> negativeCache.markMissing(new GithubCacheKey.Repo(id)));
+                });
     }
 
     /**
@@ -216,27 +376,126 @@ public class GitHubApiService {
      * @param repoId 레포지토리의 고유 ID
      * @return {@link String} 객체 (없으면 null)
      */
-    @Cacheable(value = "ghRepoReadmeById" , key = "'readme:' + #repoId", sync = true)
     public String getReadmeById(Long repoId){
-        GithubRepoDTO repo = getRepositoryId(repoId);
-        if(repo == null || repo.getOwner() == null){
-            throw new IllegalArgumentException("레포지토리 정보를 찾을 수 없거나 Owner 정보가 없습니다.");
-        }
-        try{
-            String markdown = githubWebClient.get()
-                    .uri("/repos/{owner}/{repo}/readme",
-                            repo.getOwner().getLogin(), repo.getName())
-                    .header(HttpHeaders.ACCEPT, "application/vnd.github.v3.raw")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(TIMEOUT)
-                    .block();
-            return markdownService.toSafeHtml(markdown);
-        } catch (WebClientResponseException.NotFound e){
-            return null;
-        }catch (Exception e){
-            throw new RuntimeException("레포지토리 정보 조회 중 오류 발생");
-        }
+        return getReadmeByIdAsync(repoId)
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .block();
+    }
+
+    /**
+     * {@link #getReadmeById(Long)}의 비동기 버전.
+     *
+     * @param repoId 레포지토리의 고유 ID
+     * @return 정제된 README HTML Mono (없으면 empty)
+     * @throws IllegalArgumentException 레포지토리 또는 Owner 정보가 없을 때 (에러 시그널)
+     */
+    public Mono<String> getReadmeByIdAsync(Long repoId){
+        GithubCacheKey key = new GithubCacheKey.Readme(repoId);
+        return cacheTemplate.get(README_CACHE, key, () ->
+                getRepositoryIdAsync(repoId)
+                        .filter(repo -> repo.getOwner() != null)
+                        .switchIfEmpty(Mono.error(() ->
+                                new IllegalArgumentException("레포지토리 정보를 찾을 수 없거나 Owner 정보가 없습니다.")))
+                        .flatMap(repo -> conditionalGet(key, cacheTemplate.peek(README_CACHE, key),
+                                b -> b.path("/repos/{owner}/{repo}/readme")
+                                        .build(repo.getOwner().getLogin(), repo.getName()),
+                                "application/vnd.github.v3.raw", STRING_TYPE, markdownService::toSafeHtml)
+                                .transform(callPolicy::bound)
+                                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                                .onErrorMap(e -> new RuntimeException("레포지토리 정보 조회 중 오류 발생", e))));
+    }
+
+    /**
+     * ETag / Last-Modified 검증자를 사용하는 조건부 GET 요청.
+     * <p>
+     * - 이전 응답의 검증자가 {@code ghValidators} 캐시(없으면 L2)에 있고 {@code previousValue}로 이전 값을 찾으면
+     *   If-None-Match / If-Modified-Since 헤더를 전송 (이전 값이 없으면 헤더 없이 요청)<br>
+     * - {@code 304 Not Modified} 응답이면 본문을 디코딩하지 않고 이전 값을 그대로 반환 (Rate Limit 미차감)<br>
+     * - {@code 200} 응답일 때만 본문을 디코딩하고 {@code decoder}를 적용하며, 검증자만 저장 (값은 호출 측 캐시가 보관)<br>
+     * - 그 외 상태 코드는 {@link WebClientResponseException}으로 전달
+     * </p>
+     *
+     * @param validatorKey  검증자 캐시 키 (응답 값 캐시와 같은 키)
+     * @param previousValue 304일 때 재사용할 이전 값 (예: {@link GithubCacheTemplate#peek})
+     * @param uri           요청 URI 생성 함수
+     * @param accept        Accept 헤더 (null이면 기본값)
+     * @param bodyType      응답 본문 타입
+     * @param decoder       200 응답 본문의 후처리 (예: Markdown → HTML)
+     * @return 디코딩된 값 (본문이 없으면 empty)
+     */
+    private <B, T> Mono<T> conditionalGet(GithubCacheKey validatorKey,
+                                          Mono<T> previousValue,
+                                          Function<UriBuilder, URI> uri,
+                                          String accept,
+                                          ParameterizedTypeReference<B> bodyType,
+                                          Function<B, T> decoder){
+        Cache validators = cacheManager.getCache(VALIDATOR_CACHE);
+        GithubValidators cached = validators != null
+                ? validators.get(validatorKey, GithubValidators.class)
+                : null;
+        Mono<GithubValidators> stored = cached != null
+                ? Mono.just(cached)
+                : l2Cache.<GithubValidators>read(VALIDATOR_CACHE, validatorKey)
+                        .doOnNext(v -> {
+                            if (validators != null) {
+                                validators.put(validatorKey, v);
+                            }
+                        });
+
+        return stored
+                .flatMap(v -> previousValue.map(value -> new Previous<>(v, value)))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(prev -> exchangeConditional(validatorKey, validators, prev.orElse(null),
+                        uri, accept, bodyType, decoder));
+    }
+
+    /**
+     * 조건부 요청에 사용할 검증자와 304일 때 재사용할 값.
+     */
+    private record Previous<T>(GithubValidators validators, T value) {}
+
+    private <B, T> Mono<T> exchangeConditional(GithubCacheKey validatorKey,
+                                               Cache validators,
+                                               Previous<T> previous,
+                                               Function<UriBuilder, URI> uri,
+                                               String accept,
+                                               ParameterizedTypeReference<B> bodyType,
+                                               Function<B, T> decoder){
+        return githubWebClient.get()
+                .uri(uri)
+                .headers(h -> {
+                    if (accept != null) {
+                        h.set(HttpHeaders.ACCEPT, accept);
+                    }
+                    if (previous != null && previous.validators().getEtag() != null) {
+                        h.setIfNoneMatch(previous.validators().getEtag());
+                    } else if (previous != null && previous.validators().getLastModified() != null) {
+                        h.set(HttpHeaders.IF_MODIFIED_SINCE, previous.validators().getLastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == 304 && previous != null) {
+                        log.debug("♻️ 304 Not Modified → 기존 값 재사용: {}", validatorKey);
+                        return response.releaseBody()
+                                .then(Mono.just(previous.value()));
+                    }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.createError();
+                    }
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    String etag = headers.getETag();
+                    String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+                    return response.bodyToMono(bodyType)
+                            .map(decoder)
+                            .doOnNext(value -> {
+                                if (validators != null && (etag != null || lastModified != null)) {
+                                    GithubValidators fresh = new GithubValidators(etag, lastModified);
+                                    validators.put(validatorKey, fresh);
+                                    l2Cache.write(VALIDATOR_CACHE, validatorKey, fresh);
+                                }
+                            });
+                });
     }
 
     /**
@@ -253,36 +512,72 @@ public class GitHubApiService {
      * @return {@link Page} 형태의 검색 결과
      */
     public Page<GithubRepoDTO> fetchRepos(String language, Pageable pageable, QueryStrategyDTO strategy, String sort,HttpSession session){
+        return fetchReposAsync(language, pageable, strategy, sort, session)
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .block();
+    }
 
-        String finalQuery = null;
-        String cacheKey;
-        Cache cache;
+    /**
+     * {@link #fetchRepos(String, Pageable, QueryStrategyDTO, String, HttpSession)}의 비동기 버전.
+     * <p>에러 시에도 예외 대신 빈 페이지를 발행하고 세션에 {@code ghApiError} 플래그를 남깁니다.</p>
+     */
+    public Mono<Page<GithubRepoDTO>> fetchReposAsync(String language, Pageable pageable, QueryStrategyDTO strategy,
+                                                     String sort, HttpSession session){
         String githubSort = getSortKey(sort);
+        LanguageSearch search = languageSearch(language, strategy, sort, githubSort);
+        return executeGithubSearch(search.cacheName(), search.chunkKey(), search.query(), pageable, githubSort, session);
+    }
 
+    /**
+     * 여러 언어의 검색 결과를 정렬 기준에 맞게 섞은 피드를 반환합니다.
+     * <p>
+     * 언어별 검색은 {@link #fetchReposAsync}와 같은 캐시 키(ghSearch/ghRefresh)로 따로 캐시되며,
+     * {@link GithubMixedFeed}가 언어별 청크를 동시에 조회한 뒤 k-way 병합합니다.
+     * 일부 언어만 실패하면 나머지 언어로 페이지를 만듭니다.
+     * </p>
+     *
+     * @param languages 섞을 언어 목록 (예: java, kotlin, go)
+     * @param pageable 페이지네이션 정보
+     * @param strategy 검색 전략 (nullable)
+     * @param sort 정렬 기준 (popular=stars, recent=updated)
+     * @return 병합된 {@link Page} (에러 시 빈 페이지)
+     */
+    public Mono<Page<GithubRepoDTO>> fetchMixedReposAsync(List<String> languages, Pageable pageable,
+                                                          QueryStrategyDTO strategy, String sort, HttpSession session){
+        String githubSort = getSortKey(sort);
+        AtomicBoolean stale = new AtomicBoolean();
+        Mono<Page<GithubRepoDTO>> result = mixedFeed.page(languages, githubSort, pageable, (language, chunk) -> {
+            LanguageSearch search = languageSearch(language, strategy, sort, githubSort);
+            return pageCache.get(search.cacheName(), search.chunkKey().apply(chunk),
+                    () -> searchUpstream(search.query(), PageRequest.of(chunk - 1, SEARCH_CHUNK_SIZE), githubSort),
+                    () -> stale.set(true));
+        });
+        return withSessionFlags(result, stale, pageable, session, page -> {});
+    }
+
+    /**
+     * 언어 하나의 피드 검색 조건 (전략이 없으면 기본 인기 검색).
+     */
+    private LanguageSearch languageSearch(String language, QueryStrategyDTO strategy, String sort, String githubSort){
         if(strategy == null){
-            finalQuery = "is:public stars:>1000 language:" + language;
-            cacheKey = String.format("lang:%s:page:%d:size:%d:sort:%s",
-                    language, (pageable.getPageNumber() + 1), pageable.getPageSize(), githubSort);
-            cache = cacheManager.getCache("ghSearch");
-        }else {
-            finalQuery = strategy.getQuery() + " language:" + language;
-            String safeQuery = strategy.getQuery().replaceAll("\\s+", "_");
-            cacheKey = String.format("refresh:%s:%s:%s:page:%d:size:%d:sort:%s",
-                    sort, safeQuery, language, (pageable.getPageNumber() + 1), pageable.getPageSize(), githubSort);
-            cache = cacheManager.getCache("ghRefresh");
+            return new LanguageSearch("ghSearch", "is:public stars:>1000 language:" + language,
+                    chunk -> new GithubCacheKey.Search(language, chunk, SEARCH_CHUNK_SIZE, githubSort));
         }
-        Page<GithubRepoDTO> cached = cache != null ? cache.get(cacheKey, Page.class) : null;
-        if (cached != null) {
-            log.debug("📦 캐시 히트: {}", cacheKey);
-            return cached;
-        }
-        return executeGithubSearch(cache, cacheKey, finalQuery, pageable,githubSort, session);
+        return new LanguageSearch("ghRefresh", strategy.getQuery() + " language:" + language,
+                chunk -> new GithubCacheKey.Refresh(sort, strategy.getQuery(), language,
+                        chunk, SEARCH_CHUNK_SIZE, githubSort));
+    }
+
+    /** 피드 검색 조건: 캐시 이름, GitHub 검색 쿼리, 청크 번호 → 캐시 키 */
+    private record LanguageSearch(String cacheName, String query, IntFunction<GithubCacheKey> chunkKey) {
     }
 
     /**
      * GitHub 저장소를 주어진 검색어로 검색하여 페이지 단위로 결과를 반환합니다.
      *
      * <p>검색어는 이름, 설명, README에서 일치 항목을 찾으며, 결과는 캐시(`ghQuerySearch`)에 저장됩니다.</p>
+     * <p>대소문자/공백/한정자 순서만 다른 검색어는 {@link GithubQueryCanonicalizer}로 같은 정규형이 되어
+     * 하나의 캐시 항목과 upstream 호출을 공유합니다.</p>
      *
      * @param query 사용자가 입력한 검색어
      * @param pageable 페이징 정보
@@ -290,89 +585,201 @@ public class GitHubApiService {
      * @return 검색 결과로 구성된 {@link Page} 객체. {@link GithubRepoDTO} 타입의 페이지 결과를 포함합니다.
      */
     public Page<GithubRepoDTO> fetchReposByQuery(String query, Pageable pageable, String sort, HttpSession session){
+        return fetchReposByQueryAsync(query, pageable, sort, session)
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .block();
+    }
+
+    /**
+     * {@link #fetchReposByQuery(String, Pageable, String, HttpSession)}의 비동기 버전.
+     */
+    public Mono<Page<GithubRepoDTO>> fetchReposByQueryAsync(String query, Pageable pageable, String sort, HttpSession session){
         String githubSort = getSortKey(sort);
-        String safeQuery = query.replaceAll("\\s+","_");
-        String cacheKey = String.format("query:%s:page:%d:size:%d:sort:%s",
-                safeQuery, (pageable.getPageNumber() + 1), pageable.getPageSize(), githubSort);
-
-        Cache cache = cacheManager.getCache("ghQuerySearch");
-        Page<GithubRepoDTO> cached = cache != null ? cache.get(cacheKey, Page.class) : null;
-        if (cached != null) {
-            log.debug("📦 캐시 히트: {}", cacheKey);
-            return cached;
-        }
+        String canonical = queryCanonicalizer.canonicalize(query);
+        IntFunction<GithubCacheKey> chunkKey =
+                chunk -> new GithubCacheKey.Query(canonical, chunk, SEARCH_CHUNK_SIZE, githubSort);
 
-        String finalQuery = query +" in:name,description,readme";
-        return executeGithubSearch(cache, cacheKey, finalQuery, pageable, githubSort,session);
+        String finalQuery = canonical +" in:name,description,readme";
+        return executeGithubSearch("ghQuerySearch", chunkKey, finalQuery, pageable, githubSort, session);
     }
 
     /**
-     * 실제 GitHub API 호출을 실행하여 검색 결과를 반환합니다.
+     * 캐시를 확인한 뒤 실제 GitHub API 호출을 실행하여 검색 결과를 반환합니다.
+     * <p>
+     * 같은 캐시 키로 동시에 들어온 요청은 {@link GithubCacheTemplate}({@link InFlightRequestCoalescer})를 통해
+     * 하나의 upstream 호출과 하나의 디코딩된 {@link Page}를 공유합니다.
+     * 캐시에는 레포지토리 ID 목록만 저장되고 본문은 {@link GithubRepoStore}의 정본을 사용합니다. ({@link GithubRepoPageCache})
+     * </p>
+     * <p>
+     * GitHub가 403/429/5xx/타임아웃으로 실패하면 마지막 정상 결과를 반환하고
+     * 세션에 {@code ghApiStale} 플래그를 남깁니다. 마지막 정상 결과도 없을 때만 빈 페이지 + {@code ghApiError}.
+     * </p>
      *
-     * @param cache    캐시 인스턴스 (ghSearch/ghRefresh)
-     * @param cacheKey 캐시 키
-     * @param query    GitHub 검색 쿼리
-     * @param pageable 페이지네이션 정보
-     * @param sort     정렬 기준 (stars/updated)
-     * @return {@link Page} 형태의 {@link GithubRepoDTO} 결과
+     * <p>
+     * upstream은 항상 {@link #SEARCH_CHUNK_SIZE}(검색 API 최대값)개 단위 청크로 호출하고 청크별로 캐시합니다.
+     * 요청한 {@link Pageable}은 필요한 청크(보통 1개)를 잘라서 만들므로, 50개씩 두 번 스크롤해도 upstream 호출은 1번입니다.
+     * </p>
+     * <p>
+     * 검색 API는 1000건까지만 반환하므로, 그 이후 페이지는 {@link GithubQuerySlicer}가 쿼리를 구간으로 나눠 만듭니다.
+     * </p>
+     *
+     * @param cacheName 캐시 이름 (ghSearch/ghRefresh/ghQuerySearch)
+     * @param chunkKey  청크 번호(1부터 시작) → 캐시 키
+     * @param query     GitHub 검색 쿼리
+     * @param pageable  페이지네이션 정보
+     * @param sort      정렬 기준 (stars/updated)
+     * @return {@link Page} 형태의 {@link GithubRepoDTO} 결과 (에러 시 빈 페이지)
      */
-    private Page<GithubRepoDTO> executeGithubSearch(Cache cache, String cacheKey,
-                                                    String query, Pageable pageable, String sort, HttpSession session){
-        try {
-            Page<GithubRepoDTO> result = githubWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/search/repositories")
-                            .queryParam("q", query)
-                            .queryParam("sort", sort)
-                            .queryParam("order", "desc")
-                            .queryParam("per_page", pageable.getPageSize())
-                            .queryParam("page", pageable.getPageNumber() + 1)
-                            .build())
-                    .accept(MediaType.parseMediaType("application/vnd.github.v3+json"))
-                    .exchangeToMono(response -> {
-                        String contentType = response.headers().contentType()
-                                .map(MediaType::toString)
-                                .orElse("unknown");
-                        if (response.statusCode().is2xxSuccessful()) {
-                            if (contentType.contains("json") || contentType.contains("application/vnd.github")) {
-                                    return response.bodyToMono(new ParameterizedTypeReference<GithubSearchResponse<GithubRepoDTO>>() {
-                                });
-                            } else {
-                                log.warn("⚠️ 예상하지 못한 Content-Type: {}", contentType);
-                                return response.bodyToMono(String.class)
-                                        .doOnNext(body -> log.debug("📝 응답 내용: {}" , body.substring(0, Math.min(200, body.length()))))
-                                        .then(Mono.empty());
-                            }
+    private Mono<Page<GithubRepoDTO>> executeGithubSearch(String cacheName, IntFunction<GithubCacheKey> chunkKey,
+                                                          String query, Pageable pageable, String sort, HttpSession session){
+        AtomicBoolean stale = new AtomicBoolean();
+        long offset = pageable.getOffset();
+        int firstChunk = (int) (offset / SEARCH_CHUNK_SIZE) + 1;
+        int lastChunk = (int) ((offset + pageable.getPageSize() - 1) / SEARCH_CHUNK_SIZE) + 1;
+        Mono<Page<GithubRepoDTO>> result = querySlicer.handles(pageable)
+                ? querySlicer.page(cacheName, query, sort, pageable,
+                        (q, s, page, perPage) -> searchUpstream(q, PageRequest.of(page - 1, perPage), s),
+                        () -> stale.set(true))
+                : Flux.range(firstChunk, lastChunk - firstChunk + 1)
+                .flatMapSequential(chunk -> pageCache.get(cacheName, chunkKey.apply(chunk),
+                        () -> searchUpstream(query, PageRequest.of(chunk - 1, SEARCH_CHUNK_SIZE), sort),
+                        () -> stale.set(true)))
+                .collectList()
+                .filter(chunks -> !chunks.isEmpty())
+                .map(chunks -> slice(chunks, firstChunk, pageable));
+        return withSessionFlags(result, stale, pageable, session,
+                page -> prefetchNext(cacheName, chunkKey, query, pageable, sort, page.getTotalElements(), lastChunk));
+    }
+
+    /**
+     * 검색 결과에 따라 세션 플래그({@code ghApiError}/{@code ghApiStale})를 남기고, 에러/빈 결과는 빈 페이지로 바꿉니다.
+     *
+     * @param onFresh 마지막 정상 값이 아닌 새 결과일 때 실행할 작업
+     */
+    private Mono<Page<GithubRepoDTO>> withSessionFlags(Mono<Page<GithubRepoDTO>> result, AtomicBoolean stale,
+                                                       Pageable pageable, HttpSession session,
+                                                       Consumer<Page<GithubRepoDTO>> onFresh){
+        return result
+                .doOnNext(page -> {
+                    session.removeAttribute(SESSION_ERROR_KEY);
+                    if (stale.get()) {
+                        session.setAttribute(SESSION_STALE_KEY, true);
+                    } else {
+                        session.removeAttribute(SESSION_STALE_KEY);
+                        onFresh.accept(page);
+                    }
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("⚠️ GitHub 응답이 null 또는 에러 발생");
+                    session.setAttribute(SESSION_ERROR_KEY, true);
+                    return emptyPage(pageable);
+                }))
+                .onErrorResume(e -> {
+                    if (e instanceof GithubDeepPageUnavailableException) {
+                        log.warn("⚠️ {}", e.getMessage());
+                    } else {
+                        log.error("검색 중 오류", e);
+                    }
+                    session.setAttribute(SESSION_ERROR_KEY, true);
+                    return Mono.just(emptyPage(pageable));
+                });
+    }
+
+    /**
+     * GitHub 검색 API를 호출합니다.
+     *
+     * @return 검색 결과 (예상하지 못한 Content-Type이면 empty, 에러 응답이면 {@link WebClientResponseException})
+     */
+    private Mono<Page<GithubRepoDTO>> searchUpstream(String query, Pageable pageable, String sort){
+        return githubWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/search/repositories")
+                        .queryParam("q", query)
+                        .queryParam("sort", sort)
+                        .queryParam("order", "desc")
+                        .queryParam("per_page", pageable.getPageSize())
+                        .queryParam("page", pageable.getPageNumber() + 1)
+                        .build())
+                .accept(MediaType.parseMediaType("application/vnd.github.v3+json"))
+                .exchangeToMono(response -> {
+                    String contentType = response.headers().contentType()
+                            .map(MediaType::toString)
+                            .orElse("unknown");
+                    if (response.statusCode().is2xxSuccessful()) {
+                        if (contentType.contains("json") || contentType.contains("application/vnd.github")) {
+                            return searchDecoder.decode(response.body(BodyExtractors.toDataBuffers()));
                         } else {
+                            log.warn("⚠️ 예상하지 못한 Content-Type: {}", contentType);
                             return response.bodyToMono(String.class)
-                                    .doOnNext(body -> log.error("❌ [GitHub API 에러 응답]: {} ", body))
+                                    .doOnNext(body -> log.debug("📝 응답 내용: {}" , body.substring(0, Math.min(200, body.length()))))
                                     .then(Mono.empty());
                         }
-                    })
-                    .timeout(TIMEOUT)
-                    .blockOptional()
-                    .map(res ->{
-                            log.debug("🔢 totalCount: {}", res.getTotalCount());
-                            return new PageImpl<>(res.getItems(), pageable, res.getTotalCount());
-                        }
-                    )
-                    .orElseGet(() -> {
-                        log.warn("⚠️ GitHub 응답이 null 또는 에러 발생");
-                        session.setAttribute(SESSION_ERROR_KEY,true);
-                        return new PageImpl<>(List.of(), pageable, 0);
-                    });
-            if (cache != null) {
-                cache.put(cacheKey, result);
-                log.debug("캐시 저장 : {} " , cacheKey);
-            }
-            session.removeAttribute(SESSION_ERROR_KEY);
-            return result;
+                    } else {
+                        return response.<GithubSearchResponse<GithubRepoDTO>>createError()
+                                .doOnError(WebClientResponseException.class,
+                                        e -> log.error("❌ [GitHub API 에러 응답]: {} ", e.getResponseBodyAsString()));
+                    }
+                })
+                .transform(callPolicy::bound)
+                .map(res -> {
+                    log.debug("🔢 totalCount: {}", res.getTotalCount());
+                    return new PageImpl<>(res.getItems(), pageable, res.getTotalCount());
+                });
+    }
+
+    /**
+     * 다음 페이지가 아직 받지 않은 청크에 걸쳐 있으면 그 청크를 미리 적재합니다.
+     * <p>다음 페이지가 이미 받은 청크 안에 있거나, 전체 결과(검색 API 한계 {@value #SEARCH_RESULT_LIMIT}개)를 넘으면 생략합니다.</p>
+     */
+    private void prefetchNext(String cacheName, IntFunction<GithubCacheKey> chunkKey, String query,
+                              Pageable pageable, String sort, long total, int lastChunk){
+        int nextChunk = nextChunk(pageable, total, lastChunk);
+        if (nextChunk == 0) {
+            return;
         }
-        catch (Exception e){
-            log.error("검색 중 오류", e);
-            session.setAttribute(SESSION_ERROR_KEY, true);
-            return new PageImpl<>(List.of(), pageable, 0);
+        prefetcher.prefetch(cacheName, chunkKey.apply(nextChunk),
+                () -> searchUpstream(query, PageRequest.of(nextChunk - 1, SEARCH_CHUNK_SIZE), sort)
+                        .map(repoStore::intern));
+    }
+
+    /**
+     * 다음 페이지의 마지막 항목이 들어 있는 청크 번호를 계산합니다.
+     *
+     * @param pageable  지금 응답한 페이지네이션 정보
+     * @param total     전체 결과 수
+     * @param lastChunk 지금 페이지를 위해 받은 마지막 청크 번호 (1부터 시작)
+     * @return 미리 적재할 청크 번호 (이미 받았거나 결과 범위를 넘으면 0)
+     */
+    static int nextChunk(Pageable pageable, long total, int lastChunk){
+        Pageable next = pageable.next();
+        long limit = Math.min(total, SEARCH_RESULT_LIMIT);
+        if (next.getOffset() >= limit) {
+            return 0;
         }
+        int chunk = (int) ((Math.min(next.getOffset() + next.getPageSize(), limit) - 1) / SEARCH_CHUNK_SIZE) + 1;
+        return chunk > lastChunk ? chunk : 0;
+    }
+
+    /**
+     * 연속된 청크에서 요청한 페이지 구간을 잘라냅니다.
+     *
+     * @param chunks     firstChunk부터 이어지는 청크 결과
+     * @param firstChunk 첫 청크 번호 (1부터 시작)
+     * @param pageable   요청한 페이지네이션 정보
+     * @return 요청한 페이지 (전체 개수는 첫 청크 기준)
+     */
+    private Page<GithubRepoDTO> slice(List<Page<GithubRepoDTO>> chunks, int firstChunk, Pageable pageable){
+        List<GithubRepoDTO> items = chunks.size() == 1
+                ? chunks.get(0).getContent()
+                : chunks.stream().flatMap(c -> c.getContent().stream()).toList();
+        int from = (int) (pageable.getOffset() - (long) (firstChunk - 1) * SEARCH_CHUNK_SIZE);
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        List<GithubRepoDTO> content = from < to ? items.subList(from, to) : List.of();
+        return new PageImpl<>(content, pageable, chunks.get(0).getTotalElements());
+    }
+
+    private Page<GithubRepoDTO> emptyPage(Pageable pageable){
+        return new PageImpl<>(List.of(), pageable, 0);
     }
 
     /**
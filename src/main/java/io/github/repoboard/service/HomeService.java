@@ -9,12 +9,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * 홈 화면에서 GitHub 레포지토리를 조회하는 서비스.
  *
  * <p>언어, 정렬, 페이지, 새 전략 여부에 따라 GitHub API를 호출하며,
  * 세션을 통해 쿼리 전략을 관리한다.</p>
+ *
+ * <p>언어를 쉼표로 여러 개 지정하면 언어별 결과를 섞은 혼합 피드를 조회한다.</p>
+ *
+ * <p>GitHub I/O 동안 서블릿 스레드를 점유하지 않도록 결과는 {@link Mono}로 반환한다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -31,16 +39,16 @@ public class HomeService {
      * @param refresh 새 전략 강제 적용 여부
      * @param page 요청 페이지 번호 (0부터 시작)
      * @param session 세션에 전략 정보를 저장/조회
-     * @return GitHub 레포지토리 페이지 결과
+     * @return GitHub 레포지토리 페이지 결과 Mono
      */
-    public Page<GithubRepoDTO> getRepos(String language,
+    public Mono<Page<GithubRepoDTO>> getRepos(String language,
                                         String sort,
                                         boolean refresh,
                                         int page,
                                         HttpSession session){
         QueryStrategyDTO strategy = resolveStrategy(refresh,session);
         Pageable pageable = PageRequest.of(page,50);
-        return gitHubApiService.fetchRepos(language,pageable, strategy, sort,session);
+        return fetch(language, pageable, strategy, sort, session);
     }
 
     /**
@@ -50,16 +58,32 @@ public class HomeService {
      * @param sort 정렬 기준
      * @param page 요청 페이지 번호
      * @param session 세션에 저장된 전략을 사용
-     * @return GitHub 레포지토리 페이지 결과
+     * @return GitHub 레포지토리 페이지 결과 Mono
      * @throws IllegalArgumentException 전략 정보가 세션에 없을 경우
      */
-    public Page<GithubRepoDTO> getMoreRepos(String language,
+    public Mono<Page<GithubRepoDTO>> getMoreRepos(String language,
                                             String sort,
                                             int page,
                                             HttpSession session){
         QueryStrategyDTO strategy = (QueryStrategyDTO) session.getAttribute("refreshStrategy");
         Pageable pageable = PageRequest.of(page, 50);
-        return gitHubApiService.fetchRepos(language,pageable, strategy,sort,session);
+        return fetch(language, pageable, strategy, sort, session);
+    }
+
+    /**
+     * 언어가 쉼표로 여러 개 지정되면({@code java,kotlin,go}) 혼합 피드를, 하나면 언어별 피드를 조회한다.
+     */
+    private Mono<Page<GithubRepoDTO>> fetch(String language, Pageable pageable, QueryStrategyDTO strategy,
+                                            String sort, HttpSession session){
+        List<String> languages = Arrays.stream(language.split(","))
+                .map(String::trim)
+                .filter(l -> !l.isEmpty())
+                .distinct()
+                .toList();
+        if(languages.size() > 1){
+            return gitHubApiService.fetchMixedReposAsync(languages, pageable, strategy, sort, session);
+        }
+        return gitHubApiService.fetchReposAsync(language, pageable, strategy, sort, session);
     }
 
     /**
@@ -140,6 +140,7 @@ public class SavedRepoService {
 
     /**
      * GitHub repoId로 저장 처리.
+     * <p>검색/피드에서 이미 받은 레포지토리면 GitHub를 호출하지 않는다.</p>
      *
      * @param repoGithubId GitHub 레포지토리 ID
      * @param userId       사용자 ID
@@ -153,7 +154,7 @@ public class SavedRepoService {
             throw new IllegalArgumentException("이미 저장한 레포지토리 입니다.");
         }
 
-        GithubRepoDTO dto = gitHubApiService.getRepositoryId(repoGithubId);
+        GithubRepoDTO dto = gitHubApiService.getRepositoryLocalFirst(repoGithubId);
         if(dto == null){
             throw new IllegalArgumentException("존재하지 않는 Github Repo 입니다.");
         }
@@ -0,0 +1,267 @@
+package io.github.repoboard.service;
+
+import io.github.repoboard.common.config.GithubGraphqlProperties;
+import io.github.repoboard.common.config.SavedRepoSyncProperties;
+import io.github.repoboard.common.util.GithubGraphqlClient;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장된 레포지토리({@code saved_repo})의 메타데이터를 주기적으로 GitHub와 맞추는 스케줄러.
+ *
+ * <p>{@code stars}, {@code forks}, {@code description}, {@code language_main}은 저장 시점 값이 복사되므로
+ * 이 작업이 없으면 저장 목록의 "popular" 정렬이 오래된 스타 수를 기준으로 한다.</p>
+ *
+ * <h3>동작</h3>
+ * <ul>
+ *     <li>{@code repo_github_id}별로 묶어 조회하므로 여러 사용자가 저장한 레포지토리도 한 번만 요청한다.</li>
+ *     <li>저장한 사용자가 {@code hot-saves}명 이상이면 {@code hot-interval}, 아니면 {@code cold-interval}마다 갱신 대상이 된다.
+ *         실행마다 가장 오래 밀린 순서로 {@code batch-size}개까지만 처리한다. (점진 동기화)</li>
+ *     <li>조회는 {@link GitHubApiService#getRepositoriesAsync}로 100개씩 묶은 GraphQL 요청을 보낸다.
+ *         GraphQL을 끄면 {@link GitHubApiService#refreshRepositoryAsync}의 REST 조건부 요청(바뀌지 않았으면 304)으로 하나씩 조회한다.
+ *         Context가 없으므로 {@code BACKGROUND} 우선순위로 나가며, 한도가 부족하면 보류되어 다음 실행에서 다시 시도한다.
+ *         백그라운드 갱신이므로 캐시는 이 인스턴스의 L1에만 반영한다. (레포지토리마다 L2 upsert + NOTIFY를 보내지 않음)</li>
+ *     <li>값이 바뀐 행만 {@link JdbcTemplate#batchUpdate}로 한 번에 갱신한다. ({@code updated_at}은 건드리지 않음)</li>
+ *     <li>마지막 동기화 시각은 {@code saved_repo_sync} 테이블에 보관하므로 재시작 후에도 주기를 이어간다.
+ *         저장한 사용자가 모두 사라진 레포지토리의 행은 실행마다 정리한다.</li>
+ *     <li>여러 인스턴스가 같은 주기로 실행되므로 Postgres advisory lock({@code pg_try_advisory_lock})을 잡은 인스턴스만 실행한다.
+ *         잠금은 세션 단위라 실행 동안 연결 하나를 붙잡고, 끝나면 같은 연결에서 해제한다.</li>
+ * </ul>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *     <li>{@code saved_repo.sync} — 한 번 실행 시간</li>
+ *     <li>{@code saved_repo.sync.repos{result=updated|unchanged|missing|failed}} — 레포지토리별 결과</li>
+ *     <li>{@code saved_repo.sync.skipped} — 다른 인스턴스가 실행 중이라 건너뛴 횟수</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class SavedRepoSyncJob {
+
+    /** advisory lock 키 ("REPOSYNC") */
+    private static final long LOCK_KEY = 0x5245_504F_5359_4E43L;
+
+    /** 저장 수로 hot/cold 주기를 정해 예정 시각(due_at)이 지난 레포지토리를 가장 밀린 순서로 고른다 */
+    static final String SELECT_DUE_SQL = """
+            SELECT repo_github_id, saves, synced_at
+            FROM (
+                SELECT r.repo_github_id, COUNT(*) AS saves, MAX(s.synced_at) AS synced_at,
+                       COALESCE(MAX(s.synced_at), TIMESTAMPTZ 'epoch')
+                           + CASE WHEN COUNT(*) >= ? THEN ? ELSE ? END * INTERVAL '1 millisecond' AS due_at
+                FROM saved_repo r
+                LEFT JOIN saved_repo_sync s ON s.repo_github_id = r.repo_github_id
+                GROUP BY r.repo_github_id
+            ) c
+            WHERE due_at <= ?
+            ORDER BY due_at, saves DESC
+            LIMIT ?
+            """;
+
+    static final String MARK_SYNCED_SQL = """
+            INSERT INTO saved_repo_sync (repo_github_id, synced_at)
+            VALUES (?, ?)
+            ON CONFLICT (repo_github_id) DO UPDATE SET synced_at = EXCLUDED.synced_at
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM saved_repo_sync s
+            WHERE NOT EXISTS (SELECT 1 FROM saved_repo r WHERE r.repo_github_id = s.repo_github_id)
+            """;
+
+    static final String UPDATE_SQL = """
+            UPDATE saved_repo
+            SET stars = ?, forks = ?, description = ?, language_main = ?
+            WHERE repo_github_id = ?
+              AND (stars IS DISTINCT FROM ? OR forks IS DISTINCT FROM ?
+                   OR description IS DISTINCT FROM ? OR language_main IS DISTINCT FROM ?)
+            """;
+
+    private final GitHubApiService gitHubApiService;
+    private final JdbcTemplate jdbcTemplate;
+    private final SavedRepoSyncProperties properties;
+    private final GithubGraphqlProperties graphql;
+    private final MeterRegistry meterRegistry;
+    private final Timer timer;
+
+    public SavedRepoSyncJob(GitHubApiService gitHubApiService, JdbcTemplate jdbcTemplate,
+                            SavedRepoSyncProperties properties, GithubGraphqlProperties graphql,
+                            MeterRegistry meterRegistry) {
+        this.gitHubApiService = gitHubApiService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.graphql = graphql;
+        this.meterRegistry = meterRegistry;
+        this.timer = Timer.builder("saved_repo.sync")
+                .description("저장된 레포지토리 메타데이터 동기화 실행 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 갱신 주기가 지난 레포지토리를 {@code batch-size}개까지 동기화한다.
+     * <p>다른 인스턴스가 실행 중이면(advisory lock을 잡지 못하면) 건너뛴다.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.saved-repo.sync.interval:PT5M}",
+            initialDelayString = "${app.saved-repo.sync.interval:PT5M}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!advisoryLock(connection, "pg_try_advisory_lock")) {
+                meterRegistry.counter("saved_repo.sync.skipped").increment();
+                log.debug("[SYNC] 다른 인스턴스가 동기화 중 → 건너뜀");
+                return null;
+            }
+            try {
+                timer.record(this::sync);
+            } finally {
+                advisoryLock(connection, "pg_advisory_unlock");
+            }
+            return null;
+        });
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    void sync() {
+        Instant now = Instant.now();
+        List<Due> due = selectDue(now);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = due.stream().map(Due::repoGithubId).toList();
+        Mono<GithubGraphqlClient.RepoBatch> fetch = graphql.isEnabled()
+                ? gitHubApiService.getRepositoriesAsync(ids)
+                : fetchEach(ids);
+        GithubGraphqlClient.RepoBatch batch = fetch
+                .onErrorResume(e -> {
+                    log.warn("[SYNC] 저장된 레포지토리 조회 실패 → 다음 실행에서 재시도: {}", e.toString());
+                    return Mono.empty();
+                })
+                .block();
+        if (batch == null) {
+            record("failed", ids.size());
+            return;
+        }
+        markSynced(batch, now);
+        record("missing", batch.missing().size());
+        record("failed", ids.size() - batch.found().size() - batch.missing().size());
+
+        Collection<GithubRepoDTO> fetched = batch.found().values();
+        if (fetched.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = fetched.stream()
+                .map(repo -> new Object[]{
+                        repo.getStargazersCount(), repo.getForksCount(), repo.getDescription(), repo.getLanguage(),
+                        repo.getId(),
+                        repo.getStargazersCount(), repo.getForksCount(), repo.getDescription(), repo.getLanguage()})
+                .toList();
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+
+        int updated = 0;
+        for (int count : counts) {
+            if (count != 0) {
+                updated++;
+            }
+        }
+        record("updated", updated);
+        record("unchanged", counts.length - updated);
+        log.info("[SYNC] 저장된 레포지토리 {}개 조회, {}개 갱신 (대상 {}개)", fetched.size(), updated, due.size());
+    }
+
+    /**
+     * 갱신 주기가 지난 레포지토리를 가장 오래 밀린 순서로 {@code batch-size}개까지 고른다.
+     * <p>주기 판정, 정렬, 개수 제한은 모두 SQL에서 하므로 저장된 레포지토리 전체를 읽어 오지 않는다.
+     * (처음 보는 레포지토리는 epoch에 동기화한 것으로 취급해 가장 먼저 고른다)</p>
+     */
+    private List<Due> selectDue(Instant now) {
+        jdbcTemplate.update(PURGE_SQL);
+        return jdbcTemplate.query(SELECT_DUE_SQL, (rs, i) -> {
+                    Timestamp syncedAt = rs.getTimestamp("synced_at");
+                    return new Due(rs.getLong("repo_github_id"), rs.getInt("saves"),
+                            syncedAt != null ? syncedAt.toInstant() : null);
+                },
+                properties.getHotSaves(),
+                properties.getHotInterval().toMillis(),
+                properties.getColdInterval().toMillis(),
+                Timestamp.from(now),
+                properties.getBatchSize());
+    }
+
+    /**
+     * GraphQL을 끈 경우 레포지토리마다 REST 조건부 요청으로 조회한다.
+     */
+    private Mono<GithubGraphqlClient.RepoBatch> fetchEach(List<Long> ids) {
+        Map<Long, GithubRepoDTO> found = new ConcurrentHashMap<>();
+        Set<Long> missing = ConcurrentHashMap.newKeySet();
+        return Flux.fromIterable(ids)
+                .flatMap(id -> gitHubApiService.refreshRepositoryAsync(id)
+                        .doOnSuccess(repo -> {
+                            if (repo != null) {
+                                found.put(id, repo);
+                            } else {
+                                missing.add(id);
+                            }
+                        })
+                        .onErrorResume(e -> {
+                            log.debug("[SYNC] 레포지토리 {} 동기화 실패: {}", id, e.toString());
+                            return Mono.empty();
+                        }), properties.getConcurrency())
+                .then(Mono.fromSupplier(() -> new GithubGraphqlClient.RepoBatch(found, missing)));
+    }
+
+    /**
+     * 조회에 성공한(찾았거나 없는) 레포지토리의 동기화 시각을 기록한다. 실패한 레포지토리는 다음 실행에서 다시 고른다.
+     */
+    private void markSynced(GithubGraphqlClient.RepoBatch batch, Instant now) {
+        Timestamp syncedAt = Timestamp.from(now);
+        List<Object[]> args = new ArrayList<>(batch.found().size() + batch.missing().size());
+        batch.found().keySet().forEach(id -> args.add(new Object[]{id, syncedAt}));
+        batch.missing().forEach(id -> args.add(new Object[]{id, syncedAt}));
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_SYNCED_SQL, args);
+        }
+    }
+
+    private void record(String result, int count) {
+        if (count > 0) {
+            meterRegistry.counter("saved_repo.sync.repos", "result", result).increment(count);
+        }
+    }
+
+    /** 동기화 후보 (저장한 사용자 수, 마지막 동기화 시각(처음이면 null) 포함) */
+    record Due(long repoGithubId, int saves, Instant syncedAt) {
+    }
+}
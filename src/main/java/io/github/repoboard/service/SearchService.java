@@ -10,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -52,12 +53,12 @@ public class SearchService {
      * @param search 검색어
      * @param page   페이지 번호 (0부터 시작)
      * @param sort   정렬 기준 (예: "popular", "recent", "stars")
-     * @return 검색된 저장소 목록 (페이지네이션 결과)
+     * @return 검색된 저장소 목록 (페이지네이션 결과) Mono
      */
-    public Page<GithubRepoDTO> fetchRepositories(String search, int page, String sort, HttpSession session){
+    public Mono<Page<GithubRepoDTO>> fetchRepositories(String search, int page, String sort, HttpSession session){
         String safeQuery = SanitizeUtil.sanitizeQuery(search);
         Pageable pageable = PageRequest.of(page, 50);
-        return gitHubApiService.fetchReposByQuery(safeQuery, pageable, sort,session);
+        return gitHubApiService.fetchReposByQueryAsync(safeQuery, pageable, sort,session);
     }
 
     /**
@@ -69,13 +70,13 @@ public class SearchService {
      * @param search 검색어
      * @param page   페이지 번호 (0부터 시작)
      * @param sort   정렬 기준
-     * @return 검색된 저장소 목록 (추가 페이지 결과)
+     * @return 검색된 저장소 목록 (추가 페이지 결과) Mono
      */
-    public Page<GithubRepoDTO> loadMoreRepositories(String search, int page, String sort,HttpSession session){
+    public Mono<Page<GithubRepoDTO>> loadMoreRepositories(String search, int page, String sort,HttpSession session){
         String safeQuery = SanitizeUtil.sanitizeQuery(search);
         Pageable pageable = PageRequest.of(page, 50);
         return gitHubApiService
-                .fetchReposByQuery(safeQuery, pageable, sort,session);
+                .fetchReposByQueryAsync(safeQuery, pageable, sort,session);
     }
 
     /**
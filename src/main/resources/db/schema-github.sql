@@ -0,0 +1,29 @@
+-- GitHub 응답 캐시 보조 테이블 (운영 환경은 ddl-auto: validate 이므로 시작 시 이 스크립트로 생성)
+-- 여러 번 실행해도 안전하도록 IF NOT EXISTS만 사용한다.
+
+-- L2 캐시 (GithubCacheEntry)
+CREATE TABLE IF NOT EXISTS github_cache_entry (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cache_name    VARCHAR(64)  NOT NULL,
+    cache_key     TEXT         NOT NULL,
+    payload       BYTEA        NOT NULL,
+    etag          VARCHAR(255),
+    last_modified VARCHAR(255),
+    stored_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT ux_github_cache_entry_key UNIQUE (cache_name, cache_key)
+);
+
+-- upsert(ON CONFLICT (cache_name, cache_key))의 충돌 대상 — 제약 없이 먼저 만들어진 테이블에도 보장
+CREATE UNIQUE INDEX IF NOT EXISTS ux_github_cache_entry_key
+    ON github_cache_entry (cache_name, cache_key);
+
+-- 만료 항목 정리
+CREATE INDEX IF NOT EXISTS idx_github_cache_entry_expires
+    ON github_cache_entry (expires_at);
+
+-- 저장된 레포지토리 마지막 동기화 시각 (SavedRepoSyncJob) — 재시작/다중 인스턴스에서도 주기를 이어간다.
+CREATE TABLE IF NOT EXISTS saved_repo_sync (
+    repo_github_id BIGINT PRIMARY KEY,
+    synced_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
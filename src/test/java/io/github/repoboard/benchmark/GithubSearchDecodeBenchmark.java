@@ -0,0 +1,193 @@
+package io.github.repoboard.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.repoboard.common.util.GithubSearchStreamDecoder;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubSearchResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GitHub 검색 응답 디코딩 벤치마크. ({@code benchmark} 태그, 기본 {@code mvn test}에서는 실행하지 않음)
+ *
+ * <p>실제 {@code /search/repositories} 응답과 비슷한 100개짜리 페이지(license, topics, permissions, *_url 포함)를
+ * 기존 방식({@link Jackson2JsonDecoder}, WebClient 기본 디코더)과 {@link GithubSearchStreamDecoder}로 각각 디코딩하고,
+ * 페이지당 할당 바이트와 CPU 시간을 출력한다. (참고용으로 byte[]를 바로 읽는 ObjectMapper도 함께 측정)</p>
+ *
+ * <pre>
+ * mvn test -Pbenchmark
+ * </pre>
+ */
+@Tag("benchmark")
+class GithubSearchDecodeBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+    /** Netty 수신 버퍼와 비슷한 크기로 나눠 스트리밍 디코더에 전달 */
+    private static final int CHUNK = 8 * 1024;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void decodePage() throws Exception {
+        byte[] payload = payload(100);
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        TypeReference<GithubSearchResponse<GithubRepoDTO>> type = new TypeReference<>() {};
+        GithubSearchStreamDecoder decoder = new GithubSearchStreamDecoder();
+        List<byte[]> chunks = split(payload);
+
+        System.out.printf("payload: %,d bytes, 100 items%n", payload.length);
+        Jackson2JsonDecoder jsonDecoder = new Jackson2JsonDecoder(mapper);
+        // WebClientConfig와 같은 한도
+        jsonDecoder.setMaxInMemorySize(4 * 1024 * 1024);
+        ResolvableType resolvable = ResolvableType.forType(type.getType());
+
+        Result before = run("before: Jackson2JsonDecoder", () -> (GithubSearchResponse<GithubRepoDTO>) jsonDecoder
+                .decodeToMono(buffers(chunks), resolvable, MediaType.APPLICATION_JSON, null)
+                .block());
+        Result after = run("after:  StreamDecoder", () -> decoder.decode(buffers(chunks)).block());
+        run("ref:    ObjectMapper(byte[])", () -> mapper.readValue(payload, type));
+        System.out.printf("after/before  alloc: %.2f   cpu: %.2f%n",
+                (double) after.allocPerPage() / before.allocPerPage(), after.cpuNanosPerPage() / before.cpuNanosPerPage());
+
+        assertThat(decoder.decode(buffers(chunks)).block().getItems()).hasSize(100);
+    }
+
+    /** 페이지당 할당 바이트와 CPU 시간(ns) */
+    private record Result(long allocPerPage, double cpuNanosPerPage) {}
+
+    @FunctionalInterface
+    private interface Decode {
+        GithubSearchResponse<GithubRepoDTO> run() throws Exception;
+    }
+
+    private static Result run(String name, Decode decode) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += decode.run().getItems().size();
+        }
+        long alloc0 = threads.getThreadAllocatedBytes(tid);
+        long cpu0 = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += decode.run().getItems().size();
+        }
+        long alloc = threads.getThreadAllocatedBytes(tid) - alloc0;
+        long cpu = threads.getCurrentThreadCpuTime() - cpu0;
+        System.out.printf("%-28s alloc/page: %,9d B   cpu/page: %,7.1f µs   (%d)%n",
+                name, alloc / ITERATIONS, cpu / 1_000.0 / ITERATIONS, sink);
+        return new Result(alloc / ITERATIONS, (double) cpu / ITERATIONS);
+    }
+
+    private static Flux<DataBuffer> buffers(List<byte[]> chunks) {
+        return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    private static List<byte[]> split(byte[] payload) {
+        List<byte[]> chunks = new ArrayList<>();
+        for (int i = 0; i < payload.length; i += CHUNK) {
+            byte[] chunk = new byte[Math.min(CHUNK, payload.length - i)];
+            System.arraycopy(payload, i, chunk, 0, chunk.length);
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /** GitHub 검색 응답 형태의 합성 페이지 */
+    private static byte[] payload(int size) {
+        StringBuilder sb = new StringBuilder(size * 6_000);
+        sb.append("{\"total_count\":48213,\"incomplete_results\":false,\"items\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String owner = "owner" + i;
+            String repo = "project-" + i;
+            String full = owner + "/" + repo;
+            String api = "https://api.github.com/repos/" + full;
+            sb.append('{')
+                    .append("\"id\":").append(100_000_000L + i).append(',')
+                    .append("\"node_id\":\"R_kgDO").append(Long.toHexString(i * 7919L)).append("\",")
+                    .append("\"name\":\"").append(repo).append("\",")
+                    .append("\"full_name\":\"").append(full).append("\",")
+                    .append("\"private\":false,")
+                    .append("\"owner\":{")
+                    .append("\"login\":\"").append(owner).append("\",")
+                    .append("\"id\":").append(5_000_000 + i).append(',')
+                    .append("\"node_id\":\"MDQ6VXNlcj").append(i).append("\",")
+                    .append("\"avatar_url\":\"https://avatars.githubusercontent.com/u/").append(5_000_000 + i).append("?v=4\",")
+                    .append("\"gravatar_id\":\"\",");
+            for (String u : new String[]{"url", "html_url", "followers_url", "following_url", "gists_url",
+                    "starred_url", "subscriptions_url", "organizations_url", "repos_url", "events_url",
+                    "received_events_url"}) {
+                String path = u.equals("url") ? "" : "/" + u.replace("_url", "");
+                String host = u.equals("html_url") ? "https://github.com/" : "https://api.github.com/users/";
+                sb.append('"').append(u).append("\":\"").append(host).append(owner).append(path).append("\",");
+            }
+            sb.append("\"type\":\"User\",\"user_view_type\":\"public\",\"site_admin\":false},")
+                    .append("\"html_url\":\"https://github.com/").append(full).append("\",")
+                    .append("\"description\":\"A sample repository number ").append(i)
+                    .append(" used to exercise the decoder with a reasonably long description \\u2014 like real ones.\",")
+                    .append("\"fork\":").append(i % 7 == 0).append(',')
+                    .append("\"url\":\"").append(api).append("\",");
+            for (String u : new String[]{"forks", "keys", "collaborators", "teams", "hooks", "issue_events",
+                    "events", "assignees", "branches", "tags", "blobs", "git_tags", "git_refs", "trees",
+                    "statuses", "languages", "stargazers", "contributors", "subscribers", "subscription",
+                    "commits", "git_commits", "comments", "issue_comment", "contents", "compare", "merges",
+                    "archive", "downloads", "issues", "pulls", "milestones", "notifications", "labels",
+                    "releases", "deployments"}) {
+                sb.append('"').append(u).append("_url\":\"").append(api).append('/').append(u).append("{/id}\",");
+            }
+            sb.append("\"created_at\":\"2019-03-0").append(1 + i % 9).append("T12:00:00Z\",")
+                    .append("\"updated_at\":\"2025-06-1").append(i % 10).append("T08:15:30Z\",")
+                    .append("\"pushed_at\":\"2025-06-1").append(i % 10).append("T08:10:00Z\",")
+                    .append("\"git_url\":\"git://github.com/").append(full).append(".git\",")
+                    .append("\"ssh_url\":\"git@github.com:").append(full).append(".git\",")
+                    .append("\"clone_url\":\"https://github.com/").append(full).append(".git\",")
+                    .append("\"svn_url\":\"https://github.com/").append(full).append("\",")
+                    .append("\"homepage\":null,")
+                    .append("\"size\":").append(1_000 + i * 13).append(',')
+                    .append("\"stargazers_count\":").append(90_000 - i * 17).append(',')
+                    .append("\"watchers_count\":").append(90_000 - i * 17).append(',')
+                    .append("\"language\":\"Java\",")
+                    .append("\"has_issues\":true,\"has_projects\":true,\"has_downloads\":true,\"has_wiki\":true,")
+                    .append("\"has_pages\":false,\"has_discussions\":false,")
+                    .append("\"forks_count\":").append(4_000 - i).append(',')
+                    .append("\"mirror_url\":null,\"archived\":false,\"disabled\":false,")
+                    .append("\"open_issues_count\":").append(i * 3).append(',')
+                    .append("\"license\":{\"key\":\"apache-2.0\",\"name\":\"Apache License 2.0\",")
+                    .append("\"spdx_id\":\"Apache-2.0\",\"url\":\"https://api.github.com/licenses/apache-2.0\",")
+                    .append("\"node_id\":\"MDc6TGljZW5zZTI=\"},")
+                    .append("\"allow_forking\":true,\"is_template\":false,\"web_commit_signoff_required\":false,")
+                    .append("\"topics\":[\"java\",\"spring\",\"spring-boot\",\"cache\",\"webflux\",\"github-api\"],")
+                    .append("\"visibility\":\"public\",\"forks\":").append(4_000 - i).append(',')
+                    .append("\"open_issues\":").append(i * 3).append(',')
+                    .append("\"watchers\":").append(90_000 - i * 17).append(',')
+                    .append("\"default_branch\":\"main\",")
+                    .append("\"permissions\":{\"admin\":false,\"maintain\":false,\"push\":false,\"triage\":false,\"pull\":true},")
+                    .append("\"score\":1.0")
+                    .append('}');
+        }
+        sb.append("]}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.repoboard.common.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GithubCacheProperties.Memory#budgetOf(String)}의 캐시별 예산 분배를 검증한다.
+ */
+class GithubCachePropertiesTest {
+
+    @Test
+    void knownCacheGetsItsShareOfBudget() {
+        GithubCacheProperties.Memory memory = memory(Map.of("ghUser", 1, "ghRepos", 3));
+
+        assertThat(memory.budgetOf("ghUser")).isEqualTo(250);
+        assertThat(memory.budgetOf("ghRepos")).isEqualTo(750);
+    }
+
+    @Test
+    void unknownCacheCountsAsOneExtraShare() {
+        GithubCacheProperties.Memory memory = memory(Map.of("ghUser", 1, "ghRepos", 3));
+
+        // 전체 share 4 + 알 수 없는 캐시 1 → 1000 / 5
+        assertThat(memory.budgetOf("ghOther")).isEqualTo(200);
+    }
+
+    @Test
+    void unknownCacheWithoutSharesGetsWholeBudget() {
+        GithubCacheProperties.Memory memory = memory(Map.of());
+
+        assertThat(memory.budgetOf("ghOther")).isEqualTo(1000);
+    }
+
+    private static GithubCacheProperties.Memory memory(Map<String, Integer> shares) {
+        GithubCacheProperties.Memory memory = new GithubCacheProperties.Memory();
+        memory.setBudget(DataSize.ofBytes(1000));
+        memory.setShares(new HashMap<>(shares));
+        return memory;
+    }
+}
@@ -0,0 +1,239 @@
+package io.github.repoboard.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.repoboard.common.exception.GithubDeadlineExceededException;
+import io.github.repoboard.common.exception.GithubRateLimitException;
+import io.github.repoboard.common.util.GithubBudgetScheduler;
+import io.github.repoboard.common.util.GithubCallPolicy;
+import io.github.repoboard.common.util.GithubDeadline;
+import io.github.repoboard.common.util.GithubPriority;
+import io.github.repoboard.common.util.GithubTokenPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link WebClientConfig}의 GitHub 필터를 스텁 서버에 붙여 마감 시각 전파, 헤지 요청, 재시도 중단을 검증한다.
+ *
+ * <ul>
+ *     <li>{@code /repositories/1} — 1.5초 뒤 응답</li>
+ *     <li>{@code /repositories/2} — 처음 도착한 요청만 1.5초 뒤, 이후 요청은 바로 응답</li>
+ *     <li>{@code /repositories/3} — 300ms 뒤 429</li>
+ *     <li>{@code /repositories/4} — 바로 429</li>
+ * </ul>
+ */
+class WebClientConfigTest {
+
+    private static final String TOKENS = "a,b,c,d";
+
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private GithubDeadlineProperties properties;
+    private SimpleMeterRegistry registry;
+    private GithubCallPolicy callPolicy;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/repositories", this::handle);
+        server.setExecutor(executor);
+        server.start();
+
+        properties = new GithubDeadlineProperties();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void requestDeadlineCutsSlowCall() {
+        properties.setRequest(Duration.ofMillis(300));
+        build();
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> get(1)
+                .transform(callPolicy::bound)
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .block())
+                .isInstanceOf(GithubDeadlineExceededException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(registry.counter("github.call.deadline_exceeded").count()).isEqualTo(1);
+    }
+
+    @Test
+    void upstreamDeadlineWinsOverRequestDefault() {
+        build();
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> get(1)
+                .transform(callPolicy::bound)
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .contextWrite(Context.of(GithubDeadline.class, GithubDeadline.after(Duration.ofMillis(200))))
+                .block())
+                .isInstanceOf(GithubDeadlineExceededException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void expiredDeadlineFailsWithoutCalling() {
+        build();
+
+        assertThatThrownBy(() -> get(1)
+                .transform(callPolicy::bound)
+                .contextWrite(Context.of(GithubDeadline.class, GithubDeadline.after(Duration.ZERO)))
+                .block())
+                .isInstanceOf(GithubDeadlineExceededException.class);
+
+        assertThat(hits).doesNotContainKey("/repositories/1");
+    }
+
+    @Test
+    void slowGetIsHedgedWithAnotherToken() {
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMinDelay(Duration.ofMillis(100));
+        properties.getHedge().setMinSamples(20);
+        build();
+        for (int i = 0; i < 20; i++) {
+            callPolicy.recordLatency(URI.create("/repositories/0"), Duration.ofMillis(50).toNanos());
+        }
+        long start = System.nanoTime();
+
+        String body = get(2)
+                .transform(callPolicy::bound)
+                .contextWrite(callPolicy.request(GithubPriority.INTERACTIVE))
+                .block();
+
+        assertThat(body).isEqualTo("{\"arrival\":2}");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(authorizations).hasSize(2).doesNotHaveDuplicates();
+        assertThat(registry.counter("github.hedge", "endpoint", "repositories", "result", "sent").count()).isEqualTo(1);
+        assertThat(registry.counter("github.hedge", "endpoint", "repositories", "result", "won").count()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgeIsNotSentWhenDisabled() {
+        build();
+        for (int i = 0; i < 20; i++) {
+            callPolicy.recordLatency(URI.create("/repositories/0"), Duration.ofMillis(50).toNanos());
+        }
+
+        String body = get(2).block();
+
+        assertThat(body).isEqualTo("{\"arrival\":1}");
+        assertThat(authorizations).hasSize(1);
+    }
+
+    @Test
+    void rateLimitRetriesWithOtherTokensWithoutDeadline() {
+        build();
+
+        assertThatThrownBy(() -> get(4).block()).isInstanceOf(GithubRateLimitException.class);
+
+        assertThat(hits.get("/repositories/4")).hasValue(4);
+        assertThat(authorizations).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void rateLimitRetriesStopOnceDeadlinePassed() {
+        build();
+
+        assertThatThrownBy(() -> get(3)
+                .contextWrite(Context.of(GithubDeadline.class, GithubDeadline.after(Duration.ofMillis(200))))
+                .block())
+                .isInstanceOf(GithubRateLimitException.class);
+
+        assertThat(hits.get("/repositories/3")).hasValue(1);
+    }
+
+    private void build() {
+        GithubTokenPool pool = new GithubTokenPool(TOKENS);
+        callPolicy = new GithubCallPolicy(properties, registry);
+        WebClientConfig config = new WebClientConfig(pool, callPolicy,
+                new GithubBudgetScheduler(pool, new GithubBudgetProperties(), registry), new ObjectMapper());
+        ReflectionTestUtils.setField(config, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        webClient = config.githubWebClient();
+    }
+
+    private Mono<String> get(int id) {
+        return webClient.get()
+                .uri("/repositories/{id}", id)
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        int arrival = hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+        authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+        try {
+            switch (path) {
+                case "/repositories/1" -> {
+                    Thread.sleep(1_500);
+                    respond(exchange, 200, "{}");
+                }
+                case "/repositories/2" -> {
+                    if (arrival == 1) {
+                        Thread.sleep(1_500);
+                    }
+                    respond(exchange, 200, "{\"arrival\":" + arrival + "}");
+                }
+                case "/repositories/3" -> {
+                    Thread.sleep(300);
+                    respond(exchange, 429, "{\"message\":\"rate limited\"}");
+                }
+                default -> respond(exchange, 429, "{\"message\":\"rate limited\"}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // 클라이언트가 먼저 끊은 경우 (마감/헤지 취소)
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (status == 429) {
+            exchange.getResponseHeaders().set("Retry-After", "60");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
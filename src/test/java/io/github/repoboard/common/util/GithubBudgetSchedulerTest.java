@@ -0,0 +1,87 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubBudgetProperties;
+import io.github.repoboard.common.exception.GithubBudgetExhaustedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GithubBudgetSchedulerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GithubTokenPool pool = new GithubTokenPool("a");
+    private final GithubBudgetScheduler scheduler = scheduler();
+
+    private static HttpHeaders rateLimit(String resource, int remaining, int limit) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Resource", resource);
+        headers.set("X-RateLimit-Remaining", Integer.toString(remaining));
+        headers.set("X-RateLimit-Limit", Integer.toString(limit));
+        headers.set("X-RateLimit-Reset", Long.toString(Instant.now().plusSeconds(60).getEpochSecond()));
+        return headers;
+    }
+
+    @Test
+    void exhaustedSearchBucketDoesNotShedCoreCalls() {
+        pool.update("a", GithubResource.SEARCH, rateLimit("search", 1, 30));
+        pool.update("a", GithubResource.CORE, rateLimit("core", 4000, 5000));
+
+        scheduler.admit(GithubPriority.BACKGROUND, null, GithubResource.CORE).block();
+
+        assertThatThrownBy(() -> scheduler.admit(GithubPriority.BACKGROUND, null, GithubResource.SEARCH).block())
+                .isInstanceOfSatisfying(GithubBudgetExhaustedException.class,
+                        e -> assertThat(e.getResource()).isEqualTo("search"));
+    }
+
+    @Test
+    void exhaustedCoreBucketDoesNotShedSearchCalls() {
+        pool.update("a", GithubResource.CORE, rateLimit("core", 500, 5000));
+
+        assertThat(scheduler.hasHeadroom(GithubPriority.BACKGROUND, GithubResource.CORE)).isFalse();
+        assertThat(scheduler.hasHeadroom(GithubPriority.USER_REFRESH, GithubResource.CORE)).isTrue();
+        assertThat(scheduler.hasHeadroom(GithubPriority.BACKGROUND, GithubResource.SEARCH)).isTrue();
+        assertThat(scheduler.hasHeadroom(GithubPriority.BACKGROUND, GithubResource.GRAPHQL)).isTrue();
+    }
+
+    @Test
+    void interactiveIsAlwaysAdmitted() {
+        pool.update("a", GithubResource.GRAPHQL, rateLimit("graphql", 0, 5000));
+
+        scheduler.admit(GithubPriority.INTERACTIVE, null, GithubResource.GRAPHQL).block();
+
+        assertThat(registry.counter("github.budget.requests", "priority", "interactive", "result", "admitted")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void userRefreshWaitsForItsOwnBucketThenSheds() {
+        pool.update("a", GithubResource.SEARCH, rateLimit("search", 1, 30));
+
+        assertThatThrownBy(() -> scheduler.admit(GithubPriority.USER_REFRESH,
+                GithubDeadline.after(Duration.ofMillis(50)), GithubResource.SEARCH).block())
+                .isInstanceOf(GithubBudgetExhaustedException.class);
+        scheduler.admit(GithubPriority.USER_REFRESH, null, GithubResource.CORE).block();
+    }
+
+    @Test
+    void reportsRemainingRatioPerResource() {
+        pool.update("a", GithubResource.SEARCH, rateLimit("search", 15, 30));
+
+        assertThat(registry.get("github.budget.remaining_ratio").tag("resource", "search").gauge().value())
+                .isEqualTo(0.5);
+        assertThat(registry.get("github.budget.remaining_ratio").tag("resource", "core").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    private GithubBudgetScheduler scheduler() {
+        GithubBudgetProperties properties = new GithubBudgetProperties();
+        properties.setPollInterval(Duration.ofMillis(10));
+        return new GithubBudgetScheduler(pool, properties, registry);
+    }
+}
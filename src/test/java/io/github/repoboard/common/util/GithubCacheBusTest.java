@@ -0,0 +1,68 @@
+package io.github.repoboard.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import static io.github.repoboard.common.util.GithubCacheFixture.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link GithubCacheBus}가 받은 태그 제거 메시지를 L1과 off-heap에 모두 적용하는지 검증한다.
+ */
+class GithubCacheBusTest {
+
+    private static final String CACHE = "ghUser";
+
+    private GithubOffHeapCache offHeap;
+    private GithubCacheKeyIndex keyIndex;
+    private Cache users;
+    private GithubCacheBus bus;
+
+    @BeforeEach
+    void setUp() {
+        var fixture = new GithubCacheFixture().offHeap(CACHE, DataSize.ofMegabytes(1)).build();
+        offHeap = fixture.offHeap;
+        keyIndex = fixture.keyIndex;
+        users = fixture.cacheManager.getCache(CACHE);
+        bus = new GithubCacheBus(fixture.cacheManager, mock(JdbcTemplate.class), null, fixture.objectMapper,
+                fixture.properties, fixture.registry, keyIndex, offHeap);
+    }
+
+    @Test
+    void evictTagExpiresOffHeapEntries() {
+        var own = new GithubCacheKey.User("octocat");
+        var other = new GithubCacheKey.User("hubot");
+        putOffHeap(own);
+        putOffHeap(other);
+
+        bus.receive("{\"origin\":\"other\",\"op\":\"EVICT_TAG\",\"cache\":\"ghUser\",\"tag\":\"octocat\"}");
+
+        assertThat(offHeap.get(CACHE, own)).isNull();
+        assertThat(offHeap.getStale(CACHE, own)).isNotNull();
+        assertThat(offHeap.get(CACHE, other)).isNotNull();
+    }
+
+    @Test
+    void evictTagInvalidatesL1Entries() {
+        var own = new GithubCacheKey.User("octocat");
+        var other = new GithubCacheKey.User("hubot");
+        users.put(own, user("octocat"));
+        keyIndex.add(CACHE, own);
+        users.put(other, user("hubot"));
+        keyIndex.add(CACHE, other);
+
+        bus.receive("{\"origin\":\"other\",\"op\":\"EVICT_TAG\",\"cache\":\"ghUser\",\"tag\":\"octocat\"}");
+
+        assertThat(users.get(own)).isNull();
+        assertThat(users.get(other)).isNotNull();
+    }
+
+    private void putOffHeap(GithubCacheKey key) {
+        assertThat(offHeap.put(CACHE, key, user(key.indexTag()))).isTrue();
+        keyIndex.add(CACHE, key);
+    }
+}
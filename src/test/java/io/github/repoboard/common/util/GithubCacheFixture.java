@@ -0,0 +1,68 @@
+package io.github.repoboard.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.github.repoboard.common.config.CacheConfig;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.dto.github.GithubUserDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Set;
+
+/**
+ * 운영과 같은 구성({@link CacheConfig})의 GitHub 캐시와 off-heap 계층, 키 인덱스를 만드는 테스트 픽스처.
+ * <p>{@link #properties}를 먼저 설정하고 {@link #build()}로 캐시를 만든다.</p>
+ */
+final class GithubCacheFixture {
+
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    final GithubCacheProperties properties = new GithubCacheProperties();
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final GithubCacheCodec codec = new GithubCacheCodec(objectMapper, null);
+    GithubOffHeapCache offHeap;
+    GithubCacheKeyIndex keyIndex;
+    SimpleCacheManager cacheManager;
+
+    /**
+     * 한 캐시만 off-heap에 두도록 설정한다. (크기 제한 없이 모든 값을 off-heap에 저장)
+     *
+     * @param cacheName 캐시 이름
+     * @param capacity  전체 용량 (슬랩 하나)
+     * @return 이 픽스처
+     */
+    GithubCacheFixture offHeap(String cacheName, DataSize capacity) {
+        GithubCacheProperties.OffHeap config = properties.getOffHeap();
+        config.setEnabled(true);
+        config.setCapacity(capacity);
+        config.setSlabSize(capacity);
+        config.setMinEntrySize(DataSize.ofBytes(0));
+        config.setCaches(Set.of(cacheName));
+        return this;
+    }
+
+    /**
+     * 지금 설정으로 off-heap 계층, 키 인덱스, 캐시 매니저를 만든다.
+     *
+     * @return 이 픽스처
+     */
+    GithubCacheFixture build() {
+        offHeap = new GithubOffHeapCache(codec, properties, registry);
+        keyIndex = new GithubCacheKeyIndex(offHeap);
+        cacheManager = (SimpleCacheManager) new CacheConfig().cacheManager(properties, keyIndex, registry);
+        cacheManager.afterPropertiesSet();
+        return this;
+    }
+
+    AsyncCache<Object, Object> asyncCache(String cacheName) {
+        return ((CaffeineCache) cacheManager.getCache(cacheName)).getAsyncCache();
+    }
+
+    static GithubUserDTO user(String login) {
+        GithubUserDTO user = new GithubUserDTO();
+        user.setLogin(login);
+        return user;
+    }
+}
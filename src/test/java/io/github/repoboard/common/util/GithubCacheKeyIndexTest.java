@@ -0,0 +1,117 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.github.repoboard.common.config.CacheConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static io.github.repoboard.common.util.GithubCacheFixture.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * {@link GithubCacheKeyIndex}가 운영 구성의 캐시({@link CacheConfig})와 함께 태그 → 키 인덱스를 맞게 유지하는지 검증한다.
+ */
+class GithubCacheKeyIndexTest {
+
+    private static final String CACHE = "ghUser";
+
+    private final GithubCacheFixture fixture = new GithubCacheFixture();
+    private GithubOffHeapCache offHeap;
+    private GithubCacheKeyIndex keyIndex;
+    private AsyncCache<Object, Object> users;
+
+    private void setUp() {
+        fixture.build();
+        offHeap = fixture.offHeap;
+        keyIndex = fixture.keyIndex;
+        users = fixture.asyncCache(CACHE);
+    }
+
+    @Test
+    void putThenEvictByTagRemovesOnlyThatTag() {
+        setUp();
+        var own = new GithubCacheKey.User("octocat");
+        var other = new GithubCacheKey.User("hubot");
+        put(own);
+        put(other);
+
+        assertThat(keyIndex.keys(CACHE, "octocat")).containsExactly(own);
+        users.synchronous().invalidateAll(keyIndex.keys(CACHE, "octocat"));
+
+        assertThat(users.getIfPresent(own)).isNull();
+        assertThat(users.getIfPresent(other)).isNotNull();
+        await().untilAsserted(() -> assertThat(keyIndex.keys(CACHE, "octocat")).isEmpty());
+        assertThat(keyIndex.keys(CACHE, "hubot")).containsExactly(other);
+    }
+
+    @Test
+    void expiryRemovesIndexEntry() {
+        fixture.properties.getTtl().put(CACHE, Duration.ofMillis(100));
+        setUp();
+        var key = new GithubCacheKey.User("octocat");
+        put(key);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            users.synchronous().cleanUp();
+            assertThat(keyIndex.keys(CACHE, "octocat")).isEmpty();
+        });
+    }
+
+    @Test
+    void listenerKeepsKeyPutAgainBeforeItRuns() {
+        setUp();
+        var key = new GithubCacheKey.User("octocat");
+        put(key);
+        var listener = keyIndex.removalListener(CACHE);
+
+        // 제거 알림이 늦게 도착했을 때 같은 키가 이미 다시 저장된 경우
+        listener.onRemoval(key, user("old"), RemovalCause.EXPLICIT);
+        assertThat(keyIndex.keys(CACHE, "octocat")).containsExactly(key);
+
+        // 다시 저장되지 않은 경우
+        users.synchronous().asMap().remove(key);
+        listener.onRemoval(key, user("old"), RemovalCause.EXPLICIT);
+        await().untilAsserted(() -> assertThat(keyIndex.keys(CACHE, "octocat")).isEmpty());
+    }
+
+    @Test
+    void replacedValueKeepsIndexEntry() {
+        setUp();
+        var key = new GithubCacheKey.User("octocat");
+        put(key);
+        users.synchronous().asMap().remove(key);
+
+        keyIndex.removalListener(CACHE).onRemoval(key, user("old"), RemovalCause.REPLACED);
+
+        assertThat(keyIndex.keys(CACHE, "octocat")).containsExactly(key);
+    }
+
+    @Test
+    void keyMovedOffHeapStaysIndexedUntilOffHeapDropsIt() {
+        // 기본 블록 크기(4KB)와 같은 용량 → 블록 하나
+        fixture.offHeap(CACHE, DataSize.ofKilobytes(4));
+        setUp();
+        var key = new GithubCacheKey.User("octocat");
+        put(key);
+
+        // GithubCacheTemplate.storeLocal과 같이 off-heap에 저장하고 L1에서 제거
+        assertThat(offHeap.put(CACHE, key, user("octocat"))).isTrue();
+        keyIndex.add(CACHE, key);
+        users.synchronous().invalidate(key);
+        users.synchronous().cleanUp();
+        assertThat(keyIndex.keys(CACHE, "octocat")).containsExactly(key);
+
+        // 블록이 하나뿐이므로 다른 키를 저장하면 LRU로 밀려난다
+        assertThat(offHeap.put(CACHE, new GithubCacheKey.User("hubot"), user("hubot"))).isTrue();
+        assertThat(keyIndex.keys(CACHE, "octocat")).isEmpty();
+    }
+
+    private void put(GithubCacheKey key) {
+        users.synchronous().put(key, user(key.indexTag()));
+        keyIndex.add(CACHE, key);
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.github.repoboard.dto.github.GithubValidators;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+import static io.github.repoboard.common.util.GithubCacheFixture.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GithubCacheSnapshot}의 저장 → 복원 왕복을 임시 디렉터리에서 검증한다.
+ */
+class GithubCacheSnapshotTest {
+
+    private static final String USER_CACHE = "ghUser";
+    private static final String VALIDATOR_CACHE = "ghValidators";
+
+    @TempDir
+    Path dir;
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        path = dir.resolve("github-cache.snapshot");
+    }
+
+    @Test
+    void saveWritesTempFileThenReplacesSnapshot() throws IOException {
+        Files.writeString(path, "previous");
+        Caches source = new Caches();
+        source.put(USER_CACHE, new GithubCacheKey.User("octocat"), user("octocat"), Duration.ofMinutes(30));
+
+        source.snapshot.save();
+
+        assertThat(Files.exists(dir.resolve("github-cache.snapshot.tmp"))).isFalse();
+        assertThat(Files.readAllBytes(path)).isNotEqualTo("previous".getBytes());
+    }
+
+    @Test
+    void failedSaveKeepsPreviousSnapshot() throws IOException {
+        Files.writeString(path, "previous");
+        Files.createDirectory(dir.resolve("github-cache.snapshot.tmp"));
+        Caches source = new Caches();
+        source.put(USER_CACHE, new GithubCacheKey.User("octocat"), user("octocat"), Duration.ofMinutes(30));
+
+        source.snapshot.save();
+
+        assertThat(Files.readString(path)).isEqualTo("previous");
+    }
+
+    @Test
+    void restoreKeepsRemainingTtlAndSkipsExpiredEntries() throws IOException {
+        Caches source = new Caches();
+        GithubCacheKey.User fresh = new GithubCacheKey.User("octocat");
+        GithubCacheKey.User expiring = new GithubCacheKey.User("hubot");
+        GithubCacheKey.User validated = new GithubCacheKey.User("monalisa");
+        source.put(USER_CACHE, fresh, user("octocat"), Duration.ofMinutes(30));
+        source.put(USER_CACHE, expiring, user("hubot"), Duration.ofMinutes(2));
+        source.put(VALIDATOR_CACHE, validated,
+                new GithubValidators("\"v1\"", "Wed, 01 Jan 2025 00:00:00 GMT"),
+                Duration.ofHours(1));
+        source.snapshot.save();
+        saveAgo(Duration.ofMinutes(5));
+
+        Caches target = new Caches();
+        target.snapshot.restore();
+
+        assertThat(target.get(USER_CACHE, fresh)).isInstanceOfSatisfying(GithubUserDTO.class,
+                u -> assertThat(u.getLogin()).isEqualTo("octocat"));
+        assertThat(target.expiresAfter(USER_CACHE, fresh))
+                .isLessThanOrEqualTo(Duration.ofMinutes(25))
+                .isGreaterThan(Duration.ofMinutes(24));
+        assertThat(target.get(USER_CACHE, expiring)).isNull();
+        assertThat(target.get(VALIDATOR_CACHE, validated)).isInstanceOfSatisfying(GithubValidators.class, body -> {
+            assertThat(body.getEtag()).isEqualTo("\"v1\"");
+            assertThat(body.getLastModified()).isEqualTo("Wed, 01 Jan 2025 00:00:00 GMT");
+        });
+        assertThat(target.keyIndex.keys(USER_CACHE, "octocat")).containsExactly(fresh);
+        assertThat(target.keyIndex.keys(USER_CACHE, "hubot")).isEmpty();
+    }
+
+    @Test
+    void restoreIgnoresForeignFile() throws IOException {
+        Files.writeString(path, "not a snapshot file");
+        Caches target = new Caches();
+
+        target.snapshot.restore();
+
+        assertThat(target.get(USER_CACHE, new GithubCacheKey.User("octocat"))).isNull();
+    }
+
+    /** 파일 헤더의 저장 시각을 {@code ago}만큼 과거로 바꾼다. (magic, version 다음 long) */
+    private void saveAgo(Duration ago) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer savedAt = ByteBuffer.allocate(Long.BYTES);
+            channel.read(savedAt, 8);
+            long shifted = savedAt.flip().getLong() - ago.toMillis();
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, shifted), 8);
+        }
+    }
+
+    /** 운영과 같은 구성의 캐시와 그 위의 스냅샷 컴포넌트 */
+    private class Caches {
+        final GithubCacheFixture fixture = new GithubCacheFixture();
+        final GithubCacheKeyIndex keyIndex;
+        final GithubCacheSnapshot snapshot;
+
+        Caches() {
+            fixture.properties.getSnapshot().setPath(path.toString());
+            fixture.build();
+            keyIndex = fixture.keyIndex;
+            snapshot = new GithubCacheSnapshot(fixture.cacheManager, fixture.codec, fixture.properties, keyIndex);
+        }
+
+        void put(String cacheName, GithubCacheKey key, Object value, Duration ttl) {
+            expiration(cacheName).put(key, value, ttl);
+            keyIndex.add(cacheName, key);
+        }
+
+        Object get(String cacheName, GithubCacheKey key) {
+            return nativeCache(cacheName).synchronous().getIfPresent(key);
+        }
+
+        Duration expiresAfter(String cacheName, GithubCacheKey key) {
+            return expiration(cacheName).getExpiresAfter(key).orElseThrow();
+        }
+
+        private AsyncCache<Object, Object> nativeCache(String cacheName) {
+            return fixture.asyncCache(cacheName);
+        }
+
+        private Policy.VarExpiration<Object, Object> expiration(String cacheName) {
+            return nativeCache(cacheName).synchronous().policy().expireVariably().orElseThrow();
+        }
+    }
+}
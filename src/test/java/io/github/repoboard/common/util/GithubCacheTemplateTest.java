@@ -0,0 +1,261 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.github.repoboard.common.config.CacheConfig;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.common.exception.GithubRateLimitException;
+import io.github.repoboard.dto.github.GithubUserDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static io.github.repoboard.common.util.GithubCacheFixture.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link GithubCacheTemplate}의 L2 → L1 적재 TTL, 제거 순서, 요청 합치기와 refresh-ahead를 검증한다.
+ * <p>캐시는 운영과 같은 {@link CacheConfig}로 만들고, L2와 버스는 목으로 대신한다.</p>
+ */
+class GithubCacheTemplateTest {
+
+    private static final String CACHE = "ghUser";
+    private static final GithubCacheKey KEY = new GithubCacheKey.User("octocat");
+    private static final String README_CACHE = "ghRepoReadmeById";
+    private static final GithubCacheKey README = new GithubCacheKey.Readme(1L);
+
+    private final GithubCacheFixture fixture = new GithubCacheFixture();
+    private final SimpleMeterRegistry registry = fixture.registry;
+    private final GithubL2Cache l2Cache = mock(GithubL2Cache.class);
+    private final GithubCacheBus cacheBus = mock(GithubCacheBus.class);
+    private final GithubTokenPool tokenPool = new GithubTokenPool("a");
+    private final GithubCircuitBreaker circuitBreaker = new GithubCircuitBreaker(tokenPool, registry);
+    private final AtomicInteger reloads = new AtomicInteger();
+    private CacheManager cacheManager;
+    private GithubCacheTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        GithubCacheProperties properties = fixture.properties;
+        properties.getTtl().put(CACHE, Duration.ofMinutes(10));
+        properties.getRefreshAhead().put(CACHE, 0.5);
+        properties.getTtl().put(README_CACHE, Duration.ofMinutes(10));
+        properties.getRefreshAhead().put(README_CACHE, 0.7);
+        fixture.offHeap(README_CACHE, DataSize.ofMegabytes(1)).build();
+        cacheManager = fixture.cacheManager;
+        template = new GithubCacheTemplate(cacheManager, new InFlightRequestCoalescer(registry), properties,
+                registry, circuitBreaker, l2Cache, cacheBus,
+                fixture.keyIndex, fixture.offHeap, new GithubRepoStore(properties, registry));
+    }
+
+    @Test
+    void l2HitKeepsOnlyRowsRemainingTtl() {
+        GithubUserDTO user = user("from-l2");
+        doReturn(Mono.just(new GithubL2Cache.Hit<>(user, Instant.now().plusSeconds(30))))
+                .when(l2Cache).readEntry(CACHE, KEY);
+        AtomicInteger loads = new AtomicInteger();
+
+        GithubUserDTO result = template.get(CACHE, KEY, () -> {
+            loads.incrementAndGet();
+            return Mono.just(user("upstream"));
+        }).block();
+
+        assertThat(result.getLogin()).isEqualTo("from-l2");
+        assertThat(loads).hasValue(0);
+        Duration remaining = nativeCache().synchronous().policy().expireVariably().orElseThrow()
+                .getExpiresAfter(KEY).orElseThrow();
+        assertThat(remaining).isLessThanOrEqualTo(Duration.ofSeconds(30)).isGreaterThan(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void loaderResultKeepsFullTtl() {
+        doReturn(Mono.empty()).when(l2Cache).readEntry(CACHE, KEY);
+        doReturn(CompletableFuture.completedFuture(null)).when(l2Cache).write(any(), any(), any());
+
+        template.get(CACHE, KEY, () -> Mono.just(user("upstream"))).block();
+
+        Duration remaining = nativeCache().synchronous().policy().expireVariably().orElseThrow()
+                .getExpiresAfter(KEY).orElseThrow();
+        assertThat(remaining).isGreaterThan(Duration.ofMinutes(9));
+    }
+
+    @Test
+    void evictRemovesValueRefilledBeforeL2DeleteFinishes() {
+        CompletableFuture<Void> l2Delete = new CompletableFuture<>();
+        doReturn(l2Delete).when(l2Cache).evict(CACHE, KEY);
+        cacheManager.getCache(CACHE).put(KEY, user("old"));
+
+        CompletableFuture<Void> evicted = template.evict(CACHE, KEY);
+        assertThat(template.contains(CACHE, KEY)).isFalse();
+
+        // L2 삭제 전 미스가 아직 남은 L2 행으로 다시 채운 경우
+        cacheManager.getCache(CACHE).put(KEY, user("old"));
+        verify(cacheBus, never()).publishEvict(CACHE, KEY);
+
+        l2Delete.complete(null);
+
+        assertThat(evicted).isCompleted();
+        assertThat(template.contains(CACHE, KEY)).isFalse();
+        verify(cacheBus).publishEvict(CACHE, KEY);
+    }
+
+    @Test
+    void interactiveRequestsWithDifferentDeadlinesShareOneLoad() {
+        doReturn(Mono.empty()).when(l2Cache).readEntry(CACHE, KEY);
+        doReturn(CompletableFuture.completedFuture(null)).when(l2Cache).write(any(), any(), any());
+        CompletableFuture<GithubUserDTO> upstream = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // 요청마다 GithubCallPolicy.request()가 새 마감 시각을 만드는 것과 같이 뒤 요청일수록 마감 시각이 늦다
+        List<CompletableFuture<GithubUserDTO>> requests = Stream.of(
+                        Duration.ofSeconds(10), Duration.ofSeconds(11), Duration.ofSeconds(12), Duration.ofSeconds(13))
+                .map(timeout -> template.get(CACHE, KEY, () -> {
+                            loads.incrementAndGet();
+                            return Mono.fromFuture(upstream);
+                        })
+                        .contextWrite(Context.of(GithubDeadline.class, GithubDeadline.after(timeout),
+                                GithubPriority.class, GithubPriority.INTERACTIVE))
+                        .toFuture())
+                .toList();
+
+        assertThat(loads).hasValue(1);
+        upstream.complete(user("upstream"));
+        assertThat(requests).allSatisfy(request -> assertThat(request.join().getLogin()).isEqualTo("upstream"));
+        assertThat(registry.counter("github.inflight.calls", "name", CACHE, "result", "collapsed").count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void nearExpiryHitServesOldValueAndReloadsInBackground() {
+        // TTL 10분, ratio 0.5 → 남은 시간이 5분 이하이면 갱신 대상
+        putL1(user("old"), Duration.ofMinutes(1));
+
+        GithubUserDTO served = template.get(CACHE, KEY, () -> countingLoad(Mono.just(user("new")))).block();
+
+        assertThat(served.getLogin()).isEqualTo("old");
+        assertThat(reloads).hasValue(1);
+        assertThat(l1Value().getLogin()).isEqualTo("new");
+        assertThat(l1Remaining()).isGreaterThan(Duration.ofMinutes(9));
+        assertThat(registry.counter("github.cache.refresh_ahead", "cache", CACHE).count()).isEqualTo(1);
+    }
+
+    @Test
+    void freshHitDoesNotReload() {
+        putL1(user("old"), Duration.ofMinutes(6));
+
+        template.get(CACHE, KEY, () -> countingLoad(Mono.just(user("new")))).block();
+
+        assertThat(reloads).hasValue(0);
+        assertThat(l1Value().getLogin()).isEqualTo("old");
+    }
+
+    @Test
+    void concurrentHitsReloadOncePerKey() {
+        putL1(user("old"), Duration.ofMinutes(1));
+        CompletableFuture<GithubUserDTO> upstream = new CompletableFuture<>();
+
+        for (int i = 0; i < 3; i++) {
+            GithubUserDTO served = template.get(CACHE, KEY, () -> countingLoad(Mono.fromFuture(upstream))).block();
+            assertThat(served.getLogin()).isEqualTo("old");
+        }
+
+        assertThat(reloads).hasValue(1);
+        upstream.complete(user("new"));
+        assertThat(l1Value().getLogin()).isEqualTo("new");
+    }
+
+    @Test
+    void failedReloadKeepsOldValue() {
+        putL1(user("old"), Duration.ofMinutes(1));
+
+        GithubUserDTO served = template.get(CACHE, KEY,
+                () -> countingLoad(Mono.<GithubUserDTO>error(new IllegalStateException("boom")))).block();
+
+        assertThat(served.getLogin()).isEqualTo("old");
+        assertThat(reloads).hasValue(1);
+        assertThat(l1Value().getLogin()).isEqualTo("old");
+        assertThat(l1Remaining()).isLessThanOrEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void openCircuitSkipsReload() {
+        long reset = Instant.now().plusSeconds(60).getEpochSecond();
+        tokenPool.park("a", GithubResource.CORE, reset);
+        circuitBreaker.recordFailure(GithubResource.CORE,
+                new GithubRateLimitException("Rate Limited", reset, "core"));
+        putL1(user("old"), Duration.ofMinutes(1));
+
+        GithubUserDTO served = template.get(CACHE, KEY, () -> countingLoad(Mono.just(user("new")))).block();
+
+        assertThat(served.getLogin()).isEqualTo("old");
+        assertThat(reloads).hasValue(0);
+    }
+
+    @Test
+    void offHeapHitNearExpiryRefreshesAhead() {
+        // TTL 10분, ratio 0.7 → 남은 시간이 3분 이하이면 갱신 대상
+        fixture.offHeap.put(README_CACHE, README, "<p>old</p>", Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        String served = template.<String>get(README_CACHE, README, () -> {
+            loads.incrementAndGet();
+            return Mono.just("<p>new</p>");
+        }).block();
+
+        assertThat(served).isEqualTo("<p>old</p>");
+        assertThat(loads).hasValue(1);
+        assertThat(fixture.offHeap.get(README_CACHE, README)).isEqualTo("<p>new</p>");
+        assertThat(fixture.offHeap.remaining(README_CACHE, README).orElseThrow())
+                .isGreaterThan(Duration.ofMinutes(9));
+    }
+
+    @Test
+    void freshOffHeapHitDoesNotRefresh() {
+        fixture.offHeap.put(README_CACHE, README, "<p>old</p>", Duration.ofMinutes(8));
+        AtomicInteger loads = new AtomicInteger();
+
+        String served = template.<String>get(README_CACHE, README, () -> {
+            loads.incrementAndGet();
+            return Mono.just("<p>new</p>");
+        }).block();
+
+        assertThat(served).isEqualTo("<p>old</p>");
+        assertThat(loads).hasValue(0);
+    }
+
+    private <T> Mono<T> countingLoad(Mono<T> result) {
+        reloads.incrementAndGet();
+        return result;
+    }
+
+    private void putL1(GithubUserDTO user, Duration ttl) {
+        nativeCache().synchronous().policy().expireVariably().orElseThrow().put(KEY, user, ttl);
+    }
+
+    private GithubUserDTO l1Value() {
+        return (GithubUserDTO) nativeCache().synchronous().getIfPresent(KEY);
+    }
+
+    private Duration l1Remaining() {
+        return nativeCache().synchronous().policy().expireVariably().orElseThrow().getExpiresAfter(KEY).orElseThrow();
+    }
+
+    private AsyncCache<Object, Object> nativeCache() {
+        return fixture.asyncCache(CACHE);
+    }
+}
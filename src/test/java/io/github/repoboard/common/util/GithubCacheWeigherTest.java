@@ -0,0 +1,111 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.repoboard.dto.github.GithubIdPage;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubRepoOwnerDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GithubCacheWeigher}의 타입별 추정치와 가중치 메트릭 등록을 검증한다.
+ *
+ * <p>문자열 하나는 고정 비용 40바이트 + 글자 수(Latin-1) 또는 글자 수 * 2(그 외)로 계산된다.</p>
+ */
+class GithubCacheWeigherTest {
+
+    private static final long STRING = 40;
+
+    @Test
+    void latin1StringCountsOneBytePerChar() {
+        assertThat(GithubCacheWeigher.estimate("octocat")).isEqualTo(STRING + 7);
+        assertThat(GithubCacheWeigher.estimate("café")).isEqualTo(STRING + 4);
+    }
+
+    @Test
+    void nonLatin1StringCountsTwoBytesPerChar() {
+        assertThat(GithubCacheWeigher.estimate("깃허브")).isEqualTo(STRING + 6);
+        assertThat(GithubCacheWeigher.estimate("a깃")).isEqualTo(STRING + 4);
+    }
+
+    @Test
+    void idPageCountsEightBytesPerId() {
+        long empty = GithubCacheWeigher.estimate(new GithubIdPage(null, 0, 10, 0));
+        long three = GithubCacheWeigher.estimate(new GithubIdPage(new long[]{1, 2, 3}, 0, 10, 3));
+
+        assertThat(empty).isEqualTo(56);
+        assertThat(three - empty).isEqualTo(24);
+    }
+
+    @Test
+    void repoAddsStringsAndOwner() {
+        GithubRepoDTO repo = GithubRepoDTO.builder().id(1L).name("a").fullName("o/a").build();
+        long withoutOwner = GithubCacheWeigher.estimate(repo);
+
+        repo.setOwner(GithubRepoOwnerDTO.builder().login("o").build());
+        long withOwner = GithubCacheWeigher.estimate(repo);
+
+        // 헤더 16 + 참조 40 + 박싱 값 64 + Instant 24 + name + fullName
+        assertThat(withoutOwner).isEqualTo(144 + (STRING + 1) + (STRING + 3));
+        // 헤더 16 + 참조 12 + login
+        assertThat(withOwner - withoutOwner).isEqualTo(28 + STRING + 1);
+    }
+
+    @Test
+    void collectionAddsItems() {
+        long list = GithubCacheWeigher.estimate(List.of("a", "b"));
+
+        assertThat(list).isEqualTo(16 + 16 + 4 * 2 + 2 * (STRING + 1));
+    }
+
+    @Test
+    void pageAddsContent() {
+        List<String> content = List.of("ab");
+        long page = GithubCacheWeigher.estimate(new PageImpl<>(content, PageRequest.of(0, 10), 1));
+
+        assertThat(page).isEqualTo(64 + GithubCacheWeigher.estimate(content));
+    }
+
+    @Test
+    void unknownTypeUsesFallback() {
+        assertThat(GithubCacheWeigher.estimate(new Object())).isEqualTo(GithubCacheWeigher.UNKNOWN);
+        assertThat(GithubCacheWeigher.estimate(null)).isZero();
+    }
+
+    @Test
+    void registersWeightGaugesForWeightedCache() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumWeight(10_000)
+                .weigher(GithubCacheWeigher.weigher())
+                .executor(Runnable::run)
+                .build();
+        GithubCacheWeigher.registerMetrics(registry, "ghUser", cache.policy());
+
+        cache.put("k", "value");
+        cache.cleanUp();
+
+        long expected = GithubCacheWeigher.ENTRY_OVERHEAD + (STRING + 1) + (STRING + 5);
+        assertThat(registry.get("github.cache.weight").tag("cache", "ghUser").gauge().value())
+                .isEqualTo(expected);
+        assertThat(registry.get("github.cache.weight.max").tag("cache", "ghUser").gauge().value())
+                .isEqualTo(10_000);
+    }
+
+    @Test
+    void skipsGaugesForUnweightedCache() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Cache<Object, Object> cache = Caffeine.newBuilder().build();
+
+        GithubCacheWeigher.registerMetrics(registry, "ghUser", cache.policy());
+
+        assertThat(registry.find("github.cache.weight").gauge()).isNull();
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.exception.GithubRateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GithubCircuitBreakerTest {
+
+    private final long reset = Instant.now().plusSeconds(60).getEpochSecond();
+
+    @Test
+    void searchRateLimitLeavesCoreClosed() {
+        GithubTokenPool pool = new GithubTokenPool("a");
+        GithubCircuitBreaker breaker = new GithubCircuitBreaker(pool, new SimpleMeterRegistry());
+        pool.park("a", GithubResource.SEARCH, reset);
+
+        breaker.recordFailure(GithubResource.SEARCH, new GithubRateLimitException("Rate Limited", reset, "search"));
+
+        assertThat(breaker.isOpen(GithubResource.SEARCH)).isTrue();
+        assertThat(breaker.openUntilEpochSec(GithubResource.SEARCH)).isEqualTo(reset);
+        assertThat(breaker.isOpen(GithubResource.CORE)).isFalse();
+        assertThat(breaker.isOpen(GithubResource.GRAPHQL)).isFalse();
+    }
+
+    @Test
+    void rateLimitStaysClosedWhileAnotherTokenIsLeft() {
+        GithubTokenPool pool = new GithubTokenPool("a,b");
+        GithubCircuitBreaker breaker = new GithubCircuitBreaker(pool, new SimpleMeterRegistry());
+        pool.park("a", GithubResource.SEARCH, reset);
+
+        breaker.recordFailure(GithubResource.SEARCH, new GithubRateLimitException("Rate Limited", reset, "search"));
+
+        assertThat(breaker.isOpen(GithubResource.SEARCH)).isFalse();
+    }
+
+    @Test
+    void exceptionResourceWinsOverCallingBucket() {
+        GithubTokenPool pool = new GithubTokenPool("a");
+        GithubCircuitBreaker breaker = new GithubCircuitBreaker(pool, new SimpleMeterRegistry());
+        pool.park("a", GithubResource.GRAPHQL, reset);
+
+        breaker.recordFailure(GithubResource.CORE, new GithubRateLimitException("GraphQL Rate Limited", reset, "graphql"));
+
+        assertThat(breaker.isOpen(GithubResource.GRAPHQL)).isTrue();
+        assertThat(breaker.isOpen(GithubResource.CORE)).isFalse();
+    }
+
+    @Test
+    void consecutiveFailuresOpenOnlyTheirBucket() {
+        GithubCircuitBreaker breaker = new GithubCircuitBreaker(new GithubTokenPool("a"), new SimpleMeterRegistry());
+
+        for (int i = 0; i < 5; i++) {
+            breaker.recordFailure(GithubResource.CORE, new TimeoutException());
+        }
+
+        assertThat(breaker.isOpen(GithubResource.CORE)).isTrue();
+        assertThat(breaker.isOpen(GithubResource.SEARCH)).isFalse();
+    }
+}
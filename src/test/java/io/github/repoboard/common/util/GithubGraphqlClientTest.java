@@ -0,0 +1,235 @@
+package io.github.repoboard.common.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.repoboard.common.config.GithubBudgetProperties;
+import io.github.repoboard.common.config.GithubDeadlineProperties;
+import io.github.repoboard.common.config.GithubGraphqlProperties;
+import io.github.repoboard.common.config.WebClientConfig;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GithubGraphqlClient}를 로컬 GraphQL 스텁 서버({@link HttpServer})에 붙여 검증한다.
+ *
+ * <p>스텁은 노드 ID를 디코딩해 ID가 10의 배수면 {@code null}(없는 레포지토리),
+ * 묶음에 {@link #FAILING_ID}가 있으면 502를, {@link #LIMITED_TOKEN}으로 보낸 요청에는 본문 {@code RATE_LIMITED}(200)를 돌려준다.</p>
+ */
+class GithubGraphqlClientTest {
+
+    private static final long FAILING_ID = 9_999L;
+    private static final String PREFIX = "010:Repository";
+    private static final String LIMITED_TOKEN = "limited";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private GithubGraphqlProperties properties;
+    private GithubGraphqlClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newFixedThreadPool(8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/graphql", this::handle);
+        server.setExecutor(executor);
+        server.start();
+
+        properties = new GithubGraphqlProperties();
+        properties.setParallelism(2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+        client = new GithubGraphqlClient(webClient, new GithubCallPolicy(new GithubDeadlineProperties(), registry),
+                properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void nodeIdUsesLegacyGlobalId() {
+        assertThat(GithubGraphqlClient.nodeId(1296269L)).isEqualTo("MDEwOlJlcG9zaXRvcnkxMjk2MjY5");
+    }
+
+    @Test
+    void splitsIntoBatchesOfHundredAndMapsNodes() {
+        List<Long> ids = LongStream.rangeClosed(1, 250).boxed().toList();
+
+        GithubGraphqlClient.RepoBatch batch = client.repositories(ids).block();
+
+        assertThat(batch).isNotNull();
+        assertThat(batchSizes).containsExactlyInAnyOrder(100, 100, 50);
+        assertThat(batch.found()).hasSize(225);
+        assertThat(batch.missing()).hasSize(25).allMatch(id -> id % 10 == 0);
+
+        GithubRepoDTO repo = batch.found().get(7L);
+        assertThat(repo.getId()).isEqualTo(7L);
+        assertThat(repo.getName()).isEqualTo("repo7");
+        assertThat(repo.getFullName()).isEqualTo("owner/repo7");
+        assertThat(repo.getLanguage()).isEqualTo("Java");
+        assertThat(repo.getStargazersCount()).isEqualTo(70);
+        assertThat(repo.getForksCount()).isEqualTo(7);
+        assertThat(repo.getUpdatedAt()).isEqualTo(Instant.parse("2024-01-02T03:04:05Z"));
+        assertThat(repo.getOwner().getLogin()).isEqualTo("owner");
+    }
+
+    @Test
+    void deduplicatesIdsAndBoundsParallelism() {
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, 500).boxed().toList());
+        ids.addAll(LongStream.rangeClosed(1, 100).boxed().toList());
+
+        GithubGraphqlClient.RepoBatch batch = client.repositories(ids).block();
+
+        assertThat(batch).isNotNull();
+        assertThat(batchSizes).hasSize(5);
+        assertThat(batch.found().size() + batch.missing().size()).isEqualTo(500);
+        assertThat(maxInFlight.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void leavesOutIdsOfFailedBatch() {
+        properties.setBatchSize(3);
+        List<Long> ids = List.of(1L, 2L, 3L, 4L, FAILING_ID, 5L);
+
+        GithubGraphqlClient.RepoBatch batch = client.repositories(ids).block();
+
+        assertThat(batch).isNotNull();
+        assertThat(batch.found()).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(batch.missing()).isEmpty();
+    }
+
+    @Test
+    void bodyRateLimitParksTokenOnlyInGraphqlBucket() {
+        GithubTokenPool pool = new GithubTokenPool(LIMITED_TOKEN);
+
+        GithubGraphqlClient.RepoBatch batch = filteredClient(pool).repositories(List.of(1L, 2L, 3L)).block();
+
+        assertThat(batch).isNotNull();
+        assertThat(batch.found()).isEmpty();
+        assertThat(pool.hasAvailable(GithubResource.GRAPHQL)).isFalse();
+        assertThat(pool.hasAvailable(GithubResource.CORE)).isTrue();
+    }
+
+    @Test
+    void bodyRateLimitRetriesWithAnotherToken() {
+        GithubTokenPool pool = new GithubTokenPool(LIMITED_TOKEN + ",ok");
+
+        GithubGraphqlClient.RepoBatch batch = filteredClient(pool).repositories(List.of(1L, 2L, 3L)).block();
+
+        assertThat(batch).isNotNull();
+        assertThat(batch.found()).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(batch.found().get(2L).getName()).isEqualTo("repo2");
+    }
+
+    /** 토큰 선택, Rate Limit 처리 필터를 거치는 클라이언트 */
+    private GithubGraphqlClient filteredClient(GithubTokenPool pool) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GithubCallPolicy callPolicy = new GithubCallPolicy(new GithubDeadlineProperties(), registry);
+        WebClientConfig config = new WebClientConfig(pool, callPolicy,
+                new GithubBudgetScheduler(pool, new GithubBudgetProperties(), registry), objectMapper);
+        ReflectionTestUtils.setField(config, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        return new GithubGraphqlClient(config.githubWebClient(), callPolicy, properties, registry);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int now = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(now, Math::max);
+        try {
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode nodeId : request.path("variables").path("ids")) {
+                String decoded = new String(Base64.getDecoder().decode(nodeId.asText()), StandardCharsets.US_ASCII);
+                ids.add(Long.parseLong(decoded.substring(PREFIX.length())));
+            }
+            batchSizes.add(ids.size());
+            Thread.sleep(50);
+
+            exchange.getResponseHeaders().set("X-RateLimit-Resource", "graphql");
+            exchange.getResponseHeaders().set("X-RateLimit-Remaining", "4000");
+            exchange.getResponseHeaders().set("X-RateLimit-Limit", "5000");
+            exchange.getResponseHeaders().set("X-RateLimit-Reset",
+                    Long.toString(Instant.now().plusSeconds(3_600).getEpochSecond()));
+            if (("Bearer " + LIMITED_TOKEN).equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                respond(exchange, 200, "{\"errors\":[{\"type\":\"RATE_LIMITED\",\"message\":\"API rate limit exceeded\"}]}");
+                return;
+            }
+
+            if (ids.contains(FAILING_ID)) {
+                respond(exchange, 502, "{\"message\":\"Bad Gateway\"}");
+                return;
+            }
+            ObjectNode body = objectMapper.createObjectNode();
+            ArrayNode nodes = body.putObject("data").putArray("nodes");
+            for (long id : ids) {
+                if (id % 10 == 0) {
+                    nodes.addNull();
+                    continue;
+                }
+                ObjectNode node = nodes.addObject();
+                node.put("databaseId", id);
+                node.put("name", "repo" + id);
+                node.put("nameWithOwner", "owner/repo" + id);
+                node.putNull("description");
+                node.put("url", "https://github.com/owner/repo" + id);
+                node.put("stargazerCount", id * 10);
+                node.put("forkCount", id);
+                node.put("isFork", false);
+                node.put("updatedAt", "2024-01-02T03:04:05Z");
+                node.putObject("primaryLanguage").put("name", "Java");
+                ObjectNode owner = node.putObject("owner");
+                owner.put("login", "owner");
+                owner.put("avatarUrl", "https://avatars.githubusercontent.com/u/1");
+                owner.put("url", "https://github.com/owner");
+            }
+            respond(exchange, 200, objectMapper.writeValueAsString(body));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 500, "{}");
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
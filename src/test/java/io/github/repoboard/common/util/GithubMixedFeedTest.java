@@ -0,0 +1,136 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GithubMixedFeed#page}의 청크 조회 범위, 부분 실패 처리, 전체 개수를 검증한다.
+ */
+class GithubMixedFeedTest {
+
+    private static final List<String> LANGUAGES = List.of("java", "kotlin", "go");
+
+    private final GithubMixedFeed feed = new GithubMixedFeed(new GithubCacheProperties(), new SimpleMeterRegistry());
+    private final Map<String, Integer> totals = new ConcurrentHashMap<>(Map.of("java", 5000, "kotlin", 5000, "go", 5000));
+    private final Set<String> failing = ConcurrentHashMap.newKeySet();
+    private final Set<String> calls = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void firstPageFetchesOnlyFirstChunks() {
+        Page<GithubRepoDTO> page = page(0, 50);
+
+        assertThat(calls).containsExactlyInAnyOrder("java:1", "kotlin:1", "go:1");
+        assertThat(page.getContent()).hasSize(50);
+        assertThat(page.getTotalElements()).isEqualTo(3 * GithubQuerySlicer.RESULT_LIMIT);
+    }
+
+    @Test
+    void deepPageFetchesChunksUpToPositionWithinEachTotal() {
+        totals.put("go", 150);
+
+        Page<GithubRepoDTO> page = page(5, 50);   // 250 ~ 300번째
+
+        assertThat(calls).containsExactlyInAnyOrder(
+                "java:1", "java:2", "java:3", "kotlin:1", "kotlin:2", "kotlin:3", "go:1", "go:2");
+        assertThat(names(page.getContent())).hasSize(50).isEqualTo(names(expected(250, 300, Map.of())));
+        assertThat(page.getTotalElements()).isEqualTo(2 * GithubQuerySlicer.RESULT_LIMIT + 150);
+    }
+
+    @Test
+    void laterChunkFailureKeepsFetchedPrefix() {
+        failing.add("java:2");
+
+        Page<GithubRepoDTO> page = page(1, 100);   // 100 ~ 200번째
+
+        assertThat(names(page.getContent())).isEqualTo(names(expected(100, 200, Map.of("java", 100))));
+        assertThat(page.getContent()).extracting(GithubRepoDTO::getLanguage).contains("java");
+        assertThat(page.getTotalElements()).isEqualTo(3 * GithubQuerySlicer.RESULT_LIMIT);
+    }
+
+    @Test
+    void laterChunkFailureStopsRunEvenIfNextChunkArrives() {
+        failing.add("java:2");
+
+        Page<GithubRepoDTO> page = page(4, 50);   // 200 ~ 250번째 → java 청크 3도 조회됨
+
+        assertThat(calls).contains("java:3");
+        assertThat(names(page.getContent())).isEqualTo(names(expected(200, 250, Map.of("java", 100))));
+        assertThat(page.getContent())
+                .filteredOn(repo -> "java".equals(repo.getLanguage()))
+                .allMatch(repo -> repo.getId() < 100);
+    }
+
+    @Test
+    void firstChunkFailureDropsLanguageFromMergeAndTotal() {
+        failing.add("go:1");
+
+        Page<GithubRepoDTO> page = page(0, 50);
+
+        assertThat(page.getContent()).extracting(GithubRepoDTO::getLanguage).doesNotContain("go");
+        assertThat(page.getTotalElements()).isEqualTo(2 * GithubQuerySlicer.RESULT_LIMIT);
+    }
+
+    @Test
+    void allFirstChunksFailingGivesEmpty() {
+        LANGUAGES.forEach(language -> failing.add(language + ":1"));
+
+        assertThat(page(0, 50)).isNull();
+    }
+
+    private Page<GithubRepoDTO> page(int page, int size) {
+        return feed.page(LANGUAGES, "stars", PageRequest.of(page, size), (language, chunk) -> {
+            calls.add(language + ":" + chunk);
+            if (failing.contains(language + ":" + chunk)) {
+                return Mono.error(new IllegalStateException("boom"));
+            }
+            int total = totals.get(language);
+            int from = (chunk - 1) * 100;
+            List<GithubRepoDTO> items = IntStream.range(from, Math.min(from + 100, total))
+                    .mapToObj(i -> repo(language, i))
+                    .toList();
+            return Mono.just(new PageImpl<>(items, PageRequest.of(chunk - 1, 100), total));
+        }).block();
+    }
+
+    /** 언어별로 앞 {@code limits}개만 남긴 전체 병합 결과의 [from, to) 구간 */
+    private List<GithubRepoDTO> expected(int from, int to, Map<String, Integer> limits) {
+        List<GithubRepoDTO> all = new ArrayList<>();
+        for (String language : LANGUAGES) {
+            int count = Math.min(Math.min(totals.get(language), GithubQuerySlicer.RESULT_LIMIT),
+                    limits.getOrDefault(language, Integer.MAX_VALUE));
+            IntStream.range(0, count).mapToObj(i -> repo(language, i)).forEach(all::add);
+        }
+        all.sort(Comparator.comparing(GithubRepoDTO::getStargazersCount).reversed());
+        return all.subList(from, Math.min(to, all.size()));
+    }
+
+    private static List<String> names(List<GithubRepoDTO> repos) {
+        return repos.stream().map(GithubRepoDTO::getFullName).toList();
+    }
+
+    /** 언어 안에서는 별 수 내림차순, 언어끼리는 번갈아 섞이도록 (java > kotlin > go) */
+    private static GithubRepoDTO repo(String language, int index) {
+        GithubRepoDTO repo = new GithubRepoDTO();
+        repo.setId((long) index);
+        repo.setLanguage(language);
+        repo.setFullName(language + "/" + index);
+        repo.setStargazersCount(1_000_000 - index * 3 - LANGUAGES.indexOf(language));
+        return repo;
+    }
+}
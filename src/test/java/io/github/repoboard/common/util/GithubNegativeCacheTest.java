@@ -0,0 +1,181 @@
+package io.github.repoboard.common.util;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GithubNegativeCacheTest {
+
+    private final FakeTicker ticker = new FakeTicker();
+
+    @Test
+    void exactEntryExpiresAtTtl() {
+        GithubNegativeCache cache = cache(false);
+        GithubCacheKey.Repo repo = new GithubCacheKey.Repo(42L);
+
+        cache.markMissing(repo);
+        ticker.advance(Duration.ofMinutes(10).minusNanos(1));
+        assertThat(cache.isMissing(repo)).isTrue();
+
+        ticker.advance(Duration.ofNanos(1));
+        assertThat(cache.isMissing(repo)).isFalse();
+    }
+
+    @Test
+    void userKeysIgnoreCase() {
+        GithubNegativeCache cache = cache(false);
+
+        cache.markMissing(new GithubCacheKey.User("OctoCat"));
+
+        assertThat(cache.isMissing(new GithubCacheKey.User("octocat"))).isTrue();
+        assertThat(cache.isMissing(new GithubCacheKey.User("OCTOCAT"))).isTrue();
+        assertThat(cache.isMissing(new GithubCacheKey.User("octocat2"))).isFalse();
+    }
+
+    @Test
+    void usersAndReposAreSeparate() {
+        GithubNegativeCache cache = cache(false);
+
+        cache.markMissing(new GithubCacheKey.User("42"));
+
+        assertThat(cache.isMissing(new GithubCacheKey.Repo(42L))).isFalse();
+    }
+
+    @Test
+    void forgetClearsExactEntry() {
+        GithubNegativeCache cache = cache(false);
+        GithubCacheKey.User user = new GithubCacheKey.User("ghost");
+        cache.markMissing(user);
+
+        cache.forget(new GithubCacheKey.User("GHOST"));
+
+        assertThat(cache.isMissing(user)).isFalse();
+    }
+
+    @Test
+    void confirmedPresentWinsOverBloom() {
+        GithubNegativeCache cache = cache(true);
+        GithubCacheKey.Repo repo = new GithubCacheKey.Repo(7L);
+        cache.markMissing(repo);
+
+        cache.forget(repo);
+
+        assertThat(cache.isMissing(repo)).isFalse();
+        ticker.advance(Duration.ofMinutes(30));
+        assertThat(cache.isMissing(repo)).isFalse();
+    }
+
+    @Test
+    void markMissingOverridesConfirmedPresent() {
+        GithubNegativeCache cache = cache(true);
+        GithubCacheKey.Repo repo = new GithubCacheKey.Repo(7L);
+        cache.markMissing(repo);
+        cache.forget(repo);
+
+        cache.markMissing(repo);
+        ticker.advance(Duration.ofMinutes(30));
+
+        assertThat(cache.isMissing(repo)).isTrue();
+    }
+
+    @Test
+    void bloomOutlivesExactEntry() {
+        GithubNegativeCache cache = cache(true);
+        GithubCacheKey.Repo repo = new GithubCacheKey.Repo(7L);
+        cache.markMissing(repo);
+
+        ticker.advance(Duration.ofMinutes(30));
+
+        assertThat(cache.isMissing(repo)).isTrue();
+    }
+
+    @Test
+    void bloomKeepsKeyForOneRotationThenDropsIt() {
+        GithubNegativeCache.RotatingBloom bloom = bloom(1_000, 0.01);
+        bloom.put("repo:1");
+
+        ticker.advance(Duration.ofHours(1));
+        bloom.put("repo:2");   // 첫 교체: repo:1은 이전 세대로
+        assertThat(bloom.mightContain("repo:1")).isTrue();
+        assertThat(bloom.mightContain("repo:2")).isTrue();
+
+        ticker.advance(Duration.ofHours(1));
+        assertThat(bloom.mightContain("repo:1")).isFalse();   // 두 번째 교체: 이전 세대 버림
+        assertThat(bloom.mightContain("repo:2")).isTrue();
+    }
+
+    @Test
+    void bloomDropsBothGenerationsAfterTwoIdleTtls() {
+        GithubNegativeCache.RotatingBloom bloom = bloom(1_000, 0.01);
+        bloom.put("repo:1");
+
+        ticker.advance(Duration.ofHours(2));
+
+        assertThat(bloom.mightContain("repo:1")).isFalse();
+    }
+
+    @Test
+    void bloomSizingHandlesSmallExpectedInsertions() {
+        GithubNegativeCache.RotatingBloom tiny = bloom(0, 0.001);
+        assertThat(tiny.bits()).isEqualTo(64);
+        assertThat(tiny.hashes()).isPositive();
+        tiny.put("user:a");
+        assertThat(tiny.mightContain("user:a")).isTrue();
+
+        GithubNegativeCache.RotatingBloom small = bloom(10, 0.5);
+        assertThat(small.bits()).isEqualTo(64);
+        assertThat(small.hashes()).isBetween(1, 5);
+    }
+
+    @Test
+    void bloomFalsePositiveRateStaysNearTarget() {
+        int n = 200;
+        double fpp = 0.01;
+        GithubNegativeCache.RotatingBloom bloom = bloom(n, fpp);
+        for (int i = 0; i < n; i++) {
+            bloom.put("repo:" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 20_000;
+        for (int i = 0; i < probes; i++) {
+            if (bloom.mightContain("repo:x" + i)) {
+                falsePositives++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            assertThat(bloom.mightContain("repo:" + i)).isTrue();
+        }
+        assertThat((double) falsePositives / probes).isLessThan(fpp * 3);
+    }
+
+    private GithubNegativeCache cache(boolean bloom) {
+        GithubCacheProperties properties = new GithubCacheProperties();
+        properties.getNegative().getBloom().setEnabled(bloom);
+        properties.getNegative().getBloom().setExpectedInsertions(1_000);
+        return new GithubNegativeCache(properties, new SimpleMeterRegistry(), ticker);
+    }
+
+    private GithubNegativeCache.RotatingBloom bloom(long expectedInsertions, double fpp) {
+        return new GithubNegativeCache.RotatingBloom(expectedInsertions, fpp, Duration.ofHours(1).toNanos(), ticker);
+    }
+
+    private static final class FakeTicker implements Ticker {
+        private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.repoboard.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GithubOffHeapCache}의 블록 할당기와 LRU/TTL을 검증한다.
+ *
+ * <p>블록 512B, 슬랩 2KB(블록 4개), 전체 4KB(슬랩 2개, 블록 8개)로 구성한다.
+ * 값은 gzip 후에도 크기가 유지되도록 난수 문자열을 쓰고, 필요한 블록 수에 맞춰 길이를 고른다.</p>
+ */
+class GithubOffHeapCacheTest {
+
+    private static final String CACHE = "ghRepoReadmeById";
+    private static final int BLOCK = 512;
+
+    private final MutableClock clock = new MutableClock();
+    private GithubCacheCodec codec;
+    private GithubCacheProperties properties;
+    private GithubOffHeapCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GithubCacheProperties();
+        GithubCacheProperties.OffHeap config = properties.getOffHeap();
+        config.setEnabled(true);
+        config.setBlockSize(DataSize.ofBytes(BLOCK));
+        config.setSlabSize(DataSize.ofBytes(BLOCK * 4));
+        config.setCapacity(DataSize.ofBytes(BLOCK * 8));
+        config.setMinEntrySize(DataSize.ofBytes(0));
+        properties.getTtl().put(CACHE, Duration.ofMinutes(5));
+        properties.setLastKnownGoodTtl(Duration.ofHours(1));
+
+        codec = new GithubCacheCodec(new ObjectMapper(), null);
+        cache = new GithubOffHeapCache(codec, properties, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void fillsEveryBlockWithoutEviction() {
+        String[] values = new String[4];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = valueOfBlocks(2, i);
+            assertThat(cache.put(CACHE, i, values[i])).isTrue();
+        }
+
+        assertThat(cache.usedBlocks()).isEqualTo(8);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(cache.get(CACHE, i)).isEqualTo(values[i]);
+        }
+    }
+
+    @Test
+    void rejectsValueLargerThanCapacity() {
+        assertThat(cache.put(CACHE, "big", valueOfBlocks(9, 1))).isFalse();
+        assertThat(cache.put(CACHE, "full", valueOfBlocks(8, 2))).isTrue();
+        assertThat(cache.get(CACHE, "full")).isNotNull();
+    }
+
+    @Test
+    void keepsValuesIntactAcrossSlabsAndReusedBlocks() {
+        String a = valueOfBlocks(2, 1);
+        String b = valueOfBlocks(3, 2);
+        String c = valueOfBlocks(3, 3);
+        cache.put(CACHE, "a", a);
+        cache.put(CACHE, "b", b);   // 블록 2,3 | 4 — 슬랩 경계를 넘음
+
+        cache.put(CACHE, "a", valueOfBlocks(1, 4));   // 교체로 블록 하나가 빈 자리로 돌아감
+        cache.put(CACHE, "c", c);   // 흩어진 빈 블록과 새 블록을 섞어 사용
+
+        assertThat(cache.get(CACHE, "b")).isEqualTo(b);
+        assertThat(cache.get(CACHE, "c")).isEqualTo(c);
+        assertThat(cache.usedBlocks()).isEqualTo(7);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUnderPressure() {
+        for (int i = 0; i < 4; i++) {
+            cache.put(CACHE, i, valueOfBlocks(2, i));
+        }
+        cache.get(CACHE, 0);
+
+        cache.put(CACHE, 4, valueOfBlocks(2, 4));
+
+        assertThat(cache.get(CACHE, 1)).isNull();
+        assertThat(cache.get(CACHE, 0)).isNotNull();
+        assertThat(cache.get(CACHE, 4)).isNotNull();
+        assertThat(cache.usedBlocks()).isEqualTo(8);
+    }
+
+    @Test
+    void evictsExpiredBeforeRecentlyUsed() {
+        cache.put(CACHE, "old", valueOfBlocks(4, 1));
+        clock.advance(Duration.ofMinutes(6));
+        cache.put(CACHE, "fresh", valueOfBlocks(4, 2));
+        cache.getStale(CACHE, "old");   // LRU 기준으로는 "fresh"가 가장 오래됨
+
+        cache.put(CACHE, "new", valueOfBlocks(4, 3));
+
+        assertThat(cache.getStale(CACHE, "old")).isNull();
+        assertThat(cache.get(CACHE, "fresh")).isNotNull();
+        assertThat(cache.get(CACHE, "new")).isNotNull();
+    }
+
+    @Test
+    void expiredValueIsServedOnlyAsStaleUntilRetentionEnds() {
+        String value = valueOfBlocks(2, 1);
+        cache.put(CACHE, "k", value);
+
+        clock.advance(Duration.ofMinutes(6));
+        assertThat(cache.get(CACHE, "k")).isNull();
+        assertThat(cache.getStale(CACHE, "k")).isEqualTo(value);
+
+        cache.purgeExpired();
+        assertThat(cache.getStale(CACHE, "k")).isEqualTo(value);
+
+        clock.advance(Duration.ofHours(1));
+        cache.purgeExpired();
+        assertThat(cache.getStale(CACHE, "k")).isNull();
+        assertThat(cache.usedBlocks()).isZero();
+    }
+
+    @Test
+    void evictKeepsStaleCopy() {
+        String value = valueOfBlocks(2, 1);
+        cache.put(CACHE, "k", value);
+
+        cache.evict(CACHE, "k");
+
+        assertThat(cache.get(CACHE, "k")).isNull();
+        assertThat(cache.getStale(CACHE, "k")).isEqualTo(value);
+    }
+
+    /** 직렬화 결과가 정확히 {@code blocks}개 블록을 쓰고 마지막 블록은 일부만 채우는 값 */
+    private String valueOfBlocks(int blocks, long seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            sb.append((char) ('!' + random.nextInt(94)));
+            int length = encodedLength(sb.toString());
+            int needed = (length + BLOCK - 1) / BLOCK;
+            if (needed == blocks && length % BLOCK != 0) {
+                return sb.toString();
+            }
+            if (needed > blocks) {
+                throw new IllegalStateException("블록 수를 맞출 수 없음: " + blocks);
+            }
+        }
+    }
+
+    private int encodedLength(String value) {
+        try {
+            return codec.encode(value).length;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.common.exception.GithubRateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link GithubPrefetcher}의 생략 조건(cached, circuit_open, low_budget, busy)과 허가 반환을 검증한다.
+ *
+ * <p>동시 진행 수는 1로 두고, {@link GithubCacheTemplate}은 목으로 대신해 적재 완료 시점을 {@link Sinks}로 조절한다.</p>
+ */
+class GithubPrefetcherTest {
+
+    private static final String CACHE = "ghSearch";
+    private static final GithubCacheKey KEY = new GithubCacheKey.Search("java", 2, 30, "stars");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GithubTokenPool pool = new GithubTokenPool("a");
+    private final GithubCircuitBreaker breaker = new GithubCircuitBreaker(pool, registry);
+    private final GithubCacheTemplate cacheTemplate = mock(GithubCacheTemplate.class);
+    private GithubPrefetcher prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        GithubCacheProperties properties = new GithubCacheProperties();
+        properties.getPrefetch().setMaxConcurrency(1);
+        properties.getPrefetch().setMinBudgetRatio(0.2);
+        prefetcher = new GithubPrefetcher(cacheTemplate, pool, breaker, properties, registry);
+    }
+
+    @Test
+    void cachedKeyIsSkipped() {
+        doReturn(true).when(cacheTemplate).contains(CACHE, KEY);
+
+        prefetcher.prefetch(CACHE, KEY, Mono::empty);
+
+        assertThat(count("cached")).isEqualTo(1);
+        verify(cacheTemplate, never()).get(any(), any(), any());
+    }
+
+    @Test
+    void openCircuitIsSkipped() {
+        long reset = Instant.now().plusSeconds(60).getEpochSecond();
+        pool.park("a", GithubResource.SEARCH, reset);
+        breaker.recordFailure(GithubResource.SEARCH, new GithubRateLimitException("Rate Limited", reset, "search"));
+
+        prefetcher.prefetch(CACHE, KEY, Mono::empty);
+
+        assertThat(count("circuit_open")).isEqualTo(1);
+        verify(cacheTemplate, never()).get(any(), any(), any());
+    }
+
+    @Test
+    void lowSearchBudgetIsSkipped() {
+        pool.update("a", GithubResource.SEARCH, rateLimit("search", 5, 30));
+
+        prefetcher.prefetch(CACHE, KEY, Mono::empty);
+
+        assertThat(count("low_budget")).isEqualTo(1);
+        verify(cacheTemplate, never()).get(any(), any(), any());
+    }
+
+    @Test
+    void busyWhileAnotherPrefetchIsRunning() {
+        Sinks.One<Object> running = Sinks.one();
+        doReturn(running.asMono()).when(cacheTemplate).get(eq(CACHE), eq(KEY), any());
+
+        prefetcher.prefetch(CACHE, KEY, Mono::empty);
+        prefetcher.prefetch(CACHE, KEY, Mono::empty);
+
+        assertThat(count("started")).isEqualTo(1);
+        assertThat(count("busy")).isEqualTo(1);
+    }
+
+    @Test
+    void permitIsReleasedAfterErrorAndSuccess() {
+        Sinks.One<Object> failing = Sinks.one();
+        Sinks.One<Object> succeeding = Sinks.one();
+        doReturn(failing.asMono(), succeeding.asMono(), Mono.never())
+                .when(cacheTemplate).get(eq(CACHE), eq(KEY), any());
+
+        prefetcher.prefetch(CACHE, KEY, Mono::empty);
+        failing.tryEmitError(new IllegalStateException("boom"));
+        prefetcher.prefetch(CACHE, KEY, Mono::empty);
+        succeeding.tryEmitValue("value");
+        prefetcher.prefetch(CACHE, KEY, Mono::empty);
+
+        assertThat(count("started")).isEqualTo(3);
+        assertThat(count("busy")).isZero();
+    }
+
+    private double count(String result) {
+        var counter = registry.find("github.prefetch").tags("cache", CACHE, "result", result).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static HttpHeaders rateLimit(String resource, int remaining, int limit) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Resource", resource);
+        headers.set("X-RateLimit-Remaining", Integer.toString(remaining));
+        headers.set("X-RateLimit-Limit", Integer.toString(limit));
+        headers.set("X-RateLimit-Reset", Long.toString(Instant.now().plusSeconds(60).getEpochSecond()));
+        return headers;
+    }
+}
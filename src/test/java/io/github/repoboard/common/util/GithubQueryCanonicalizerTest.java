@@ -0,0 +1,109 @@
+package io.github.repoboard.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GithubQueryCanonicalizerTest {
+
+    @Test
+    void sortsAndLowercasesPlainTerms() {
+        assertThat(GithubQueryCanonicalizer.normalize("Spring Boot")).isEqualTo("boot spring");
+        assertThat(GithubQueryCanonicalizer.normalize("  spring   boot ")).isEqualTo("boot spring");
+        assertThat(GithubQueryCanonicalizer.normalize("spring SPRING boot")).isEqualTo("boot spring");
+    }
+
+    @Test
+    void movesQualifiersAfterTermsInNameOrder() {
+        String expected = "boot spring language:java";
+
+        assertThat(GithubQueryCanonicalizer.normalize("boot SPRING language:Java")).isEqualTo(expected);
+        assertThat(GithubQueryCanonicalizer.normalize("language:java boot spring")).isEqualTo(expected);
+        assertThat(GithubQueryCanonicalizer.normalize("stars:>99 Language:Go web"))
+                .isEqualTo("web language:go stars:>=100");
+    }
+
+    @Test
+    void keepsNegationAndSortsInValues() {
+        assertThat(GithubQueryCanonicalizer.normalize("-language:Java web")).isEqualTo("web -language:java");
+        assertThat(GithubQueryCanonicalizer.normalize("x in:readme,name,name")).isEqualTo("x in:name,readme");
+    }
+
+    @Test
+    void treatsUnknownQualifierAsTerm() {
+        assertThat(GithubQueryCanonicalizer.normalize("Foo:Bar spring")).isEqualTo("foo:bar spring");
+    }
+
+    @Test
+    void collapsesWhitespaceInsidePhrase() {
+        assertThat(GithubQueryCanonicalizer.normalize("starter \"Spring   Boot \""))
+                .isEqualTo("\"spring boot\" starter");
+        assertThat(GithubQueryCanonicalizer.normalize("\"unterminated  phrase"))
+                .isEqualTo("\"unterminated phrase\"");
+    }
+
+    @Test
+    void keepsOrderWhenOperatorPresent() {
+        assertThat(GithubQueryCanonicalizer.normalize("Spring OR Boot")).isEqualTo("spring OR boot");
+        assertThat(GithubQueryCanonicalizer.normalize("spring NOT boot language:java"))
+                .isEqualTo("spring NOT boot language:java");
+    }
+
+    @Test
+    void blankQueryBecomesEmpty() {
+        assertThat(GithubQueryCanonicalizer.normalize(null)).isEmpty();
+        assertThat(GithubQueryCanonicalizer.normalize("   ")).isEmpty();
+    }
+
+    @Test
+    void numericRangeUsesInclusiveBounds() {
+        assertThat(GithubQueryCanonicalizer.numericRange(">99")).isEqualTo(">=100");
+        assertThat(GithubQueryCanonicalizer.numericRange(">=100")).isEqualTo(">=100");
+        assertThat(GithubQueryCanonicalizer.numericRange("100..*")).isEqualTo(">=100");
+        assertThat(GithubQueryCanonicalizer.numericRange("<100")).isEqualTo("<=99");
+        assertThat(GithubQueryCanonicalizer.numericRange("<=99")).isEqualTo("<=99");
+        assertThat(GithubQueryCanonicalizer.numericRange("*..99")).isEqualTo("<=99");
+    }
+
+    @Test
+    void numericRangeNormalizesClosedAndOpenRanges() {
+        assertThat(GithubQueryCanonicalizer.numericRange("*..*")).isEqualTo(">=0");
+        assertThat(GithubQueryCanonicalizer.numericRange("10..10")).isEqualTo("10");
+        assertThat(GithubQueryCanonicalizer.numericRange("010..20")).isEqualTo("10..20");
+        assertThat(GithubQueryCanonicalizer.numericRange("007")).isEqualTo("7");
+    }
+
+    @Test
+    void numericRangeKeepsNonNumericValue() {
+        assertThat(GithubQueryCanonicalizer.numericRange("abc")).isEqualTo("abc");
+        assertThat(GithubQueryCanonicalizer.numericRange(">abc")).isEqualTo(">abc");
+        assertThat(GithubQueryCanonicalizer.numericRange("1..x")).isEqualTo("1..x");
+    }
+
+    @Test
+    void countsNewAndCollapsedVariants() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GithubQueryCanonicalizer canonicalizer = new GithubQueryCanonicalizer(registry);
+
+        canonicalizer.canonicalize("Spring Boot");
+        canonicalizer.canonicalize("boot spring");
+        canonicalizer.canonicalize("boot spring");
+        canonicalizer.canonicalize("kotlin");
+
+        assertThat(registry.counter("github.search.query", "result", "new").count()).isEqualTo(2);
+        assertThat(registry.counter("github.search.query", "result", "collapsed").count()).isEqualTo(1);
+        assertThat(registry.get("github.search.query.variants").gauge().value()).isEqualTo(1.5);
+    }
+
+    @Test
+    void capsVariantsPerCanonical() {
+        GithubQueryCanonicalizer canonicalizer = new GithubQueryCanonicalizer(new SimpleMeterRegistry());
+
+        for (int i = 0; i < GithubQueryCanonicalizer.MAX_VARIANTS * 2; i++) {
+            canonicalizer.canonicalize("spring" + " ".repeat(i + 1) + "boot");
+        }
+
+        assertThat(canonicalizer.variantsPerCanonical()).isEqualTo(GithubQueryCanonicalizer.MAX_VARIANTS);
+    }
+}
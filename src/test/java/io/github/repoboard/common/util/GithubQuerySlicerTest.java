@@ -0,0 +1,240 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.common.exception.GithubDeepPageUnavailableException;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubSlicePlan;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GithubQuerySlicerTest {
+
+    private static final LocalDate START = LocalDate.of(2008, 1, 1);
+
+    /** 별 수 0~49에 고르게 3000건 + 별 7개에 1500건 (한 별 수에 1000건 초과 → created 분할) */
+    private static final List<Repo> DATASET = dataset();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void planSlicesAreDisjointAndCoverEveryRepository() {
+        GithubQuerySlicer slicer = slicer(20, 500);
+
+        GithubSlicePlan plan = slicer.plan("java", this::search).block();
+
+        assertThat(plan).isNotNull();
+        assertThat(plan.getTotal()).isEqualTo(DATASET.size());
+        assertThat(plan.getSlices()).allMatch(s -> s.getSize() <= GithubQuerySlicer.RESULT_LIMIT);
+        List<Predicate<Repo>> filters = plan.getSlices().stream().map(s -> filter(s.getQuery())).toList();
+        for (Repo repo : DATASET) {
+            assertThat(filters.stream().filter(f -> f.test(repo)).count())
+                    .as("%s 가 속한 구간 수", repo)
+                    .isEqualTo(1);
+        }
+        for (int i = 0; i < plan.getSlices().size(); i++) {
+            Predicate<Repo> f = filters.get(i);
+            assertThat(DATASET.stream().filter(f).count()).isEqualTo(plan.getSlices().get(i).getSize());
+        }
+    }
+
+    @Test
+    void planSlicesFollowStarsDescendingOrder() {
+        GithubSlicePlan plan = slicer(20, 500).plan("java", this::search).block();
+
+        assertThat(plan).isNotNull();
+        List<Integer> maxStars = plan.getSlices().stream()
+                .map(s -> DATASET.stream().filter(filter(s.getQuery())).mapToInt(Repo::stars).max().orElse(-1))
+                .toList();
+        assertThat(maxStars).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void failsFastWhenProbesExceedLimit() {
+        GithubQuerySlicer slicer = slicer(20, 3);
+
+        assertThatThrownBy(() -> slicer.plan("java", this::search).block())
+                .isInstanceOf(GithubDeepPageUnavailableException.class)
+                .hasMessageContaining("깊은 페이지");
+        assertThat(calls.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void doesNotProbeWhenSearchBucketIsEmpty() {
+        GithubTokenPool pool = new GithubTokenPool("a");
+        pool.park("a", GithubResource.SEARCH, Instant.now().plusSeconds(60).getEpochSecond());
+        GithubQuerySlicer slicer = new GithubQuerySlicer(null, null, pool, properties(500), new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> slicer.plan("java", this::search).block())
+                .isInstanceOf(GithubDeepPageUnavailableException.class);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void splitsStarsGeometricallyWithUpperHalfFirst() {
+        List<GithubQuerySlicer.Range> halves = new GithubQuerySlicer.Range(1, 100, null, null).split();
+
+        assertThat(halves).containsExactly(
+                new GithubQuerySlicer.Range(11, 100, null, null),
+                new GithubQuerySlicer.Range(1, 10, null, null));
+        assertThat(new GithubQuerySlicer.Range(0, 1, null, null).split()).containsExactly(
+                new GithubQuerySlicer.Range(1, 1, null, null),
+                new GithubQuerySlicer.Range(0, 0, null, null));
+    }
+
+    @Test
+    void splitsSingleStarValueIntoAdjacentCreatedRanges() {
+        List<GithubQuerySlicer.Range> halves = new GithubQuerySlicer.Range(7, 7, null, null).split();
+
+        GithubQuerySlicer.Range recent = halves.get(0);
+        GithubQuerySlicer.Range older = halves.get(1);
+        assertThat(recent.createdTo()).isEqualTo(LocalDate.now(ZoneOffset.UTC));
+        assertThat(older.createdFrom()).isEqualTo(LocalDate.of(2007, 10, 1));
+        assertThat(recent.createdFrom()).isEqualTo(older.createdTo().plusDays(1));
+        assertThat(recent.query("java")).startsWith("java stars:7 created:");
+    }
+
+    @Test
+    void singleDayRangeIsNotSplittable() {
+        LocalDate day = LocalDate.of(2020, 5, 5);
+
+        assertThat(new GithubQuerySlicer.Range(7, 7, day, day).splittable()).isFalse();
+        assertThat(new GithubQuerySlicer.Range(7, 7, day, day.plusDays(1)).splittable()).isTrue();
+        assertThat(new GithubQuerySlicer.Range(7, 7, null, null).splittable()).isTrue();
+    }
+
+    @Test
+    void locateMapsGlobalOffsetsToSliceChunks() {
+        List<GithubSlicePlan.Slice> slices = List.of(
+                new GithubSlicePlan.Slice("a", 250),
+                new GithubSlicePlan.Slice("b", 1000),
+                new GithubSlicePlan.Slice("c", 30));
+
+        assertThat(GithubQuerySlicer.locate(slices, 240, 290)).containsExactly(
+                new GithubQuerySlicer.ChunkRead("a", 3, 3, 40, 10),
+                new GithubQuerySlicer.ChunkRead("b", 1, 1, 0, 40));
+        assertThat(GithubQuerySlicer.locate(slices, 1_100, 1_150)).containsExactly(
+                new GithubQuerySlicer.ChunkRead("b", 9, 9, 50, 50));
+        assertThat(GithubQuerySlicer.locate(slices, 1_240, 1_280)).containsExactly(
+                new GithubQuerySlicer.ChunkRead("b", 10, 10, 90, 10),
+                new GithubQuerySlicer.ChunkRead("c", 1, 1, 0, 30));
+    }
+
+    @Test
+    void locateSpansChunksInsideOneSlice() {
+        List<GithubSlicePlan.Slice> slices = List.of(new GithubSlicePlan.Slice("a", 1000));
+
+        assertThat(GithubQuerySlicer.locate(slices, 150, 350)).containsExactly(
+                new GithubQuerySlicer.ChunkRead("a", 2, 4, 50, 200));
+        assertThat(GithubQuerySlicer.locate(slices, 1000, 1050)).isEmpty();
+    }
+
+    @Test
+    void kWayMergeBreaksTiesByRunOrder() {
+        List<List<String>> runs = List.of(
+                List.of("3a", "1a"),
+                List.of("3b", "2b", "1b"),
+                List.of("2c", "1c"));
+        Comparator<String> byNumberDesc = Comparator.comparing((String s) -> s.charAt(0)).reversed();
+
+        assertThat(GithubQuerySlicer.kWayMerge(runs, byNumberDesc, 10))
+                .containsExactly("3a", "3b", "2b", "2c", "1a", "1b", "1c");
+        assertThat(GithubQuerySlicer.kWayMerge(runs, byNumberDesc, 3))
+                .containsExactly("3a", "3b", "2b");
+    }
+
+    @Test
+    void kWayMergeKeepsOrderWithinRun() {
+        List<List<String>> runs = List.of(List.of("1x", "1y", "1z"), List.of("1w"));
+
+        assertThat(GithubQuerySlicer.kWayMerge(runs, Comparator.comparing((String s) -> s.charAt(0)), 10))
+                .containsExactly("1x", "1y", "1z", "1w");
+    }
+
+    // ---------------------------------------------------------------- 스텁
+
+    private GithubQuerySlicer slicer(int tokens, int maxProbes) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < tokens; i++) {
+            names.add("t" + i);
+        }
+        return new GithubQuerySlicer(null, null, new GithubTokenPool(String.join(",", names)),
+                properties(maxProbes), new SimpleMeterRegistry());
+    }
+
+    private static GithubCacheProperties properties(int maxProbes) {
+        GithubCacheProperties properties = new GithubCacheProperties();
+        properties.getDeepSearch().setMaxProbes(maxProbes);
+        return properties;
+    }
+
+    /** 검색 API 스텁: 쿼리의 stars/created 한정자로 데이터셋을 걸러 별 수 내림차순 첫 페이지와 전체 개수를 반환 */
+    private Mono<Page<GithubRepoDTO>> search(String query, String sort, int page, int perPage) {
+        calls.incrementAndGet();
+        List<Repo> matched = DATASET.stream()
+                .filter(filter(query))
+                .sorted(Comparator.comparingInt(Repo::stars).reversed())
+                .toList();
+        List<GithubRepoDTO> content = matched.stream()
+                .skip((long) (page - 1) * perPage)
+                .limit(perPage)
+                .map(r -> GithubRepoDTO.builder().id(r.id()).stargazersCount(r.stars()).build())
+                .toList();
+        return Mono.just(new PageImpl<>(content, PageRequest.of(page - 1, perPage), matched.size()));
+    }
+
+    private static Predicate<Repo> filter(String query) {
+        Predicate<Repo> filter = r -> true;
+        for (String token : query.split(" ")) {
+            if (token.startsWith("stars:")) {
+                String value = token.substring("stars:".length());
+                if (value.startsWith(">=")) {
+                    long lo = Long.parseLong(value.substring(2));
+                    filter = filter.and(r -> r.stars() >= lo);
+                } else if (value.contains("..")) {
+                    long lo = Long.parseLong(value.substring(0, value.indexOf("..")));
+                    long hi = Long.parseLong(value.substring(value.indexOf("..") + 2));
+                    filter = filter.and(r -> r.stars() >= lo && r.stars() <= hi);
+                } else {
+                    long exact = Long.parseLong(value);
+                    filter = filter.and(r -> r.stars() == exact);
+                }
+            } else if (token.startsWith("created:")) {
+                String value = token.substring("created:".length());
+                LocalDate from = LocalDate.parse(value.substring(0, value.indexOf("..")));
+                LocalDate to = LocalDate.parse(value.substring(value.indexOf("..") + 2));
+                filter = filter.and(r -> !r.created().isBefore(from) && !r.created().isAfter(to));
+            }
+        }
+        return filter;
+    }
+
+    private static List<Repo> dataset() {
+        List<Repo> repos = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            repos.add(new Repo(i, i % 50, START.plusDays((i * 37L) % 6000)));
+        }
+        for (int i = 0; i < 1500; i++) {
+            repos.add(new Repo(3000 + i, 7, START.plusDays((i * 11L) % 6000)));
+        }
+        return repos;
+    }
+
+    private record Repo(long id, int stars, LocalDate created) {
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.repoboard.common.util;
+
+import io.github.repoboard.dto.github.GithubIdPage;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link GithubRepoPageCache}가 정본을 복원할 수 없을 때 loader를 직접 부르지 않고
+ * {@link GithubCacheTemplate}(합치기, 차단기, 마지막 정상 값)을 다시 거치는지 검증한다.
+ */
+class GithubRepoPageCacheTest {
+
+    private static final String CACHE = "ghSearch";
+    private static final String KEY = "java:0";
+
+    private final GithubCacheTemplate cacheTemplate = mock(GithubCacheTemplate.class);
+    private final GithubRepoStore repoStore = mock(GithubRepoStore.class);
+    private final GithubRepoPageCache pageCache = new GithubRepoPageCache(cacheTemplate, repoStore);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void evictedBodiesAreRefilledThroughTemplate() {
+        GithubIdPage ids = new GithubIdPage(new long[]{1L}, 0, 10, 1);
+        Page<GithubRepoDTO> page = page(1L);
+        doReturn(Mono.just(ids)).when(cacheTemplate).get(eq(CACHE), eq(KEY), any(), any());
+        doReturn(Optional.empty(), Optional.of(page)).when(repoStore).materialize(ids);
+
+        Page<GithubRepoDTO> result = pageCache.get(CACHE, KEY, this::load).block();
+
+        assertThat(result).isSameAs(page);
+        assertThat(loads).hasValue(0);
+        verify(cacheTemplate).evictL1(CACHE, KEY);
+        verify(cacheTemplate, times(2)).get(eq(CACHE), eq(KEY), any(), any());
+    }
+
+    @Test
+    void staleMaterializedPageIsServedAsIs() {
+        Page<GithubRepoDTO> stale = page(1L, 2L);
+        doReturn(Mono.just(stale)).when(cacheTemplate).get(eq(CACHE), eq(KEY), any(), any());
+
+        Page<GithubRepoDTO> result = pageCache.get(CACHE, KEY, this::load).block();
+
+        assertThat(result).isSameAs(stale);
+        assertThat(loads).hasValue(0);
+        verify(repoStore, never()).materialize(any());
+        verify(cacheTemplate, never()).evictL1(any(), any());
+    }
+
+    private Mono<Page<GithubRepoDTO>> load() {
+        loads.incrementAndGet();
+        return Mono.just(page(1L));
+    }
+
+    private static Page<GithubRepoDTO> page(long... ids) {
+        List<GithubRepoDTO> content = Arrays.stream(ids).mapToObj(id -> {
+            GithubRepoDTO repo = new GithubRepoDTO();
+            repo.setId(id);
+            return repo;
+        }).toList();
+        return new PageImpl<>(content, PageRequest.of(0, 10), content.size());
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.repoboard.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubRepoOwnerDTO;
+import io.github.repoboard.dto.github.GithubSearchResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link GithubSearchStreamDecoder}를 ObjectMapper 전체 바인딩 결과와 비교한다.
+ *
+ * <p>본문을 1바이트/8KB 조각으로 나눠 넣어 토큰(문자열, 숫자, 멀티바이트 문자)이 조각 경계에서 끊겨도
+ * 같은 결과가 나오는지 확인한다.</p>
+ */
+class GithubSearchStreamDecoderTest {
+
+    private static final TypeReference<GithubSearchResponse<GithubRepoDTO>> TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final GithubSearchStreamDecoder decoder = new GithubSearchStreamDecoder();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 8 * 1024})
+    void matchesObjectMapperAcrossChunkBoundaries(int chunk) throws IOException {
+        byte[] payload = payload(30);
+
+        GithubSearchResponse<GithubRepoDTO> streamed = decoder.decode(buffers(payload, chunk)).block();
+
+        assertSame(streamed, mapper.readValue(payload, TYPE));
+        assertThat(streamed.getItems()).hasSize(30);
+    }
+
+    @Test
+    void byteArrayDecodeMatchesObjectMapper() throws IOException {
+        byte[] payload = payload(100);
+
+        assertSame(decoder.decode(payload), mapper.readValue(payload, TYPE));
+    }
+
+    @Test
+    void nullOwnerAndNullFieldsStayNull() throws IOException {
+        byte[] payload = json("""
+                {"total_count":1,"items":[{"id":5,"name":"n","owner":null,"description":null,
+                "language":null,"stargazers_count":3,"fork":false,"updated_at":"2025-06-10T08:15:30Z"}]}""");
+
+        GithubSearchResponse<GithubRepoDTO> streamed = decoder.decode(buffers(payload, 1)).block();
+
+        assertSame(streamed, mapper.readValue(payload, TYPE));
+        GithubRepoDTO repo = streamed.getItems().get(0);
+        assertThat(repo.getOwner()).isNull();
+        assertThat(repo.getDescription()).isNull();
+        assertThat(repo.getForksCount()).isNull();
+    }
+
+    @Test
+    void ignoresLookalikeFieldsInNestedStructures() throws IOException {
+        // 레포지토리 안의 객체/배열(깊이 4~6)에 id, name, owner, items 같은 이름이 있어도 값이 덮어써지지 않아야 한다.
+        byte[] payload = json("""
+                {"meta":{"items":[{"id":-1}],"total_count":-1},
+                 "total_count":2,
+                 "items":[
+                  {"id":1,"name":"one",
+                   "license":{"id":-1,"name":"MIT","owner":{"login":"nope"}},
+                   "topics":[["a",{"id":-2}],{"name":"x","items":[{"id":-3}]}],
+                   "owner":{"login":"alice","avatar_url":"a","html_url":"h",
+                            "plan":{"login":"nope","html_url":"nope"},"orgs":[{"login":"nope"}]},
+                   "permissions":{"admin":false,"nested":{"deeper":[1,[2,[3]]]}},
+                   "full_name":"alice/one"},
+                  {"id":2,"name":"two","owner":{"login":"bob"},"stargazers_count":7}
+                 ],
+                 "extra":[{"id":-4,"owner":{"login":"nope"}}]}""");
+
+        GithubSearchResponse<GithubRepoDTO> streamed = decoder.decode(buffers(payload, 1)).block();
+
+        assertSame(streamed, mapper.readValue(payload, TYPE));
+        assertThat(streamed.getTotalCount()).isEqualTo(2);
+        assertThat(streamed.getItems()).extracting(GithubRepoDTO::getId).containsExactly(1L, 2L);
+        GithubRepoDTO first = streamed.getItems().get(0);
+        assertThat(first.getName()).isEqualTo("one");
+        assertThat(first.getFullName()).isEqualTo("alice/one");
+        assertThat(first.getOwner().getLogin()).isEqualTo("alice");
+        assertThat(first.getOwner().getHtmlUrl()).isEqualTo("h");
+    }
+
+    @Test
+    void emptyBodyIsEmpty() throws IOException {
+        assertThat(decoder.decode(Flux.empty()).block()).isNull();
+        assertThat(decoder.decode(new byte[0])).isNull();
+    }
+
+    @Test
+    void truncatedBodyFails() {
+        byte[] payload = payload(3);
+        byte[] truncated = Arrays.copyOf(payload, payload.length / 2);
+
+        assertThatThrownBy(() -> decoder.decode(truncated)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> decoder.decode(buffers(truncated, 8 * 1024)).block())
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void truncatedAfterLastItemFails() {
+        byte[] truncated = json("{\"total_count\":1,\"items\":[{\"id\":1}]");
+
+        assertThatThrownBy(() -> decoder.decode(truncated)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void parsesGithubTimestampsLikeInstantParse() {
+        for (String text : List.of("2025-06-10T08:15:30Z", "2024-02-29T23:59:59Z", "1970-01-01T00:00:00Z",
+                "2025-06-10T08:15:30.123Z", "+12025-06-10T08:15:30Z")) {
+            assertThat(GithubSearchStreamDecoder.parseInstant(text)).isEqualTo(Instant.parse(text));
+        }
+    }
+
+    private static void assertSame(GithubSearchResponse<GithubRepoDTO> actual,
+                                   GithubSearchResponse<GithubRepoDTO> expected) {
+        assertThat(actual).isNotNull();
+        assertThat(actual.getTotalCount()).isEqualTo(expected.getTotalCount());
+        assertThat(actual.getItems()).hasSameSizeAs(expected.getItems());
+        for (int i = 0; i < expected.getItems().size(); i++) {
+            assertThat(actual.getItems().get(i))
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected.getItems().get(i));
+        }
+    }
+
+    private static Flux<DataBuffer> buffers(byte[] payload, int chunk) {
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < payload.length; i += chunk) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(payload, i, Math.min(payload.length, i + chunk))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private static byte[] json(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * GitHub 검색 응답 형태의 합성 페이지.
+     * <p>license, topics, permissions, *_url 같이 디코더가 건너뛰는 필드와 멀티바이트 문자를 포함한다.</p>
+     */
+    private static byte[] payload(int size) {
+        StringBuilder sb = new StringBuilder(size * 2_000);
+        sb.append("{\"total_count\":48213,\"incomplete_results\":false,\"items\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String owner = "owner" + i;
+            String full = owner + "/project-" + i;
+            String api = "https://api.github.com/repos/" + full;
+            sb.append('{')
+                    .append("\"id\":").append(100_000_000L + i).append(',')
+                    .append("\"node_id\":\"R_kgDO").append(Long.toHexString(i * 7919L)).append("\",")
+                    .append("\"name\":\"project-").append(i).append("\",")
+                    .append("\"full_name\":\"").append(full).append("\",")
+                    .append("\"private\":false,");
+            if (i % 5 == 4) {
+                sb.append("\"owner\":null,");
+            } else {
+                sb.append("\"owner\":{")
+                        .append("\"login\":\"").append(owner).append("\",")
+                        .append("\"id\":").append(5_000_000 + i).append(',')
+                        .append("\"avatar_url\":\"https://avatars.githubusercontent.com/u/").append(5_000_000 + i).append("?v=4\",")
+                        .append("\"gravatar_id\":\"\",")
+                        .append("\"url\":\"https://api.github.com/users/").append(owner).append("\",")
+                        .append("\"html_url\":\"https://github.com/").append(owner).append("\",")
+                        .append("\"type\":\"User\",\"site_admin\":false},");
+            }
+            sb.append("\"html_url\":\"https://github.com/").append(full).append("\",")
+                    .append(i % 3 == 0
+                            ? "\"description\":null,"
+                            : "\"description\":\"저장소 " + i + " — \\\"quoted\\\" \\u2014 😀 " + "x".repeat(i * 10) + "\",")
+                    .append("\"fork\":").append(i % 7 == 0).append(',')
+                    .append("\"url\":\"").append(api).append("\",")
+                    .append("\"forks_url\":\"").append(api).append("/forks\",")
+                    .append("\"created_at\":\"2019-03-0").append(1 + i % 9).append("T12:00:00Z\",")
+                    .append("\"updated_at\":\"2025-06-1").append(i % 10).append("T08:15:3").append(i % 10).append("Z\",")
+                    .append("\"homepage\":null,")
+                    .append("\"size\":").append(1_000 + i * 13).append(',')
+                    .append("\"stargazers_count\":").append(90_000 - i * 17).append(',')
+                    .append("\"language\":").append(i % 4 == 0 ? "null" : "\"Java\"").append(',')
+                    .append("\"forks_count\":").append(4_000 - i).append(',')
+                    .append("\"license\":{\"key\":\"apache-2.0\",\"name\":\"Apache License 2.0\",")
+                    .append("\"spdx_id\":\"Apache-2.0\",\"url\":null},")
+                    .append("\"topics\":[\"java\",\"spring\",\"cache\"],")
+                    .append("\"permissions\":{\"admin\":false,\"push\":false,\"pull\":true},")
+                    .append("\"score\":1.0")
+                    .append('}');
+        }
+        sb.append("]}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.repoboard.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GithubTokenPoolTest {
+
+    private static HttpHeaders rateLimit(String resource, int remaining, int limit) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Resource", resource);
+        headers.set("X-RateLimit-Remaining", Integer.toString(remaining));
+        headers.set("X-RateLimit-Limit", Integer.toString(limit));
+        headers.set("X-RateLimit-Reset", Long.toString(Instant.now().plusSeconds(60).getEpochSecond()));
+        return headers;
+    }
+
+    @Test
+    void keepsSearchAndCoreBucketsApart() {
+        GithubTokenPool pool = new GithubTokenPool("a");
+
+        pool.update("a", GithubResource.CORE, rateLimit("core", 4000, 5000));
+        pool.update("a", GithubResource.SEARCH, rateLimit("search", 10, 30));
+
+        assertThat(pool.totalLimit(GithubResource.CORE)).isEqualTo(5000);
+        assertThat(pool.totalRemaining(GithubResource.CORE)).isEqualTo(4000);
+        assertThat(pool.totalLimit(GithubResource.SEARCH)).isEqualTo(30);
+        assertThat(pool.totalRemaining(GithubResource.SEARCH)).isEqualTo(10);
+    }
+
+    @Test
+    void resourceHeaderWinsOverRequestBucket() {
+        GithubTokenPool pool = new GithubTokenPool("a");
+
+        pool.update("a", GithubResource.CORE, rateLimit("graphql", 100, 5000));
+
+        assertThat(pool.totalRemaining(GithubResource.GRAPHQL)).isEqualTo(100);
+        assertThat(pool.totalRemaining(GithubResource.CORE)).isEqualTo(5000);
+    }
+
+    @Test
+    void parkingSearchLeavesCoreAvailable() {
+        GithubTokenPool pool = new GithubTokenPool("a,b");
+        long reset = Instant.now().plusSeconds(60).getEpochSecond();
+
+        pool.park("a", GithubResource.SEARCH, reset);
+        pool.park("b", GithubResource.SEARCH, reset);
+
+        assertThat(pool.hasAvailable(GithubResource.SEARCH)).isFalse();
+        assertThat(pool.hasAvailable(GithubResource.CORE)).isTrue();
+        assertThat(pool.acquire(GithubResource.CORE, Set.of()).block()).isIn("a", "b");
+    }
+
+    @Test
+    void revokedTokenIsSkippedInEveryBucket() {
+        GithubTokenPool pool = new GithubTokenPool("a,b");
+
+        pool.revoke("a");
+
+        for (GithubResource resource : GithubResource.values()) {
+            assertThat(pool.acquire(resource, Set.of()).block()).isEqualTo("b");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.repoboard.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightRequestCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer(registry);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void sameOrLowerPriorityJoins() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = execute(GithubPriority.INTERACTIVE, pending);
+        CompletableFuture<String> refresh = execute(GithubPriority.USER_REFRESH, new CompletableFuture<>());
+        CompletableFuture<String> background = execute(GithubPriority.BACKGROUND, new CompletableFuture<>());
+
+        assertThat(calls).hasValue(1);
+        pending.complete("v");
+        assertThat(refresh.join()).isEqualTo("v");
+        assertThat(background.join()).isEqualTo("v");
+        assertThat(leader.join()).isEqualTo("v");
+    }
+
+    @Test
+    void interactiveDoesNotJoinBackgroundLoad() {
+        CompletableFuture<String> backgroundCall = new CompletableFuture<>();
+        CompletableFuture<String> interactiveCall = new CompletableFuture<>();
+
+        CompletableFuture<String> background = execute(GithubPriority.BACKGROUND, backgroundCall);
+        CompletableFuture<String> interactive = execute(GithubPriority.INTERACTIVE, interactiveCall);
+        CompletableFuture<String> joiner = execute(GithubPriority.INTERACTIVE, new CompletableFuture<>());
+
+        assertThat(calls).hasValue(2);
+        backgroundCall.completeExceptionally(new IllegalStateException("shed"));
+        assertThat(background).isCompletedExceptionally();
+        assertThat(interactive).isNotDone();
+
+        interactiveCall.complete("v");
+        assertThat(interactive.join()).isEqualTo("v");
+        assertThat(joiner.join()).isEqualTo("v");
+        assertThat(registry.counter("github.inflight.calls", "name", "ghUser", "result", "upgraded").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void keyIsReleasedAfterCompletion() {
+        CompletableFuture<String> first = execute(GithubPriority.BACKGROUND, CompletableFuture.completedFuture("a"));
+        CompletableFuture<String> second = execute(GithubPriority.BACKGROUND, CompletableFuture.completedFuture("b"));
+
+        assertThat(first.join()).isEqualTo("a");
+        assertThat(second.join()).isEqualTo("b");
+        assertThat(calls).hasValue(2);
+    }
+
+    private CompletableFuture<String> execute(GithubPriority priority, CompletableFuture<String> result) {
+        return coalescer.execute("ghUser", "octocat", priority, () -> {
+            calls.incrementAndGet();
+            return result;
+        });
+    }
+}
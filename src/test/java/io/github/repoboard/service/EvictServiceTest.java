@@ -0,0 +1,130 @@
+package io.github.repoboard.service;
+
+import io.github.repoboard.common.config.CacheConfig;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.repoboard.common.util.GithubCacheBus;
+import io.github.repoboard.common.util.GithubCacheCodec;
+import io.github.repoboard.common.util.GithubCacheKey;
+import io.github.repoboard.common.util.GithubCacheKeyIndex;
+import io.github.repoboard.common.util.GithubL2Cache;
+import io.github.repoboard.common.util.GithubOffHeapCache;
+import io.github.repoboard.common.util.GithubRepoStore;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link EvictService}가 색인된 키만 (L1과 off-heap 모두) 제거하고, L2 삭제 뒤 다시 무효화하는지 검증한다.
+ */
+class EvictServiceTest {
+
+    private static final String CACHE = "ghRepos";
+
+    private final GithubL2Cache l2Cache = mock(GithubL2Cache.class);
+    private final GithubCacheBus cacheBus = mock(GithubCacheBus.class);
+    private GithubOffHeapCache offHeap;
+    private GithubCacheKeyIndex keyIndex;
+    private Cache repos;
+    private EvictService evictService;
+
+    @BeforeEach
+    void setUp() {
+        var registry = new SimpleMeterRegistry();
+        var properties = new GithubCacheProperties();
+        properties.getOffHeap().setEnabled(true);
+        properties.getOffHeap().setCapacity(DataSize.ofMegabytes(1));
+        properties.getOffHeap().setSlabSize(DataSize.ofMegabytes(1));
+        properties.getOffHeap().setMinEntrySize(DataSize.ofBytes(0));
+        properties.getOffHeap().setCaches(Set.of(CACHE));
+        var codec = new GithubCacheCodec(new ObjectMapper(), new GithubRepoStore(properties, registry));
+        offHeap = new GithubOffHeapCache(codec, properties, registry);
+        keyIndex = new GithubCacheKeyIndex(offHeap);
+        var cacheManager = (SimpleCacheManager) new CacheConfig().cacheManager(properties, keyIndex, registry);
+        cacheManager.afterPropertiesSet();
+        repos = cacheManager.getCache(CACHE);
+        evictService = new EvictService(cacheManager, keyIndex, l2Cache, cacheBus, offHeap);
+    }
+
+    @Test
+    void evictsOnlyIndexedKeysOfUser() {
+        doReturn(CompletableFuture.completedFuture(null)).when(l2Cache).evictByPrefix(CACHE, "octocat:");
+        var own = List.of(new GithubCacheKey.OwnedRepos("octocat", 1, 10), new GithubCacheKey.OwnedRepos("octocat", 2, 10));
+        var other = new GithubCacheKey.OwnedRepos("hubot", 1, 10);
+        own.forEach(key -> put(key, "v"));
+        put(other, "v");
+
+        evictService.evictReposByUsername("octocat").join();
+
+        own.forEach(key -> assertThat(repos.get(key)).isNull());
+        assertThat(repos.get(other)).isNotNull();
+        await().untilAsserted(() -> assertThat(keyIndex.keys(CACHE, "octocat")).isEmpty());
+        assertThat(keyIndex.keys(CACHE, "hubot")).containsExactly(other);
+        verify(cacheBus).publishEvictTag(CACHE, "octocat");
+    }
+
+    @Test
+    void evictsAgainAfterL2DeleteFinishes() {
+        CompletableFuture<Void> l2Delete = new CompletableFuture<>();
+        doReturn(l2Delete).when(l2Cache).evictByPrefix(CACHE, "octocat:");
+        var key = new GithubCacheKey.OwnedRepos("octocat", 1, 10);
+        put(key, "old");
+
+        CompletableFuture<Void> evicted = evictService.evictReposByUsername("octocat");
+        assertThat(repos.get(key)).isNull();
+
+        // L2 삭제 전 미스가 아직 남은 L2 행으로 다시 채운 경우
+        put(key, "old");
+        verify(cacheBus, never()).publishEvictTag(CACHE, "octocat");
+
+        l2Delete.complete(null);
+
+        assertThat(evicted).isCompleted();
+        assertThat(repos.get(key)).isNull();
+        verify(cacheBus).publishEvictTag(CACHE, "octocat");
+    }
+
+    @Test
+    void expiresOffHeapEntriesOfUser() {
+        doReturn(CompletableFuture.completedFuture(null)).when(l2Cache).evictByPrefix(CACHE, "octocat:");
+        var own = new GithubCacheKey.OwnedRepos("octocat", 1, 10);
+        var other = new GithubCacheKey.OwnedRepos("hubot", 1, 10);
+        putOffHeap(own);
+        putOffHeap(other);
+
+        evictService.evictReposByUsername("octocat").join();
+
+        assertThat(offHeap.get(CACHE, own)).isNull();
+        assertThat(offHeap.getStale(CACHE, own)).isNotNull();
+        assertThat(offHeap.get(CACHE, other)).isNotNull();
+    }
+
+    private void putOffHeap(GithubCacheKey key) {
+        GithubRepoDTO repo = new GithubRepoDTO();
+        repo.setId(1L);
+        repo.setName("repo");
+        assertThat(offHeap.put(CACHE, key, new PageImpl<>(List.of(repo)))).isTrue();
+        keyIndex.add(CACHE, key);
+    }
+
+    private void put(GithubCacheKey key, Object value) {
+        repos.put(key, value);
+        keyIndex.add(CACHE, key);
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.repoboard.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.common.config.GithubDeadlineProperties;
+import io.github.repoboard.common.util.GithubCacheKey;
+import io.github.repoboard.common.util.GithubCacheTemplate;
+import io.github.repoboard.common.util.GithubCallPolicy;
+import io.github.repoboard.common.util.GithubGraphqlClient;
+import io.github.repoboard.common.util.GithubL2Cache;
+import io.github.repoboard.common.util.GithubMixedFeed;
+import io.github.repoboard.common.util.GithubNegativeCache;
+import io.github.repoboard.common.util.GithubPrefetcher;
+import io.github.repoboard.common.util.GithubQueryCanonicalizer;
+import io.github.repoboard.common.util.GithubQuerySlicer;
+import io.github.repoboard.common.util.GithubRepoPageCache;
+import io.github.repoboard.common.util.GithubRepoStore;
+import io.github.repoboard.common.util.GithubSearchStreamDecoder;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubValidators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link GitHubApiService}의 조건부 요청(ETag / Last-Modified, 304 재사용)을 로컬 스텁 서버({@link HttpServer})로 검증한다.
+ *
+ * <p>스텁은 {@code /repositories/{id}}에 응답하며, 레포지토리 ID로 응답 방식을 고른다.
+ * {@code ghRepoById} 캐시는 {@link GithubCacheTemplate}의 {@code putLocal}/{@code peek}을 맵으로 대신한다.</p>
+ * <ul>
+ *     <li>1: ETag {@code "v1"} — If-None-Match가 맞으면 304</li>
+ *     <li>2: Last-Modified만 — If-Modified-Since가 맞으면 304</li>
+ *     <li>3: 검증자 없음 — 항상 200</li>
+ * </ul>
+ */
+class GitHubApiServiceConditionalGetTest {
+
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Tue, 10 Jun 2025 08:15:30 GMT";
+
+    private final List<Map<String, String>> requests = Collections.synchronizedList(new ArrayList<>());
+
+    private HttpServer server;
+    private CaffeineCacheManager cacheManager;
+    private GithubL2Cache l2Cache;
+    private final Map<Object, Object> repoCache = new ConcurrentHashMap<>();
+    private GitHubApiService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/repositories/", this::handle);
+        server.start();
+
+        GithubCacheProperties properties = new GithubCacheProperties();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cacheManager = new CaffeineCacheManager("ghValidators");
+        l2Cache = mock(GithubL2Cache.class);
+        when(l2Cache.read(any(), any())).thenReturn(Mono.empty());
+        when(l2Cache.write(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        GithubCacheTemplate cacheTemplate = mock(GithubCacheTemplate.class);
+        doAnswer(inv -> repoCache.put(inv.getArgument(1), inv.getArgument(2)))
+                .when(cacheTemplate).putLocal(eq("ghRepoById"), any(), any());
+        when(cacheTemplate.peek(any(), any()))
+                .thenAnswer(inv -> Mono.justOrEmpty(repoCache.get(inv.getArgument(1))));
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+
+        service = new GitHubApiService(webClient, cacheManager, mock(MarkdownService.class),
+                cacheTemplate, l2Cache, mock(GithubQueryCanonicalizer.class),
+                mock(GithubPrefetcher.class), mock(GithubQuerySlicer.class), mock(GithubRepoPageCache.class),
+                new GithubRepoStore(properties, registry), new GithubNegativeCache(properties, registry),
+                mock(GithubSearchStreamDecoder.class), mock(GithubMixedFeed.class),
+                new GithubCallPolicy(new GithubDeadlineProperties(), registry), mock(GithubGraphqlClient.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void sendsIfNoneMatchAndReusesCachedValueOn304() {
+        GithubRepoDTO first = service.refreshRepositoryAsync(1L).block();
+        GithubRepoDTO second = service.refreshRepositoryAsync(1L).block();
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0)).doesNotContainKeys("if-none-match", "if-modified-since");
+        assertThat(requests.get(1)).containsEntry("if-none-match", ETAG).doesNotContainKey("if-modified-since");
+        assertThat(first.getName()).isEqualTo("repo1");
+        assertThat(second).isSameAs(first);
+        verify(l2Cache).write(eq("ghValidators"), eq(new GithubCacheKey.Repo(1L)), any(GithubValidators.class));
+    }
+
+    @Test
+    void fallsBackToIfModifiedSinceWithoutEtag() {
+        GithubRepoDTO first = service.refreshRepositoryAsync(2L).block();
+        GithubRepoDTO second = service.refreshRepositoryAsync(2L).block();
+
+        assertThat(requests.get(1)).containsEntry("if-modified-since", LAST_MODIFIED)
+                .doesNotContainKey("if-none-match");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void readsValidatorsFromL2WhenLocalCacheIsEmpty() {
+        GithubRepoDTO stored = GithubRepoDTO.builder().id(1L).name("from-l2").build();
+        repoCache.put(new GithubCacheKey.Repo(1L), stored);
+        when(l2Cache.read("ghValidators", new GithubCacheKey.Repo(1L)))
+                .thenReturn(Mono.just(new GithubValidators(ETAG, null)));
+
+        GithubRepoDTO repo = service.refreshRepositoryAsync(1L).block();
+
+        assertThat(requests).singleElement().satisfies(h -> assertThat(h).containsEntry("if-none-match", ETAG));
+        assertThat(repo.getName()).isEqualTo("from-l2");
+        Cache validators = cacheManager.getCache("ghValidators");
+        assertThat(validators.get(new GithubCacheKey.Repo(1L))).isNotNull();
+    }
+
+    @Test
+    void sendsUnconditionalRequestWhenCachedValueIsGone() {
+        service.refreshRepositoryAsync(1L).block();
+        repoCache.clear();
+
+        GithubRepoDTO repo = service.refreshRepositoryAsync(1L).block();
+
+        assertThat(requests).hasSize(2)
+                .allSatisfy(h -> assertThat(h).doesNotContainKeys("if-none-match", "if-modified-since"));
+        assertThat(repo.getName()).isEqualTo("repo1");
+    }
+
+    @Test
+    void skipsValidatorWriteWhenResponseHasNoValidators() {
+        service.refreshRepositoryAsync(3L).block();
+        service.refreshRepositoryAsync(3L).block();
+
+        assertThat(requests).hasSize(2)
+                .allSatisfy(h -> assertThat(h).doesNotContainKeys("if-none-match", "if-modified-since"));
+        assertThat(cacheManager.getCache("ghValidators").get(new GithubCacheKey.Repo(3L))).isNull();
+        verify(l2Cache, never()).write(eq("ghValidators"), any(), any());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        exchange.getRequestHeaders().forEach((name, values) -> headers.addAll(name, values));
+        Map<String, String> seen = new HashMap<>();
+        for (String name : List.of(HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE)) {
+            String value = headers.getFirst(name);
+            if (value != null) {
+                seen.put(name.toLowerCase(), value);
+            }
+        }
+        requests.add(seen);
+
+        String path = exchange.getRequestURI().getPath();
+        long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        if (id == 1 && ETAG.equals(headers.getFirst(HttpHeaders.IF_NONE_MATCH))
+                || id == 2 && LAST_MODIFIED.equals(headers.getFirst(HttpHeaders.IF_MODIFIED_SINCE))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        if (id == 1) {
+            exchange.getResponseHeaders().set("ETag", ETAG);
+        } else if (id == 2) {
+            exchange.getResponseHeaders().set("Last-Modified", LAST_MODIFIED);
+        }
+        byte[] bytes = ("{\"id\":" + id + ",\"name\":\"repo" + id + "\",\"full_name\":\"owner/repo" + id + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
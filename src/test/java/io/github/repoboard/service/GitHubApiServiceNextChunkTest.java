@@ -0,0 +1,43 @@
+package io.github.repoboard.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link GitHubApiService#nextChunk}의 다음 페이지 청크(100건 단위) 계산을 검증한다.
+ */
+class GitHubApiServiceNextChunkTest {
+
+    @Test
+    void nextPageInsideFetchedChunkIsSkipped() {
+        // 0~29 응답, 다음 30~59 → 청크 1
+        assertThat(GitHubApiService.nextChunk(PageRequest.of(0, 30), 500, 1)).isZero();
+    }
+
+    @Test
+    void nextPageCrossingIntoNewChunkReturnsIt() {
+        // 60~89 응답, 다음 90~119 → 청크 2
+        assertThat(GitHubApiService.nextChunk(PageRequest.of(2, 30), 500, 1)).isEqualTo(2);
+    }
+
+    @Test
+    void nextPageEndIsClampedToTotal() {
+        // 전체 95건이면 다음 90~94는 청크 1 안에 있다
+        assertThat(GitHubApiService.nextChunk(PageRequest.of(2, 30), 95, 1)).isZero();
+    }
+
+    @Test
+    void nextPageBeyondTotalIsSkipped() {
+        assertThat(GitHubApiService.nextChunk(PageRequest.of(3, 30), 90, 1)).isZero();
+    }
+
+    @Test
+    void nextPageIsClampedToSearchResultLimit() {
+        // 870~899 응답, 다음 900~929 → 청크 10
+        assertThat(GitHubApiService.nextChunk(PageRequest.of(29, 30), 5000, 9)).isEqualTo(10);
+        // 990~1019 응답, 다음 1020부터는 검색 API 한계(1000건) 밖
+        assertThat(GitHubApiService.nextChunk(PageRequest.of(33, 30), 5000, 11)).isZero();
+    }
+}
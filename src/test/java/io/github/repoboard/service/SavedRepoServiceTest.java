@@ -0,0 +1,117 @@
+package io.github.repoboard.service;
+
+import io.github.repoboard.common.config.GithubCacheProperties;
+import io.github.repoboard.common.util.GithubRepoStore;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.github.repoboard.dto.github.GithubRepoOwnerDTO;
+import io.github.repoboard.dto.request.SavedRepoDTO;
+import io.github.repoboard.model.User;
+import io.github.repoboard.repository.SavedRepoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link SavedRepoService#savedRepoById}가 최근 받은 레포지토리({@link GithubRepoStore})를 GitHub 호출 없이 저장하고,
+ * 없거나 저장에 필요한 값(owner/htmlUrl)이 빠졌을 때만 {@code getRepositoryId}로 조회하는지 검증한다.
+ *
+ * <p>{@link GitHubApiService}는 목이며 {@code getRepositoryLocalFirst}만 실제 메서드를 실행한다.</p>
+ */
+class SavedRepoServiceTest {
+
+    private static final long REPO_ID = 42L;
+    private static final long USER_ID = 1L;
+
+    private final GithubRepoStore repoStore =
+            new GithubRepoStore(new GithubCacheProperties(), new SimpleMeterRegistry());
+    private final GitHubApiService gitHubApiService = mock(GitHubApiService.class);
+    private final SavedRepoDBService savedRepoDBService = mock(SavedRepoDBService.class);
+    private final UserService userService = mock(UserService.class);
+    private final User user = mock(User.class);
+    private SavedRepoService savedRepoService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(gitHubApiService, "repoStore", repoStore);
+        doCallRealMethod().when(gitHubApiService).getRepositoryLocalFirst(anyLong());
+        doReturn(user).when(userService).findByUserId(USER_ID);
+        savedRepoService = new SavedRepoService(mock(SavedRepoRepository.class), savedRepoDBService,
+                gitHubApiService, userService);
+    }
+
+    @Test
+    void storedRepoIsSavedWithoutApiCall() {
+        repoStore.put(repo("from-store", true, "https://github.com/o/from-store"));
+
+        savedRepoService.savedRepoById(REPO_ID, USER_ID);
+
+        verify(gitHubApiService, never()).getRepositoryId(any());
+        assertThat(saved().getName()).isEqualTo("from-store");
+        assertThat(saved().getOwnerLogin()).isEqualTo("o");
+    }
+
+    @Test
+    void storeMissFallsBackToApi() {
+        doReturn(repo("from-api", true, "https://github.com/o/from-api"))
+                .when(gitHubApiService).getRepositoryId(REPO_ID);
+
+        savedRepoService.savedRepoById(REPO_ID, USER_ID);
+
+        verify(gitHubApiService).getRepositoryId(REPO_ID);
+        assertThat(saved().getName()).isEqualTo("from-api");
+    }
+
+    @Test
+    void storedRepoWithoutOwnerFallsBackToApi() {
+        repoStore.put(repo("from-store", false, "https://github.com/o/from-store"));
+        doReturn(repo("from-api", true, "https://github.com/o/from-api"))
+                .when(gitHubApiService).getRepositoryId(REPO_ID);
+
+        savedRepoService.savedRepoById(REPO_ID, USER_ID);
+
+        verify(gitHubApiService).getRepositoryId(REPO_ID);
+        assertThat(saved().getName()).isEqualTo("from-api");
+    }
+
+    @Test
+    void storedRepoWithoutHtmlUrlFallsBackToApi() {
+        repoStore.put(repo("from-store", true, null));
+        doReturn(repo("from-api", true, "https://github.com/o/from-api"))
+                .when(gitHubApiService).getRepositoryId(REPO_ID);
+
+        savedRepoService.savedRepoById(REPO_ID, USER_ID);
+
+        verify(gitHubApiService).getRepositoryId(REPO_ID);
+        assertThat(saved().getHtmlUrl()).isEqualTo("https://github.com/o/from-api");
+    }
+
+    private SavedRepoDTO saved() {
+        ArgumentCaptor<SavedRepoDTO> captor = ArgumentCaptor.forClass(SavedRepoDTO.class);
+        verify(savedRepoDBService).save(captor.capture(), eq(user));
+        return captor.getValue();
+    }
+
+    private static GithubRepoDTO repo(String name, boolean withOwner, String htmlUrl) {
+        return GithubRepoDTO.builder()
+                .id(REPO_ID)
+                .name(name)
+                .fullName("o/" + name)
+                .htmlUrl(htmlUrl)
+                .stargazersCount(1)
+                .forksCount(0)
+                .owner(withOwner ? GithubRepoOwnerDTO.builder().login("o").build() : null)
+                .build();
+    }
+}
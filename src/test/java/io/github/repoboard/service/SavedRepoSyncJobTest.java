@@ -0,0 +1,189 @@
+package io.github.repoboard.service;
+
+import io.github.repoboard.common.config.GithubGraphqlProperties;
+import io.github.repoboard.common.config.SavedRepoSyncProperties;
+import io.github.repoboard.common.util.GithubGraphqlClient;
+import io.github.repoboard.dto.github.GithubRepoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import reactor.core.publisher.Mono;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link SavedRepoSyncJob}의 대상 선택 파라미터와 결과 매핑, 변경분 일괄 갱신을 검증한다.
+ * <p>SQL 자체는 Postgres가 필요하므로, SQL에 넘기는 값과 SQL 결과를 쓰는 방식을 확인한다.</p>
+ */
+class SavedRepoSyncJobTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final GitHubApiService gitHubApiService = mock(GitHubApiService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SavedRepoSyncProperties properties = new SavedRepoSyncProperties();
+    private SavedRepoSyncJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties.setHotSaves(5);
+        properties.setHotInterval(Duration.ofMinutes(30));
+        properties.setColdInterval(Duration.ofHours(12));
+        properties.setBatchSize(50);
+        job = new SavedRepoSyncJob(gitHubApiService, jdbcTemplate, properties, new GithubGraphqlProperties(), registry);
+    }
+
+    @Test
+    void dueSelectionPassesHotColdIntervalsCutoffAndLimitToSql() {
+        Instant before = Instant.now();
+        dueIds();
+
+        job.sync();
+
+        ArgumentCaptor<Object> hotSaves = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> hot = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> cold = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> cutoff = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> limit = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).query(eq(SavedRepoSyncJob.SELECT_DUE_SQL), any(RowMapper.class),
+                hotSaves.capture(), hot.capture(), cold.capture(), cutoff.capture(), limit.capture());
+        assertThat(hotSaves.getValue()).isEqualTo(5);
+        assertThat(hot.getValue()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        assertThat(cold.getValue()).isEqualTo(Duration.ofHours(12).toMillis());
+        assertThat(((Timestamp) cutoff.getValue()).toInstant()).isBetween(before, Instant.now());
+        assertThat(limit.getValue()).isEqualTo(50);
+        verify(gitHubApiService, never()).getRepositoriesAsync(anyList());
+    }
+
+    @Test
+    void dueSqlFiltersOrdersAndLimitsInDatabase() {
+        assertThat(SavedRepoSyncJob.SELECT_DUE_SQL)
+                .contains("CASE WHEN COUNT(*) >= ? THEN ? ELSE ? END")
+                .contains("WHERE due_at <= ?")
+                .contains("ORDER BY due_at, saves DESC")
+                .contains("LIMIT ?");
+    }
+
+    @Test
+    void dueRowsAreFetchedInSqlOrder() {
+        dueIds(30L, 10L, 20L);
+        doReturn(Mono.just(new GithubGraphqlClient.RepoBatch(Map.of(), Set.of())))
+                .when(gitHubApiService).getRepositoriesAsync(anyList());
+
+        job.sync();
+
+        verify(gitHubApiService).getRepositoriesAsync(List.of(30L, 10L, 20L));
+    }
+
+    @Test
+    void rowMapperTreatsNeverSyncedAsNull() throws Exception {
+        dueIds();
+        job.sync();
+        ArgumentCaptor<RowMapper<?>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        verify(jdbcTemplate).query(eq(SavedRepoSyncJob.SELECT_DUE_SQL), mapper.capture(),
+                any(), any(), any(), any(), any());
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("repo_github_id")).thenReturn(7L);
+        when(rs.getInt("saves")).thenReturn(2);
+        when(rs.getTimestamp("synced_at")).thenReturn(null);
+
+        assertThat(mapper.getValue().mapRow(rs, 0)).isEqualTo(new SavedRepoSyncJob.Due(7L, 2, null));
+
+        when(rs.getTimestamp("synced_at")).thenReturn(Timestamp.from(Instant.EPOCH.plusSeconds(60)));
+        assertThat(mapper.getValue().mapRow(rs, 0))
+                .isEqualTo(new SavedRepoSyncJob.Due(7L, 2, Instant.EPOCH.plusSeconds(60)));
+    }
+
+    @Test
+    void updatesOnlyChangedRowsInOneBatchAndMarksSynced() {
+        dueIds(1L, 2L, 3L);
+        GithubRepoDTO changed = repo(1L, 120, 4, "new", "Java");
+        GithubRepoDTO same = repo(2L, 50, 1, null, "Go");
+        doReturn(Mono.just(new GithubGraphqlClient.RepoBatch(
+                new LinkedHashMap<>(Map.of(1L, changed, 2L, same)), Set.of(3L))))
+                .when(gitHubApiService).getRepositoriesAsync(anyList());
+        when(jdbcTemplate.batchUpdate(eq(SavedRepoSyncJob.UPDATE_SQL), anyList())).thenReturn(new int[]{1, 0});
+
+        job.sync();
+
+        ArgumentCaptor<List<Object[]>> updates = listCaptor();
+        verify(jdbcTemplate).batchUpdate(eq(SavedRepoSyncJob.UPDATE_SQL), updates.capture());
+        assertThat(updates.getValue()).hasSize(2).anySatisfy(args -> assertThat(args)
+                .containsExactly(120, 4, "new", "Java", 1L, 120, 4, "new", "Java"));
+        assertThat(SavedRepoSyncJob.UPDATE_SQL)
+                .contains("stars IS DISTINCT FROM ?")
+                .contains("forks IS DISTINCT FROM ?")
+                .contains("description IS DISTINCT FROM ?")
+                .contains("language_main IS DISTINCT FROM ?");
+
+        ArgumentCaptor<List<Object[]>> marks = listCaptor();
+        verify(jdbcTemplate).batchUpdate(eq(SavedRepoSyncJob.MARK_SYNCED_SQL), marks.capture());
+        assertThat(marks.getValue()).extracting(args -> args[0]).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        assertThat(count("updated")).isEqualTo(1);
+        assertThat(count("unchanged")).isEqualTo(1);
+        assertThat(count("missing")).isEqualTo(1);
+    }
+
+    @Test
+    void failedFetchMarksNothing() {
+        dueIds(1L, 2L);
+        doReturn(Mono.error(new IllegalStateException("boom"))).when(gitHubApiService).getRepositoriesAsync(anyList());
+
+        job.sync();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(count("failed")).isEqualTo(2);
+    }
+
+    /** 대상 선택 SQL이 주어진 순서로 ID를 돌려주도록 한다 */
+    @SuppressWarnings("unchecked")
+    private void dueIds(Long... ids) {
+        List<SavedRepoSyncJob.Due> rows = Arrays.stream(ids)
+                .map(id -> new SavedRepoSyncJob.Due(id, 1, null))
+                .toList();
+        when(jdbcTemplate.query(eq(SavedRepoSyncJob.SELECT_DUE_SQL), any(RowMapper.class),
+                any(), any(), any(), any(), any())).thenReturn(rows);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<List<Object[]>> listCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+
+    private double count(String result) {
+        var counter = registry.find("saved_repo.sync.repos").tag("result", result).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static GithubRepoDTO repo(long id, int stars, int forks, String description, String language) {
+        GithubRepoDTO repo = new GithubRepoDTO();
+        repo.setId(id);
+        repo.setStargazersCount(stars);
+        repo.setForksCount(forks);
+        repo.setDescription(description);
+        repo.setLanguage(language);
+        return repo;
+    }
+}